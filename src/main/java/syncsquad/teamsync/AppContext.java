@@ -0,0 +1,226 @@
+package syncsquad.teamsync;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import syncsquad.teamsync.commons.core.Config;
+import syncsquad.teamsync.commons.core.LogsCenter;
+import syncsquad.teamsync.commons.exceptions.DataLoadingException;
+import syncsquad.teamsync.commons.util.ConfigUtil;
+import syncsquad.teamsync.commons.util.StringUtil;
+import syncsquad.teamsync.logic.Logic;
+import syncsquad.teamsync.logic.LogicManager;
+import syncsquad.teamsync.logic.commands.CommandResult;
+import syncsquad.teamsync.logic.commands.RunCommand;
+import syncsquad.teamsync.logic.commands.exceptions.CommandException;
+import syncsquad.teamsync.logic.parser.exceptions.ParseException;
+import syncsquad.teamsync.model.AddressBook;
+import syncsquad.teamsync.model.Model;
+import syncsquad.teamsync.model.ModelManager;
+import syncsquad.teamsync.model.ReadOnlyAddressBook;
+import syncsquad.teamsync.model.ReadOnlyUserPrefs;
+import syncsquad.teamsync.model.UserPrefs;
+import syncsquad.teamsync.model.util.SampleDataUtil;
+import syncsquad.teamsync.storage.AddressBookStorage;
+import syncsquad.teamsync.storage.JsonAddressBookStorage;
+import syncsquad.teamsync.storage.JsonUserPrefsStorage;
+import syncsquad.teamsync.storage.Storage;
+import syncsquad.teamsync.storage.StorageManager;
+import syncsquad.teamsync.storage.UserPrefsStorage;
+import syncsquad.teamsync.storage.WriteBehindSaver;
+
+/**
+ * The components of the application that do not depend on the UI, wired together from the config and data files.
+ * Shared by the JavaFX application and the headless command line, so that neither has to load the classes of the
+ * other.
+ */
+public class AppContext {
+
+    private static final Logger logger = LogsCenter.getLogger(AppContext.class);
+
+    private final Config config;
+    private final Storage storage;
+    private final Model model;
+    private final WriteBehindSaver saver;
+    private final Logic logic;
+
+    private AppContext(Config config, Storage storage, Model model, WriteBehindSaver saver) {
+        this.config = config;
+        this.storage = storage;
+        this.model = model;
+        this.saver = saver;
+        this.logic = new LogicManager(model, saver);
+    }
+
+    /**
+     * Reads the config file at {@code configFilePath}, or the default config file if it is null, and creates the
+     * components of the application from the files it refers to.
+     */
+    public static AppContext init(Path configFilePath) {
+        Config config = initConfig(configFilePath);
+        initLogging(config);
+
+        UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
+        UserPrefs userPrefs = initPrefs(userPrefsStorage);
+        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
+        Storage storage = new StorageManager(addressBookStorage, userPrefsStorage);
+
+        Model model = initModelManager(storage, userPrefs);
+
+        return new AppContext(config, storage, model, new WriteBehindSaver(storage));
+    }
+
+    public Config getConfig() {
+        return config;
+    }
+
+    public Storage getStorage() {
+        return storage;
+    }
+
+    public Model getModel() {
+        return model;
+    }
+
+    public Logic getLogic() {
+        return logic;
+    }
+
+    /**
+     * Saves the user prefs and any changes to the address book that have not been saved yet.
+     */
+    public void stop() {
+        try {
+            storage.saveUserPrefs(model.getUserPrefs());
+        } catch (IOException e) {
+            logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
+        }
+        try {
+            saver.close();
+        } catch (IOException e) {
+            logger.severe("Failed to save address book " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
+     * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
+     * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
+     */
+    private static Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
+        logger.info("Using data file : " + storage.getAddressBookFilePath());
+
+        Optional<ReadOnlyAddressBook> addressBookOptional;
+        ReadOnlyAddressBook initialData;
+        try {
+            addressBookOptional = storage.readAddressBook();
+            if (!addressBookOptional.isPresent()) {
+                logger.info("Creating a new data file " + storage.getAddressBookFilePath()
+                        + " populated with a sample AddressBook.");
+                initialData = SampleDataUtil.getSampleAddressBook();
+            } else {
+                initialData = addressBookOptional.get();
+            }
+        } catch (DataLoadingException e) {
+            logger.warning("Data file at " + storage.getAddressBookFilePath() + " could not be loaded."
+                    + " Will be starting with an empty AddressBook.");
+            initialData = new AddressBook();
+        } catch (ParseException e) {
+            logger.severe("Sample AddressBook could not be loaded. Will be starting with an empty AddressBook.");
+            initialData = new AddressBook();
+        }
+
+        return new ModelManager(initialData, userPrefs);
+    }
+
+    /**
+     * Runs the commands in the script at {@code scriptPath} as a single {@code run} command, e.g. to import a
+     * cohort given with the {@code --script} option, and logs the result.
+     */
+    public void runScript(Path scriptPath) {
+        logger.info("Running script : " + scriptPath);
+        try {
+            CommandResult result = logic.execute(RunCommand.COMMAND_WORD + " " + scriptPath);
+            logger.info(result.getFeedbackToUser());
+        } catch (CommandException | ParseException e) {
+            logger.warning("Script " + scriptPath + " could not be run: " + e.getMessage());
+        }
+    }
+
+    private static void initLogging(Config config) {
+        LogsCenter.init(config);
+    }
+
+    /**
+     * Returns a {@code Config} using the file at {@code configFilePath}. <br>
+     * The default file path {@code Config#DEFAULT_CONFIG_FILE} will be used instead
+     * if {@code configFilePath} is null.
+     */
+    private static Config initConfig(Path configFilePath) {
+        Config initializedConfig;
+        Path configFilePathUsed;
+
+        configFilePathUsed = Config.DEFAULT_CONFIG_FILE;
+
+        if (configFilePath != null) {
+            logger.info("Custom Config file specified " + configFilePath);
+            configFilePathUsed = configFilePath;
+        }
+
+        logger.info("Using config file : " + configFilePathUsed);
+
+        try {
+            Optional<Config> configOptional = ConfigUtil.readConfig(configFilePathUsed);
+            if (!configOptional.isPresent()) {
+                logger.info("Creating new config file " + configFilePathUsed);
+            }
+            initializedConfig = configOptional.orElse(new Config());
+        } catch (DataLoadingException e) {
+            logger.warning("Config file at " + configFilePathUsed + " could not be loaded."
+                    + " Using default config properties.");
+            initializedConfig = new Config();
+        }
+
+        //Update config file in case it was missing to begin with or there are new/unused fields
+        try {
+            ConfigUtil.saveConfig(initializedConfig, configFilePathUsed);
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        }
+        return initializedConfig;
+    }
+
+    /**
+     * Returns a {@code UserPrefs} using the file at {@code storage}'s user prefs file path,
+     * or a new {@code UserPrefs} with default configuration if errors occur when
+     * reading from the file.
+     */
+    private static UserPrefs initPrefs(UserPrefsStorage storage) {
+        Path prefsFilePath = storage.getUserPrefsFilePath();
+        logger.info("Using preference file : " + prefsFilePath);
+
+        UserPrefs initializedPrefs;
+        try {
+            Optional<UserPrefs> prefsOptional = storage.readUserPrefs();
+            if (!prefsOptional.isPresent()) {
+                logger.info("Creating new preference file " + prefsFilePath);
+            }
+            initializedPrefs = prefsOptional.orElse(new UserPrefs());
+        } catch (DataLoadingException e) {
+            logger.warning("Preference file at " + prefsFilePath + " could not be loaded."
+                    + " Using default preferences.");
+            initializedPrefs = new UserPrefs();
+        }
+
+        //Update prefs file in case it was missing to begin with or there are new/unused fields
+        try {
+            storage.saveUserPrefs(initializedPrefs);
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        }
+
+        return initializedPrefs;
+    }
+}
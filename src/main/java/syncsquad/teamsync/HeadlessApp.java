@@ -0,0 +1,161 @@
+package syncsquad.teamsync;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import syncsquad.teamsync.commons.core.LogsCenter;
+import syncsquad.teamsync.commons.util.StringUtil;
+import syncsquad.teamsync.logic.Logic;
+import syncsquad.teamsync.logic.commands.CommandResult;
+import syncsquad.teamsync.logic.commands.RunCommand;
+import syncsquad.teamsync.logic.commands.exceptions.CommandException;
+import syncsquad.teamsync.logic.parser.exceptions.ParseException;
+
+/**
+ * Runs TeamSync without its user interface, e.g. to script against the data on a server.
+ *
+ * Commands are read from standard input, one per line, and their results are printed to standard output, until the
+ * {@code exit} command or the end of the input. With the {@code --script=FILE} option, the commands in {@code FILE}
+ * are run instead. Only the components in {@link AppContext} are created, so no JavaFX toolkit is started and no
+ * {@code javafx.scene} class is loaded.
+ */
+public class HeadlessApp {
+
+    /** The command-line option that makes {@link Main} start this instead of the JavaFX application. */
+    public static final String HEADLESS_OPTION = "--headless";
+
+    public static final String PROMPT = "> ";
+
+    private static final Logger logger = LogsCenter.getLogger(HeadlessApp.class);
+
+    private final Logic logic;
+    private final PrintStream output;
+    private int failedCommandCount;
+    private boolean hasUnsavedData;
+
+    /**
+     * Creates a {@code HeadlessApp} that executes commands with {@code logic} and prints their results to
+     * {@code output}.
+     */
+    public HeadlessApp(Logic logic, PrintStream output) {
+        requireNonNull(logic);
+        requireNonNull(output);
+        this.logic = logic;
+        this.output = output;
+    }
+
+    /**
+     * Executes the commands read from {@code input}, one per line, until the {@code exit} command or the end of the
+     * input. Blank lines are skipped, and {@link #PROMPT} is printed before each command if {@code showPrompt}.
+     */
+    public void run(Reader input, boolean showPrompt) throws IOException {
+        BufferedReader reader = new BufferedReader(input);
+        while (true) {
+            if (showPrompt) {
+                output.print(PROMPT);
+                output.flush();
+            }
+            String line = reader.readLine();
+            if (line == null) {
+                return;
+            }
+            if (!line.isBlank() && execute(line)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Executes {@code commandText} and prints its result or error.
+     * Returns true if the command asks for the application to exit.
+     * The commands that failed within the command, e.g. the failed lines of a script, count as failed commands.
+     */
+    public boolean execute(String commandText) {
+        try {
+            CommandResult result = logic.execute(commandText);
+            failedCommandCount += result.getFailedCommandCount();
+            output.println(result.getFeedbackToUser());
+            result.getSaveError().ifPresent(output::println);
+            return result.isExit();
+        } catch (CommandException | ParseException e) {
+            failedCommandCount++;
+            output.println(e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Saves the data that has not been saved yet, and prints the error if it could not be saved, which also makes
+     * the exit status 1. Called before exiting.
+     */
+    public void flush() {
+        Optional<String> saveError = logic.flush();
+        if (saveError.isPresent()) {
+            output.println(saveError.get());
+            hasUnsavedData = true;
+        }
+    }
+
+    /**
+     * Returns the number of commands that failed so far.
+     */
+    public int getFailedCommandCount() {
+        return failedCommandCount;
+    }
+
+    /**
+     * Returns the status to exit with: 1 if any command failed so far or the data could not be saved by
+     * {@link #flush()}, and 0 otherwise.
+     */
+    public int getExitStatus() {
+        return failedCommandCount == 0 && !hasUnsavedData ? 0 : 1;
+    }
+
+    /**
+     * Returns the named parameters among {@code args}, which are given as {@code --name=value}.
+     */
+    static Map<String, String> getNamedParameters(String[] args) {
+        Map<String, String> namedParameters = new HashMap<>();
+        for (String arg : args) {
+            int equals = arg.indexOf('=');
+            if (arg.startsWith("--") && equals > 2) {
+                namedParameters.put(arg.substring(2, equals), arg.substring(equals + 1));
+            }
+        }
+        return namedParameters;
+    }
+
+    /**
+     * Runs TeamSync without its user interface. Exits with status 1 if any command failed, including any line of the
+     * script given with {@code --script}, or if the data could not be saved before exiting.
+     */
+    public static void main(String[] args) {
+        AppParameters appParameters = AppParameters.parse(getNamedParameters(args));
+        AppContext context = AppContext.init(appParameters.getConfigPath());
+        HeadlessApp app = new HeadlessApp(context.getLogic(), System.out);
+        try {
+            if (appParameters.getScriptPath() != null) {
+                app.execute(RunCommand.COMMAND_WORD + " " + appParameters.getScriptPath());
+            } else {
+                app.run(new InputStreamReader(System.in, StandardCharsets.UTF_8), System.console() != null);
+            }
+        } catch (IOException e) {
+            logger.severe("Failed to read commands " + StringUtil.getDetails(e));
+            app.failedCommandCount++;
+        } finally {
+            app.flush();
+            context.stop();
+        }
+        System.exit(app.getExitStatus());
+    }
+}
@@ -1,38 +1,23 @@
 package syncsquad.teamsync;
 
 import java.io.IOException;
-import java.nio.file.Path;
-import java.util.Optional;
 import java.util.logging.Logger;
 
 import atlantafx.base.theme.Dracula;
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.stage.Stage;
 import javafx.stage.StageStyle;
 import syncsquad.teamsync.commons.core.Config;
 import syncsquad.teamsync.commons.core.LogsCenter;
 import syncsquad.teamsync.commons.core.Version;
-import syncsquad.teamsync.commons.exceptions.DataLoadingException;
-import syncsquad.teamsync.commons.util.ConfigUtil;
 import syncsquad.teamsync.commons.util.StringUtil;
 import syncsquad.teamsync.controller.Ui;
 import syncsquad.teamsync.controller.UiManager;
 import syncsquad.teamsync.logic.Logic;
-import syncsquad.teamsync.logic.LogicManager;
-import syncsquad.teamsync.logic.parser.exceptions.ParseException;
-import syncsquad.teamsync.model.AddressBook;
 import syncsquad.teamsync.model.Model;
-import syncsquad.teamsync.model.ModelManager;
-import syncsquad.teamsync.model.ReadOnlyAddressBook;
-import syncsquad.teamsync.model.ReadOnlyUserPrefs;
-import syncsquad.teamsync.model.UserPrefs;
-import syncsquad.teamsync.model.util.SampleDataUtil;
-import syncsquad.teamsync.storage.AddressBookStorage;
-import syncsquad.teamsync.storage.JsonAddressBookStorage;
-import syncsquad.teamsync.storage.JsonUserPrefsStorage;
+import syncsquad.teamsync.server.ApiServer;
 import syncsquad.teamsync.storage.Storage;
-import syncsquad.teamsync.storage.StorageManager;
-import syncsquad.teamsync.storage.UserPrefsStorage;
 
 /**
  * Runs the application.
@@ -48,6 +33,8 @@ public class MainApp extends Application {
     protected Storage storage;
     protected Model model;
     protected Config config;
+    protected AppContext context;
+    protected ApiServer apiServer;
 
     @Override
     public void init() throws Exception {
@@ -55,125 +42,35 @@ public class MainApp extends Application {
         super.init();
 
         AppParameters appParameters = AppParameters.parse(getParameters());
-        config = initConfig(appParameters.getConfigPath());
-        initLogging(config);
-
-        UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
-        UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
-        storage = new StorageManager(addressBookStorage, userPrefsStorage);
-
-        model = initModelManager(storage, userPrefs);
-
-        logic = new LogicManager(model, storage);
-
-        ui = new UiManager(logic);
-    }
-
-    /**
-     * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
-     * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
-     * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
-     */
-    private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
-        logger.info("Using data file : " + storage.getAddressBookFilePath());
-
-        Optional<ReadOnlyAddressBook> addressBookOptional;
-        ReadOnlyAddressBook initialData;
-        try {
-            addressBookOptional = storage.readAddressBook();
-            if (!addressBookOptional.isPresent()) {
-                logger.info("Creating a new data file " + storage.getAddressBookFilePath()
-                        + " populated with a sample AddressBook.");
-                initialData = SampleDataUtil.getSampleAddressBook();
-            } else {
-                initialData = addressBookOptional.get();
-            }
-        } catch (DataLoadingException e) {
-            logger.warning("Data file at " + storage.getAddressBookFilePath() + " could not be loaded."
-                    + " Will be starting with an empty AddressBook.");
-            initialData = new AddressBook();
-        } catch (ParseException e) {
-            logger.severe("Sample AddressBook could not be loaded. Will be starting with an empty AddressBook.");
-            initialData = new AddressBook();
-        }
-
-        return new ModelManager(initialData, userPrefs);
-    }
-
-    private void initLogging(Config config) {
-        LogsCenter.init(config);
-    }
-
-    /**
-     * Returns a {@code Config} using the file at {@code configFilePath}. <br>
-     * The default file path {@code Config#DEFAULT_CONFIG_FILE} will be used instead
-     * if {@code configFilePath} is null.
-     */
-    protected Config initConfig(Path configFilePath) {
-        Config initializedConfig;
-        Path configFilePathUsed;
-
-        configFilePathUsed = Config.DEFAULT_CONFIG_FILE;
-
-        if (configFilePath != null) {
-            logger.info("Custom Config file specified " + configFilePath);
-            configFilePathUsed = configFilePath;
+        context = AppContext.init(appParameters.getConfigPath());
+        config = context.getConfig();
+        storage = context.getStorage();
+        model = context.getModel();
+        logic = context.getLogic();
+
+        if (appParameters.getScriptPath() != null) {
+            context.runScript(appParameters.getScriptPath());
         }
 
-        logger.info("Using config file : " + configFilePathUsed);
+        ui = new UiManager(logic);
 
-        try {
-            Optional<Config> configOptional = ConfigUtil.readConfig(configFilePathUsed);
-            if (!configOptional.isPresent()) {
-                logger.info("Creating new config file " + configFilePathUsed);
-            }
-            initializedConfig = configOptional.orElse(new Config());
-        } catch (DataLoadingException e) {
-            logger.warning("Config file at " + configFilePathUsed + " could not be loaded."
-                    + " Using default config properties.");
-            initializedConfig = new Config();
+        if (appParameters.getApiPort() != null) {
+            initApiServer(appParameters.getApiPort());
         }
-
-        //Update config file in case it was missing to begin with or there are new/unused fields
-        try {
-            ConfigUtil.saveConfig(initializedConfig, configFilePathUsed);
-        } catch (IOException e) {
-            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
-        }
-        return initializedConfig;
     }
 
     /**
-     * Returns a {@code UserPrefs} using the file at {@code storage}'s user prefs file path,
-     * or a new {@code UserPrefs} with default configuration if errors occur when
-     * reading from the file.
+     * Starts an API server on {@code port}, which runs commands on the JavaFX application thread like the UI does.
+     * Its token is written next to the user prefs file.
      */
-    protected UserPrefs initPrefs(UserPrefsStorage storage) {
-        Path prefsFilePath = storage.getUserPrefsFilePath();
-        logger.info("Using preference file : " + prefsFilePath);
-
-        UserPrefs initializedPrefs;
-        try {
-            Optional<UserPrefs> prefsOptional = storage.readUserPrefs();
-            if (!prefsOptional.isPresent()) {
-                logger.info("Creating new preference file " + prefsFilePath);
-            }
-            initializedPrefs = prefsOptional.orElse(new UserPrefs());
-        } catch (DataLoadingException e) {
-            logger.warning("Preference file at " + prefsFilePath + " could not be loaded."
-                    + " Using default preferences.");
-            initializedPrefs = new UserPrefs();
-        }
-
-        //Update prefs file in case it was missing to begin with or there are new/unused fields
+    private void initApiServer(int port) {
         try {
-            storage.saveUserPrefs(initializedPrefs);
+            apiServer = new ApiServer(logic, Platform::runLater, port,
+                    storage.getUserPrefsFilePath().resolveSibling(ApiServer.TOKEN_FILE_NAME));
+            apiServer.start();
         } catch (IOException e) {
-            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+            logger.warning("Could not start the API server on port " + port + " " + StringUtil.getDetails(e));
         }
-
-        return initializedPrefs;
     }
 
     @Override
@@ -188,10 +85,9 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping TeamSync ] =============================");
-        try {
-            storage.saveUserPrefs(model.getUserPrefs());
-        } catch (IOException e) {
-            logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
+        if (apiServer != null) {
+            apiServer.stop();
         }
+        context.stop();
     }
 }
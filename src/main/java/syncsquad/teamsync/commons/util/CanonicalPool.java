@@ -0,0 +1,57 @@
+package syncsquad.teamsync.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.function.Function;
+
+/**
+ * A pool of canonical instances of an immutable value type, keyed by a string.
+ * Asking the pool for the same key twice returns the same instance, as long as that instance is still in use.
+ * Instances that are no longer referenced elsewhere are removed from the pool by the garbage collector.
+ *
+ * Instances must hold on to the key they were created from, which keeps their entry in the pool alive.
+ * This class is thread-safe.
+ *
+ * @param <T> the type of the pooled instances.
+ */
+public class CanonicalPool<T> {
+
+    private final Function<String, T> factory;
+    private final Map<String, WeakReference<T>> instances = new WeakHashMap<>();
+
+    /**
+     * Creates an empty pool that creates new instances from their key with {@code factory}.
+     */
+    public CanonicalPool(Function<String, T> factory) {
+        requireNonNull(factory);
+        this.factory = factory;
+    }
+
+    /**
+     * Returns the canonical instance for {@code key}, creating it if there is none.
+     */
+    public synchronized T get(String key) {
+        requireNonNull(key);
+        WeakReference<T> reference = instances.get(key);
+        T instance = reference == null ? null : reference.get();
+        if (instance == null) {
+            instance = factory.apply(key);
+            // An existing entry for a collected instance would keep its own key, which the new instance does not
+            // hold on to, so it is replaced rather than updated.
+            instances.remove(key);
+            instances.put(key, new WeakReference<>(instance));
+        }
+        return instance;
+    }
+
+    /**
+     * Returns the number of canonical instances in the pool, including instances that are no longer in use but
+     * have not been removed yet.
+     */
+    public synchronized int size() {
+        return instances.size();
+    }
+}
@@ -0,0 +1,164 @@
+package syncsquad.teamsync.commons.util;
+
+import static java.util.Objects.requireNonNull;
+import static syncsquad.teamsync.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Predicate;
+
+/**
+ * An immutable set that stores its elements in a sorted array.
+ *
+ * Intended for the small sets held by many model objects: a set takes a single object and an array, instead of
+ * the table and per-element entries of a {@code HashSet}, and all empty sets share one instance. Lookups scan
+ * the array, so this class is not suited to large sets.
+ *
+ * The comparator must be consistent with {@code equals}.
+ *
+ * @param <E> the type of the elements.
+ */
+public final class SortedArraySet<E> extends AbstractSet<E> {
+
+    private static final Object[] NO_ELEMENTS = new Object[0];
+    private static final SortedArraySet<Object> EMPTY = new SortedArraySet<>(NO_ELEMENTS, null);
+
+    private final Object[] elements;
+    private final Comparator<? super E> comparator;
+
+    private SortedArraySet(Object[] elements, Comparator<? super E> comparator) {
+        this.elements = elements;
+        this.comparator = comparator;
+    }
+
+    /**
+     * Returns a set containing the elements of {@code collection}, sorted by {@code comparator}.
+     * If {@code collection} is already a {@code SortedArraySet} sorted by the same comparator, it is returned as is.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> SortedArraySet<E> copyOf(Collection<? extends E> collection, Comparator<? super E> comparator) {
+        requireAllNonNull(collection);
+        requireNonNull(comparator);
+        if (collection instanceof SortedArraySet<?>) {
+            SortedArraySet<E> set = (SortedArraySet<E>) collection;
+            if (set.isEmpty() || set.comparator == comparator) {
+                return set;
+            }
+        }
+        if (collection.isEmpty()) {
+            return (SortedArraySet<E>) EMPTY;
+        }
+
+        E[] elements = (E[]) collection.toArray();
+        Arrays.sort(elements, comparator);
+        int size = 1;
+        for (int i = 1; i < elements.length; i++) {
+            if (comparator.compare(elements[size - 1], elements[i]) != 0) {
+                elements[size++] = elements[i];
+            }
+        }
+        return new SortedArraySet<>(size == elements.length ? elements : Arrays.copyOf(elements, size), comparator);
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        for (Object element : elements) {
+            if (element.equals(o)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public int size() {
+        return elements.length;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<>() {
+            private int next = 0;
+
+            @Override
+            public boolean hasNext() {
+                return next < elements.length;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public E next() {
+                if (next >= elements.length) {
+                    throw new NoSuchElementException();
+                }
+                return (E) elements[next++];
+            }
+        };
+    }
+
+    @Override
+    public boolean add(E e) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends E> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super E> filter) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Object[] toArray() {
+        return elements.clone();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // Sets sorted in the same order are equal exactly when their arrays are.
+        if (other instanceof SortedArraySet<?> && ((SortedArraySet<?>) other).comparator == comparator) {
+            return Arrays.equals(elements, ((SortedArraySet<?>) other).elements);
+        }
+        return super.equals(other);
+    }
+
+    @Override
+    public int hashCode() {
+        int hashCode = 0;
+        for (Object element : elements) {
+            hashCode += element.hashCode();
+        }
+        return hashCode;
+    }
+}
@@ -5,7 +5,8 @@ import static syncsquad.teamsync.commons.util.AppUtil.checkArgument;
 
 import java.io.PrintWriter;
 import java.io.StringWriter;
-import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Helper functions for handling strings.
@@ -29,13 +30,67 @@ public class StringUtil {
 
         String preppedWord = word.trim();
         checkArgument(!preppedWord.isEmpty(), "Word parameter cannot be empty");
-        checkArgument(preppedWord.split("\\s+").length == 1, "Word parameter should be a single word");
+        checkArgument(getWords(preppedWord).size() == 1, "Word parameter should be a single word");
 
-        String preppedSentence = sentence;
-        String[] wordsInPreppedSentence = preppedSentence.split("\\s+");
+        // Compares the words in place, as splitting the sentence with a regular expression dominates searches.
+        int length = sentence.length();
+        int start = 0;
+        while (start < length) {
+            int end = start;
+            while (end < length && !ValidationUtil.isWhitespace(sentence.charAt(end))) {
+                end++;
+            }
+            if (end - start == preppedWord.length()
+                    && sentence.regionMatches(true, start, preppedWord, 0, preppedWord.length())) {
+                return true;
+            }
+            start = end + 1;
+        }
+        return false;
+    }
 
-        return Arrays.stream(wordsInPreppedSentence)
-                .anyMatch(preppedWord::equalsIgnoreCase);
+    /**
+     * Returns the words of {@code sentence}, which are separated by whitespace.
+     *   <br>examples:<pre>
+     *       getWords("ABc  def") == ["ABc", "def"]
+     *       getWords(" ") == []
+     *       </pre>
+     * @param sentence cannot be null
+     */
+    public static List<String> getWords(String sentence) {
+        requireNonNull(sentence);
+        List<String> words = new ArrayList<>();
+        int length = sentence.length();
+        int start = 0;
+        while (start < length) {
+            int end = start;
+            while (end < length && !ValidationUtil.isWhitespace(sentence.charAt(end))) {
+                end++;
+            }
+            if (end > start) {
+                words.add(sentence.substring(start, end));
+            }
+            start = end + 1;
+        }
+        return words;
+    }
+
+    /**
+     * Returns {@code s} with its case folded, so that two strings are equal ignoring case, as in
+     * {@link String#equalsIgnoreCase(String)}, exactly when their folded forms are equal.
+     *   <br>examples:<pre>
+     *       foldCase("ABc") == "abc"
+     *       </pre>
+     * @param s cannot be null
+     */
+    public static String foldCase(String s) {
+        requireNonNull(s);
+        char[] chars = s.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            // The same per-character comparison as String#equalsIgnoreCase
+            chars[i] = Character.toLowerCase(Character.toUpperCase(chars[i]));
+        }
+        return new String(chars);
     }
 
     /**
@@ -0,0 +1,198 @@
+package syncsquad.teamsync.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Hand-written validators for the field formats of the model.
+ *
+ * Each validator accepts exactly the strings matched by the regular expression documented on it, but checks them
+ * in a single pass without allocating, instead of compiling and running the regular expression on every call.
+ * Every validator runs in time linear in the length of its input, so hostile input cannot cause backtracking.
+ */
+public class ValidationUtil {
+
+    private static final String EMAIL_SPECIAL_CHARACTERS = "+_.-";
+
+    /**
+     * Returns true if {@code test} is non-empty and consists only of ASCII letters and digits.
+     * Equivalent to the regular expression {@code \p{Alnum}+}.
+     */
+    public static boolean isAlphanumeric(String test) {
+        requireNonNull(test);
+        if (test.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < test.length(); i++) {
+            if (!isAlphanumeric(test.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isAlphanumeric(char c) {
+        return isLetter(c) || isDigit(c);
+    }
+
+    /**
+     * Returns true if {@code test} consists of at least {@code minLength} ASCII digits and nothing else.
+     * Equivalent to the regular expression {@code \d{minLength,}}.
+     */
+    public static boolean isDigits(String test, int minLength) {
+        requireNonNull(test);
+        if (test.length() < minLength) {
+            return false;
+        }
+        for (int i = 0; i < test.length(); i++) {
+            if (!isDigit(test.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code test} is a valid name.
+     * Equivalent to the regular expression {@code [A-Za-z0-9'-][A-Za-z0-9 '/-]*}.
+     */
+    public static boolean isName(String test) {
+        requireNonNull(test);
+        if (test.isEmpty()) {
+            return false;
+        }
+        char first = test.charAt(0);
+        if (!isAlphanumeric(first) && first != '\'' && first != '-') {
+            return false;
+        }
+        for (int i = 1; i < test.length(); i++) {
+            char c = test.charAt(i);
+            if (!isAlphanumeric(c) && c != ' ' && c != '\'' && c != '/' && c != '-') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code test} does not start with whitespace and is a single line.
+     * Equivalent to the regular expression {@code [^\s].*}.
+     */
+    public static boolean isSingleLineNotStartingWithWhitespace(String test) {
+        requireNonNull(test);
+        if (test.isEmpty() || isWhitespace(test.charAt(0))) {
+            return false;
+        }
+        // The first character only has to be non-whitespace, even if it is a line terminator.
+        for (int i = 1; i < test.length(); i++) {
+            if (isLineTerminator(test.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code test} is a valid module code: 2 to 4 letters, then 4 digits and an optional letter.
+     * Equivalent to the regular expression {@code [A-Za-z]{2,4}\d{4}[A-Za-z]?}.
+     */
+    public static boolean isModuleCode(String test) {
+        requireNonNull(test);
+        int length = test.length();
+        int letters = 0;
+        while (letters < length && isLetter(test.charAt(letters))) {
+            letters++;
+        }
+        if (letters < 2 || letters > 4) {
+            return false;
+        }
+        int digitsEnd = letters + 4;
+        if (length < digitsEnd || length > digitsEnd + 1) {
+            return false;
+        }
+        for (int i = letters; i < digitsEnd; i++) {
+            if (!isDigit(test.charAt(i))) {
+                return false;
+            }
+        }
+        return length == digitsEnd || isLetter(test.charAt(digitsEnd));
+    }
+
+    /**
+     * Returns true if {@code test} is a valid email address, as described in {@code Email#MESSAGE_CONSTRAINTS}.
+     * Equivalent to the regular expression {@code Email#VALIDATION_REGEX}, but checked in a single pass.
+     */
+    public static boolean isEmail(String test) {
+        requireNonNull(test);
+        int at = test.indexOf('@');
+        return at >= 0 && isEmailLocalPart(test, at) && isEmailDomain(test, at + 1);
+    }
+
+    /**
+     * Returns true if {@code test[0, end)} is made up of alphanumeric characters separated by single special
+     * characters.
+     */
+    private static boolean isEmailLocalPart(String test, int end) {
+        if (end == 0) {
+            return false;
+        }
+        boolean previousWasSpecial = true;
+        for (int i = 0; i < end; i++) {
+            char c = test.charAt(i);
+            if (isAlphanumeric(c)) {
+                previousWasSpecial = false;
+            } else if (EMAIL_SPECIAL_CHARACTERS.indexOf(c) >= 0 && !previousWasSpecial) {
+                previousWasSpecial = true;
+            } else {
+                return false;
+            }
+        }
+        return !previousWasSpecial;
+    }
+
+    /**
+     * Returns true if {@code test[start, length)} is made up of domain labels separated by periods, where each
+     * label is made up of alphanumeric characters separated by single hyphens. The last label must contain two
+     * consecutive alphanumeric characters, which is what the regular expression requires of it.
+     */
+    private static boolean isEmailDomain(String test, int start) {
+        boolean previousWasAlphanumeric = false;
+        boolean lastLabelHasAdjacentAlphanumerics = false;
+        for (int i = start; i < test.length(); i++) {
+            char c = test.charAt(i);
+            if (isAlphanumeric(c)) {
+                lastLabelHasAdjacentAlphanumerics |= previousWasAlphanumeric;
+                previousWasAlphanumeric = true;
+            } else if ((c == '.' || c == '-') && previousWasAlphanumeric) {
+                previousWasAlphanumeric = false;
+                if (c == '.') {
+                    lastLabelHasAdjacentAlphanumerics = false;
+                }
+            } else {
+                return false;
+            }
+        }
+        return previousWasAlphanumeric && lastLabelHasAdjacentAlphanumerics;
+    }
+
+    private static boolean isLetter(char c) {
+        return (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z');
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    /**
+     * Returns true if {@code c} is matched by {@code \s} in a regular expression.
+     */
+    static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == (char) 0x0B || c == '\f' || c == '\r';
+    }
+
+    /**
+     * Returns true if {@code c} is not matched by {@code .} in a regular expression.
+     */
+    private static boolean isLineTerminator(char c) {
+        return c == '\n' || c == '\r' || c == (char) 0x85 || c == (char) 0x2028 || c == (char) 0x2029;
+    }
+}
@@ -29,8 +29,8 @@ public final class MeetingBlock implements TimetableDisplayable {
      */
     public MeetingBlock(Meeting meeting) {
         String day = meeting.getDay();
-        double startTime = meeting.getStartTime().toSecondOfDay() / 3600.0;
-        double endTime = meeting.getEndTime().toSecondOfDay() / 3600.0;
+        double startTime = meeting.getStartMinuteOfDay() / 60.0;
+        double endTime = meeting.getEndMinuteOfDay() / 60.0;
         double duration = endTime - startTime;
         StyledMeeting styledMeeting = new StyledMeeting(
                     duration,
@@ -1,5 +1,6 @@
 package syncsquad.teamsync.components.timetable;
 
+import java.util.OptionalInt;
 import java.util.stream.Collectors;
 
 import atlantafx.base.theme.Styles;
@@ -37,11 +38,21 @@ public final class PersonModulesBlock implements TimetableDisplayable {
      * @param person the person to display
      */
     public PersonModulesBlock(Person person) {
+        this(person, OptionalInt.empty());
+    }
+
+    /**
+     * Constructs a {@code PersonModulesBlock} with the modules the specified person has in a teaching week.
+     * @param person the person to display
+     * @param teachingWeek the teaching week on display, or empty to display every module
+     */
+    public PersonModulesBlock(Person person, OptionalInt teachingWeek) {
         ObservableList<XYChart.Data<Number, String>> moduleData = person.getModules().stream()
+            .filter(module -> teachingWeek.isEmpty() || module.isHeldInWeek(teachingWeek.getAsInt()))
             .map(module -> {
                 String day = module.getDay().toString();
-                double startTime = module.getStartTime().toSecondOfDay() / 3600.0;
-                double endTime = module.getEndTime().toSecondOfDay() / 3600.0;
+                double startTime = module.getStartMinuteOfDay() / 60.0;
+                double endTime = module.getEndMinuteOfDay() / 60.0;
                 double duration = endTime - startTime;
                 StyledModule styledModule = new StyledModule(
                     module.getModuleCode().toString(),
@@ -2,11 +2,11 @@ package syncsquad.teamsync.controller;
 
 import java.awt.Desktop;
 import java.net.URI;
+import java.util.List;
 import java.util.logging.Logger;
 
 import atlantafx.base.controls.ModalPane;
 import javafx.collections.FXCollections;
-import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.TableColumn;
 import javafx.scene.control.TableView;
@@ -15,6 +15,7 @@ import javafx.scene.layout.AnchorPane;
 import javafx.scene.layout.Region;
 import javafx.scene.layout.VBox;
 import syncsquad.teamsync.commons.core.LogsCenter;
+import syncsquad.teamsync.logic.commands.CommandHelp;
 
 /**
  * Controller for a help dialog
@@ -33,24 +34,25 @@ public class HelpDialogController extends UiPart<Region> {
     private ModalPane modalPane;
 
     @FXML
-    private TableView<CommandSummary> commandTableView;
+    private TableView<CommandHelp> commandTableView;
 
     @FXML
-    private TableColumn<CommandSummary, String> actionColumn;
+    private TableColumn<CommandHelp, String> actionColumn;
 
     @FXML
-    private TableColumn<CommandSummary, String> formatColumn;
+    private TableColumn<CommandHelp, String> formatColumn;
 
     @FXML
-    private TableColumn<CommandSummary, String> exampleColumn;
+    private TableColumn<CommandHelp, String> exampleColumn;
 
     /**
-     * Constructs a {@code HelpDialogController}
+     * Constructs a {@code HelpDialogController} that summarises the commands described by {@code commandHelp}.
      */
-    public HelpDialogController(ModalPane modalPane) {
+    public HelpDialogController(ModalPane modalPane, List<CommandHelp> commandHelp) {
         super(FXML);
         mainVBox.setStyle("-fx-background-color: -color-bg-default");
         this.modalPane = modalPane;
+        commandTableView.setItems(FXCollections.observableArrayList(commandHelp));
     }
 
     /**
@@ -61,8 +63,6 @@ public class HelpDialogController extends UiPart<Region> {
         actionColumn.setCellValueFactory(new PropertyValueFactory<>("action"));
         formatColumn.setCellValueFactory(new PropertyValueFactory<>("format"));
         exampleColumn.setCellValueFactory(new PropertyValueFactory<>("example"));
-
-        commandTableView.setItems(getCommandSummaryData());
     }
 
     /**
@@ -86,38 +86,4 @@ public class HelpDialogController extends UiPart<Region> {
         modalPane.hide();
     }
 
-    /**
-     * Returns the data for the command summary table.
-     */
-    private ObservableList<CommandSummary> getCommandSummaryData() {
-        return FXCollections.observableArrayList(
-                new CommandSummary("Add a teammate",
-                        "person add -n NAME -p PHONE_NUMBER -e EMAIL -a ADDRESS [-t TAG]… [-m MODULE]...",
-                        "person add -n John Doe -p 12345678 -e johndoe@u.nus.edu -a RC4 "
-                                + "-t Backend -m CS2101 Thu 12:00 15:00 -m CS2103T Fri 16:00 18:00"),
-                new CommandSummary("Edit a teammate",
-                        "person edit INDEX [-n NAME] [-p PHONE] [-e EMAIL] [-a ADDRESS] [-t TAG]…",
-                        "person edit 1 -p 87654321 -e newmail@u.nus.edu -t"),
-                new CommandSummary("Delete a teammate",
-                        "person delete INDEX", "person delete 1"),
-                new CommandSummary("List all teammates",
-                        "person list", "person list"),
-                new CommandSummary("Search for a teammate",
-                        "person find KEYWORD [MORE_KEYWORDS]", "person find alex david"),
-                new CommandSummary("Add a module for a teammate",
-                        "module add INDEX MODULE_CODE DAY START_TIME END_TIME", "module add 1 CS2101 Thu 12:00 15:00"),
-                new CommandSummary("Delete a module from a teammate",
-                        "module delete INDEX MODULE_CODE", "module delete 1 CS2101"),
-                new CommandSummary("Add a meeting",
-                        "meeting add DATE START_TIME END_TIME", "meeting add 06-04-2025 12:00 15:00"),
-                new CommandSummary("Delete a meeting",
-                        "meeting delete INDEX", "meeting delete 1"),
-                new CommandSummary("View help",
-                        "help", "help"),
-                new CommandSummary("Change week displayed",
-                        "showdate DATE", "showdate 03-04-2025"),
-                new CommandSummary("Clear all data", "clear", "clear"),
-                new CommandSummary("Exit TeamSync", "exit", "exit"));
-    }
-
 }
@@ -139,7 +139,8 @@ public class MainWindowController extends UiPart<Stage> {
         meetingListPanelPlaceholder.getChildren().add(meetingListPanel.getRoot());
 
         TimetableController timetable = new TimetableController(
-                this.viewModel.getPersonListViewModel(), this.viewModel.getMeetingListViewModel());
+                this.viewModel.getPersonListViewModel(), this.viewModel.getMeetingListViewModel(),
+                this.viewModel.getSemesterStart());
         timetablePlaceholder.getChildren().add(timetable.getRoot());
 
         ResultDisplayController resultDisplay = new ResultDisplayController(
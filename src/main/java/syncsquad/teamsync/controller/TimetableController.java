@@ -1,7 +1,10 @@
 package syncsquad.teamsync.controller;
 
 import java.time.DayOfWeek;
-import java.time.temporal.TemporalAdjusters;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalInt;
 import java.util.stream.Collectors;
 
 import javafx.collections.FXCollections;
@@ -12,6 +15,9 @@ import javafx.scene.layout.VBox;
 import syncsquad.teamsync.components.timetable.MeetingBlock;
 import syncsquad.teamsync.components.timetable.PersonModulesBlock;
 import syncsquad.teamsync.components.timetable.TimetableChart;
+import syncsquad.teamsync.model.meeting.Meeting;
+import syncsquad.teamsync.model.module.TeachingWeeks;
+import syncsquad.teamsync.model.person.Person;
 import syncsquad.teamsync.viewmodel.MeetingListViewModel;
 import syncsquad.teamsync.viewmodel.PersonListViewModel;
 
@@ -28,50 +34,70 @@ public class TimetableController extends UiPart<Region> {
 
     /**
      * Creates a {@code Timetable} for all people and meetings.
+     * Modules held only in some teaching weeks are shown in those weeks if {@code semesterStart} is present.
      */
-    public TimetableController(PersonListViewModel personListViewModel, MeetingListViewModel meetingListViewModel) {
+    public TimetableController(PersonListViewModel personListViewModel, MeetingListViewModel meetingListViewModel,
+            Optional<LocalDate> semesterStart) {
         super(FXML);
 
         timetable = new TimetableChart(
-            personListViewModel.personListProperty().stream()
-                .map(PersonModulesBlock::new)
-                .collect(Collectors.toCollection(FXCollections::observableArrayList)),
-            meetingListViewModel.meetingListProperty().stream()
-                .filter(meeting -> meeting.getDate()
-                    .with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY))
-                    .equals(meetingListViewModel.currentWeekProperty().get()))
-                .map(MeetingBlock::new)
-                .collect(Collectors.toCollection(FXCollections::observableArrayList))
+            createPersonModulesBlocks(personListViewModel.personListProperty(), semesterStart,
+                meetingListViewModel.currentWeekProperty().get()),
+            createMeetingBlocks(meetingListViewModel.meetingListProperty(),
+                meetingListViewModel.currentWeekProperty().get())
         );
 
         mainVBox.getChildren().add(timetable);
         VBox.setVgrow(timetable, javafx.scene.layout.Priority.ALWAYS);
 
         personListViewModel.personListProperty().addListener((observable, oldValue, newValue) -> {
-            ObservableList<PersonModulesBlock> blocks = personListViewModel.personListProperty().stream()
-                .map(PersonModulesBlock::new)
-                .collect(Collectors.toCollection(FXCollections::observableArrayList));
+            ObservableList<PersonModulesBlock> blocks = createPersonModulesBlocks(
+                personListViewModel.personListProperty(), semesterStart,
+                meetingListViewModel.currentWeekProperty().get());
             timetable.loadPersonModulesBlocks(blocks);
         });
 
         meetingListViewModel.meetingListProperty().addListener((observable, oldValue, newValue) -> {
-            ObservableList<MeetingBlock> blocks = meetingListViewModel.meetingListProperty().stream()
-                .filter(meeting -> meeting.getDate()
-                    .with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY))
-                    .equals(meetingListViewModel.currentWeekProperty().get()))
-                .map(MeetingBlock::new)
-                .collect(Collectors.toCollection(FXCollections::observableArrayList));
+            ObservableList<MeetingBlock> blocks = createMeetingBlocks(meetingListViewModel.meetingListProperty(),
+                meetingListViewModel.currentWeekProperty().get());
             timetable.loadMeetingBlocks(blocks);
         });
 
         meetingListViewModel.currentWeekProperty().addListener((observable, oldValue, newValue) -> {
-            ObservableList<MeetingBlock> blocks = meetingListViewModel.meetingListProperty().stream()
-                    .filter(meeting -> meeting.getDate()
-                            .with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY))
-                            .equals(meetingListViewModel.currentWeekProperty().get()))
-                    .map(MeetingBlock::new)
-                    .collect(Collectors.toCollection(FXCollections::observableArrayList));
+            ObservableList<MeetingBlock> blocks = createMeetingBlocks(meetingListViewModel.meetingListProperty(),
+                meetingListViewModel.currentWeekProperty().get());
             timetable.loadMeetingBlocks(blocks);
+            if (semesterStart.isPresent()) {
+                timetable.loadPersonModulesBlocks(createPersonModulesBlocks(
+                    personListViewModel.personListProperty(), semesterStart, newValue));
+            }
         });
     }
+
+    /**
+     * Returns blocks for the modules of {@code persons} that are held in the week starting on the Monday
+     * {@code week}, or for all their modules if the semester start is not known.
+     */
+    private static ObservableList<PersonModulesBlock> createPersonModulesBlocks(List<Person> persons,
+            Optional<LocalDate> semesterStart, LocalDate week) {
+        OptionalInt teachingWeek = semesterStart
+            .map(start -> OptionalInt.of(TeachingWeeks.weekOf(start, week)))
+            .orElse(OptionalInt.empty());
+        return persons.stream()
+            .map(person -> new PersonModulesBlock(person, teachingWeek))
+            .collect(Collectors.toCollection(FXCollections::observableArrayList));
+    }
+
+    /**
+     * Returns blocks for the meetings that take place in the week starting on the Monday {@code week}.
+     * Recurring meetings are only expanded into their occurrences in that week.
+     */
+    private static ObservableList<MeetingBlock> createMeetingBlocks(List<Meeting> meetings, LocalDate week) {
+        assert week.getDayOfWeek() == DayOfWeek.MONDAY;
+        LocalDate nextWeek = week.plusDays(DayOfWeek.values().length);
+        return meetings.stream()
+            .flatMap(meeting -> meeting.getOccurrences(week, nextWeek).stream())
+            .map(MeetingBlock::new)
+            .collect(Collectors.toCollection(FXCollections::observableArrayList));
+    }
 }
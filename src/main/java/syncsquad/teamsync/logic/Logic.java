@@ -1,9 +1,14 @@
 package syncsquad.teamsync.logic;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
 
+import javafx.beans.property.ReadOnlyObjectProperty;
 import javafx.collections.ObservableList;
 import syncsquad.teamsync.commons.core.GuiSettings;
+import syncsquad.teamsync.logic.commands.CommandHelp;
 import syncsquad.teamsync.logic.commands.CommandResult;
 import syncsquad.teamsync.logic.commands.exceptions.CommandException;
 import syncsquad.teamsync.logic.parser.exceptions.ParseException;
@@ -25,6 +30,13 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Saves the changes to the AddressBook that have not been saved yet, and waits until they are saved, e.g.
+     * before exiting. Returns the error if the AddressBook could not be saved.
+     * Commands that exit the application do this before they return, and report the error in their result.
+     */
+    Optional<String> flush();
+
     /**
      * Returns the AddressBook.
      *
@@ -32,9 +44,18 @@ public interface Logic {
      */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns an immutable snapshot of the AddressBook as it was after the latest command.
+     * Unlike the other methods, this may be called from any thread.
+     */
+    ReadOnlyAddressBook getAddressBookSnapshot();
+
     /** Returns an unmodifiable view of the filtered list of persons */
     ObservableList<Person> getFilteredPersonList();
 
+    /** Returns the property holding the list of persons shown, which changes when they are sorted */
+    ReadOnlyObjectProperty<ObservableList<Person>> filteredPersonListProperty();
+
     /** Returns an unmodifiable view of the list of meetings */
     ObservableList<Meeting> getMeetingList();
 
@@ -53,5 +74,15 @@ public interface Logic {
      */
     void setGuiSettings(GuiSettings guiSettings);
 
+    /**
+     * Returns the user prefs' semester start date.
+     */
+    Optional<LocalDate> getSemesterStart();
+
+    /**
+     * Returns the help of the available commands, in the order they should be listed.
+     */
+    List<CommandHelp> getCommandHelp();
+
     TimetableWeek getCurrentWeek();
 }
@@ -3,12 +3,17 @@ package syncsquad.teamsync.logic;
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
 import java.util.logging.Logger;
 
+import javafx.beans.property.ReadOnlyObjectProperty;
 import javafx.collections.ObservableList;
 import syncsquad.teamsync.commons.core.GuiSettings;
 import syncsquad.teamsync.commons.core.LogsCenter;
 import syncsquad.teamsync.logic.commands.Command;
+import syncsquad.teamsync.logic.commands.CommandHelp;
 import syncsquad.teamsync.logic.commands.CommandResult;
 import syncsquad.teamsync.logic.commands.exceptions.CommandException;
 import syncsquad.teamsync.logic.parser.AddressBookParser;
@@ -19,6 +24,7 @@ import syncsquad.teamsync.model.TimetableWeek;
 import syncsquad.teamsync.model.meeting.Meeting;
 import syncsquad.teamsync.model.person.Person;
 import syncsquad.teamsync.storage.Storage;
+import syncsquad.teamsync.storage.WriteBehindSaver;
 
 /**
  * The main LogicManager of the app.
@@ -29,19 +35,38 @@ public class LogicManager implements Logic {
     public static final String FILE_OPS_PERMISSION_ERROR_FORMAT =
             "Could not save data to file %s due to insufficient permissions to write to the file or the folder.";
 
+    private static final long UNSAVED = -1;
+
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
-    private final Storage storage;
+    private final WriteBehindSaver saver;
     private final AddressBookParser addressBookParser;
 
+    /** The version of the AddressBook that was last saved, or {@code UNSAVED} if the last save failed. */
+    private long savedVersion;
+
+    /** A snapshot of the AddressBook after the latest command, published for readers on other threads. */
+    private volatile ReadOnlyAddressBook snapshot;
+
     /**
-     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}, which saves the
+     * AddressBook before each command returns.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, WriteBehindSaver.synchronous(storage));
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model}, which saves the AddressBook with
+     * {@code saver}, e.g. in the background.
+     */
+    public LogicManager(Model model, WriteBehindSaver saver) {
         this.model = model;
-        this.storage = storage;
+        this.saver = saver;
         addressBookParser = new AddressBookParser();
+        savedVersion = model.getAddressBookVersion();
+        snapshot = model.getAddressBookSnapshot();
     }
 
     @Override
@@ -50,17 +75,57 @@ public class LogicManager implements Logic {
 
         CommandResult commandResult;
         Command command = addressBookParser.parseCommand(commandText);
-        commandResult = command.execute(model);
+        try {
+            commandResult = command.execute(model);
+        } finally {
+            // Whatever the command changed is undone together, even if it then failed.
+            model.commitAddressBook();
+        }
 
+        // A failed save is reported alongside the result, as the command itself succeeded.
+        Optional<String> saveError = commandResult.isExit() ? flush() : saveIfModified();
+        return saveError.map(commandResult::withSaveError).orElse(commandResult);
+    }
+
+    @Override
+    public Optional<String> flush() {
+        Optional<String> saveError = saveIfModified();
+        if (saveError.isPresent()) {
+            // An earlier save failed, so the AddressBook is saved again and only the error of that save is reported.
+            saveError = saveIfModified();
+        }
         try {
-            storage.saveAddressBook(model.getAddressBook());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
-        } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+            saver.flush();
+        } catch (IOException e) {
+            return Optional.of(describeSaveError(e));
+        }
+        return saveError;
+    }
+
+    /**
+     * Saves and publishes a snapshot of the AddressBook if it was modified since it was last saved, and returns the
+     * error of the last save if it failed. A failed save is retried after the next command even if the AddressBook
+     * is unchanged. Publishing a snapshot is cheap, as the AddressBook only copies the parts it modifies afterwards.
+     */
+    private Optional<String> saveIfModified() {
+        long version = model.getAddressBookVersion();
+        if (version != savedVersion) {
+            savedVersion = version;
+            snapshot = model.getAddressBookSnapshot();
+            saver.save(snapshot);
         }
+        return saver.takeError().map(this::describeSaveError);
+    }
 
-        return commandResult;
+    /**
+     * Returns the message reporting {@code error}, a failed save, and marks the AddressBook as unsaved.
+     */
+    private String describeSaveError(IOException error) {
+        savedVersion = UNSAVED;
+        if (error instanceof AccessDeniedException) {
+            return String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, error.getMessage());
+        }
+        return String.format(FILE_OPS_ERROR_FORMAT, error.getMessage());
     }
 
     @Override
@@ -68,11 +133,21 @@ public class LogicManager implements Logic {
         return model.getAddressBook();
     }
 
+    @Override
+    public ReadOnlyAddressBook getAddressBookSnapshot() {
+        return snapshot;
+    }
+
     @Override
     public ObservableList<Person> getFilteredPersonList() {
         return model.getFilteredPersonList();
     }
 
+    @Override
+    public ReadOnlyObjectProperty<ObservableList<Person>> filteredPersonListProperty() {
+        return model.filteredPersonListProperty();
+    }
+
     @Override
     public ObservableList<Meeting> getMeetingList() {
         return model.getMeetingList();
@@ -88,6 +163,16 @@ public class LogicManager implements Logic {
         return model.getGuiSettings();
     }
 
+    @Override
+    public Optional<LocalDate> getSemesterStart() {
+        return model.getUserPrefs().getSemesterStart();
+    }
+
+    @Override
+    public List<CommandHelp> getCommandHelp() {
+        return addressBookParser.getCommandHelp();
+    }
+
     @Override
     public void setGuiSettings(GuiSettings guiSettings) {
         model.setGuiSettings(guiSettings);
@@ -58,13 +58,24 @@ public class Messages {
      * Formats the {@code meeting} for display to the user
      */
     public static String format(Meeting meeting) {
-        return new StringBuilder()
+        final StringBuilder builder = new StringBuilder()
                 .append(meeting.getDateString())
                 .append("; Start time: ")
                 .append(meeting.getStartTimeString())
                 .append("; End time: ")
-                .append(meeting.getEndTimeString())
-                .toString();
+                .append(meeting.getEndTimeString());
+        if (!meeting.getAttendees().isEmpty()) {
+            builder.append("; Attendees: ")
+                    .append(meeting.getAttendees().stream()
+                            .map(email -> email.value)
+                            .collect(Collectors.joining(", ")));
+        }
+        meeting.getRecurrence().ifPresent(recurrence -> builder.append("; Repeats every ")
+                .append(recurrence.getIntervalWeeks())
+                .append(recurrence.getIntervalWeeks() == 1 ? " week" : " weeks")
+                .append(" until ")
+                .append(recurrence.getUntil().format(Meeting.DATE_TO_STRING_FORMATTER)));
+        return builder.toString();
     }
 
 }
@@ -0,0 +1,74 @@
+package syncsquad.teamsync.logic.commands;
+
+import static syncsquad.teamsync.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Objects;
+
+import syncsquad.teamsync.commons.util.ToStringBuilder;
+
+/**
+ * Describes a command for the command summary shown to users: what it does, its format and an example.
+ * Guarantees: immutable; details are present and not null.
+ */
+public class CommandHelp {
+    private final String action;
+    private final String format;
+    private final String example;
+
+    /**
+     * Constructs a {@code CommandHelp}.
+     *
+     * @param action  What the command does.
+     * @param format  The format of the command.
+     * @param example An example of the command.
+     */
+    public CommandHelp(String action, String format, String example) {
+        requireAllNonNull(action, format, example);
+        this.action = action;
+        this.format = format;
+        this.example = example;
+    }
+
+    public String getAction() {
+        return action;
+    }
+
+    public String getFormat() {
+        return format;
+    }
+
+    public String getExample() {
+        return example;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof CommandHelp)) {
+            return false;
+        }
+
+        CommandHelp otherCommandHelp = (CommandHelp) other;
+        return action.equals(otherCommandHelp.action)
+                && format.equals(otherCommandHelp.format)
+                && example.equals(otherCommandHelp.example);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(action, format, example);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("action", action)
+                .add("format", format)
+                .add("example", example)
+                .toString();
+    }
+}
@@ -3,6 +3,7 @@ package syncsquad.teamsync.logic.commands;
 import static java.util.Objects.requireNonNull;
 
 import java.util.Objects;
+import java.util.Optional;
 
 import syncsquad.teamsync.commons.util.ToStringBuilder;
 
@@ -19,13 +20,33 @@ public class CommandResult {
     /** The application should exit. */
     private final boolean exit;
 
+    /** The number of commands run by the command that failed, e.g. the failed lines of a script. */
+    private final int failedCommandCount;
+
+    /** The error of a failed save of the data, if any, which is reported apart from the feedback of the command. */
+    private final String saveError;
+
     /**
      * Constructs a {@code CommandResult} with the specified fields.
      */
-    public CommandResult(String feedbackToUser, boolean showHelp, boolean exit) {
+    public CommandResult(String feedbackToUser, boolean showHelp, boolean exit, int failedCommandCount) {
+        this(feedbackToUser, showHelp, exit, failedCommandCount, null);
+    }
+
+    private CommandResult(String feedbackToUser, boolean showHelp, boolean exit, int failedCommandCount,
+            String saveError) {
         this.feedbackToUser = requireNonNull(feedbackToUser);
         this.showHelp = showHelp;
         this.exit = exit;
+        this.failedCommandCount = failedCommandCount;
+        this.saveError = saveError;
+    }
+
+    /**
+     * Constructs a {@code CommandResult} with the specified fields, for a command that runs no other commands.
+     */
+    public CommandResult(String feedbackToUser, boolean showHelp, boolean exit) {
+        this(feedbackToUser, showHelp, exit, 0);
     }
 
     /**
@@ -48,6 +69,23 @@ public class CommandResult {
         return exit;
     }
 
+    public int getFailedCommandCount() {
+        return failedCommandCount;
+    }
+
+    public Optional<String> getSaveError() {
+        return Optional.ofNullable(saveError);
+    }
+
+    /**
+     * Returns a copy of this result that also reports {@code saveError}, the error of a failed save of the data,
+     * without replacing the feedback of the command.
+     */
+    public CommandResult withSaveError(String saveError) {
+        requireNonNull(saveError);
+        return new CommandResult(feedbackToUser, showHelp, exit, failedCommandCount, saveError);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -62,12 +100,14 @@ public class CommandResult {
         CommandResult otherCommandResult = (CommandResult) other;
         return feedbackToUser.equals(otherCommandResult.feedbackToUser)
                 && showHelp == otherCommandResult.showHelp
-                && exit == otherCommandResult.exit;
+                && exit == otherCommandResult.exit
+                && failedCommandCount == otherCommandResult.failedCommandCount
+                && Objects.equals(saveError, otherCommandResult.saveError);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(feedbackToUser, showHelp, exit);
+        return Objects.hash(feedbackToUser, showHelp, exit, failedCommandCount, saveError);
     }
 
     @Override
@@ -76,6 +116,8 @@ public class CommandResult {
                 .add("feedbackToUser", feedbackToUser)
                 .add("showHelp", showHelp)
                 .add("exit", exit)
+                .add("failedCommandCount", failedCommandCount)
+                .add("saveError", saveError)
                 .toString();
     }
 
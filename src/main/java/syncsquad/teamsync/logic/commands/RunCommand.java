@@ -0,0 +1,189 @@
+package syncsquad.teamsync.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import syncsquad.teamsync.commons.util.ToStringBuilder;
+import syncsquad.teamsync.logic.commands.exceptions.CommandException;
+import syncsquad.teamsync.logic.parser.AddressBookParser;
+import syncsquad.teamsync.logic.parser.exceptions.ParseException;
+import syncsquad.teamsync.model.Model;
+
+/**
+ * Runs the commands in a script file, one command per line.
+ *
+ * The lines are parsed in parallel before any of them is executed, and the commands are then executed in order,
+ * each as its own {@link Model#batch} transaction. The filtered person list is brought up to date after every line,
+ * so an index on a line refers to the list as left by the lines before it, as if the commands were entered one by
+ * one. The address book is still saved once for the whole script rather than after every line.
+ *
+ * A line that cannot be parsed or executed is rolled back and reported with its line number, and does not stop the
+ * lines after it from running. The number of such lines is given by {@link CommandResult#getFailedCommandCount()},
+ * e.g. for the exit status of a headless run. Blank lines and lines starting with {@code #} are skipped. A script
+ * cannot run another script, nor undo or redo commands, as the whole script is undone as one command.
+ */
+public class RunCommand extends Command {
+
+    public static final String COMMAND_WORD = "run";
+
+    public static final String COMMENT_MARKER = "#";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Runs the commands in a file, one command per line\n"
+            + "Parameters: FILE\n"
+            + "Example: " + COMMAND_WORD + " onboarding.txt";
+
+    public static final String MESSAGE_SUCCESS = "Ran %1$d commands from %2$s";
+    public static final String MESSAGE_FAILED_LINES = "Ran %1$d of %2$d commands from %3$s. Failed lines:";
+    public static final String MESSAGE_FAILED_LINE = "Line %1$d: %2$s";
+    public static final String MESSAGE_CANNOT_READ_FILE = "Could not read the file %1$s";
+    public static final String MESSAGE_NESTED_RUN = "A script cannot run another script";
+    public static final String MESSAGE_UNDO_REDO_IN_SCRIPT = "A script cannot undo or redo commands";
+    public static final String MESSAGE_UNEXPECTED_ERROR = "The command failed unexpectedly: %1$s";
+
+    private final Path scriptPath;
+    private final AddressBookParser parser;
+
+    /**
+     * Creates a RunCommand that runs the commands in the file at {@code scriptPath}, parsed with {@code parser}.
+     */
+    public RunCommand(Path scriptPath, AddressBookParser parser) {
+        requireNonNull(scriptPath);
+        requireNonNull(parser);
+        this.scriptPath = scriptPath;
+        this.parser = parser;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(scriptPath, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new CommandException(String.format(MESSAGE_CANNOT_READ_FILE, scriptPath), e);
+        }
+
+        List<ScriptLine> scriptLines = IntStream.range(0, lines.size())
+                .parallel()
+                .filter(i -> isCommandLine(lines.get(i)))
+                .mapToObj(i -> parseLine(i + 1, lines.get(i)))
+                .collect(Collectors.toList());
+
+        List<String> failures = new ArrayList<>();
+        for (ScriptLine scriptLine : scriptLines) {
+            String error = scriptLine.error;
+            if (error == null) {
+                error = executeLine(scriptLine.command, model);
+            }
+            if (error != null) {
+                failures.add(String.format(MESSAGE_FAILED_LINE, scriptLine.lineNumber, error));
+            }
+        }
+
+        if (failures.isEmpty()) {
+            return new CommandResult(String.format(MESSAGE_SUCCESS, scriptLines.size(), scriptPath));
+        }
+        return new CommandResult(String.format(MESSAGE_FAILED_LINES,
+                scriptLines.size() - failures.size(), scriptLines.size(), scriptPath)
+                + "\n" + String.join("\n", failures), false, false, failures.size());
+    }
+
+    /**
+     * Executes {@code command} as a single transaction, which is rolled back if the command fails.
+     * Returns the reason the command failed, or null if it succeeded.
+     */
+    private static String executeLine(Command command, Model model) {
+        String[] error = new String[1];
+        try {
+            model.batch(batchModel -> {
+                try {
+                    command.execute(batchModel);
+                } catch (CommandException e) {
+                    error[0] = e.getMessage();
+                    // Rolls back anything the command modified before failing.
+                    throw new LineFailedException();
+                }
+            });
+        } catch (LineFailedException e) {
+            return error[0];
+        } catch (RuntimeException e) {
+            return String.format(MESSAGE_UNEXPECTED_ERROR, e);
+        }
+        return null;
+    }
+
+    private static boolean isCommandLine(String line) {
+        String trimmedLine = line.trim();
+        return !trimmedLine.isEmpty() && !trimmedLine.startsWith(COMMENT_MARKER);
+    }
+
+    /**
+     * Parses the line numbered {@code lineNumber}. Safe to call from any thread, as parsers keep no state.
+     */
+    private ScriptLine parseLine(int lineNumber, String line) {
+        try {
+            Command command = parser.parseCommand(line.trim());
+            if (command instanceof RunCommand) {
+                return new ScriptLine(lineNumber, null, MESSAGE_NESTED_RUN);
+            }
+            if (command instanceof UndoCommand || command instanceof RedoCommand) {
+                return new ScriptLine(lineNumber, null, MESSAGE_UNDO_REDO_IN_SCRIPT);
+            }
+            return new ScriptLine(lineNumber, command, null);
+        } catch (ParseException e) {
+            return new ScriptLine(lineNumber, null, e.getMessage());
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof RunCommand)) {
+            return false;
+        }
+
+        RunCommand otherRunCommand = (RunCommand) other;
+        return scriptPath.equals(otherRunCommand.scriptPath);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("scriptPath", scriptPath)
+                .toString();
+    }
+
+    /**
+     * A line of a script, with either the command it was parsed into or the reason it could not be parsed.
+     */
+    private static class ScriptLine {
+        private final int lineNumber;
+        private final Command command;
+        private final String error;
+
+        ScriptLine(int lineNumber, Command command, String error) {
+            this.lineNumber = lineNumber;
+            this.command = command;
+            this.error = error;
+        }
+    }
+
+    /**
+     * Signals that the command on a line failed, so that its transaction is rolled back.
+     */
+    private static class LineFailedException extends RuntimeException {
+    }
+}
@@ -0,0 +1,28 @@
+package syncsquad.teamsync.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import syncsquad.teamsync.logic.commands.exceptions.CommandException;
+import syncsquad.teamsync.model.Model;
+
+/**
+ * Undoes the latest command that changed the address book.
+ */
+public class UndoCommand extends Command {
+
+    public static final String COMMAND_WORD = "undo";
+
+    public static final String MESSAGE_SUCCESS = "Undid the latest change";
+    public static final String MESSAGE_FAILURE = "There is no change to undo";
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        if (!model.canUndoAddressBook()) {
+            throw new CommandException(MESSAGE_FAILURE);
+        }
+
+        model.undoAddressBook();
+        return new CommandResult(MESSAGE_SUCCESS);
+    }
+}
@@ -1,14 +1,25 @@
 package syncsquad.teamsync.logic.commands.meeting;
 
 import static java.util.Objects.requireNonNull;
+import static syncsquad.teamsync.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static syncsquad.teamsync.logic.parser.CliSyntax.PREFIX_REPEAT;
+import static syncsquad.teamsync.logic.parser.CliSyntax.PREFIX_UNTIL;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
 
-import javafx.collections.ObservableList;
 import syncsquad.teamsync.commons.util.ToStringBuilder;
 import syncsquad.teamsync.logic.Messages;
 import syncsquad.teamsync.logic.commands.CommandResult;
 import syncsquad.teamsync.logic.commands.exceptions.CommandException;
 import syncsquad.teamsync.model.Model;
 import syncsquad.teamsync.model.meeting.Meeting;
+import syncsquad.teamsync.model.module.Day;
+import syncsquad.teamsync.model.person.Email;
+import syncsquad.teamsync.model.person.Person;
 
 /**
  * Adds a meeting to the address book.
@@ -18,13 +29,21 @@ public class AddMeetingCommand extends MeetingCommand {
     public static final String COMMAND_WORD = "add";
 
     public static final String MESSAGE_USAGE = COMMAND_GROUP_WORD + " " + COMMAND_WORD
-            + ": Creates a meeting with the specified date, start and end time\n"
-            + "Parameters: DATE START_TIME END_TIME\n"
-            + "Example: " + COMMAND_GROUP_WORD + " " + COMMAND_WORD + " 15-11-2025 11:00 15:00";
+            + ": Creates a meeting with the specified date, start and end time, "
+            + "attended by the persons with the given emails, none of whom may have a module at that time. "
+            + "If an until date is given, the meeting repeats every INTERVAL_WEEKS weeks, or every week by default, "
+            + "up to that date\n"
+            + "Parameters: DATE START_TIME END_TIME [" + PREFIX_EMAIL + "ATTENDEE_EMAIL]... "
+            + "[" + PREFIX_REPEAT + "INTERVAL_WEEKS] [" + PREFIX_UNTIL + "UNTIL_DATE]\n"
+            + "Example: " + COMMAND_GROUP_WORD + " " + COMMAND_WORD + " 15-11-2025 11:00 15:00 "
+            + PREFIX_EMAIL + "johnd@example.com " + PREFIX_EMAIL + "alexy@example.com";
 
     public static final String MESSAGE_SUCCESS = "Meeting added with the following details: %1$s";
     public static final String MESSAGE_DUPLICATE_MEETING = "This meeting already exists in the address book";
     public static final String MESSAGE_OVERLAP_MEETING = "There is another meeting during this time period already. ";
+    public static final String MESSAGE_UNKNOWN_ATTENDEE = "There is no person with the email %1$s in the address book";
+    public static final String MESSAGE_ATTENDEE_MODULE_CLASH =
+            "These attendees have a module during this time period: %1$s";
 
     private final Meeting toAdd;
 
@@ -46,25 +65,44 @@ public class AddMeetingCommand extends MeetingCommand {
             throw new CommandException(MESSAGE_DUPLICATE_MEETING);
         }
 
-        ObservableList<Meeting> meetingList = model.getMeetingList();
-        // check for overlapping meetings
-        if (hasOverlap(meetingList)) {
+        if (model.hasOverlappingMeeting(toAdd)) {
             throw new CommandException(MESSAGE_OVERLAP_MEETING);
         }
 
+        // Only the given attendees are checked for modules, so a meeting without attendees is added as before.
+        List<Person> attendees = new ArrayList<>();
+        for (Email attendee : toAdd.getAttendees()) {
+            attendees.add(model.getPersonWithEmail(attendee)
+                    .orElseThrow(() -> new CommandException(String.format(MESSAGE_UNKNOWN_ATTENDEE, attendee))));
+        }
+        List<Person> busyAttendees = attendees.stream()
+                .filter(person -> hasModuleDuring(person, toAdd, model.getUserPrefs().getSemesterStart()))
+                .collect(Collectors.toList());
+        if (!busyAttendees.isEmpty()) {
+            throw new CommandException(String.format(MESSAGE_ATTENDEE_MODULE_CLASH, busyAttendees.stream()
+                    .map(person -> person.getName().fullName)
+                    .collect(Collectors.joining(", "))));
+        }
+
         model.addMeeting(toAdd);
         return new CommandResult(String.format(MESSAGE_SUCCESS, Messages.format(toAdd)));
     }
 
     /**
-     * Checks if the meeting to be added overlaps with existing meetings
-     *
-     * @param meetingList List of meetings to check for overlap
-     * @return true if there is an overlap, false otherwise
+     * Returns true if {@code person} has a module during {@code meeting}.
+     * The cached weekly occupancy of the person rules out most persons without looking at their modules.
+     * Without {@code semesterStart}, the teaching weeks of a module cannot be dated, so it is taken to be held
+     * every week.
      */
-    public boolean hasOverlap(ObservableList<Meeting> meetingList) {
-        requireNonNull(meetingList);
-        return meetingList.stream().anyMatch(toAdd::isOverlapping);
+    private static boolean hasModuleDuring(Person person, Meeting meeting, Optional<LocalDate> semesterStart) {
+        Day day = Day.of(meeting.getDate().getDayOfWeek());
+        if (person.getWeeklyOccupancy().isFree(day, meeting.getStartTime(), meeting.getEndTime())) {
+            return false;
+        }
+        // The occupancy is kept in five-minute slots, so a module may only share a slot with the meeting.
+        return person.getModules().stream().anyMatch(module -> semesterStart
+                .map(start -> meeting.isOverlapping(module, start))
+                .orElseGet(() -> meeting.isOverlapping(module)));
     }
 
     @Override
@@ -30,9 +30,10 @@ public class AddModuleCommand extends ModuleCommand {
             + "MODULE_CODE "
             + "DAY "
             + "START_TIME (HH:MM) "
-            + "END_TIME (HH:MM) \n"
+            + "END_TIME (HH:MM) "
+            + "[TEACHING_WEEKS (odd, even, or weeks such as 1-6,8)]\n"
             + "Example: " + COMMAND_GROUP_WORD + " " + COMMAND_WORD + " 1 "
-            + "CS2103T FRI 16:00 18:00";
+            + "CS2103T FRI 16:00 18:00 odd";
 
     public static final String MESSAGE_SUCCESS = "Added Module to Person: %1$s";
     public static final String MESSAGE_DUPLICATE_MODULE = "This module already exists for the person.";
@@ -78,8 +79,10 @@ public class AddModuleCommand extends ModuleCommand {
         moduleSet.add(module);
         Person newPerson = new Person(personToEdit.getName(), personToEdit.getPhone(),
                 personToEdit.getEmail(), personToEdit.getAddress(), personToEdit.getTags(), moduleSet);
-        model.setPerson(personToEdit, newPerson);
-        model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        model.batch(m -> {
+            m.setPerson(personToEdit, newPerson);
+            m.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        });
         return new CommandResult(String.format(MESSAGE_SUCCESS, Messages.format(newPerson)));
     }
 
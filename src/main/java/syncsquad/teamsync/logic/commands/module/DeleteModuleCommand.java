@@ -65,8 +65,10 @@ public class DeleteModuleCommand extends ModuleCommand {
         Person newPerson = new Person(personToDeleteModule.getName(), personToDeleteModule.getPhone(),
                 personToDeleteModule.getEmail(), personToDeleteModule.getAddress(),
                 personToDeleteModule.getTags(), moduleSet);
-        model.setPerson(personToDeleteModule, newPerson);
-        model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        model.batch(m -> {
+            m.setPerson(personToDeleteModule, newPerson);
+            m.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        });
         return new CommandResult(String.format(MESSAGE_DELETE_MODULE_SUCCESS, Messages.format(newPerson)));
     }
 
@@ -89,8 +89,10 @@ public class EditCommand extends PersonCommand {
             throw new CommandException(MESSAGE_DUPLICATE_PERSON);
         }
 
-        model.setPerson(personToEdit, editedPerson);
-        model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        model.batch(m -> {
+            m.setPerson(personToEdit, editedPerson);
+            m.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        });
         return new CommandResult(String.format(MESSAGE_EDIT_PERSON_SUCCESS, Messages.format(editedPerson)));
     }
 
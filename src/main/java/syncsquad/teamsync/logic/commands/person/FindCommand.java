@@ -2,15 +2,23 @@ package syncsquad.teamsync.logic.commands.person;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
 import syncsquad.teamsync.commons.util.ToStringBuilder;
 import syncsquad.teamsync.logic.Messages;
 import syncsquad.teamsync.logic.commands.CommandResult;
 import syncsquad.teamsync.model.Model;
+import syncsquad.teamsync.model.person.FuzzyKeywordsPredicate;
 import syncsquad.teamsync.model.person.NameContainsKeywordsPredicate;
+import syncsquad.teamsync.model.person.Person;
+import syncsquad.teamsync.model.person.PersonSearchResult;
 
 /**
  * Finds and lists all persons in address book whose name contains any of the argument keywords.
- * Keyword matching is case insensitive.
+ * Keyword matching is case insensitive. In fuzzy mode, the keywords may also be the start of a word of the name,
+ * email or tags, with a few typos, and the closest matches are named in the result.
  */
 public class FindCommand extends PersonCommand {
 
@@ -19,21 +27,47 @@ public class FindCommand extends PersonCommand {
     public static final String MESSAGE_USAGE = COMMAND_GROUP_WORD + " " + COMMAND_WORD
             + ": Finds all persons whose names contain any of "
             + "the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
-            + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
-            + "Example: " + COMMAND_GROUP_WORD + " " + COMMAND_WORD + " alice bob charlie";
+            + "With -f, also finds persons with a word in their name, email or tags that starts with a keyword, "
+            + "allowing a few typos.\n"
+            + "Parameters: [-f] KEYWORD [MORE_KEYWORDS]...\n"
+            + "Example: " + COMMAND_GROUP_WORD + " " + COMMAND_WORD + " alice bob charlie\n"
+            + "Example: " + COMMAND_GROUP_WORD + " " + COMMAND_WORD + " -f alcie bo";
+
+    public static final String MESSAGE_CLOSEST_MATCHES = "Closest matches: %1$s";
+
+    public static final int MAX_CLOSEST_MATCHES = 3;
 
-    private final NameContainsKeywordsPredicate predicate;
+    private final Predicate<Person> predicate;
 
     public FindCommand(NameContainsKeywordsPredicate predicate) {
         this.predicate = predicate;
     }
 
+    public FindCommand(FuzzyKeywordsPredicate predicate) {
+        this.predicate = predicate;
+    }
+
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredPersonList(predicate);
-        return new CommandResult(
-                String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
+        if (!(predicate instanceof FuzzyKeywordsPredicate)) {
+            model.updateFilteredPersonList(predicate);
+            return new CommandResult(
+                    String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
+        }
+
+        // The search is done once, both to filter the persons and to find the closest matches.
+        PersonSearchResult searchResult = model.searchPersons(((FuzzyKeywordsPredicate) predicate).getKeywords());
+        model.updateFilteredPersonList(searchResult);
+        String feedback = String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size());
+        List<Person> matches = searchResult.getClosestMatches(MAX_CLOSEST_MATCHES);
+        if (matches.isEmpty()) {
+            return new CommandResult(feedback);
+        }
+        String closestMatches = matches.stream()
+                .map(person -> person.getName().fullName)
+                .collect(Collectors.joining(", "));
+        return new CommandResult(feedback + "\n" + String.format(MESSAGE_CLOSEST_MATCHES, closestMatches));
     }
 
     @Override
@@ -3,23 +3,77 @@ package syncsquad.teamsync.logic.commands.person;
 import static java.util.Objects.requireNonNull;
 import static syncsquad.teamsync.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 
+import java.util.Optional;
+
+import syncsquad.teamsync.commons.util.ToStringBuilder;
 import syncsquad.teamsync.logic.commands.CommandResult;
 import syncsquad.teamsync.model.Model;
+import syncsquad.teamsync.model.person.PersonSortOrder;
 
 /**
- * Lists all persons in the address book to the user.
+ * Lists all persons in the address book to the user, in the given sort order if there is one.
  */
 public class ListCommand extends PersonCommand {
 
     public static final String COMMAND_WORD = "list";
 
+    public static final String MESSAGE_USAGE = COMMAND_GROUP_WORD + " " + COMMAND_WORD
+            + ": Lists all persons, sorted in the given order if there is one.\n"
+            + "Parameters: [-s ORDER] (ORDER is one of: " + PersonSortOrder.keywords() + ")\n"
+            + "Example: " + COMMAND_GROUP_WORD + " " + COMMAND_WORD + " -s email";
+
     public static final String MESSAGE_SUCCESS = "Listed all persons";
 
+    public static final String MESSAGE_SUCCESS_SORTED = "Listed all persons sorted by %1$s";
+
+    private final Optional<PersonSortOrder> sortOrder;
+
+    /**
+     * Creates a ListCommand to list all persons in their usual order.
+     */
+    public ListCommand() {
+        this.sortOrder = Optional.empty();
+    }
+
+    /**
+     * Creates a ListCommand to list all persons sorted in {@code sortOrder}.
+     */
+    public ListCommand(PersonSortOrder sortOrder) {
+        requireNonNull(sortOrder);
+        this.sortOrder = Optional.of(sortOrder);
+    }
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
-        return new CommandResult(MESSAGE_SUCCESS);
+        if (sortOrder.isEmpty()) {
+            model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+            return new CommandResult(MESSAGE_SUCCESS);
+        }
+
+        model.sortFilteredPersonList(sortOrder.get());
+        return new CommandResult(String.format(MESSAGE_SUCCESS_SORTED, sortOrder.get().getKeyword()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ListCommand)) {
+            return false;
+        }
+
+        ListCommand otherListCommand = (ListCommand) other;
+        return sortOrder.equals(otherListCommand.sortOrder);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("sortOrder", sortOrder)
+                .toString();
     }
 }
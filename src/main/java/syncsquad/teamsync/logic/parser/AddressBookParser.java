@@ -1,8 +1,9 @@
 package syncsquad.teamsync.logic.parser;
 
+import static java.util.Objects.requireNonNull;
 import static syncsquad.teamsync.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
-import static syncsquad.teamsync.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 
+import java.util.List;
 import java.util.logging.Logger;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -10,9 +11,13 @@ import java.util.regex.Pattern;
 import syncsquad.teamsync.commons.core.LogsCenter;
 import syncsquad.teamsync.logic.commands.ClearCommand;
 import syncsquad.teamsync.logic.commands.Command;
+import syncsquad.teamsync.logic.commands.CommandHelp;
 import syncsquad.teamsync.logic.commands.ExitCommand;
 import syncsquad.teamsync.logic.commands.HelpCommand;
+import syncsquad.teamsync.logic.commands.RedoCommand;
+import syncsquad.teamsync.logic.commands.RunCommand;
 import syncsquad.teamsync.logic.commands.ShowDateCommand;
+import syncsquad.teamsync.logic.commands.UndoCommand;
 import syncsquad.teamsync.logic.commands.meeting.MeetingCommand;
 import syncsquad.teamsync.logic.commands.module.ModuleCommand;
 import syncsquad.teamsync.logic.commands.person.PersonCommand;
@@ -32,6 +37,56 @@ public class AddressBookParser {
     private static final Pattern BASIC_COMMAND_FORMAT = Pattern.compile("(?<commandWord>\\S+)(?<arguments>.*)");
     private static final Logger logger = LogsCenter.getLogger(AddressBookParser.class);
 
+    /**
+     * The commands of TeamSync, with their help. Command groups are parsed by the registries of their groups.
+     */
+    public static final CommandRegistry<Command> BUILT_IN_COMMANDS = CommandRegistry.<Command>builder()
+            .register(PersonCommand.COMMAND_GROUP_WORD, new PersonCommandsParser(),
+                    PersonCommandsParser.COMMANDS.getCommandHelp())
+            .register(ModuleCommand.COMMAND_GROUP_WORD, new ModuleCommandsParser(),
+                    ModuleCommandsParser.COMMANDS.getCommandHelp())
+            .register(MeetingCommand.COMMAND_GROUP_WORD, new MeetingCommandsParser(),
+                    MeetingCommandsParser.COMMANDS.getCommandHelp())
+            .register(HelpCommand.COMMAND_WORD, arguments -> new HelpCommand(),
+                    new CommandHelp("View help", "help", "help"))
+            .register(ShowDateCommand.COMMAND_WORD, new ShowDateCommandParser(),
+                    new CommandHelp("Change week displayed", "showdate DATE", "showdate 03-04-2025"))
+            .register(RunCommand.COMMAND_WORD, new RunCommandParser(),
+                    new CommandHelp("Run commands from a file", "run FILE", "run onboarding.txt"))
+            .register(UndoCommand.COMMAND_WORD, arguments -> new UndoCommand(),
+                    new CommandHelp("Undo the latest change", "undo", "undo"))
+            .register(RedoCommand.COMMAND_WORD, arguments -> new RedoCommand(),
+                    new CommandHelp("Redo the latest undone change", "redo", "redo"))
+            .register(ClearCommand.COMMAND_WORD, arguments -> new ClearCommand(),
+                    new CommandHelp("Clear all data", "clear", "clear"))
+            .register(ExitCommand.COMMAND_WORD, arguments -> new ExitCommand(),
+                    new CommandHelp("Exit TeamSync", "exit", "exit"))
+            .build();
+
+    private final CommandRegistry<Command> commands;
+
+    /**
+     * Creates a parser for the {@link #BUILT_IN_COMMANDS}.
+     */
+    public AddressBookParser() {
+        this(BUILT_IN_COMMANDS);
+    }
+
+    /**
+     * Creates a parser for the commands in {@code commands}, e.g. the {@link #BUILT_IN_COMMANDS} with more commands
+     * registered through {@link CommandRegistry#toBuilder()}.
+     */
+    public AddressBookParser(CommandRegistry<Command> commands) {
+        this.commands = requireNonNull(commands);
+    }
+
+    /**
+     * Returns the help of the commands that can be parsed, in the order they should be listed.
+     */
+    public List<CommandHelp> getCommandHelp() {
+        return commands.getCommandHelp();
+    }
+
     /**
      * Parses user input into command for execution.
      *
@@ -55,33 +110,7 @@ public class AddressBookParser {
         // Lower level log messages are used sparingly to minimize noise in the code.
         logger.fine("Command word: " + commandWord + "; Arguments: " + arguments);
 
-        switch (commandWord) {
-
-        case PersonCommand.COMMAND_GROUP_WORD:
-            return new PersonCommandsParser().parse(arguments);
-
-        case ModuleCommand.COMMAND_GROUP_WORD:
-            return new ModuleCommandsParser().parse(arguments);
-
-        case MeetingCommand.COMMAND_GROUP_WORD:
-            return new MeetingCommandsParser().parse(arguments);
-
-        case ClearCommand.COMMAND_WORD:
-            return new ClearCommand();
-
-        case ExitCommand.COMMAND_WORD:
-            return new ExitCommand();
-
-        case HelpCommand.COMMAND_WORD:
-            return new HelpCommand();
-
-        case ShowDateCommand.COMMAND_WORD:
-            return new ShowDateCommandParser().parse(arguments);
-
-        default:
-            logger.finer("This user input caused a ParseException: " + userInput);
-            throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
-        }
+        return commands.parse(commandWord, arguments);
     }
 
 }
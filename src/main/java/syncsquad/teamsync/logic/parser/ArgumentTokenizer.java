@@ -2,8 +2,8 @@ package syncsquad.teamsync.logic.parser;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * Tokenizes arguments string of the form: {@code preamble <prefix>value <prefix>value ...}<br>
@@ -29,81 +29,55 @@ public class ArgumentTokenizer {
     }
 
     /**
-     * Finds all zero-based prefix positions in the given arguments string.
+     * Finds all zero-based prefix positions in the given arguments string, sorted by position. Prefixes found at the
+     * same position are in the order they are given in.
+     *
+     * An occurrence of a prefix is valid if there is a space before it, and prefixes are matched case-insensitively.
+     * E.g if {@code argsString} = "e/hip/900" and the prefix is "p/", there are no valid occurrences of "p/" as there
+     * is no space before it. However, if {@code argsString} = "e/hi p/900", "p/" is found at position 5.
+     *
+     * The arguments string is scanned once from left to right, and all the prefixes are matched at once by walking
+     * a trie of the prefixes from each space, so the time taken does not grow with the number of prefixes.
      *
      * @param argsString Arguments string of the form: {@code preamble <prefix>value <prefix>value ...}
      * @param prefixes   Prefixes to find in the arguments string
      * @return           List of zero-based prefix positions in the given arguments string
      */
     private static List<PrefixPosition> findAllPrefixPositions(String argsString, Prefix... prefixes) {
-        return Arrays.stream(prefixes)
-                .flatMap(prefix -> findPrefixPositions(argsString, prefix).stream())
-                .collect(Collectors.toList());
-    }
-
-    /**
-     * {@see findAllPrefixPositions}
-     */
-    private static List<PrefixPosition> findPrefixPositions(String argsString, Prefix prefix) {
+        PrefixTrie trie = new PrefixTrie(prefixes);
         List<PrefixPosition> positions = new ArrayList<>();
-
-        int prefixPosition = findPrefixPosition(argsString, prefix.getPrefix(), 0);
-        while (prefixPosition != -1) {
-            PrefixPosition extendedPrefix = new PrefixPosition(prefix, prefixPosition);
-            positions.add(extendedPrefix);
-            prefixPosition = findPrefixPosition(argsString, prefix.getPrefix(), prefixPosition);
+        for (int space = argsString.indexOf(' '); space != -1; space = argsString.indexOf(' ', space + 1)) {
+            int matchesBefore = positions.size();
+            trie.addMatches(argsString, space + 1, positions);
+            if (positions.size() - matchesBefore > 1) {
+                positions.subList(matchesBefore, positions.size()).sort(Comparator.comparingInt(
+                        PrefixPosition::getOrder));
+            }
         }
-
         return positions;
     }
 
-    /**
-     * Returns the index of the first occurrence of {@code prefix} in
-     * {@code argsString} starting from index {@code fromIndex}. An occurrence
-     * is valid if there is a whitespace before {@code prefix}. Returns -1 if no
-     * such occurrence can be found.
-     *
-     * E.g if {@code argsString} = "e/hip/900", {@code prefix} = "p/" and
-     * {@code fromIndex} = 0, this method returns -1 as there are no valid
-     * occurrences of "p/" with whitespace before it. However, if
-     * {@code argsString} = "e/hi p/900", {@code prefix} = "p/" and
-     * {@code fromIndex} = 0, this method returns 5.
-     */
-    private static int findPrefixPosition(String argsString, String prefix, int fromIndex) {
-        int prefixIndex = argsString.toLowerCase().indexOf(" " + prefix.toLowerCase(), fromIndex);
-        return prefixIndex == -1 ? -1
-                : prefixIndex + 1; // +1 as offset for whitespace
-    }
-
     /**
      * Extracts prefixes and their argument values, and returns an {@code ArgumentMultimap} object that maps the
      * extracted prefixes to their respective arguments. Prefixes are extracted based on their zero-based positions in
      * {@code argsString}.
      *
      * @param argsString      Arguments string of the form: {@code preamble <prefix>value <prefix>value ...}
-     * @param prefixPositions Zero-based positions of all prefixes in {@code argsString}
+     * @param prefixPositions Zero-based positions of all prefixes in {@code argsString}, sorted by position
      * @return                ArgumentMultimap object that maps prefixes to their arguments
      */
     private static ArgumentMultimap extractArguments(String argsString, List<PrefixPosition> prefixPositions) {
-
-        // Sort by start position
-        prefixPositions.sort((prefix1, prefix2) -> prefix1.getStartPosition() - prefix2.getStartPosition());
-
-        // Insert a PrefixPosition to represent the preamble
-        PrefixPosition preambleMarker = new PrefixPosition(new Prefix(""), 0);
-        prefixPositions.add(0, preambleMarker);
-
-        // Add a dummy PrefixPosition to represent the end of the string
-        PrefixPosition endPositionMarker = new PrefixPosition(new Prefix(""), argsString.length());
-        prefixPositions.add(endPositionMarker);
+        // The preamble runs from the start of the string, and the last argument up to its end
+        PrefixPosition preambleMarker = new PrefixPosition(new Prefix(""), 0, -1);
+        PrefixPosition endPositionMarker = new PrefixPosition(new Prefix(""), argsString.length(), -1);
 
         // Map prefixes to their argument values (if any)
         ArgumentMultimap argMultimap = new ArgumentMultimap();
-        for (int i = 0; i < prefixPositions.size() - 1; i++) {
-            // Extract and store prefixes and their arguments
-            Prefix argPrefix = prefixPositions.get(i).getPrefix();
-            String argValue = extractArgumentValue(argsString, prefixPositions.get(i), prefixPositions.get(i + 1));
-            argMultimap.put(argPrefix, argValue);
+        PrefixPosition current = preambleMarker;
+        for (int i = 0; i <= prefixPositions.size(); i++) {
+            PrefixPosition next = i < prefixPositions.size() ? prefixPositions.get(i) : endPositionMarker;
+            argMultimap.put(current.getPrefix(), extractArgumentValue(argsString, current, next));
+            current = next;
         }
 
         return argMultimap;
@@ -112,6 +86,7 @@ public class ArgumentTokenizer {
     /**
      * Returns the trimmed value of the argument in the arguments string specified by {@code currentPrefixPosition}.
      * The end position of the value is determined by {@code nextPrefixPosition}.
+     * The value is trimmed before it is taken out of the arguments string, so it is copied at most once.
      */
     private static String extractArgumentValue(String argsString,
                                         PrefixPosition currentPrefixPosition,
@@ -119,9 +94,16 @@ public class ArgumentTokenizer {
         Prefix prefix = currentPrefixPosition.getPrefix();
 
         int valueStartPos = currentPrefixPosition.getStartPosition() + prefix.getPrefix().length();
-        String value = argsString.substring(valueStartPos, nextPrefixPosition.getStartPosition());
+        int valueEndPos = nextPrefixPosition.getStartPosition();
+        // Trims the same characters as String#trim
+        while (valueStartPos < valueEndPos && argsString.charAt(valueStartPos) <= ' ') {
+            valueStartPos++;
+        }
+        while (valueEndPos > valueStartPos && argsString.charAt(valueEndPos - 1) <= ' ') {
+            valueEndPos--;
+        }
 
-        return value.trim();
+        return argsString.substring(valueStartPos, valueEndPos);
     }
 
     /**
@@ -130,10 +112,15 @@ public class ArgumentTokenizer {
     private static class PrefixPosition {
         private int startPosition;
         private final Prefix prefix;
+        private final int order;
 
-        PrefixPosition(Prefix prefix, int startPosition) {
+        /**
+         * Creates the position of {@code prefix}, which is the {@code order}-th prefix given to the tokenizer.
+         */
+        PrefixPosition(Prefix prefix, int startPosition, int order) {
             this.prefix = prefix;
             this.startPosition = startPosition;
+            this.order = order;
         }
 
         int getStartPosition() {
@@ -143,6 +130,89 @@ public class ArgumentTokenizer {
         Prefix getPrefix() {
             return prefix;
         }
+
+        int getOrder() {
+            return order;
+        }
+    }
+
+    /**
+     * A trie of prefixes keyed by their lower-case characters, which finds every prefix that starts at a given
+     * position of a string in a single walk.
+     */
+    private static class PrefixTrie {
+        private final Node root = new Node();
+
+        PrefixTrie(Prefix... prefixes) {
+            for (int order = 0; order < prefixes.length; order++) {
+                String prefix = prefixes[order].getPrefix();
+                Node node = root;
+                for (int i = 0; i < prefix.length(); i++) {
+                    node = node.getOrAddChild(Character.toLowerCase(prefix.charAt(i)));
+                }
+                node.addPrefix(prefixes[order], order);
+            }
+        }
+
+        /**
+         * Adds the positions of all the prefixes that start at {@code start} in {@code argsString} to
+         * {@code positions}, shortest prefix first.
+         */
+        void addMatches(String argsString, int start, List<PrefixPosition> positions) {
+            Node node = root;
+            int i = start;
+            while (true) {
+                for (int j = 0; j < node.prefixes.length; j++) {
+                    positions.add(new PrefixPosition(node.prefixes[j], start, node.orders[j]));
+                }
+                if (i == argsString.length()) {
+                    return;
+                }
+                node = node.getChild(Character.toLowerCase(argsString.charAt(i++)));
+                if (node == null) {
+                    return;
+                }
+            }
+        }
+
+        /**
+         * A node of the trie. Prefixes have a handful of characters, so the children are kept in small arrays and
+         * searched linearly.
+         */
+        private static class Node {
+            private char[] keys = new char[0];
+            private Node[] children = new Node[0];
+            private Prefix[] prefixes = new Prefix[0];
+            private int[] orders = new int[0];
+
+            Node getChild(char key) {
+                for (int i = 0; i < keys.length; i++) {
+                    if (keys[i] == key) {
+                        return children[i];
+                    }
+                }
+                return null;
+            }
+
+            Node getOrAddChild(char key) {
+                Node child = getChild(key);
+                if (child == null) {
+                    child = new Node();
+                    keys = Arrays.copyOf(keys, keys.length + 1);
+                    children = Arrays.copyOf(children, children.length + 1);
+                    keys[keys.length - 1] = key;
+                    children[children.length - 1] = child;
+                }
+                return child;
+            }
+
+            void addPrefix(Prefix prefix, int order) {
+                prefixes = Arrays.copyOf(prefixes, prefixes.length + 1);
+                orders = Arrays.copyOf(orders, orders.length + 1);
+                prefixes[prefixes.length - 1] = prefix;
+                orders[orders.length - 1] = order;
+            }
+        }
     }
 
 }
@@ -12,5 +12,9 @@ public class CliSyntax {
     public static final Prefix PREFIX_ADDRESS = new Prefix("-a ");
     public static final Prefix PREFIX_TAG = new Prefix("-t ");
     public static final Prefix PREFIX_MODULE = new Prefix("-m ");
+    public static final Prefix PREFIX_REPEAT = new Prefix("-r ");
+    public static final Prefix PREFIX_UNTIL = new Prefix("-u ");
+    public static final Prefix PREFIX_FUZZY = new Prefix("-f ");
+    public static final Prefix PREFIX_SORT = new Prefix("-s ");
 
 }
@@ -0,0 +1,127 @@
+package syncsquad.teamsync.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static syncsquad.teamsync.commons.util.AppUtil.checkArgument;
+import static syncsquad.teamsync.commons.util.CollectionUtil.requireAllNonNull;
+import static syncsquad.teamsync.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import syncsquad.teamsync.commons.core.LogsCenter;
+import syncsquad.teamsync.logic.commands.Command;
+import syncsquad.teamsync.logic.commands.CommandHelp;
+import syncsquad.teamsync.logic.parser.exceptions.ParseException;
+
+/**
+ * Maps command words to the parsers of their commands, e.g. {@code add} to the parser of the command that adds a
+ * person. The parser of a command word may itself dispatch to a registry of sub-commands, as for command groups.
+ * Guarantees: immutable.
+ *
+ * Parsers are registered once and must be stateless, so dispatching a command is a single lookup that creates no
+ * parser. The registry also keeps the help of its commands in the order they are registered, so the command summary
+ * shown to users is built from the same registrations as the parsers, and covers any command that is added later.
+ *
+ * @param <T> the type of command parsed
+ */
+public final class CommandRegistry<T extends Command> {
+
+    private static final Logger logger = LogsCenter.getLogger(CommandRegistry.class);
+
+    private final Map<String, Parser<? extends T>> parsers;
+    private final List<CommandHelp> commandHelp;
+
+    private CommandRegistry(Map<String, Parser<? extends T>> parsers, List<CommandHelp> commandHelp) {
+        this.parsers = Map.copyOf(parsers);
+        this.commandHelp = List.copyOf(commandHelp);
+    }
+
+    /**
+     * Returns a builder for an empty registry.
+     */
+    public static <T extends Command> Builder<T> builder() {
+        return new Builder<>();
+    }
+
+    /**
+     * Returns a builder for a registry with the commands of this one, to which more commands can be registered.
+     */
+    public Builder<T> toBuilder() {
+        Builder<T> builder = new Builder<>();
+        builder.parsers.putAll(parsers);
+        builder.commandHelp.addAll(commandHelp);
+        return builder;
+    }
+
+    /**
+     * Returns the parser registered for {@code commandWord}, if any.
+     */
+    public Optional<Parser<? extends T>> getParser(String commandWord) {
+        requireNonNull(commandWord);
+        return Optional.ofNullable(parsers.get(commandWord));
+    }
+
+    /**
+     * Parses {@code arguments} with the parser registered for {@code commandWord}.
+     *
+     * @throws ParseException if no parser is registered for {@code commandWord}, or {@code arguments} does not
+     *     conform to the format of its command
+     */
+    public T parse(String commandWord, String arguments) throws ParseException {
+        requireAllNonNull(commandWord, arguments);
+        Parser<? extends T> parser = parsers.get(commandWord);
+        if (parser == null) {
+            logger.finer("This command word caused a ParseException: " + commandWord);
+            throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
+        }
+        return parser.parse(arguments);
+    }
+
+    /**
+     * Returns the help of the registered commands, in the order they were registered.
+     */
+    public List<CommandHelp> getCommandHelp() {
+        return commandHelp;
+    }
+
+    /**
+     * Builds a {@code CommandRegistry}.
+     */
+    public static final class Builder<T extends Command> {
+        private final Map<String, Parser<? extends T>> parsers = new HashMap<>();
+        private final List<CommandHelp> commandHelp = new ArrayList<>();
+
+        private Builder() {}
+
+        /**
+         * Registers {@code parser} for {@code commandWord}, which must be in lower case.
+         *
+         * @param help The help of the commands parsed by {@code parser}, e.g. of every command in a group.
+         * @throws IllegalArgumentException if a parser is already registered for {@code commandWord}.
+         */
+        public Builder<T> register(String commandWord, Parser<? extends T> parser, List<CommandHelp> help) {
+            requireAllNonNull(commandWord, parser, help);
+            checkArgument(!parsers.containsKey(commandWord), "Command word is already registered: " + commandWord);
+            parsers.put(commandWord, parser);
+            commandHelp.addAll(help);
+            return this;
+        }
+
+        /**
+         * Registers {@code parser} for {@code commandWord}, which must be in lower case.
+         *
+         * @throws IllegalArgumentException if a parser is already registered for {@code commandWord}.
+         */
+        public Builder<T> register(String commandWord, Parser<? extends T> parser, CommandHelp help) {
+            return register(commandWord, parser, List.of(help));
+        }
+
+        public CommandRegistry<T> build() {
+            return new CommandRegistry<>(parsers, commandHelp);
+        }
+    }
+}
@@ -15,13 +15,16 @@ import java.util.Collection;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import syncsquad.teamsync.commons.core.index.Index;
 import syncsquad.teamsync.commons.util.StringUtil;
 import syncsquad.teamsync.logic.parser.exceptions.ParseException;
+import syncsquad.teamsync.model.meeting.Recurrence;
 import syncsquad.teamsync.model.module.Day;
 import syncsquad.teamsync.model.module.Module;
 import syncsquad.teamsync.model.module.ModuleCode;
+import syncsquad.teamsync.model.module.TeachingWeeks;
 import syncsquad.teamsync.model.person.Address;
 import syncsquad.teamsync.model.person.Email;
 import syncsquad.teamsync.model.person.Name;
@@ -50,6 +53,8 @@ public class ParserUtil {
     public static final String DATE_VALIDATION_REGEX = "^(?:0?[1-9]|[12][0-9]|3[01])-(?:0?[1-9]|1[0-2])(?:-\\d{4})?$";
     // Regex to check if time is of the form HH:mm
     public static final String TIME_VALIDATION_REGEX = "^(?:[0-9]|[01]\\d|2[0-3]):[0-5]\\d$";
+    private static final Pattern DATE_PATTERN = Pattern.compile(DATE_VALIDATION_REGEX);
+    private static final Pattern TIME_PATTERN = Pattern.compile(TIME_VALIDATION_REGEX);
 
     /** Parsers for date and time input **/
     public static final DateTimeFormatter DATE_FORMATTER = new DateTimeFormatterBuilder()
@@ -140,6 +145,34 @@ public class ParserUtil {
         return new Email(trimmedEmail);
     }
 
+    /**
+     * Parses {@code Collection<String> emails} into a {@code Set<Email>}.
+     */
+    public static Set<Email> parseEmails(Collection<String> emails) throws ParseException {
+        requireNonNull(emails);
+        final Set<Email> emailSet = new HashSet<>();
+        for (String email : emails) {
+            emailSet.add(parseEmail(email));
+        }
+        return emailSet;
+    }
+
+    /**
+     * Parses {@code intervalWeeks} into the number of weeks between occurrences of a meeting.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code intervalWeeks} is not a valid interval.
+     */
+    public static int parseIntervalWeeks(String intervalWeeks) throws ParseException {
+        requireNonNull(intervalWeeks);
+        String trimmedIntervalWeeks = intervalWeeks.trim();
+        if (!StringUtil.isNonZeroUnsignedInteger(trimmedIntervalWeeks)
+                || !Recurrence.isValidIntervalWeeks(Integer.parseInt(trimmedIntervalWeeks))) {
+            throw new ParseException(Recurrence.MESSAGE_CONSTRAINTS);
+        }
+        return Integer.parseInt(trimmedIntervalWeeks);
+    }
+
     /**
      * Parses a {@code String day} into a {@code Day}.
      * Leading and trailing whitespaces will be trimmed.
@@ -152,7 +185,7 @@ public class ParserUtil {
         if (!Day.isValidDay(trimmedDay)) {
             throw new ParseException(Day.MESSAGE_CONSTRAINTS);
         }
-        return new Day(trimmedDay);
+        return Day.of(trimmedDay);
     }
 
     /**
@@ -167,7 +200,7 @@ public class ParserUtil {
         if (!ModuleCode.isValidModuleCode(trimmedModuleCode)) {
             throw new ParseException(ModuleCode.MESSAGE_CONSTRAINTS);
         }
-        return new ModuleCode(trimmedModuleCode);
+        return ModuleCode.of(trimmedModuleCode);
     }
 
     /**
@@ -182,7 +215,7 @@ public class ParserUtil {
         if (!Tag.isValidTagName(trimmedTag)) {
             throw new ParseException(Tag.MESSAGE_CONSTRAINTS);
         }
-        return new Tag(trimmedTag);
+        return Tag.of(trimmedTag);
     }
 
     /**
@@ -215,12 +248,29 @@ public class ParserUtil {
         Day day = parseDay(matcher.group("day"));
         LocalTime startTime = parseTime(matcher.group("startTime"));
         LocalTime endTime = parseTime(matcher.group("endTime"));
+        String weeks = matcher.group("weeks");
+        TeachingWeeks teachingWeeks = weeks == null ? TeachingWeeks.EVERY_WEEK : parseTeachingWeeks(weeks);
 
         if (!endTime.isAfter(startTime)) {
             throw new ParseException(MESSAGE_INVALID_START_END_TIME);
         }
 
-        return new Module(moduleCode, day, startTime, endTime);
+        return new Module(moduleCode, day, startTime, endTime, teachingWeeks);
+    }
+
+    /**
+     * Parses a {@code String teachingWeeks} into {@code TeachingWeeks}.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code teachingWeeks} is invalid.
+     */
+    public static TeachingWeeks parseTeachingWeeks(String teachingWeeks) throws ParseException {
+        requireNonNull(teachingWeeks);
+        String trimmedTeachingWeeks = teachingWeeks.trim();
+        if (!TeachingWeeks.isValidTeachingWeeks(trimmedTeachingWeeks)) {
+            throw new ParseException(TeachingWeeks.MESSAGE_CONSTRAINTS);
+        }
+        return TeachingWeeks.of(trimmedTeachingWeeks);
     }
 
     /**
@@ -279,7 +329,7 @@ public class ParserUtil {
      */
     private static boolean isValidDate(String test) {
         assert test != null;
-        return test.matches(DATE_VALIDATION_REGEX);
+        return DATE_PATTERN.matcher(test).matches();
     }
 
     /**
@@ -287,6 +337,6 @@ public class ParserUtil {
      */
     private static boolean isValidTime(String test) {
         assert test != null;
-        return test.matches(TIME_VALIDATION_REGEX);
+        return TIME_PATTERN.matcher(test).matches();
     }
 }
@@ -0,0 +1,30 @@
+package syncsquad.teamsync.logic.parser;
+
+import static syncsquad.teamsync.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.nio.file.Paths;
+
+import syncsquad.teamsync.commons.util.FileUtil;
+import syncsquad.teamsync.logic.commands.RunCommand;
+import syncsquad.teamsync.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new RunCommand object
+ */
+public class RunCommandParser implements Parser<RunCommand> {
+    /**
+     * Parses the given {@code String} of arguments in the context of the RunCommand
+     * and returns a RunCommand object for execution. The lines of the script are parsed as
+     * {@link AddressBookParser#BUILT_IN_COMMANDS}.
+     * @throws ParseException if the user input does not conform to the expected format.
+     */
+    public RunCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty() || !FileUtil.isValidPath(trimmedArgs)) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, RunCommand.MESSAGE_USAGE));
+        }
+
+        return new RunCommand(Paths.get(trimmedArgs), new AddressBookParser());
+    }
+}
@@ -10,7 +10,7 @@ import syncsquad.teamsync.logic.parser.exceptions.ParseException;
 /**
  * Parses input arguments and creates a new ShowDateCommand object
  */
-public class ShowDateCommandParser {
+public class ShowDateCommandParser implements Parser<ShowDateCommand> {
     /**
      * Parses the given {@code String} of arguments in the context of the ShowDateCommand
      * and returns an ShowDateCommand object for execution.
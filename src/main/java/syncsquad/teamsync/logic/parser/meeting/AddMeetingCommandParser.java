@@ -2,15 +2,24 @@ package syncsquad.teamsync.logic.parser.meeting;
 
 import static syncsquad.teamsync.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static syncsquad.teamsync.logic.Messages.MESSAGE_INVALID_START_END_TIME;
+import static syncsquad.teamsync.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static syncsquad.teamsync.logic.parser.CliSyntax.PREFIX_REPEAT;
+import static syncsquad.teamsync.logic.parser.CliSyntax.PREFIX_UNTIL;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.Optional;
+import java.util.Set;
 
 import syncsquad.teamsync.logic.commands.meeting.AddMeetingCommand;
+import syncsquad.teamsync.logic.parser.ArgumentMultimap;
+import syncsquad.teamsync.logic.parser.ArgumentTokenizer;
 import syncsquad.teamsync.logic.parser.Parser;
 import syncsquad.teamsync.logic.parser.ParserUtil;
 import syncsquad.teamsync.logic.parser.exceptions.ParseException;
 import syncsquad.teamsync.model.meeting.Meeting;
+import syncsquad.teamsync.model.meeting.Recurrence;
+import syncsquad.teamsync.model.person.Email;
 
 /**
  * Parses input arguments and creates a new AddMeetingCommand object
@@ -23,7 +32,10 @@ public class AddMeetingCommandParser implements Parser<AddMeetingCommand> {
      * @throws ParseException if the user input does not conform to the expected format.
      */
     public AddMeetingCommand parse(String args) throws ParseException {
-        String trimmedArgs = args.trim();
+        // Leading and trailing spaces ensure that the first and last prefixes are matched.
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(" " + args + " ", PREFIX_EMAIL, PREFIX_REPEAT,
+                PREFIX_UNTIL);
+        String trimmedArgs = argMultimap.getPreamble();
         if (trimmedArgs.isEmpty()) {
             throw new ParseException(
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, AddMeetingCommand.MESSAGE_USAGE));
@@ -44,7 +56,37 @@ public class AddMeetingCommandParser implements Parser<AddMeetingCommand> {
             throw new ParseException(MESSAGE_INVALID_START_END_TIME);
         }
 
-        Meeting meeting = new Meeting(date, startTime, endTime);
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_REPEAT, PREFIX_UNTIL);
+        Set<Email> attendees = ParserUtil.parseEmails(argMultimap.getAllValues(PREFIX_EMAIL));
+        Optional<Recurrence> recurrence = parseRecurrence(argMultimap, date);
+
+        Meeting meeting = recurrence.isPresent()
+                ? new Meeting(date, startTime, endTime, attendees, recurrence.get())
+                : new Meeting(date, startTime, endTime, attendees);
         return new AddMeetingCommand(meeting);
     }
+
+    /**
+     * Parses the recurrence of a meeting that first takes place on {@code date}, if one is given.
+     * A meeting repeats weekly if only the date it repeats until is given.
+     */
+    private static Optional<Recurrence> parseRecurrence(ArgumentMultimap argMultimap, LocalDate date)
+            throws ParseException {
+        Optional<String> until = argMultimap.getValue(PREFIX_UNTIL);
+        Optional<String> intervalWeeks = argMultimap.getValue(PREFIX_REPEAT);
+        if (until.isEmpty()) {
+            if (intervalWeeks.isPresent()) {
+                throw new ParseException(
+                        String.format(MESSAGE_INVALID_COMMAND_FORMAT, AddMeetingCommand.MESSAGE_USAGE));
+            }
+            return Optional.empty();
+        }
+
+        LocalDate untilDate = ParserUtil.parseDate(until.get().trim());
+        if (untilDate.isBefore(date)) {
+            throw new ParseException(Recurrence.MESSAGE_CONSTRAINTS);
+        }
+        int weeks = intervalWeeks.isPresent() ? ParserUtil.parseIntervalWeeks(intervalWeeks.get()) : 1;
+        return Optional.of(new Recurrence(weeks, untilDate));
+    }
 }
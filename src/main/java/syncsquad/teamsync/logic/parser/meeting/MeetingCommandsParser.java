@@ -2,17 +2,16 @@ package syncsquad.teamsync.logic.parser.meeting;
 
 import static java.util.Objects.requireNonNull;
 import static syncsquad.teamsync.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
-import static syncsquad.teamsync.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 
-import java.util.logging.Logger;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
-import syncsquad.teamsync.commons.core.LogsCenter;
+import syncsquad.teamsync.logic.commands.CommandHelp;
 import syncsquad.teamsync.logic.commands.HelpCommand;
 import syncsquad.teamsync.logic.commands.meeting.AddMeetingCommand;
 import syncsquad.teamsync.logic.commands.meeting.DeleteMeetingCommand;
 import syncsquad.teamsync.logic.commands.meeting.MeetingCommand;
+import syncsquad.teamsync.logic.parser.CommandRegistry;
 import syncsquad.teamsync.logic.parser.Parser;
 import syncsquad.teamsync.logic.parser.exceptions.ParseException;
 
@@ -21,11 +20,25 @@ import syncsquad.teamsync.logic.parser.exceptions.ParseException;
  */
 public final class MeetingCommandsParser implements Parser<MeetingCommand> {
 
+    /**
+     * The meeting commands, with their help.
+     */
+    public static final CommandRegistry<MeetingCommand> COMMANDS = CommandRegistry.<MeetingCommand>builder()
+            .register(AddMeetingCommand.COMMAND_WORD, new AddMeetingCommandParser(),
+                    new CommandHelp("Add a meeting",
+                            "meeting add DATE START_TIME END_TIME [-e ATTENDEE_EMAIL]... "
+                                    + "[-r INTERVAL_WEEKS] [-u UNTIL_DATE]",
+                            "meeting add 06-04-2025 12:00 15:00"))
+            .register(DeleteMeetingCommand.COMMAND_WORD, new DeleteMeetingCommandParser(),
+                    new CommandHelp("Delete a meeting",
+                            "meeting delete INDEX",
+                            "meeting delete 1"))
+            .build();
+
     /**
      * Used for initial separation of command word and args.
      */
     private static final Pattern BASIC_COMMAND_FORMAT = Pattern.compile("(?<commandWord>\\S+)(?<arguments>.*)");
-    private static final Logger logger = LogsCenter.getLogger(MeetingCommandsParser.class);
 
     /**
      * Parses the given {@code String} of arguments in the context of the MeetingCommand
@@ -45,14 +58,6 @@ public final class MeetingCommandsParser implements Parser<MeetingCommand> {
         final String commandWord = matcher.group("commandWord").toLowerCase();
         final String arguments = matcher.group("arguments");
 
-        switch (commandWord) {
-        case AddMeetingCommand.COMMAND_WORD:
-            return new AddMeetingCommandParser().parse(arguments);
-        case DeleteMeetingCommand.COMMAND_WORD:
-            return new DeleteMeetingCommandParser().parse(arguments);
-        default:
-            logger.finer("This user input caused a ParseException: " + args);
-            throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
-        }
+        return COMMANDS.parse(commandWord, arguments);
     }
 }
@@ -13,6 +13,7 @@ import syncsquad.teamsync.logic.parser.exceptions.ParseException;
 import syncsquad.teamsync.model.module.Day;
 import syncsquad.teamsync.model.module.Module;
 import syncsquad.teamsync.model.module.ModuleCode;
+import syncsquad.teamsync.model.module.TeachingWeeks;
 
 /**
  * Parses input arguments and creates a new AddModuleCommand object
@@ -32,7 +33,10 @@ public class AddModuleCommandParser implements Parser<AddModuleCommand> {
         }
 
         String[] parameters = trimmedArgs.split("\\s+");
-        if (parameters.length != 5) {
+        // A sixth parameter is the teaching weeks, which never have a colon. A time there means that a field before
+        // it was repeated, and is reported as a wrong format rather than as invalid weeks.
+        boolean hasTeachingWeeks = parameters.length == 6 && !parameters[5].contains(":");
+        if (parameters.length != 5 && !hasTeachingWeeks) {
             throw new ParseException(
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, AddModuleCommand.MESSAGE_USAGE));
         }
@@ -41,11 +45,14 @@ public class AddModuleCommandParser implements Parser<AddModuleCommand> {
         Day day = ParserUtil.parseDay(parameters[2]);
         LocalTime startTime = ParserUtil.parseTime(parameters[3]);
         LocalTime endTime = ParserUtil.parseTime(parameters[4]);
+        TeachingWeeks teachingWeeks = hasTeachingWeeks
+                ? ParserUtil.parseTeachingWeeks(parameters[5])
+                : TeachingWeeks.EVERY_WEEK;
 
         if (!endTime.isAfter(startTime)) {
             throw new ParseException(MESSAGE_INVALID_START_END_TIME);
         }
 
-        return new AddModuleCommand(index, new Module(moduleCode, day, startTime, endTime));
+        return new AddModuleCommand(index, new Module(moduleCode, day, startTime, endTime, teachingWeeks));
     }
 }
@@ -2,17 +2,16 @@ package syncsquad.teamsync.logic.parser.module;
 
 import static java.util.Objects.requireNonNull;
 import static syncsquad.teamsync.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
-import static syncsquad.teamsync.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 
-import java.util.logging.Logger;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
-import syncsquad.teamsync.commons.core.LogsCenter;
+import syncsquad.teamsync.logic.commands.CommandHelp;
 import syncsquad.teamsync.logic.commands.HelpCommand;
 import syncsquad.teamsync.logic.commands.module.AddModuleCommand;
 import syncsquad.teamsync.logic.commands.module.DeleteModuleCommand;
 import syncsquad.teamsync.logic.commands.module.ModuleCommand;
+import syncsquad.teamsync.logic.parser.CommandRegistry;
 import syncsquad.teamsync.logic.parser.Parser;
 import syncsquad.teamsync.logic.parser.exceptions.ParseException;
 
@@ -21,11 +20,24 @@ import syncsquad.teamsync.logic.parser.exceptions.ParseException;
  */
 public final class ModuleCommandsParser implements Parser<ModuleCommand> {
 
+    /**
+     * The module commands, with their help.
+     */
+    public static final CommandRegistry<ModuleCommand> COMMANDS = CommandRegistry.<ModuleCommand>builder()
+            .register(AddModuleCommand.COMMAND_WORD, new AddModuleCommandParser(),
+                    new CommandHelp("Add a module for a teammate",
+                            "module add INDEX MODULE_CODE DAY START_TIME END_TIME [TEACHING_WEEKS]",
+                            "module add 1 CS2101 Thu 12:00 15:00"))
+            .register(DeleteModuleCommand.COMMAND_WORD, new DeleteModuleCommandParser(),
+                    new CommandHelp("Delete a module from a teammate",
+                            "module delete INDEX MODULE_CODE",
+                            "module delete 1 CS2101"))
+            .build();
+
     /**
      * Used for initial separation of command word and args.
      */
     private static final Pattern BASIC_COMMAND_FORMAT = Pattern.compile("(?<commandWord>\\S+)(?<arguments>.*)");
-    private static final Logger logger = LogsCenter.getLogger(ModuleCommandsParser.class);
 
     /**
      * Parses the given {@code String} of arguments in the context of the MeetingCommand
@@ -45,14 +57,6 @@ public final class ModuleCommandsParser implements Parser<ModuleCommand> {
         final String commandWord = matcher.group("commandWord").toLowerCase();
         final String arguments = matcher.group("arguments");
 
-        switch (commandWord) {
-        case AddModuleCommand.COMMAND_WORD:
-            return new AddModuleCommandParser().parse(arguments);
-        case DeleteModuleCommand.COMMAND_WORD:
-            return new DeleteModuleCommandParser().parse(arguments);
-        default:
-            logger.finer("This user input caused a ParseException: " + args);
-            throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
-        }
+        return COMMANDS.parse(commandWord, arguments);
     }
 }
@@ -1,12 +1,18 @@
 package syncsquad.teamsync.logic.parser.person;
 
 import static syncsquad.teamsync.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static syncsquad.teamsync.logic.parser.CliSyntax.PREFIX_FUZZY;
 
 import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
 
 import syncsquad.teamsync.logic.commands.person.FindCommand;
+import syncsquad.teamsync.logic.parser.ArgumentMultimap;
+import syncsquad.teamsync.logic.parser.ArgumentTokenizer;
 import syncsquad.teamsync.logic.parser.Parser;
 import syncsquad.teamsync.logic.parser.exceptions.ParseException;
+import syncsquad.teamsync.model.person.FuzzyKeywordsPredicate;
 import syncsquad.teamsync.model.person.NameContainsKeywordsPredicate;
 
 /**
@@ -20,15 +26,32 @@ public class FindCommandParser implements Parser<FindCommand> {
      * @throws ParseException if the user input does not conform the expected format
      */
     public FindCommand parse(String args) throws ParseException {
-        String trimmedArgs = args.trim();
-        if (trimmedArgs.isEmpty()) {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_FUZZY);
+        Optional<String> fuzzyKeywords = argMultimap.getValue(PREFIX_FUZZY);
+        if (fuzzyKeywords.isEmpty()) {
+            return new FindCommand(new NameContainsKeywordsPredicate(parseKeywords(args)));
+        }
+
+        if (!argMultimap.getPreamble().isEmpty()) {
             throw new ParseException(
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
         }
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_FUZZY);
+        return new FindCommand(new FuzzyKeywordsPredicate(parseKeywords(fuzzyKeywords.get())));
+    }
 
-        String[] nameKeywords = trimmedArgs.split("\\s+");
+    /**
+     * Returns the whitespace-separated keywords in {@code keywords}.
+     * @throws ParseException if there are no keywords
+     */
+    private static List<String> parseKeywords(String keywords) throws ParseException {
+        String trimmedKeywords = keywords.trim();
+        if (trimmedKeywords.isEmpty()) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+        }
 
-        return new FindCommand(new NameContainsKeywordsPredicate(Arrays.asList(nameKeywords)));
+        return Arrays.asList(trimmedKeywords.split("\\s+"));
     }
 
 }
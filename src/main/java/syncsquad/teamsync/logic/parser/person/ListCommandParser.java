@@ -0,0 +1,40 @@
+package syncsquad.teamsync.logic.parser.person;
+
+import static syncsquad.teamsync.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static syncsquad.teamsync.logic.parser.CliSyntax.PREFIX_SORT;
+
+import java.util.Optional;
+
+import syncsquad.teamsync.logic.commands.person.ListCommand;
+import syncsquad.teamsync.logic.parser.ArgumentMultimap;
+import syncsquad.teamsync.logic.parser.ArgumentTokenizer;
+import syncsquad.teamsync.logic.parser.Parser;
+import syncsquad.teamsync.logic.parser.exceptions.ParseException;
+import syncsquad.teamsync.model.person.PersonSortOrder;
+
+/**
+ * Parses input arguments and creates a new ListCommand object
+ */
+public class ListCommandParser implements Parser<ListCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ListCommand
+     * and returns a ListCommand object for execution.
+     * Any other arguments are ignored, as they were before sort orders could be given.
+     * @throws ParseException if the sort order given is not a known one
+     */
+    public ListCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_SORT);
+        Optional<String> sortOrder = argMultimap.getValue(PREFIX_SORT);
+        if (sortOrder.isEmpty()) {
+            return new ListCommand();
+        }
+
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_SORT);
+        return PersonSortOrder.fromKeyword(sortOrder.get().trim())
+                .map(ListCommand::new)
+                .orElseThrow(() -> new ParseException(
+                        String.format(MESSAGE_INVALID_COMMAND_FORMAT, ListCommand.MESSAGE_USAGE)));
+    }
+
+}
@@ -2,13 +2,11 @@ package syncsquad.teamsync.logic.parser.person;
 
 import static java.util.Objects.requireNonNull;
 import static syncsquad.teamsync.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
-import static syncsquad.teamsync.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 
-import java.util.logging.Logger;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
-import syncsquad.teamsync.commons.core.LogsCenter;
+import syncsquad.teamsync.logic.commands.CommandHelp;
 import syncsquad.teamsync.logic.commands.HelpCommand;
 import syncsquad.teamsync.logic.commands.person.AddPersonCommand;
 import syncsquad.teamsync.logic.commands.person.DeletePersonCommand;
@@ -17,6 +15,7 @@ import syncsquad.teamsync.logic.commands.person.ExportPersonCommand;
 import syncsquad.teamsync.logic.commands.person.FindCommand;
 import syncsquad.teamsync.logic.commands.person.ListCommand;
 import syncsquad.teamsync.logic.commands.person.PersonCommand;
+import syncsquad.teamsync.logic.parser.CommandRegistry;
 import syncsquad.teamsync.logic.parser.Parser;
 import syncsquad.teamsync.logic.parser.exceptions.ParseException;
 
@@ -25,11 +24,41 @@ import syncsquad.teamsync.logic.parser.exceptions.ParseException;
  */
 public final class PersonCommandsParser implements Parser<PersonCommand> {
 
+    /**
+     * The person commands, with their help.
+     */
+    public static final CommandRegistry<PersonCommand> COMMANDS = CommandRegistry.<PersonCommand>builder()
+            .register(AddPersonCommand.COMMAND_WORD, new AddPersonCommandParser(),
+                    new CommandHelp("Add a teammate",
+                            "person add -n NAME -p PHONE_NUMBER -e EMAIL -a ADDRESS [-t TAG]... [-m MODULE]...",
+                            "person add -n John Doe -p 12345678 -e johndoe@u.nus.edu -a RC4 "
+                                    + "-t Backend -m CS2101 Thu 12:00 15:00 -m CS2103T Fri 16:00 18:00"))
+            .register(EditCommand.COMMAND_WORD, new EditCommandParser(),
+                    new CommandHelp("Edit a teammate",
+                            "person edit INDEX [-n NAME] [-p PHONE] [-e EMAIL] [-a ADDRESS] [-t TAG]...",
+                            "person edit 1 -p 87654321 -e newmail@u.nus.edu -t"))
+            .register(DeletePersonCommand.COMMAND_WORD, new DeletePersonCommandParser(),
+                    new CommandHelp("Delete a teammate",
+                            "person delete INDEX",
+                            "person delete 1"))
+            .register(ListCommand.COMMAND_WORD, new ListCommandParser(),
+                    new CommandHelp("List all teammates",
+                            "person list [-s ORDER]",
+                            "person list -s email"))
+            .register(FindCommand.COMMAND_WORD, new FindCommandParser(),
+                    new CommandHelp("Search for a teammate",
+                            "person find [-f] KEYWORD [MORE_KEYWORDS]...",
+                            "person find alex david"))
+            .register(ExportPersonCommand.COMMAND_WORD, new ExportPersonCommandParser(),
+                    new CommandHelp("Export a teammate",
+                            "person export INDEX",
+                            "person export 1"))
+            .build();
+
     /**
      * Used for initial separation of command word and args.
      */
     private static final Pattern BASIC_COMMAND_FORMAT = Pattern.compile("(?<commandWord>\\S+)(?<arguments>.*)");
-    private static final Logger logger = LogsCenter.getLogger(PersonCommandsParser.class);
 
     /**
      * Parses the given {@code String} of arguments in the context of the PersonCommand
@@ -49,22 +78,6 @@ public final class PersonCommandsParser implements Parser<PersonCommand> {
         final String commandWord = matcher.group("commandWord").toLowerCase();
         final String arguments = matcher.group("arguments");
 
-        switch (commandWord) {
-        case AddPersonCommand.COMMAND_WORD:
-            return new AddPersonCommandParser().parse(arguments);
-        case DeletePersonCommand.COMMAND_WORD:
-            return new DeletePersonCommandParser().parse(arguments);
-        case EditCommand.COMMAND_WORD:
-            return new EditCommandParser().parse(arguments);
-        case FindCommand.COMMAND_WORD:
-            return new FindCommandParser().parse(arguments);
-        case ExportPersonCommand.COMMAND_WORD:
-            return new ExportPersonCommandParser().parse(arguments);
-        case ListCommand.COMMAND_WORD:
-            return new ListCommand();
-        default:
-            logger.finer("This user input caused a ParseException: " + args);
-            throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
-        }
+        return COMMANDS.parse(commandWord, arguments);
     }
 }
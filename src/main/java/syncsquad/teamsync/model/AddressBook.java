@@ -2,14 +2,22 @@ package syncsquad.teamsync.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
 
 import javafx.collections.ObservableList;
 import syncsquad.teamsync.commons.util.ToStringBuilder;
 import syncsquad.teamsync.model.meeting.Meeting;
 import syncsquad.teamsync.model.meeting.UniqueMeetingList;
+import syncsquad.teamsync.model.meeting.exceptions.DuplicateMeetingException;
+import syncsquad.teamsync.model.module.ModuleCode;
+import syncsquad.teamsync.model.person.Email;
 import syncsquad.teamsync.model.person.Person;
+import syncsquad.teamsync.model.person.PersonSearchResult;
 import syncsquad.teamsync.model.person.UniquePersonList;
+import syncsquad.teamsync.model.person.exceptions.DuplicatePersonException;
+import syncsquad.teamsync.model.tag.Tag;
 
 /**
  * Wraps all data at the address-book level
@@ -47,6 +55,9 @@ public class AddressBook implements ReadOnlyAddressBook {
     /**
      * Replaces the contents of the person list with {@code persons}.
      * {@code persons} must not contain duplicate persons.
+     * This is the preferred way of loading many persons at once, as the list is only sorted and published once.
+     *
+     * @throws DuplicatePersonException if {@code persons} contains duplicate persons.
      */
     public void setPersons(List<Person> persons) {
         this.persons.setItems(persons);
@@ -55,6 +66,9 @@ public class AddressBook implements ReadOnlyAddressBook {
     /**
      * Replaces the contents of the meeting list with {@code meetings}.
      * {@code meetings} must not contain duplicate meetings.
+     * This is the preferred way of loading many meetings at once, as the list is only sorted and published once.
+     *
+     * @throws DuplicateMeetingException if {@code meetings} contains duplicate meetings.
      */
     public void setMeetings(List<Meeting> meetings) {
         this.meetings.setItems(meetings);
@@ -66,6 +80,14 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void resetData(ReadOnlyAddressBook newData) {
         requireNonNull(newData);
 
+        if (newData instanceof AddressBook) {
+            // The lists of another AddressBook are already known to be unique and sorted.
+            AddressBook otherAddressBook = (AddressBook) newData;
+            persons.setItems(otherAddressBook.persons);
+            meetings.setItems(otherAddressBook.meetings);
+            return;
+        }
+
         setPersons(newData.getPersonList());
         setMeetings(newData.getMeetingList());
     }
@@ -107,6 +129,42 @@ public class AddressBook implements ReadOnlyAddressBook {
         persons.remove(key);
     }
 
+    /**
+     * Returns the persons in the address book who take a module with the given code.
+     */
+    public List<Person> getPersonsWithModuleCode(ModuleCode moduleCode) {
+        return persons.getPersonsWithModuleCode(moduleCode);
+    }
+
+    /**
+     * Returns the persons in the address book who have the given tag.
+     */
+    public List<Person> getPersonsWithTag(Tag tag) {
+        return persons.getPersonsWithTag(tag);
+    }
+
+    /**
+     * Returns the persons in the address book who have {@code word} as one of the words of their name, ignoring case.
+     */
+    public List<Person> getPersonsWithNameWord(String word) {
+        return persons.getPersonsWithNameWord(word);
+    }
+
+    /**
+     * Returns the persons in the address book with a word in their name, email or tags that approximately matches any
+     * of {@code keywords}.
+     */
+    public PersonSearchResult searchPersons(List<String> keywords) {
+        return persons.searchPersons(keywords);
+    }
+
+    /**
+     * Returns the person in the address book with the given email, if there is one.
+     */
+    public Optional<Person> getPersonWithEmail(Email email) {
+        return persons.getPersonWithEmail(email);
+    }
+
     //// meeting-level operations
 
     /**
@@ -127,6 +185,13 @@ public class AddressBook implements ReadOnlyAddressBook {
         return meetings.hasOverlap(meeting);
     }
 
+    /**
+     * Returns true if any two meetings in the address book overlap in date and time.
+     */
+    public boolean hasOverlappingMeetings() {
+        return meetings.hasOverlappingMeetings();
+    }
+
     /**
      * Adds a meeting to the address book.
      * The meeting must not already exist in the meeting book.
@@ -143,18 +208,73 @@ public class AddressBook implements ReadOnlyAddressBook {
         meetings.remove(key);
     }
 
+    @Override
+    public List<Meeting> getMeetingOccurrences(LocalDate from, LocalDate to) {
+        return meetings.getOccurrences(from, to);
+    }
+
     /**
      * Returns the meetings list as a string formatted for display to the user
      */
     public String displayMeetingsString() {
         return meetings.toDisplayString();
     }
+
+    /**
+     * Returns an immutable point-in-time view of this address book.
+     * The view is taken in time proportional to the number of recurring meetings, and is not affected by later
+     * changes to this address book, so it can be read from background threads, e.g. when saving.
+     */
+    public ReadOnlyAddressBook snapshot() {
+        return new AddressBookSnapshot(persons.snapshot(), meetings.snapshot(), meetings.getSeries());
+    }
+
+    /**
+     * Returns a number that increases whenever the persons or meetings of this address book are modified.
+     */
+    public long getVersion() {
+        return persons.getVersion() + meetings.getVersion();
+    }
+
+    //// transactions
+
+    /**
+     * Starts a transaction. Until it is committed or rolled back, listeners of the person and meeting lists are
+     * not notified of modifications, so views of the lists do not reflect them. Transactions may be nested.
+     * Beginning a transaction copies nothing; rolling it back undoes its modifications one by one.
+     */
+    void beginTransaction() {
+        persons.beginTransaction();
+        meetings.beginTransaction();
+    }
+
+    /**
+     * Commits the innermost transaction. If it is the outermost transaction, listeners of each list are notified
+     * of all of its modifications as a single change.
+     */
+    void commitTransaction() {
+        meetings.commitTransaction();
+        persons.commitTransaction();
+    }
+
+    /**
+     * Rolls back the innermost transaction, restoring the persons and meetings at the time it began.
+     */
+    void rollbackTransaction() {
+        try {
+            meetings.rollbackTransaction();
+        } finally {
+            persons.rollbackTransaction();
+        }
+    }
+
     //// util methods
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
                 .add("persons", persons)
+                .add("meetings", meetings)
                 .toString();
     }
 
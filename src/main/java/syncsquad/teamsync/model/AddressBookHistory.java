@@ -0,0 +1,215 @@
+package syncsquad.teamsync.model;
+
+import static java.util.Objects.requireNonNull;
+import static syncsquad.teamsync.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+import syncsquad.teamsync.model.meeting.Meeting;
+import syncsquad.teamsync.model.person.Person;
+
+/**
+ * A bounded journal of the modifications made to an {@code AddressBook}, which can be undone and redone.
+ *
+ * Instead of copying the whole address book for each change, the journal records each modification as the items it
+ * replaced and the items that replaced them, e.g. "person X was changed from A to B". Items are immutable, so an
+ * entry only holds references to the items it changed, and memory grows with the number of changed items rather
+ * than with the size of the address book. Only the latest {@code limit} entries are kept.
+ *
+ * Modifications are recorded as they are made, and grouped into an entry when {@link #commit(int)} is called.
+ */
+class AddressBookHistory {
+
+    private final Deque<List<Edit>> undoEntries = new ArrayDeque<>();
+    private final Deque<List<Edit>> redoEntries = new ArrayDeque<>();
+    private List<Edit> pendingEdits = new ArrayList<>();
+
+    /**
+     * Records that {@code before} was replaced by {@code after}, where a null {@code before} means that
+     * {@code after} was added and a null {@code after} means that {@code before} was removed.
+     */
+    void recordPersonEdit(Person before, Person after) {
+        pendingEdits.add(new PersonEdit(before, after));
+    }
+
+    /**
+     * Records that {@code before} was replaced by {@code after}, with nulls as in
+     * {@link #recordPersonEdit(Person, Person)}.
+     */
+    void recordMeetingEdit(Meeting before, Meeting after) {
+        pendingEdits.add(new MeetingEdit(before, after));
+    }
+
+    /**
+     * Records that the contents of the address book were replaced, given snapshots taken before and after.
+     */
+    void recordReset(ReadOnlyAddressBook before, ReadOnlyAddressBook after) {
+        requireNonNull(before);
+        requireNonNull(after);
+        pendingEdits.add(new ResetEdit(before, after));
+    }
+
+    /**
+     * Returns the number of modifications recorded since the last commit.
+     */
+    int getPendingEditCount() {
+        return pendingEdits.size();
+    }
+
+    /**
+     * Forgets the modifications recorded after the first {@code count} since the last commit, e.g. because they
+     * were rolled back.
+     */
+    void discardPendingEdits(int count) {
+        pendingEdits.subList(count, pendingEdits.size()).clear();
+    }
+
+    /**
+     * Groups the modifications recorded since the last commit into an entry that can be undone, and forgets the
+     * entries that could be redone. Only the latest {@code limit} entries are kept.
+     */
+    void commit(int limit) {
+        checkArgument(limit >= 0, "The undo limit must not be negative");
+        if (!pendingEdits.isEmpty()) {
+            undoEntries.push(pendingEdits);
+            pendingEdits = new ArrayList<>();
+            redoEntries.clear();
+        }
+        while (undoEntries.size() > limit) {
+            undoEntries.removeLast();
+        }
+    }
+
+    boolean canUndo() {
+        return !undoEntries.isEmpty();
+    }
+
+    boolean canRedo() {
+        return !redoEntries.isEmpty();
+    }
+
+    /**
+     * Reverts the modifications of the latest entry in {@code addressBook}, latest modification first.
+     * There must be an entry to undo, and no modifications recorded since the last commit.
+     * The entry is only moved to the entries that can be redone once it has been reverted, so if reverting it
+     * fails, it can still be undone after the caller has rolled {@code addressBook} back.
+     */
+    void undo(AddressBook addressBook) {
+        assert canUndo() && pendingEdits.isEmpty();
+        List<Edit> entry = undoEntries.peek();
+        for (int i = entry.size() - 1; i >= 0; i--) {
+            entry.get(i).undo(addressBook);
+        }
+        redoEntries.push(undoEntries.pop());
+    }
+
+    /**
+     * Reapplies the modifications of the latest undone entry in {@code addressBook}, in the order they were made.
+     * There must be an entry to redo, and no modifications recorded since the last commit.
+     * As with {@link #undo(AddressBook)}, the entry is only moved once it has been reapplied.
+     */
+    void redo(AddressBook addressBook) {
+        assert canRedo() && pendingEdits.isEmpty();
+        List<Edit> entry = redoEntries.peek();
+        for (Edit edit : entry) {
+            edit.redo(addressBook);
+        }
+        undoEntries.push(redoEntries.pop());
+    }
+
+    /**
+     * A modification of an address book that can be reverted and reapplied.
+     */
+    private interface Edit {
+        void undo(AddressBook addressBook);
+
+        void redo(AddressBook addressBook);
+    }
+
+    private static class PersonEdit implements Edit {
+        private final Person before;
+        private final Person after;
+
+        PersonEdit(Person before, Person after) {
+            assert before != null || after != null;
+            this.before = before;
+            this.after = after;
+        }
+
+        @Override
+        public void undo(AddressBook addressBook) {
+            replace(addressBook, after, before);
+        }
+
+        @Override
+        public void redo(AddressBook addressBook) {
+            replace(addressBook, before, after);
+        }
+
+        private static void replace(AddressBook addressBook, Person from, Person to) {
+            if (from == null) {
+                addressBook.addPerson(to);
+            } else if (to == null) {
+                addressBook.removePerson(from);
+            } else {
+                addressBook.setPerson(from, to);
+            }
+        }
+    }
+
+    private static class MeetingEdit implements Edit {
+        private final Meeting before;
+        private final Meeting after;
+
+        MeetingEdit(Meeting before, Meeting after) {
+            assert before != null || after != null;
+            this.before = before;
+            this.after = after;
+        }
+
+        @Override
+        public void undo(AddressBook addressBook) {
+            replace(addressBook, after, before);
+        }
+
+        @Override
+        public void redo(AddressBook addressBook) {
+            replace(addressBook, before, after);
+        }
+
+        private static void replace(AddressBook addressBook, Meeting from, Meeting to) {
+            if (from != null) {
+                addressBook.removeMeeting(from);
+            }
+            if (to != null) {
+                addressBook.addMeeting(to);
+            }
+        }
+    }
+
+    /**
+     * Replacing the contents of an address book, kept as copy-on-write snapshots of its contents before and after.
+     */
+    private static class ResetEdit implements Edit {
+        private final ReadOnlyAddressBook before;
+        private final ReadOnlyAddressBook after;
+
+        ResetEdit(ReadOnlyAddressBook before, ReadOnlyAddressBook after) {
+            this.before = before;
+            this.after = after;
+        }
+
+        @Override
+        public void undo(AddressBook addressBook) {
+            addressBook.resetData(before);
+        }
+
+        @Override
+        public void redo(AddressBook addressBook) {
+            addressBook.resetData(after);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package syncsquad.teamsync.model;
+
+import static syncsquad.teamsync.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import syncsquad.teamsync.commons.util.ToStringBuilder;
+import syncsquad.teamsync.model.meeting.Meeting;
+import syncsquad.teamsync.model.meeting.UniqueMeetingList;
+import syncsquad.teamsync.model.person.Person;
+
+/**
+ * An immutable point-in-time view of an {@code AddressBook}.
+ * The lists are shared with the address book until it is next modified, and are never changed afterwards.
+ */
+class AddressBookSnapshot implements ReadOnlyAddressBook {
+
+    private final ObservableList<Person> persons;
+    private final ObservableList<Meeting> meetings;
+    private final List<Meeting> series;
+
+    /**
+     * Creates a snapshot from immutable lists of persons and meetings, and of the recurring meetings among them.
+     */
+    AddressBookSnapshot(List<Person> persons, List<Meeting> meetings, List<Meeting> series) {
+        requireAllNonNull(persons, meetings, series);
+        // Wrapping the lists does not copy them.
+        this.persons = FXCollections.unmodifiableObservableList(FXCollections.observableList(persons));
+        this.meetings = FXCollections.unmodifiableObservableList(FXCollections.observableList(meetings));
+        this.series = series;
+    }
+
+    @Override
+    public ObservableList<Person> getPersonList() {
+        return persons;
+    }
+
+    @Override
+    public ObservableList<Meeting> getMeetingList() {
+        return meetings;
+    }
+
+    @Override
+    public List<Meeting> getMeetingOccurrences(LocalDate from, LocalDate to) {
+        return UniqueMeetingList.getOccurrences(meetings, series, from, to);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("persons", persons)
+                .add("meetings", meetings)
+                .toString();
+    }
+}
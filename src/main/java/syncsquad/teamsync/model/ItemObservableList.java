@@ -0,0 +1,322 @@
+package syncsquad.teamsync.model;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.RandomAccess;
+
+import javafx.collections.ModifiableObservableListBase;
+
+/**
+ * The {@code ObservableList} backing a {@code UniqueItemList}.
+ * Behaves like an ordinary array-backed observable list, but additionally supports relocating an item and
+ * replacing its contents while only firing a single list change event.
+ *
+ * The items are kept in chunks of at most {@link #MAX_CHUNK_SIZE} items, so that snapshots of the list can be
+ * copy-on-write per chunk: taking a snapshot only marks the current chunks as shared, and a modification copies just
+ * the chunk it changes, and the list of chunks, if they are shared. A snapshot is therefore taken in constant time,
+ * a modification after a snapshot copies {@code O(sqrt(n))} rather than {@code n} references for a list of
+ * {@code n} items, and a snapshot never changes afterwards, so it can be handed to other threads.
+ *
+ * The list also counts its modifications in a version number, so callers can tell cheaply whether the list has
+ * changed since they last looked at it.
+ */
+class ItemObservableList<T> extends ModifiableObservableListBase<T> {
+
+    /** The largest number of items in a chunk. A fuller chunk is split in two. */
+    static final int MAX_CHUNK_SIZE = 512;
+
+    /** A chunk with fewer items than this is merged with the next one if they fit in a single chunk. */
+    private static final int MIN_CHUNK_SIZE = MAX_CHUNK_SIZE / 4;
+
+    private Chunks<T> chunks = new Chunks<>();
+    private int size;
+    private List<T> snapshot;
+    private long version;
+
+    /**
+     * Removes the item at {@code from} and inserts {@code item} at {@code to}, where {@code to} is the index of
+     * {@code item} in the resulting list. Listeners are notified of a single change.
+     */
+    void relocate(int from, int to, T item) {
+        if (from == to) {
+            set(from, item);
+            return;
+        }
+
+        beginChange();
+        try {
+            remove(from);
+            add(to, item);
+        } finally {
+            endChange();
+        }
+    }
+
+    /**
+     * Starts buffering modifications to the list, so that listeners are notified of them as a single change
+     * when the matching {@code endBatch()} is called. Batches may be nested.
+     */
+    void beginBatch() {
+        beginChange();
+    }
+
+    /**
+     * Ends the innermost batch started by {@code beginBatch()}.
+     */
+    void endBatch() {
+        endChange();
+    }
+
+    /**
+     * Returns an immutable view of the current contents of the list, which is not affected by later modifications.
+     */
+    List<T> snapshot() {
+        if (snapshot == null) {
+            chunks.shared = true;
+            snapshot = new Snapshot<>(chunks, size);
+        }
+        return snapshot;
+    }
+
+    /**
+     * Returns the number of modifications made to the list so far.
+     */
+    long version() {
+        return version;
+    }
+
+    @Override
+    public boolean setAll(Collection<? extends T> col) {
+        beginChange();
+        try {
+            // The old contents are kept intact as they may be shared with a snapshot.
+            List<T> removed = new Snapshot<>(chunks, size);
+            chunks = Chunks.of(col);
+            size = col.size();
+            snapshot = null;
+            version++;
+            if (!removed.isEmpty()) {
+                nextRemove(0, removed);
+            }
+            if (size > 0) {
+                nextAdd(0, size);
+            }
+        } finally {
+            endChange();
+        }
+        return true;
+    }
+
+    @Override
+    public void clear() {
+        setAll(List.of());
+    }
+
+    @Override
+    public T get(int index) {
+        checkIndex(index, size);
+        return chunks.get(index);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    protected void doAdd(int index, T element) {
+        checkIndex(index, size + 1);
+        prepareModification();
+        chunks.add(index, element);
+        size++;
+    }
+
+    @Override
+    protected T doSet(int index, T element) {
+        checkIndex(index, size);
+        prepareModification();
+        return chunks.set(index, element);
+    }
+
+    @Override
+    protected T doRemove(int index) {
+        checkIndex(index, size);
+        prepareModification();
+        T removed = chunks.remove(index);
+        size--;
+        return removed;
+    }
+
+    /**
+     * Counts a modification of the list, and copies the list of chunks if it is shared with a snapshot, so that the
+     * snapshot is left unchanged. Shared chunks are copied when they are modified. Called before every modification.
+     */
+    private void prepareModification() {
+        version++;
+        snapshot = null;
+        if (chunks.shared) {
+            chunks = chunks.copy();
+        }
+    }
+
+    private static void checkIndex(int index, int bound) {
+        if (index < 0 || index >= bound) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + bound);
+        }
+    }
+
+    /**
+     * The chunks of a list, with the index of the first item of each chunk. Once shared with a snapshot, neither
+     * the chunks nor this object are modified again.
+     */
+    private static class Chunks<T> {
+        private ArrayList<Chunk<T>> chunks = new ArrayList<>();
+        private int[] starts = new int[0];
+        private boolean shared;
+
+        static <T> Chunks<T> of(Collection<? extends T> items) {
+            Chunks<T> result = new Chunks<>();
+            List<T> itemList = new ArrayList<>(items);
+            for (int start = 0; start < itemList.size(); start += MAX_CHUNK_SIZE / 2) {
+                int end = Math.min(itemList.size(), start + MAX_CHUNK_SIZE / 2);
+                result.chunks.add(new Chunk<>(new ArrayList<>(itemList.subList(start, end))));
+            }
+            result.updateStarts(0);
+            return result;
+        }
+
+        /**
+         * Returns a copy that shares the chunks of this one. The chunks are marked as shared, so that they are
+         * copied before they are modified.
+         */
+        Chunks<T> copy() {
+            Chunks<T> copy = new Chunks<>();
+            copy.chunks = new ArrayList<>(chunks);
+            copy.starts = starts.clone();
+            for (Chunk<T> chunk : chunks) {
+                chunk.shared = true;
+            }
+            return copy;
+        }
+
+        T get(int index) {
+            int chunkIndex = chunkIndexOf(index);
+            return chunks.get(chunkIndex).items.get(index - starts[chunkIndex]);
+        }
+
+        T set(int index, T element) {
+            int chunkIndex = chunkIndexOf(index);
+            return ownChunk(chunkIndex).items.set(index - starts[chunkIndex], element);
+        }
+
+        void add(int index, T element) {
+            if (chunks.isEmpty()) {
+                chunks.add(new Chunk<>(new ArrayList<>()));
+                starts = new int[] {0};
+            }
+            // An item added at the end goes into the last chunk.
+            int chunkIndex = index == sizeOfAll() ? chunks.size() - 1 : chunkIndexOf(index);
+            Chunk<T> chunk = ownChunk(chunkIndex);
+            chunk.items.add(index - starts[chunkIndex], element);
+            if (chunk.items.size() > MAX_CHUNK_SIZE) {
+                int half = chunk.items.size() / 2;
+                Chunk<T> secondHalf = new Chunk<>(new ArrayList<>(chunk.items.subList(half, chunk.items.size())));
+                chunk.items.subList(half, chunk.items.size()).clear();
+                chunks.add(chunkIndex + 1, secondHalf);
+            }
+            updateStarts(chunkIndex);
+        }
+
+        T remove(int index) {
+            int chunkIndex = chunkIndexOf(index);
+            Chunk<T> chunk = ownChunk(chunkIndex);
+            T removed = chunk.items.remove(index - starts[chunkIndex]);
+            if (chunk.items.isEmpty()) {
+                chunks.remove(chunkIndex);
+            } else if (chunk.items.size() < MIN_CHUNK_SIZE && chunkIndex + 1 < chunks.size()
+                    && chunk.items.size() + chunks.get(chunkIndex + 1).items.size() <= MAX_CHUNK_SIZE) {
+                chunk.items.addAll(chunks.remove(chunkIndex + 1).items);
+            }
+            updateStarts(chunkIndex);
+            return removed;
+        }
+
+        /**
+         * Returns the chunk at {@code chunkIndex}, after replacing it with a copy if it is shared with a snapshot.
+         */
+        private Chunk<T> ownChunk(int chunkIndex) {
+            Chunk<T> chunk = chunks.get(chunkIndex);
+            if (chunk.shared) {
+                chunk = new Chunk<>(new ArrayList<>(chunk.items));
+                chunks.set(chunkIndex, chunk);
+            }
+            return chunk;
+        }
+
+        /**
+         * Returns the index of the chunk holding the item at {@code index}, which must be within the list.
+         */
+        private int chunkIndexOf(int index) {
+            int chunkIndex = Arrays.binarySearch(starts, 0, chunks.size(), index);
+            // Empty chunks are removed, so no two chunks start at the same index.
+            return chunkIndex >= 0 ? chunkIndex : -chunkIndex - 2;
+        }
+
+        /**
+         * Recomputes the start indices of the chunks from the one at {@code fromChunk}.
+         */
+        private void updateStarts(int fromChunk) {
+            if (starts.length < chunks.size()) {
+                starts = Arrays.copyOf(starts, Math.max(chunks.size(), starts.length * 2));
+            }
+            int start = fromChunk == 0 ? 0 : starts[fromChunk - 1] + chunks.get(fromChunk - 1).items.size();
+            for (int i = fromChunk; i < chunks.size(); i++) {
+                starts[i] = start;
+                start += chunks.get(i).items.size();
+            }
+        }
+
+        private int sizeOfAll() {
+            return chunks.isEmpty() ? 0 : starts[chunks.size() - 1] + chunks.get(chunks.size() - 1).items.size();
+        }
+    }
+
+    /**
+     * Up to {@link #MAX_CHUNK_SIZE} consecutive items of a list.
+     */
+    private static class Chunk<T> {
+        private final ArrayList<T> items;
+        private boolean shared;
+
+        Chunk(ArrayList<T> items) {
+            this.items = items;
+        }
+    }
+
+    /**
+     * An immutable view of the chunks of a list at the time the snapshot was taken.
+     */
+    private static class Snapshot<T> extends AbstractList<T> implements RandomAccess {
+        private final Chunks<T> chunks;
+        private final int size;
+
+        Snapshot(Chunks<T> chunks, int size) {
+            this.chunks = chunks;
+            this.size = size;
+        }
+
+        @Override
+        public T get(int index) {
+            checkIndex(index, size);
+            return chunks.get(index);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package syncsquad.teamsync.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.function.Predicate;
+
+/**
+ * A predicate that remembers the result of testing each item, so that each version of an item is only tested
+ * once by the wrapped predicate. Items are immutable, so an edited item is a new version and is tested again.
+ * Items that are no longer referenced elsewhere are forgotten.
+ *
+ * The wrapped predicate must give the same result for equal items. This class is not thread-safe.
+ */
+class MemoizedPredicate<T> implements Predicate<T> {
+
+    private final Predicate<? super T> predicate;
+    private final Map<T, Boolean> results = new WeakHashMap<>();
+    private Set<T> knownMatches;
+
+    MemoizedPredicate(Predicate<? super T> predicate) {
+        requireNonNull(predicate);
+        this.predicate = predicate;
+    }
+
+    /**
+     * Returns the wrapped predicate.
+     */
+    Predicate<? super T> getPredicate() {
+        return predicate;
+    }
+
+    /**
+     * Runs {@code action}, e.g. refiltering a list with this predicate, while items are tested by whether they are in
+     * {@code matches} instead of with the wrapped predicate. {@code matches} must contain exactly the items tested
+     * meanwhile that the wrapped predicate accepts, e.g. as looked up in an index.
+     * These results are not remembered, as a set lookup is already cheap and remembering the result for every item
+     * of a large list costs more than the lookups. An item tested again later is tested by the wrapped predicate.
+     */
+    void runWithMatches(Set<T> matches, Runnable action) {
+        requireNonNull(matches);
+        knownMatches = matches;
+        try {
+            action.run();
+        } finally {
+            knownMatches = null;
+        }
+    }
+
+    @Override
+    public boolean test(T item) {
+        if (knownMatches != null) {
+            return knownMatches.contains(item);
+        }
+        Boolean result = results.get(item);
+        if (result == null) {
+            result = predicate.test(item);
+            results.put(item, result);
+        }
+        return result;
+    }
+}
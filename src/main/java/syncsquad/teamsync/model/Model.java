@@ -1,12 +1,21 @@
 package syncsquad.teamsync.model;
 
 import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 
+import javafx.beans.property.ReadOnlyObjectProperty;
 import javafx.collections.ObservableList;
 import syncsquad.teamsync.commons.core.GuiSettings;
 import syncsquad.teamsync.model.meeting.Meeting;
+import syncsquad.teamsync.model.module.ModuleCode;
+import syncsquad.teamsync.model.person.Email;
 import syncsquad.teamsync.model.person.Person;
+import syncsquad.teamsync.model.person.PersonSearchResult;
+import syncsquad.teamsync.model.person.PersonSortOrder;
+import syncsquad.teamsync.model.tag.Tag;
 
 /**
  * The API of the Model component.
@@ -50,9 +59,61 @@ public interface Model {
      */
     void setAddressBook(ReadOnlyAddressBook addressBook);
 
+    /**
+     * Applies {@code action} to this model as a single transaction.
+     * Listeners of the person, meeting and filtered person lists are notified of all the modifications made by
+     * {@code action} as a single change when it completes. If {@code action} throws an exception, all of its
+     * modifications are rolled back and the exception is rethrown.
+     *
+     * While {@code action} runs, the filtered person list and any other views of the address book are not updated,
+     * so they are not valid: they may still show persons that have been deleted or edited, and must not be used,
+     * e.g. to look up a person by index. Read the address book itself instead.
+     */
+    void batch(Consumer<Model> action);
+
+    /**
+     * Marks the end of a change to the AddressBook, e.g. by a command, so that the modifications made since the last
+     * call can be undone together. Discards the changes that could be redone if any modification was made.
+     */
+    void commitAddressBook();
+
+    /**
+     * Returns true if there is a change to the AddressBook that can be undone.
+     */
+    boolean canUndoAddressBook();
+
+    /**
+     * Returns true if there is an undone change to the AddressBook that can be redone.
+     */
+    boolean canRedoAddressBook();
+
+    /**
+     * Undoes the latest change to the AddressBook, including modifications made since the last commit.
+     * @throws IllegalStateException if there is no change to undo.
+     */
+    void undoAddressBook();
+
+    /**
+     * Redoes the latest undone change to the AddressBook.
+     * @throws IllegalStateException if there is no change to redo.
+     */
+    void redoAddressBook();
+
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns an immutable point-in-time view of the AddressBook, which can be read from background threads.
+     * Must be called from the thread that modifies the model.
+     */
+    ReadOnlyAddressBook getAddressBookSnapshot();
+
+    /**
+     * Returns a number that increases whenever the AddressBook is modified, so that an unchanged AddressBook need not
+     * be saved again.
+     */
+    long getAddressBookVersion();
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in the address book.
      */
@@ -77,21 +138,95 @@ public interface Model {
      */
     void setPerson(Person target, Person editedPerson);
 
-    /** Returns an unmodifiable view of the filtered person list */
+    /**
+     * Returns an unmodifiable view of the filtered person list, which is the list of persons shown to the user.
+     * Once {@link #sortFilteredPersonList} is called, this is the sorted list of all persons instead, until the
+     * filter is next updated.
+     */
     ObservableList<Person> getFilteredPersonList();
 
+    /**
+     * Returns the property holding the list returned by {@link #getFilteredPersonList()}, which changes when the
+     * persons shown are sorted or filtered again.
+     */
+    ReadOnlyObjectProperty<ObservableList<Person>> filteredPersonListProperty();
+
+    /**
+     * Returns an unmodifiable view of all persons, sorted in the given order.
+     * The view is created when first requested and then kept sorted as persons change, so switching between
+     * sort orders does not sort the persons again.
+     */
+    ObservableList<Person> getSortedPersonList(PersonSortOrder sortOrder);
+
+    /**
+     * Shows all persons, sorted in the given order, as the filtered person list.
+     * The sorted view from {@link #getSortedPersonList} is shown, so persons are not sorted again when the order
+     * was shown before. Updating the filter afterwards shows the persons in their usual order again.
+     * @throws NullPointerException if {@code sortOrder} is null.
+     */
+    void sortFilteredPersonList(PersonSortOrder sortOrder);
+
     /**
      * Updates the filter of the filtered person list to filter by the given {@code predicate}.
+     * Each version of a person is only tested once by a predicate, and updating the filter to a predicate equal
+     * to the current one does not test any person again.
      * @throws NullPointerException if {@code predicate} is null.
      */
     void updateFilteredPersonList(Predicate<Person> predicate);
 
+    /**
+     * Updates the filter of the filtered person list to the persons found by {@code searchResult}, i.e. to its
+     * {@code FuzzyKeywordsPredicate}, without searching again. {@code searchResult} must be the latest search of
+     * the address book for its keywords, with no modification since.
+     * No person is tested by the predicate, but the filtered list still looks every person up in the matches, so
+     * this takes time proportional to the number of persons. With 100,000 persons, a search with thousands of
+     * matches takes well over 5 ms in all.
+     * @throws NullPointerException if {@code searchResult} is null.
+     */
+    void updateFilteredPersonList(PersonSearchResult searchResult);
+
+    /**
+     * Returns the persons in the address book who take a module with the given code.
+     * This takes time proportional to the number of such persons.
+     */
+    List<Person> getPersonsWithModuleCode(ModuleCode moduleCode);
+
+    /**
+     * Returns the persons in the address book who have the given tag.
+     * This takes time proportional to the number of such persons.
+     */
+    List<Person> getPersonsWithTag(Tag tag);
+
+    /**
+     * Returns the persons in the address book who have {@code word} as one of the words of their name, ignoring case.
+     * This takes time proportional to the number of such persons.
+     */
+    List<Person> getPersonsWithNameWord(String word);
+
+    /**
+     * Returns the persons in the address book with a word in their name, email or tags that approximately matches
+     * any of {@code keywords}, as tested by {@code FuzzyKeywordsPredicate}, with how closely they match.
+     * Only the words that start with or share a trigram with a keyword are compared with it.
+     */
+    PersonSearchResult searchPersons(List<String> keywords);
+
+    /**
+     * Returns the person in the address book with the given email, if there is one.
+     * Emails are compared case-insensitively, and the lookup takes constant time.
+     */
+    Optional<Person> getPersonWithEmail(Email email);
+
     /**
      * Returns true if a meeting with the same date, start time and end time as {@code meeting}
      * exists in the address book.
      */
     boolean hasMeeting(Meeting meeting);
 
+    /**
+     * Returns true if a meeting that overlaps in date and time with {@code meeting} exists in the address book.
+     */
+    boolean hasOverlappingMeeting(Meeting meeting);
+
     /**
      * Adds the given meeting.
      * {@code meeting} must not already exist in the address book.
@@ -4,15 +4,33 @@ import static java.util.Objects.requireNonNull;
 import static syncsquad.teamsync.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
+import javafx.beans.property.ReadOnlyObjectProperty;
+import javafx.beans.property.ReadOnlyObjectWrapper;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import syncsquad.teamsync.commons.core.GuiSettings;
 import syncsquad.teamsync.commons.core.LogsCenter;
 import syncsquad.teamsync.model.meeting.Meeting;
+import syncsquad.teamsync.model.module.ModuleCode;
+import syncsquad.teamsync.model.person.Email;
+import syncsquad.teamsync.model.person.FuzzyKeywordsPredicate;
+import syncsquad.teamsync.model.person.NameContainsKeywordsPredicate;
 import syncsquad.teamsync.model.person.Person;
+import syncsquad.teamsync.model.person.PersonSearchResult;
+import syncsquad.teamsync.model.person.PersonSortOrder;
+import syncsquad.teamsync.model.tag.Tag;
 
 /**
  * Represents the in-memory model of the address book data.
@@ -23,9 +41,17 @@ public class ModelManager implements Model {
     private final AddressBook addressBook;
     private final UserPrefs userPrefs;
     private final FilteredList<Person> filteredPersons;
+    private final Map<PersonSortOrder, SortedItemView<Person>> sortedPersonViews =
+            new EnumMap<>(PersonSortOrder.class);
+    private final ReadOnlyObjectWrapper<ObservableList<Person>> shownPersons;
     private final ObservableList<Meeting> meetings;
 
     private final TimetableWeek week;
+    private final AddressBookHistory history = new AddressBookHistory();
+
+    private MemoizedPredicate<Person> personFilter;
+    private int batchDepth;
+    private Predicate<Person> pendingPredicate;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -38,6 +64,7 @@ public class ModelManager implements Model {
         this.addressBook = new AddressBook(addressBook);
         this.userPrefs = new UserPrefs(userPrefs);
         filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
+        shownPersons = new ReadOnlyObjectWrapper<>(filteredPersons);
         meetings = this.addressBook.getMeetingList();
         this.week = new TimetableWeek();
     }
@@ -85,7 +112,36 @@ public class ModelManager implements Model {
 
     @Override
     public void setAddressBook(ReadOnlyAddressBook addressBook) {
+        ReadOnlyAddressBook before = this.addressBook.snapshot();
         this.addressBook.resetData(addressBook);
+        history.recordReset(before, this.addressBook.snapshot());
+    }
+
+    @Override
+    public void batch(Consumer<Model> action) {
+        requireNonNull(action);
+
+        Predicate<Person> predicateBeforeBatch = pendingPredicate;
+        int editCountBeforeBatch = history.getPendingEditCount();
+        addressBook.beginTransaction();
+        batchDepth++;
+        try {
+            action.accept(this);
+        } catch (RuntimeException | Error e) {
+            batchDepth--;
+            pendingPredicate = predicateBeforeBatch;
+            addressBook.rollbackTransaction();
+            history.discardPendingEdits(editCountBeforeBatch);
+            throw e;
+        }
+        batchDepth--;
+        addressBook.commitTransaction();
+
+        if (batchDepth == 0 && pendingPredicate != null) {
+            Predicate<Person> predicate = pendingPredicate;
+            pendingPredicate = null;
+            updateFilteredPersonList(predicate, () -> findMatchesInIndex(predicate));
+        }
     }
 
     @Override
@@ -93,6 +149,16 @@ public class ModelManager implements Model {
         return addressBook;
     }
 
+    @Override
+    public ReadOnlyAddressBook getAddressBookSnapshot() {
+        return addressBook.snapshot();
+    }
+
+    @Override
+    public long getAddressBookVersion() {
+        return addressBook.getVersion();
+    }
+
     @Override
     public boolean hasPerson(Person person) {
         requireNonNull(person);
@@ -102,12 +168,16 @@ public class ModelManager implements Model {
     @Override
     public void deletePerson(Person target) {
         addressBook.removePerson(target);
+        history.recordPersonEdit(target, null);
+        replaceAttendee(target.getEmail(), null);
     }
 
     @Override
     public void addPerson(Person person) {
         addressBook.addPerson(person);
-        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        history.recordPersonEdit(null, person);
+        // The sort order shown, if any, is kept, as the new person is shown in it.
+        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS, Optional::empty);
     }
 
     @Override
@@ -115,6 +185,61 @@ public class ModelManager implements Model {
         requireAllNonNull(target, editedPerson);
 
         addressBook.setPerson(target, editedPerson);
+        history.recordPersonEdit(target, editedPerson);
+        if (!target.getEmail().equals(editedPerson.getEmail())) {
+            replaceAttendee(target.getEmail(), editedPerson.getEmail());
+        }
+    }
+
+    /**
+     * Replaces {@code email} with {@code newEmail} among the attendees of every meeting, or removes it if
+     * {@code newEmail} is null. A meeting left without attendees is kept, as a meeting without attendees. The
+     * meetings are replaced through {@link #deleteMeeting} and {@link #addMeeting}, so the changes are undone
+     * together with the change to the person.
+     */
+    private void replaceAttendee(Email email, Email newEmail) {
+        List<Meeting> attendedMeetings = addressBook.getMeetingList().stream()
+                .filter(meeting -> meeting.getAttendees().contains(email))
+                .collect(Collectors.toList());
+        for (Meeting meeting : attendedMeetings) {
+            Set<Email> attendees = new HashSet<>(meeting.getAttendees());
+            attendees.remove(email);
+            if (newEmail != null) {
+                attendees.add(newEmail);
+            }
+            deleteMeeting(meeting);
+            addMeeting(meeting.withAttendees(attendees));
+        }
+    }
+
+    @Override
+    public List<Person> getPersonsWithModuleCode(ModuleCode moduleCode) {
+        requireNonNull(moduleCode);
+        return addressBook.getPersonsWithModuleCode(moduleCode);
+    }
+
+    @Override
+    public List<Person> getPersonsWithTag(Tag tag) {
+        requireNonNull(tag);
+        return addressBook.getPersonsWithTag(tag);
+    }
+
+    @Override
+    public List<Person> getPersonsWithNameWord(String word) {
+        requireNonNull(word);
+        return addressBook.getPersonsWithNameWord(word);
+    }
+
+    @Override
+    public PersonSearchResult searchPersons(List<String> keywords) {
+        requireNonNull(keywords);
+        return addressBook.searchPersons(keywords);
+    }
+
+    @Override
+    public Optional<Person> getPersonWithEmail(Email email) {
+        requireNonNull(email);
+        return addressBook.getPersonWithEmail(email);
     }
 
     @Override
@@ -123,14 +248,22 @@ public class ModelManager implements Model {
         return addressBook.hasMeeting(meeting);
     }
 
+    @Override
+    public boolean hasOverlappingMeeting(Meeting meeting) {
+        requireNonNull(meeting);
+        return addressBook.hasOverlappingMeeting(meeting);
+    }
+
     @Override
     public void deleteMeeting(Meeting target) {
         addressBook.removeMeeting(target);
+        history.recordMeetingEdit(target, null);
     }
 
     @Override
     public void addMeeting(Meeting meeting) {
         addressBook.addMeeting(meeting);
+        history.recordMeetingEdit(null, meeting);
     }
 
     @Override
@@ -143,6 +276,41 @@ public class ModelManager implements Model {
         return meetings;
     }
 
+    //=========== Undo/Redo ==================================================================================
+
+    @Override
+    public void commitAddressBook() {
+        history.commit(userPrefs.getUndoLimit());
+    }
+
+    @Override
+    public boolean canUndoAddressBook() {
+        return history.getPendingEditCount() > 0 || history.canUndo();
+    }
+
+    @Override
+    public boolean canRedoAddressBook() {
+        // Committing the pending modifications would discard the changes that could be redone.
+        return history.getPendingEditCount() == 0 && history.canRedo();
+    }
+
+    @Override
+    public void undoAddressBook() {
+        if (!canUndoAddressBook()) {
+            throw new IllegalStateException("There is no change to undo");
+        }
+        commitAddressBook();
+        batch(model -> history.undo(addressBook));
+    }
+
+    @Override
+    public void redoAddressBook() {
+        if (!canRedoAddressBook()) {
+            throw new IllegalStateException("There is no change to redo");
+        }
+        batch(model -> history.redo(addressBook));
+    }
+
     @Override
     public TimetableWeek getCurrentWeek() {
         return this.week;
@@ -161,13 +329,85 @@ public class ModelManager implements Model {
      */
     @Override
     public ObservableList<Person> getFilteredPersonList() {
-        return filteredPersons;
+        return shownPersons.get();
+    }
+
+    @Override
+    public ReadOnlyObjectProperty<ObservableList<Person>> filteredPersonListProperty() {
+        return shownPersons.getReadOnlyProperty();
+    }
+
+    @Override
+    public ObservableList<Person> getSortedPersonList(PersonSortOrder sortOrder) {
+        requireNonNull(sortOrder);
+        return sortedPersonViews.computeIfAbsent(sortOrder, order ->
+                new SortedItemView<>(addressBook.getPersonList(), order.getComparator()))
+                .asUnmodifiableObservableList();
+    }
+
+    @Override
+    public void sortFilteredPersonList(PersonSortOrder sortOrder) {
+        requireNonNull(sortOrder);
+        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS, Optional::empty);
+        shownPersons.set(getSortedPersonList(sortOrder));
     }
 
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
-        filteredPersons.setPredicate(predicate);
+        shownPersons.set(filteredPersons);
+        updateFilteredPersonList(predicate, () -> findMatchesInIndex(predicate));
+    }
+
+    @Override
+    public void updateFilteredPersonList(PersonSearchResult searchResult) {
+        requireNonNull(searchResult);
+        shownPersons.set(filteredPersons);
+        updateFilteredPersonList(searchResult.getPredicate(), () -> Optional.of(searchResult.getMatches()));
+    }
+
+    /**
+     * Updates the filter of the filtered person list to {@code predicate}, with the persons it accepts given by
+     * {@code findMatches} if they are known without testing every person.
+     */
+    private void updateFilteredPersonList(Predicate<Person> predicate, Supplier<Optional<Set<Person>>> findMatches) {
+        if (batchDepth > 0) {
+            // Filtering once when the batch completes avoids refiltering after every modification.
+            pendingPredicate = predicate;
+            return;
+        }
+        if (personFilter != null && personFilter.getPredicate().equals(predicate)) {
+            // The filtered list already re-tests persons as they change, so there is nothing to refilter.
+            return;
+        }
+        MemoizedPredicate<Person> filter = new MemoizedPredicate<>(predicate);
+        personFilter = filter;
+        Optional<Set<Person>> matches = findMatches.get();
+        if (matches.isPresent()) {
+            // No person has to be tested when refiltering, as the matches were found in an index.
+            filter.runWithMatches(matches.get(), () -> filteredPersons.setPredicate(filter));
+        } else {
+            filteredPersons.setPredicate(filter);
+        }
+    }
+
+    /**
+     * Returns the persons that {@code predicate} accepts if they can be looked up in an index of the address book
+     * without testing every person, or an empty {@code Optional} otherwise.
+     */
+    private Optional<Set<Person>> findMatchesInIndex(Predicate<Person> predicate) {
+        if (predicate instanceof NameContainsKeywordsPredicate) {
+            Set<Person> persons = new HashSet<>();
+            for (String word : ((NameContainsKeywordsPredicate) predicate).getKeywords()) {
+                persons.addAll(addressBook.getPersonsWithNameWord(word.trim()));
+            }
+            return Optional.of(persons);
+        }
+        if (predicate instanceof FuzzyKeywordsPredicate) {
+            return Optional.of(addressBook.searchPersons(((FuzzyKeywordsPredicate) predicate).getKeywords())
+                    .getMatches());
+        }
+        return Optional.empty();
     }
 
     @Override
@@ -184,7 +424,7 @@ public class ModelManager implements Model {
         ModelManager otherModelManager = (ModelManager) other;
         return addressBook.equals(otherModelManager.addressBook)
                 && userPrefs.equals(otherModelManager.userPrefs)
-                && filteredPersons.equals(otherModelManager.filteredPersons);
+                && getFilteredPersonList().equals(otherModelManager.getFilteredPersonList());
     }
 
 }
@@ -1,5 +1,8 @@
 package syncsquad.teamsync.model;
 
+import java.time.LocalDate;
+import java.util.List;
+
 import javafx.collections.ObservableList;
 import syncsquad.teamsync.model.meeting.Meeting;
 import syncsquad.teamsync.model.person.Person;
@@ -21,4 +24,10 @@ public interface ReadOnlyAddressBook {
      */
     ObservableList<Meeting> getMeetingList();
 
+    /**
+     * Returns the occurrences of the meetings that take place from {@code from} up to but excluding {@code to},
+     * sorted by start time. Only the meetings that take place in the range are visited.
+     */
+    List<Meeting> getMeetingOccurrences(LocalDate from, LocalDate to);
+
 }
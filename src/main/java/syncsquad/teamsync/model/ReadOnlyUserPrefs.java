@@ -1,6 +1,8 @@
 package syncsquad.teamsync.model;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Optional;
 
 import syncsquad.teamsync.commons.core.GuiSettings;
 
@@ -13,4 +15,14 @@ public interface ReadOnlyUserPrefs {
 
     Path getAddressBookFilePath();
 
+    /**
+     * Returns the date on which the semester starts, from which the teaching weeks of modules are counted.
+     */
+    Optional<LocalDate> getSemesterStart();
+
+    /**
+     * Returns the number of changes to the address book that can be undone.
+     */
+    int getUndoLimit();
+
 }
@@ -0,0 +1,89 @@
+package syncsquad.teamsync.model;
+
+import static syncsquad.teamsync.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+/**
+ * A view of an {@code ObservableList} that is kept sorted by a given comparator.
+ *
+ * Unlike a {@code SortedList}, the view is updated incrementally: each item added to or removed from the source
+ * is located by binary search, so a change to a few items takes {@code O(log n)} comparisons. Only changes to many
+ * items at once, e.g. when the source is replaced, cause the view to be sorted again.
+ *
+ * The comparator must be a total order on the items in the source, i.e. only compare equal items as equal.
+ */
+class SortedItemView<T> {
+
+    /** Changes to more items than this are applied by sorting the whole view again. */
+    private static final int MAX_INCREMENTAL_CHANGE_SIZE = 64;
+
+    private final ObservableList<? extends T> source;
+    private final Comparator<? super T> comparator;
+    private final ItemObservableList<T> items = new ItemObservableList<>();
+    private final ObservableList<T> unmodifiableItems = FXCollections.unmodifiableObservableList(items);
+
+    /**
+     * Creates a view of {@code source} sorted by {@code comparator}.
+     */
+    SortedItemView(ObservableList<? extends T> source, Comparator<? super T> comparator) {
+        requireAllNonNull(source, comparator);
+        this.source = source;
+        this.comparator = comparator;
+        resort();
+        source.addListener(this::onSourceChanged);
+    }
+
+    /**
+     * Returns the sorted items as an unmodifiable {@code ObservableList}.
+     */
+    ObservableList<T> asUnmodifiableObservableList() {
+        return unmodifiableItems;
+    }
+
+    private void onSourceChanged(ListChangeListener.Change<? extends T> change) {
+        int changeSize = 0;
+        while (change.next()) {
+            changeSize += change.getRemovedSize() + change.getAddedSize();
+        }
+        if (changeSize > MAX_INCREMENTAL_CHANGE_SIZE) {
+            resort();
+            return;
+        }
+
+        change.reset();
+        items.beginBatch();
+        try {
+            while (change.next()) {
+                change.getRemoved().forEach(this::remove);
+                change.getAddedSubList().forEach(this::insert);
+            }
+        } finally {
+            items.endBatch();
+        }
+    }
+
+    private void resort() {
+        List<T> sortedItems = new ArrayList<>(source);
+        sortedItems.sort(comparator);
+        items.setAll(sortedItems);
+    }
+
+    private void insert(T item) {
+        int index = Collections.binarySearch(items, item, comparator);
+        items.add(index < 0 ? -index - 1 : index, item);
+    }
+
+    private void remove(T item) {
+        int index = Collections.binarySearch(items, item, comparator);
+        assert index >= 0 : "Removed item must be in the view";
+        items.remove(index);
+    }
+}
@@ -3,9 +3,14 @@ package syncsquad.teamsync.model;
 import static java.util.Objects.requireNonNull;
 import static syncsquad.teamsync.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -20,15 +25,29 @@ import syncsquad.teamsync.commons.exceptions.ItemNotFoundException;
  * as to ensure that the item with exactly the same details will be removed.
  *
  * Additionally, it is guaranteed that all items in the list are in sorted order, in their natural ordering
- * defined in {@code T#compareTo(T)}.
+ * defined in {@code T#compareTo(T)}. Items that compare as equal are kept in the order in which they were added.
+ *
+ * Items are indexed by their {@code identityOf(T)} key, so identity lookups take constant time and
+ * insertions and updates locate their position by binary search instead of re-sorting the list.
+ *
+ * Modifications can be grouped in transactions, which are rolled back by undoing each modification in reverse order,
+ * so that beginning a transaction costs nothing and rolling one back costs time proportional to its modifications.
  *
  * Supports a minimal set of list operations.
  *
  * @see UniqueItemList#isSameItem(T, T)
+ * @see UniqueItemList#identityOf(T)
  */
 public abstract class UniqueItemList<T extends Comparable<T>> implements Iterable<T> {
 
-    protected final ObservableList<T> internalList = FXCollections.observableArrayList();
+    private final ItemObservableList<T> backingList = new ItemObservableList<>();
+    private final Map<Object, T> itemsByIdentity = new HashMap<>();
+    private final List<Runnable> undoLog = new ArrayList<>();
+    private final Deque<Integer> transactionStarts = new ArrayDeque<>();
+    private boolean isRollingBack;
+    private int restoreIndex = -1;
+
+    protected final ObservableList<T> internalList = backingList;
     protected final ObservableList<T> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
 
@@ -37,7 +56,7 @@ public abstract class UniqueItemList<T extends Comparable<T>> implements Iterabl
      */
     public boolean contains(T toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(item -> isSameItem(toCheck, item));
+        return itemsByIdentity.containsKey(identityOf(toCheck));
     }
 
     /**
@@ -49,8 +68,10 @@ public abstract class UniqueItemList<T extends Comparable<T>> implements Iterabl
         if (contains(toAdd)) {
             throw duplicateItemException();
         }
-        internalList.add(toAdd);
-        Collections.sort(internalList);
+        int index = restoreIndex >= 0 ? restoreIndex : upperBound(toAdd, 0, internalList.size());
+        internalList.add(index, toAdd);
+        itemsByIdentity.put(identityOf(toAdd), toAdd);
+        recordUndo(() -> remove(toAdd));
     }
 
     /**
@@ -61,7 +82,7 @@ public abstract class UniqueItemList<T extends Comparable<T>> implements Iterabl
     public void setItem(T target, T editedItem) {
         requireAllNonNull(target, editedItem);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw itemNotFoundException();
         }
@@ -70,8 +91,10 @@ public abstract class UniqueItemList<T extends Comparable<T>> implements Iterabl
             throw duplicateItemException();
         }
 
-        internalList.set(index, editedItem);
-        Collections.sort(internalList);
+        backingList.relocate(index, restoreIndex >= 0 ? restoreIndex : sortedIndexOf(editedItem, index), editedItem);
+        itemsByIdentity.remove(identityOf(target));
+        itemsByIdentity.put(identityOf(editedItem), editedItem);
+        recordUndo(() -> restoreAt(index, () -> setItem(editedItem, target)));
     }
 
     /**
@@ -80,29 +103,112 @@ public abstract class UniqueItemList<T extends Comparable<T>> implements Iterabl
      */
     public void remove(T toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw itemNotFoundException();
         }
+        internalList.remove(index);
+        itemsByIdentity.remove(identityOf(toRemove));
+        recordUndo(() -> restoreAt(index, () -> add(toRemove)));
     }
 
     public void setItems(UniqueItemList<T> replacement) {
         requireNonNull(replacement);
+        List<T> itemsBefore = snapshot();
         internalList.setAll(replacement.internalList);
-        Collections.sort(internalList);
+        itemsByIdentity.clear();
+        itemsByIdentity.putAll(replacement.itemsByIdentity);
+        recordUndo(() -> setItems(itemsBefore));
     }
 
     /**
      * Replaces the contents of this list with {@code items}.
      * {@code items} must not contain duplicate items.
+     *
+     * This is the bulk-loading path of the list: uniqueness is validated by hashing, the items are sorted once
+     * and listeners are notified of a single change, so loading {@code n} items takes {@code O(n log n)} time
+     * (and close to {@code O(n)} when {@code items} is already sorted).
      */
     public void setItems(List<T> items) {
         requireAllNonNull(items);
-        if (!itemsAreUnique(items)) {
-            throw duplicateItemException();
+        Map<Object, T> newItemsByIdentity = new HashMap<>(items.size() * 4 / 3 + 1);
+        for (T item : items) {
+            if (newItemsByIdentity.putIfAbsent(identityOf(item), item) != null) {
+                throw duplicateItemException();
+            }
+        }
+
+        List<T> itemsBefore = snapshot();
+        List<T> sortedItems = new ArrayList<>(items);
+        // The sort is stable, so restoring the items before a transaction keeps items that compare as equal in order.
+        Collections.sort(sortedItems);
+        internalList.setAll(sortedItems);
+        itemsByIdentity.clear();
+        itemsByIdentity.putAll(newItemsByIdentity);
+        recordUndo(() -> setItems(itemsBefore));
+    }
+
+    /**
+     * Starts a transaction on the list. Until the transaction is committed or rolled back, modifications are
+     * buffered and listeners of the list are not notified of them, so views of the list, e.g. filtered or sorted
+     * lists, do not reflect them either. Transactions may be nested.
+     */
+    public void beginTransaction() {
+        transactionStarts.push(undoLog.size());
+        backingList.beginBatch();
+    }
+
+    /**
+     * Commits the innermost transaction. If it is the outermost transaction, listeners are notified of all of its
+     * modifications as a single change.
+     */
+    public void commitTransaction() {
+        transactionStarts.pop();
+        if (transactionStarts.isEmpty()) {
+            undoLog.clear();
+        }
+        backingList.endBatch();
+    }
+
+    /**
+     * Rolls back the innermost transaction, restoring the contents the list had when the transaction began.
+     * Each modification made in the transaction is undone, most recent first, through the same methods that made
+     * it, so subclasses keep any indexes of the items up to date.
+     */
+    public void rollbackTransaction() {
+        int start = transactionStarts.pop();
+        isRollingBack = true;
+        try {
+            while (undoLog.size() > start) {
+                undoLog.remove(undoLog.size() - 1).run();
+            }
+        } finally {
+            isRollingBack = false;
+            undoLog.subList(start, undoLog.size()).clear();
+            backingList.endBatch();
         }
+    }
 
-        internalList.setAll(items);
-        Collections.sort(internalList);
+    /**
+     * Records {@code undo} as the way to undo the modification just made, if a transaction is in progress.
+     */
+    private void recordUndo(Runnable undo) {
+        if (!transactionStarts.isEmpty() && !isRollingBack) {
+            undoLog.add(undo);
+        }
+    }
+
+    /**
+     * Runs {@code modification}, which adds or moves an item, placing that item at {@code index} instead of its
+     * sorted position, so that an undone modification puts it back exactly where it was among equal items.
+     */
+    private void restoreAt(int index, Runnable modification) {
+        restoreIndex = index;
+        try {
+            modification.run();
+        } finally {
+            restoreIndex = -1;
+        }
     }
 
     /**
@@ -112,9 +218,24 @@ public abstract class UniqueItemList<T extends Comparable<T>> implements Iterabl
         return internalUnmodifiableList;
     }
 
+    /**
+     * Returns an immutable point-in-time view of the list, which is not affected by later changes to the list.
+     * This takes constant time, and the returned list can be read safely from other threads.
+     */
+    public List<T> snapshot() {
+        return backingList.snapshot();
+    }
+
+    /**
+     * Returns a number that increases whenever the list is modified, e.g. to tell whether it needs to be saved.
+     */
+    public long getVersion() {
+        return backingList.version();
+    }
+
     @Override
     public Iterator<T> iterator() {
-        return internalList.iterator();
+        return internalUnmodifiableList.iterator();
     }
 
     @Override
@@ -143,27 +264,97 @@ public abstract class UniqueItemList<T extends Comparable<T>> implements Iterabl
     }
 
     /**
-     * Returns true if {@code items} contains only unique items.
+     * Returns the index of the item in the list that is equal to {@code item}, or -1 if there is no such item.
      */
-    private boolean itemsAreUnique(List<T> items) {
-        for (int i = 0; i < items.size() - 1; i++) {
-            for (int j = i + 1; j < items.size(); j++) {
-                if (isSameItem(items.get(i), (items.get(j)))) {
-                    return false;
-                }
+    private int indexOf(T item) {
+        T existingItem = itemsByIdentity.get(identityOf(item));
+        if (existingItem == null || !existingItem.equals(item)) {
+            return -1;
+        }
+
+        // Items that compare as equal are adjacent, so only that run has to be scanned.
+        for (int i = lowerBound(existingItem, 0, internalList.size()); i < internalList.size(); i++) {
+            if (internalList.get(i) == existingItem) {
+                return i;
             }
         }
-        return true;
+        return -1;
+    }
+
+    /**
+     * Returns the index that {@code editedItem} should occupy after replacing the item at {@code index},
+     * such that the list stays sorted and items that compare as equal keep their relative order.
+     */
+    private int sortedIndexOf(T editedItem, int index) {
+        if (index > 0 && internalList.get(index - 1).compareTo(editedItem) > 0) {
+            return upperBound(editedItem, 0, index);
+        }
+        if (index < internalList.size() - 1 && internalList.get(index + 1).compareTo(editedItem) < 0) {
+            // The edited item moves right, so every index after the old position shifts left by one.
+            return lowerBound(editedItem, index + 1, internalList.size()) - 1;
+        }
+        return index;
+    }
+
+    /**
+     * Returns the first index in {@code [from, to)} whose item is not less than {@code item}.
+     */
+    private int lowerBound(T item, int from, int to) {
+        int low = from;
+        int high = to;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (internalList.get(mid).compareTo(item) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the first index in {@code [from, to)} whose item is greater than {@code item}.
+     */
+    private int upperBound(T item, int from, int to) {
+        int low = from;
+        int high = to;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (internalList.get(mid).compareTo(item) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the item in the list whose {@code identityOf(T)} key is {@code identity}, or null if there is none.
+     */
+    protected T getByIdentity(Object identity) {
+        return itemsByIdentity.get(identity);
     }
 
     /**
      * Defines a notion of equality for two items in the list.
      * This method can be overridden to define a weaker or stronger notion of equality.
+     * Subclasses that override this method must also override {@code identityOf(T)} consistently.
      */
     protected boolean isSameItem(T item1, T item2) {
         return item1.equals(item2);
     };
 
+    /**
+     * Returns the key used to index {@code item} in the list.
+     * Two items must have equal keys if and only if {@code isSameItem(T, T)} returns true for them.
+     * Defaults to the item itself, which is consistent with the default {@code isSameItem(T, T)}.
+     */
+    protected Object identityOf(T item) {
+        return item;
+    }
+
     /**
      * Returns a generic DuplicateItemException.
      * This method can be overridden to return a custom exception.
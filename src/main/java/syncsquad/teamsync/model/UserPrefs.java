@@ -1,10 +1,13 @@
 package syncsquad.teamsync.model;
 
 import static java.util.Objects.requireNonNull;
+import static syncsquad.teamsync.commons.util.AppUtil.checkArgument;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.LocalDate;
 import java.util.Objects;
+import java.util.Optional;
 
 import syncsquad.teamsync.commons.core.GuiSettings;
 
@@ -13,8 +16,12 @@ import syncsquad.teamsync.commons.core.GuiSettings;
  */
 public class UserPrefs implements ReadOnlyUserPrefs {
 
+    public static final int DEFAULT_UNDO_LIMIT = 100;
+
     private GuiSettings guiSettings = new GuiSettings();
     private Path addressBookFilePath = Paths.get("data" , "teamsync.json");
+    private LocalDate semesterStart;
+    private int undoLimit = DEFAULT_UNDO_LIMIT;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +43,8 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setAddressBookFilePath(newUserPrefs.getAddressBookFilePath());
+        setSemesterStart(newUserPrefs.getSemesterStart().orElse(null));
+        setUndoLimit(newUserPrefs.getUndoLimit());
     }
 
     public GuiSettings getGuiSettings() {
@@ -56,6 +65,29 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.addressBookFilePath = addressBookFilePath;
     }
 
+    public Optional<LocalDate> getSemesterStart() {
+        return Optional.ofNullable(semesterStart);
+    }
+
+    /**
+     * Sets the date on which the semester starts, or clears it if {@code semesterStart} is null.
+     */
+    public void setSemesterStart(LocalDate semesterStart) {
+        this.semesterStart = semesterStart;
+    }
+
+    public int getUndoLimit() {
+        return undoLimit;
+    }
+
+    /**
+     * Sets the number of changes to the address book that can be undone, which must not be negative.
+     */
+    public void setUndoLimit(int undoLimit) {
+        checkArgument(undoLimit >= 0, "The undo limit must not be negative");
+        this.undoLimit = undoLimit;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -69,12 +101,14 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
         UserPrefs otherUserPrefs = (UserPrefs) other;
         return guiSettings.equals(otherUserPrefs.guiSettings)
-                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath);
+                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath)
+                && Objects.equals(semesterStart, otherUserPrefs.semesterStart)
+                && undoLimit == otherUserPrefs.undoLimit;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, semesterStart, undoLimit);
     }
 
     @Override
@@ -82,6 +116,8 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + addressBookFilePath);
+        sb.append("\nSemester start : " + semesterStart);
+        sb.append("\nUndo limit : " + undoLimit);
         return sb.toString();
     }
 
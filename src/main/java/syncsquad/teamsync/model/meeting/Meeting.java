@@ -1,39 +1,111 @@
 package syncsquad.teamsync.model.meeting;
 
+import static java.util.Objects.requireNonNull;
+import static syncsquad.teamsync.commons.util.AppUtil.checkArgument;
 import static syncsquad.teamsync.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.time.LocalDate;
-import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 
+import syncsquad.teamsync.commons.util.SortedArraySet;
 import syncsquad.teamsync.commons.util.ToStringBuilder;
+import syncsquad.teamsync.model.module.Module;
+import syncsquad.teamsync.model.module.TeachingWeeks;
+import syncsquad.teamsync.model.person.Email;
 
 /**
  * Represents a Meeting in the address book.
  * Guarantees: details are present and not null, field values are validated, immutable.
+ *
+ * Times are kept to the minute. Besides its date and times, a meeting keeps its start and end as minutes since the
+ * epoch, which comparisons and overlap checks use instead of the {@code java.time} objects.
+ *
+ * Attendees are referred to by their email, which identifies a person as in {@code Person#isSamePerson(Person)}.
+ * A meeting without attendees is a meeting of the whole team.
+ *
+ * A meeting may repeat according to a {@link Recurrence}, in which case it stands for the whole series and its date
+ * is that of the first occurrence. Occurrences are only created for the dates asked for, by
+ * {@link #getOccurrences(LocalDate, LocalDate)}, and overlaps between series are found from their rules.
  */
 public class Meeting implements Comparable<Meeting> {
+    public static final int MINUTES_PER_DAY = 24 * 60;
+
     public static final String MESSAGE_CONSTRAINTS =
             "Meeting time should be given in the following format: dd-mm-yyyy HH:mm HH:mm";
 
     public static final DateTimeFormatter DATE_TO_STRING_FORMATTER = DateTimeFormatter.ofPattern("dd-MM-yyyy");
     public static final DateTimeFormatter TIME_TO_STRING_FORMATTER = DateTimeFormatter.ofPattern("HH:mm");
 
+    private static final Comparator<Email> ATTENDEE_ORDER = (email, otherEmail) ->
+            email.value.compareToIgnoreCase(otherEmail.value);
+
     private final LocalDate date;
     private final LocalTime startTime;
     private final LocalTime endTime;
+    private final long startEpochMinute;
+    private final long endEpochMinute;
+    private final SortedArraySet<Email> attendees;
+    private final Recurrence recurrence;
+    private final long lastEpochDay;
 
     /**
-     * Creates a Meeting with the specified date, start time and end time.
+     * Creates a Meeting of the whole team with the specified date, start time and end time.
      * Every field must be present and not null.
      */
     public Meeting(LocalDate date, LocalTime startTime, LocalTime endTime) {
-        requireAllNonNull(date, startTime, endTime);
+        this(date, startTime, endTime, Set.of());
+    }
+
+    /**
+     * Creates a Meeting with the specified date, start time, end time and the emails of its attendees.
+     * Every field must be present and not null.
+     */
+    public Meeting(LocalDate date, LocalTime startTime, LocalTime endTime, Set<Email> attendees) {
+        this(date, startTime, endTime, attendees, Optional.empty());
+    }
+
+    /**
+     * Creates a series of meetings that first takes place on {@code date} and then repeats as given by
+     * {@code recurrence}. The recurrence must not end before {@code date}.
+     * Every field must be present and not null.
+     */
+    public Meeting(LocalDate date, LocalTime startTime, LocalTime endTime, Set<Email> attendees,
+                   Recurrence recurrence) {
+        this(date, startTime, endTime, attendees, Optional.of(recurrence));
+    }
+
+    private Meeting(LocalDate date, LocalTime startTime, LocalTime endTime, Set<Email> attendees,
+                    Optional<Recurrence> recurrence) {
+        requireAllNonNull(date, startTime, endTime, attendees, recurrence);
+        checkArgument(recurrence.map(rule -> !rule.getUntil().isBefore(date)).orElse(true),
+                Recurrence.MESSAGE_CONSTRAINTS);
         this.date = date;
-        this.startTime = startTime;
-        this.endTime = endTime;
+        this.startTime = startTime.truncatedTo(ChronoUnit.MINUTES);
+        this.endTime = endTime.truncatedTo(ChronoUnit.MINUTES);
+        long epochDayMinute = date.toEpochDay() * MINUTES_PER_DAY;
+        this.startEpochMinute = epochDayMinute + this.startTime.toSecondOfDay() / 60;
+        this.endEpochMinute = epochDayMinute + this.endTime.toSecondOfDay() / 60;
+        this.attendees = SortedArraySet.copyOf(attendees, ATTENDEE_ORDER);
+        this.recurrence = recurrence.orElse(null);
+        long firstEpochDay = date.toEpochDay();
+        this.lastEpochDay = this.recurrence == null ? firstEpochDay
+                : firstEpochDay + (this.recurrence.getUntil().toEpochDay() - firstEpochDay)
+                        / getIntervalDays() * getIntervalDays();
+    }
+
+    /**
+     * Returns a meeting with the same date, times and recurrence as this one, attended by {@code attendees}.
+     */
+    public Meeting withAttendees(Set<Email> attendees) {
+        return new Meeting(date, startTime, endTime, attendees, Optional.ofNullable(recurrence));
     }
 
     public String getDay() {
@@ -100,15 +172,201 @@ public class Meeting implements Comparable<Meeting> {
     }
 
     /**
-     * Returns true if both meetings overlap in terms of timing.
+     * Returns the start of the meeting, in minutes since the start of 1970-01-01.
+     */
+    public long getStartEpochMinute() {
+        return this.startEpochMinute;
+    }
+
+    /**
+     * Returns the end of the meeting, in minutes since the start of 1970-01-01.
+     */
+    public long getEndEpochMinute() {
+        return this.endEpochMinute;
+    }
+
+    /**
+     * Returns the start time of the meeting, in minutes since midnight.
+     */
+    public int getStartMinuteOfDay() {
+        return (int) Math.floorMod(startEpochMinute, MINUTES_PER_DAY);
+    }
+
+    /**
+     * Returns the end time of the meeting, in minutes since midnight.
+     */
+    public int getEndMinuteOfDay() {
+        return (int) Math.floorMod(endEpochMinute, MINUTES_PER_DAY);
+    }
+
+    /**
+     * Returns an immutable set of the emails of the attendees, which throws
+     * {@code UnsupportedOperationException}
+     * if modification is attempted.
+     */
+    public Set<Email> getAttendees() {
+        return attendees;
+    }
+
+    /**
+     * Returns how the meeting repeats, or an empty {@code Optional} if it takes place only once.
+     */
+    public Optional<Recurrence> getRecurrence() {
+        return Optional.ofNullable(recurrence);
+    }
+
+    public boolean isRecurring() {
+        return recurrence != null;
+    }
+
+    /**
+     * Returns the date of the last occurrence of the meeting, which is its date if it does not repeat.
+     */
+    public LocalDate getLastDate() {
+        return LocalDate.ofEpochDay(lastEpochDay);
+    }
+
+    /**
+     * Returns true if the meeting, or an occurrence of it, takes place on {@code date}.
+     */
+    public boolean occursOn(LocalDate date) {
+        requireNonNull(date);
+        long epochDay = date.toEpochDay();
+        long firstEpochDay = this.date.toEpochDay();
+        return epochDay >= firstEpochDay && epochDay <= lastEpochDay
+                && (epochDay - firstEpochDay) % getIntervalDays() == 0;
+    }
+
+    /**
+     * Returns the occurrences of the meeting that take place from {@code from} up to but excluding {@code to},
+     * sorted by date. Each occurrence is a meeting that does not repeat, with the times and attendees of this one.
+     * Only the occurrences in the range are created, so a long series costs no more than a short one.
+     */
+    public List<Meeting> getOccurrences(LocalDate from, LocalDate to) {
+        requireAllNonNull(from, to);
+        long firstEpochDay = date.toEpochDay();
+        long intervalDays = getIntervalDays();
+        long endEpochDay = Math.min(to.toEpochDay() - 1, lastEpochDay);
+        // The first occurrence on or after from, found without stepping through the earlier occurrences.
+        long epochDay = firstEpochDay + Math.max(0, ceilDiv(from.toEpochDay() - firstEpochDay, intervalDays))
+                * intervalDays;
+        List<Meeting> occurrences = new ArrayList<>();
+        for (; epochDay <= endEpochDay; epochDay += intervalDays) {
+            occurrences.add(occurrenceOn(LocalDate.ofEpochDay(epochDay)));
+        }
+        return occurrences;
+    }
+
+    /**
+     * Returns the occurrence of the meeting on {@code date}, which must be a date it {@link #occursOn(LocalDate)}.
+     */
+    Meeting occurrenceOn(LocalDate date) {
+        assert occursOn(date);
+        return recurrence == null ? this : new Meeting(date, startTime, endTime, attendees);
+    }
+
+    /**
+     * Returns true if both meetings have the same date, start time and end time.
+     * This defines a weaker notion of equality between two meetings.
+     */
+    public boolean isSameMeeting(Meeting otherMeeting) {
+        if (otherMeeting == this) {
+            return true;
+        }
+
+        return otherMeeting != null
+                && otherMeeting.startEpochMinute == startEpochMinute
+                && otherMeeting.endEpochMinute == endEpochMinute;
+    }
+
+    /**
+     * Returns true if the meeting overlaps in terms of timing with a weekly occurrence of {@code module}.
+     * Both start and end time are considered to be non-inclusive, as in {@link #isOverlapping(Meeting)}.
+     */
+    public boolean isOverlapping(Module module) {
+        int startOfDay = date.getDayOfWeek().ordinal() * MINUTES_PER_DAY;
+        return startOfDay + getEndMinuteOfDay() > module.getStartMinuteOfWeek()
+                && startOfDay + getStartMinuteOfDay() < module.getEndMinuteOfWeek();
+    }
+
+    /**
+     * Returns true if an occurrence of the meeting overlaps in terms of timing with {@code module} in a teaching week
+     * in which the module is held, for a semester starting on {@code semesterStart}.
+     * Only the weeks in which the module is held are looked at, each with a bit test and {@link #occursOn(LocalDate)}.
+     */
+    public boolean isOverlapping(Module module, LocalDate semesterStart) {
+        requireAllNonNull(module, semesterStart);
+        if (!isOverlapping(module)) {
+            return false;
+        }
+        TeachingWeeks teachingWeeks = module.getTeachingWeeks();
+        if (teachingWeeks.isEveryWeek()) {
+            return true;
+        }
+        LocalDate dayInFirstWeek = TeachingWeeks.firstMondayOf(semesterStart)
+                .plusDays(date.getDayOfWeek().ordinal());
+        for (int week = 1; week <= TeachingWeeks.MAX_WEEK; week++) {
+            if (teachingWeeks.contains(week) && occursOn(dayInFirstWeek.plusWeeks(week - 1))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns true if both meetings overlap in terms of timing, i.e. if an occurrence of one overlaps an occurrence
+     * of the other on the same date.
      * Both start and end time are considered to be non-inclusive,
      * i.e. endTime of 12pm and startTime of 12pm of another meeting is allowed.
      */
     public boolean isOverlapping(Meeting otherMeeting) {
-        boolean timeOverlap = this.getEndTime().isAfter(otherMeeting.getStartTime())
-                && this.getStartTime().isBefore(otherMeeting.getEndTime());
-        boolean dateOverlap = this.getDate().equals(otherMeeting.getDate());
-        return timeOverlap && dateOverlap;
+        boolean timeOverlap = this.getEndMinuteOfDay() > otherMeeting.getStartMinuteOfDay()
+                && this.getStartMinuteOfDay() < otherMeeting.getEndMinuteOfDay();
+        return timeOverlap && hasCommonDate(otherMeeting);
+    }
+
+    /**
+     * Returns true if the meetings take place on a common date.
+     * The dates of a meeting are its first date plus a multiple of its interval, so this solves the two
+     * congruences for the earliest common date instead of comparing the occurrences one by one.
+     */
+    private boolean hasCommonDate(Meeting otherMeeting) {
+        long first = date.toEpochDay();
+        long otherFirst = otherMeeting.date.toEpochDay();
+        long interval = getIntervalDays();
+        long otherInterval = otherMeeting.getIntervalDays();
+        long from = Math.max(first, otherFirst);
+        long to = Math.min(lastEpochDay, otherMeeting.lastEpochDay);
+        if (from > to) {
+            return false;
+        }
+        // The dates of this meeting repeat after lcm(interval, otherInterval) days, which takes at most
+        // otherInterval / gcd(interval, otherInterval) of its occurrences, so only those are tried.
+        long commonInterval = interval / gcd(interval, otherInterval) * otherInterval;
+        for (long candidate = first; candidate < first + commonInterval; candidate += interval) {
+            if (Math.floorMod(candidate - otherFirst, otherInterval) == 0) {
+                long commonDate = candidate < from ? candidate + ceilDiv(from - candidate, commonInterval)
+                        * commonInterval : candidate;
+                return commonDate <= to;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the number of days between occurrences of the meeting.
+     * A meeting that does not repeat is treated as a weekly meeting that has a single occurrence.
+     */
+    private int getIntervalDays() {
+        return recurrence == null ? Recurrence.DAYS_PER_WEEK : recurrence.getIntervalDays();
+    }
+
+    private static long gcd(long a, long b) {
+        return b == 0 ? a : gcd(b, a % b);
+    }
+
+    private static long ceilDiv(long dividend, long divisor) {
+        return Math.floorDiv(dividend + divisor - 1, divisor);
     }
 
     @Override
@@ -123,8 +381,8 @@ public class Meeting implements Comparable<Meeting> {
         }
 
         Meeting otherMeeting = (Meeting) other;
-        return date.equals(otherMeeting.date) && startTime.equals(otherMeeting.startTime)
-                && endTime.equals(otherMeeting.endTime);
+        return startEpochMinute == otherMeeting.startEpochMinute && endEpochMinute == otherMeeting.endEpochMinute
+                && attendees.equals(otherMeeting.attendees) && Objects.equals(recurrence, otherMeeting.recurrence);
     }
 
     @Override
@@ -138,6 +396,8 @@ public class Meeting implements Comparable<Meeting> {
                 .add("date", date)
                 .add("startTime", startTime)
                 .add("endTime", endTime)
+                .add("attendees", attendees)
+                .add("recurrence", recurrence)
                 .toString();
     }
 
@@ -147,8 +407,6 @@ public class Meeting implements Comparable<Meeting> {
             throw new NullPointerException();
         }
 
-        LocalDateTime dateTime = LocalDateTime.of(this.date, this.startTime);
-        LocalDateTime otherDateTime = LocalDateTime.of(other.date, other.startTime);
-        return dateTime.compareTo(otherDateTime);
+        return Long.compare(this.startEpochMinute, other.startEpochMinute);
     }
 }
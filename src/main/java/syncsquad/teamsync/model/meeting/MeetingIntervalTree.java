@@ -0,0 +1,218 @@
+package syncsquad.teamsync.model.meeting;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * An interval tree of the meetings held on a single date, keyed by their start and end times.
+ *
+ * The tree is a balanced (AVL) binary search tree in which every node also records the latest end time in its
+ * subtree, so finding the meetings that overlap a time period takes {@code O(log n + k)} time, where {@code k}
+ * is the number of overlapping meetings. Overlaps are non-inclusive, as in {@code Meeting#isOverlapping(Meeting)}.
+ * Times are compared as the epoch minutes of the meetings.
+ */
+class MeetingIntervalTree {
+
+    private Node root;
+    private int size;
+
+    /**
+     * Adds a meeting to the tree.
+     * The tree must not already contain a meeting with the same start and end time.
+     */
+    void add(Meeting meeting) {
+        requireNonNull(meeting);
+        root = insert(root, meeting);
+        size++;
+    }
+
+    /**
+     * Removes the meeting with the same start and end time as {@code meeting} from the tree, if there is one.
+     */
+    void remove(Meeting meeting) {
+        requireNonNull(meeting);
+        root = delete(root, meeting);
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns true if any meeting in the tree overlaps in time with {@code meeting}.
+     */
+    boolean hasOverlap(Meeting meeting) {
+        requireNonNull(meeting);
+        return findOverlap(root, meeting.getStartEpochMinute(), meeting.getEndEpochMinute()) != null;
+    }
+
+    /**
+     * Returns the meetings in the tree that overlap in time with {@code meeting}, sorted by start time.
+     */
+    List<Meeting> getOverlapping(Meeting meeting) {
+        requireNonNull(meeting);
+        List<Meeting> overlapping = new ArrayList<>();
+        collectOverlaps(root, meeting.getStartEpochMinute(), meeting.getEndEpochMinute(), overlapping);
+        return overlapping;
+    }
+
+    private static Node findOverlap(Node node, long start, long end) {
+        // No meeting in this subtree ends after the start of the period.
+        if (node == null || node.maxEndMinute <= start) {
+            return null;
+        }
+        Node overlap = findOverlap(node.left, start, end);
+        if (overlap != null) {
+            return overlap;
+        }
+        // Meetings at or to the right of this node start no earlier than it does.
+        if (node.meeting.getStartEpochMinute() >= end) {
+            return null;
+        }
+        if (node.meeting.getEndEpochMinute() > start) {
+            return node;
+        }
+        return findOverlap(node.right, start, end);
+    }
+
+    private static void collectOverlaps(Node node, long start, long end, List<Meeting> overlapping) {
+        if (node == null || node.maxEndMinute <= start) {
+            return;
+        }
+        collectOverlaps(node.left, start, end, overlapping);
+        if (node.meeting.getStartEpochMinute() >= end) {
+            return;
+        }
+        if (node.meeting.getEndEpochMinute() > start) {
+            overlapping.add(node.meeting);
+        }
+        collectOverlaps(node.right, start, end, overlapping);
+    }
+
+    private static Node insert(Node node, Meeting meeting) {
+        if (node == null) {
+            return new Node(meeting);
+        }
+        int comparison = compareTimes(meeting, node.meeting);
+        assert comparison != 0 : "Meetings on the same date must have distinct times";
+        if (comparison < 0) {
+            node.left = insert(node.left, meeting);
+        } else {
+            node.right = insert(node.right, meeting);
+        }
+        return rebalance(node);
+    }
+
+    private Node delete(Node node, Meeting meeting) {
+        if (node == null) {
+            return null;
+        }
+        int comparison = compareTimes(meeting, node.meeting);
+        if (comparison < 0) {
+            node.left = delete(node.left, meeting);
+        } else if (comparison > 0) {
+            node.right = delete(node.right, meeting);
+        } else {
+            size--;
+            if (node.left == null) {
+                return node.right;
+            }
+            if (node.right == null) {
+                return node.left;
+            }
+            Node successor = node.right;
+            while (successor.left != null) {
+                successor = successor.left;
+            }
+            node.meeting = successor.meeting;
+            node.right = deleteFirst(node.right);
+        }
+        return rebalance(node);
+    }
+
+    /**
+     * Removes the node with the earliest meeting from the subtree rooted at {@code node}.
+     */
+    private static Node deleteFirst(Node node) {
+        if (node.left == null) {
+            return node.right;
+        }
+        node.left = deleteFirst(node.left);
+        return rebalance(node);
+    }
+
+    private static Node rebalance(Node node) {
+        node.update();
+        int balance = height(node.left) - height(node.right);
+        if (balance > 1) {
+            if (height(node.left.left) < height(node.left.right)) {
+                node.left = rotateLeft(node.left);
+            }
+            return rotateRight(node);
+        }
+        if (balance < -1) {
+            if (height(node.right.right) < height(node.right.left)) {
+                node.right = rotateRight(node.right);
+            }
+            return rotateLeft(node);
+        }
+        return node;
+    }
+
+    private static Node rotateLeft(Node node) {
+        Node pivot = node.right;
+        node.right = pivot.left;
+        pivot.left = node;
+        node.update();
+        pivot.update();
+        return pivot;
+    }
+
+    private static Node rotateRight(Node node) {
+        Node pivot = node.left;
+        node.left = pivot.right;
+        pivot.right = node;
+        node.update();
+        pivot.update();
+        return pivot;
+    }
+
+    private static int compareTimes(Meeting meeting, Meeting otherMeeting) {
+        int comparison = Long.compare(meeting.getStartEpochMinute(), otherMeeting.getStartEpochMinute());
+        return comparison != 0 ? comparison
+                : Long.compare(meeting.getEndEpochMinute(), otherMeeting.getEndEpochMinute());
+    }
+
+    private static int height(Node node) {
+        return node == null ? 0 : node.height;
+    }
+
+    /**
+     * A node of the tree, which records the height of and the latest end time in its subtree.
+     */
+    private static class Node {
+        private Meeting meeting;
+        private Node left;
+        private Node right;
+        private int height;
+        private long maxEndMinute;
+
+        Node(Meeting meeting) {
+            this.meeting = meeting;
+            update();
+        }
+
+        void update() {
+            height = 1 + Math.max(height(left), height(right));
+            maxEndMinute = meeting.getEndEpochMinute();
+            if (left != null && left.maxEndMinute > maxEndMinute) {
+                maxEndMinute = left.maxEndMinute;
+            }
+            if (right != null && right.maxEndMinute > maxEndMinute) {
+                maxEndMinute = right.maxEndMinute;
+            }
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package syncsquad.teamsync.model.meeting;
+
+import static java.util.Objects.requireNonNull;
+import static syncsquad.teamsync.commons.util.AppUtil.checkArgument;
+
+import java.time.LocalDate;
+
+import syncsquad.teamsync.commons.util.ToStringBuilder;
+
+/**
+ * Represents how a meeting repeats: every given number of weeks, up to and including a date.
+ * Guarantees: immutable; is valid as declared in {@link #isValidIntervalWeeks(int)}
+ */
+public class Recurrence {
+
+    public static final int DAYS_PER_WEEK = 7;
+    public static final int MAX_INTERVAL_WEEKS = 52;
+
+    public static final String MESSAGE_CONSTRAINTS =
+            "A meeting should repeat every 1 to " + MAX_INTERVAL_WEEKS + " weeks, "
+            + "until a date that is not before its first date";
+
+    private final int intervalWeeks;
+    private final LocalDate until;
+
+    /**
+     * Constructs a {@code Recurrence}.
+     *
+     * @param intervalWeeks The number of weeks between occurrences.
+     * @param until The last date on which the meeting may take place.
+     */
+    public Recurrence(int intervalWeeks, LocalDate until) {
+        requireNonNull(until);
+        checkArgument(isValidIntervalWeeks(intervalWeeks), MESSAGE_CONSTRAINTS);
+        this.intervalWeeks = intervalWeeks;
+        this.until = until;
+    }
+
+    /**
+     * Returns true if a meeting may repeat every {@code intervalWeeks} weeks.
+     */
+    public static boolean isValidIntervalWeeks(int intervalWeeks) {
+        return intervalWeeks >= 1 && intervalWeeks <= MAX_INTERVAL_WEEKS;
+    }
+
+    public int getIntervalWeeks() {
+        return intervalWeeks;
+    }
+
+    /**
+     * Returns the number of days between occurrences.
+     */
+    public int getIntervalDays() {
+        return intervalWeeks * DAYS_PER_WEEK;
+    }
+
+    public LocalDate getUntil() {
+        return until;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof Recurrence)) {
+            return false;
+        }
+
+        Recurrence otherRecurrence = (Recurrence) other;
+        return intervalWeeks == otherRecurrence.intervalWeeks && until.equals(otherRecurrence.until);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * intervalWeeks + until.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("intervalWeeks", intervalWeeks)
+                .add("until", until)
+                .toString();
+    }
+}
@@ -1,8 +1,15 @@
 package syncsquad.teamsync.model.meeting;
 
 import static java.util.Objects.requireNonNull;
+import static syncsquad.teamsync.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
@@ -15,25 +22,191 @@ import syncsquad.teamsync.model.meeting.exceptions.MeetingNotFoundException;
 
 /**
  * A list of meetings that enforces uniqueness between its elements and does not allow nulls.
- * A meeting is considered unique by comparing using {@code Meeting#equals(Object)}. As such, adding and updating of
- * meetings uses {@code Meeting#equals(Object)} for equality so as to ensure that the meeting being added or updated is
- * unique in terms of identity in the UniqueMeetingList.
+ * A meeting is considered unique by comparing using {@code Meeting#isSameMeeting(Meeting)}. As such, adding and
+ * updating of meetings uses {@code Meeting#isSameMeeting(Meeting)} for equality so as to ensure that the meeting being
+ * added or updated is unique in terms of identity in the UniqueMeetingList. However, the removal of a meeting uses
+ * {@code Meeting#equals(Object)} so as to ensure that the meeting with exactly the same details will be removed.
  *
  * Additionally, it is guaranteed that all meetings in the list are in sorted order, in their natural ordering
  * defined in {@code Meeting#compareTo(Meeting)}.
  *
+ * Meetings that do not repeat are also indexed by date in an interval tree per date, so overlap checks take
+ * {@code O(log n + k)} time instead of a scan over every meeting. Recurring meetings are kept apart as series and
+ * compared by their rules, so a series is checked once rather than once per occurrence.
+ *
  * Supports a minimal set of list operations.
  *
- * @see Meeting#equals(Object)
+ * @see Meeting#isSameMeeting(Meeting)
  */
 public class UniqueMeetingList extends UniqueItemList<Meeting> {
 
+    private final TreeMap<LocalDate, MeetingIntervalTree> meetingsByDate = new TreeMap<>();
+    private final List<Meeting> series = new ArrayList<>();
+
+    @Override
+    public void add(Meeting toAdd) {
+        super.add(toAdd);
+        index(toAdd);
+    }
+
+    @Override
+    public void setItem(Meeting target, Meeting editedMeeting) {
+        super.setItem(target, editedMeeting);
+        unindex(target);
+        index(editedMeeting);
+    }
+
+    @Override
+    public void remove(Meeting toRemove) {
+        super.remove(toRemove);
+        unindex(toRemove);
+    }
+
+    @Override
+    public void setItems(UniqueItemList<Meeting> replacement) {
+        super.setItems(replacement);
+        reindex();
+    }
+
+    @Override
+    public void setItems(List<Meeting> meetings) {
+        super.setItems(meetings);
+        reindex();
+    }
+
     /**
      * Returns true if the list contains a meeting that overlaps in date and time with the given argument.
      */
     public boolean hasOverlap(Meeting toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isOverlapping);
+        return series.stream().anyMatch(toCheck::isOverlapping) || !getOverlappingOneOffs(toCheck, true).isEmpty();
+    }
+
+    /**
+     * Returns the meetings in the list that overlap in date and time with the given argument, sorted by start time.
+     * A recurring meeting is returned as a whole series if any of its occurrences overlaps.
+     */
+    public List<Meeting> getOverlapping(Meeting toCheck) {
+        requireNonNull(toCheck);
+        List<Meeting> overlapping = new ArrayList<>(getOverlappingOneOffs(toCheck, false));
+        series.stream().filter(toCheck::isOverlapping).forEach(overlapping::add);
+        Collections.sort(overlapping);
+        return overlapping;
+    }
+
+    /**
+     * Returns the meetings in the list that do not repeat and overlap an occurrence of {@code toCheck}.
+     * Only the dates on which such meetings take place are visited, and an occurrence of {@code toCheck} is only
+     * created for those of them on which it takes place.
+     *
+     * @param firstOnly whether to stop at the first date with an overlapping meeting.
+     */
+    private List<Meeting> getOverlappingOneOffs(Meeting toCheck, boolean firstOnly) {
+        List<Meeting> overlapping = new ArrayList<>();
+        for (Map.Entry<LocalDate, MeetingIntervalTree> entry
+                : meetingsByDate.subMap(toCheck.getDate(), true, toCheck.getLastDate(), true).entrySet()) {
+            if (!toCheck.occursOn(entry.getKey())) {
+                continue;
+            }
+            overlapping.addAll(entry.getValue().getOverlapping(toCheck.occurrenceOn(entry.getKey())));
+            if (firstOnly && !overlapping.isEmpty()) {
+                break;
+            }
+        }
+        return overlapping;
+    }
+
+    /**
+     * Returns true if any two meetings in the list overlap in date and time.
+     * As the list is sorted by date and start time, a meeting that does not repeat overlaps an earlier such meeting
+     * exactly when it starts before the latest end of the earlier ones, which is the same max-end pruning as in
+     * {@link MeetingIntervalTree}. It need not overlap the meeting just before it, which may end earlier. Each
+     * series is then compared with the meetings that do not repeat and with the other series.
+     */
+    public boolean hasOverlappingMeetings() {
+        long latestEndMinute = Long.MIN_VALUE;
+        for (Meeting meeting : internalList) {
+            if (meeting.isRecurring()) {
+                continue;
+            }
+            if (meeting.getStartEpochMinute() < latestEndMinute) {
+                return true;
+            }
+            latestEndMinute = Math.max(latestEndMinute, meeting.getEndEpochMinute());
+        }
+        for (int i = 0; i < series.size(); i++) {
+            if (!getOverlappingOneOffs(series.get(i), true).isEmpty()) {
+                return true;
+            }
+            for (int j = i + 1; j < series.size(); j++) {
+                if (series.get(i).isOverlapping(series.get(j))) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the occurrences of the meetings in the list that take place from {@code from} up to but excluding
+     * {@code to}, sorted by start time. Recurring meetings are only expanded within the range.
+     */
+    public List<Meeting> getOccurrences(LocalDate from, LocalDate to) {
+        return getOccurrences(internalList, series, from, to);
+    }
+
+    /**
+     * Returns the occurrences of {@code meetings} that take place from {@code from} up to but excluding {@code to},
+     * sorted by start time, as {@link #getOccurrences(LocalDate, LocalDate)} does for a list holding them, e.g. for
+     * a snapshot of the list. {@code meetings} must be sorted as in a list, and {@code series} must be its recurring
+     * meetings, as returned by {@link #getSeries()}.
+     */
+    public static List<Meeting> getOccurrences(List<Meeting> meetings, List<Meeting> series,
+            LocalDate from, LocalDate to) {
+        requireAllNonNull(meetings, series, from, to);
+        List<Meeting> occurrences = new ArrayList<>();
+        long fromMinute = from.toEpochDay() * Meeting.MINUTES_PER_DAY;
+        long toMinute = to.toEpochDay() * Meeting.MINUTES_PER_DAY;
+        for (int i = firstStartingAtOrAfter(meetings, fromMinute); i < meetings.size(); i++) {
+            Meeting meeting = meetings.get(i);
+            if (meeting.getStartEpochMinute() >= toMinute) {
+                break;
+            }
+            if (!meeting.isRecurring()) {
+                occurrences.add(meeting);
+            }
+        }
+        for (Meeting meeting : series) {
+            occurrences.addAll(meeting.getOccurrences(from, to));
+        }
+        Collections.sort(occurrences);
+        return occurrences;
+    }
+
+    /**
+     * Returns the recurring meetings in the list, in the order they were added, as an immutable list.
+     * This takes time proportional to the number of recurring meetings only.
+     */
+    public List<Meeting> getSeries() {
+        return List.copyOf(series);
+    }
+
+    /**
+     * Returns the index of the first meeting in the sorted {@code meetings} that starts at or after
+     * {@code epochMinute}.
+     */
+    private static int firstStartingAtOrAfter(List<Meeting> meetings, long epochMinute) {
+        int low = 0;
+        int high = meetings.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (meetings.get(middle).getStartEpochMinute() < epochMinute) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
     }
 
     /**
@@ -54,6 +227,49 @@ public class UniqueMeetingList extends UniqueItemList<Meeting> {
                 .collect(Collectors.joining("\n"));
     }
 
+    private void index(Meeting meeting) {
+        if (meeting.isRecurring()) {
+            series.add(meeting);
+            return;
+        }
+        meetingsByDate.computeIfAbsent(meeting.getDate(), date -> new MeetingIntervalTree()).add(meeting);
+    }
+
+    private void unindex(Meeting meeting) {
+        if (meeting.isRecurring()) {
+            series.remove(meeting);
+            return;
+        }
+        MeetingIntervalTree meetingsOnDate = meetingsByDate.get(meeting.getDate());
+        meetingsOnDate.remove(meeting);
+        if (meetingsOnDate.isEmpty()) {
+            meetingsByDate.remove(meeting.getDate());
+        }
+    }
+
+    private void reindex() {
+        meetingsByDate.clear();
+        series.clear();
+        internalList.forEach(this::index);
+    }
+
+    /**
+     * Use a Meeting specific notion of equality to enforce uniqueness
+     */
+    @Override
+    protected boolean isSameItem(Meeting item1, Meeting item2) {
+        return item1.isSameMeeting(item2);
+    }
+
+    /**
+     * Indexes meetings by their start and end, which are compared by {@code Meeting#isSameMeeting(Meeting)}.
+     * A meeting ends on the date it starts, so its start and end minute of day identify it.
+     */
+    @Override
+    protected Object identityOf(Meeting item) {
+        return item.getStartEpochMinute() * Meeting.MINUTES_PER_DAY + item.getEndMinuteOfDay();
+    }
+
     @Override
     protected DuplicateItemException duplicateItemException() {
         throw new DuplicateMeetingException();
@@ -3,28 +3,55 @@ package syncsquad.teamsync.model.module;
 import static java.util.Objects.requireNonNull;
 import static syncsquad.teamsync.commons.util.AppUtil.checkArgument;
 
+import java.time.DayOfWeek;
 import java.util.List;
 
 /**
  * Represents a Day of the week.
  * Guarantees: immutable; is valid as declared in {@link #isValidDay(String)}
+ *
+ * There is exactly one {@code Day} for each day of the week, obtained through {@link #of(String)} or
+ * {@link #of(DayOfWeek)}, so days can be compared by reference.
  */
 public class Day {
     public static final String MESSAGE_CONSTRAINTS =
             "Day should be first 3 letters of the day of week (case insensitive) "
             + "(e.g MON/TUE/sat)";
     public static final List<String> VALID_DAYS = List.of("MON", "TUE", "WED", "THU", "FRI", "SAT", "SUN");
+
+    private static final Day[] DAYS = new Day[VALID_DAYS.size()];
+
+    static {
+        for (DayOfWeek dayOfWeek : DayOfWeek.values()) {
+            DAYS[dayOfWeek.ordinal()] = new Day(dayOfWeek);
+        }
+    }
+
     public final String day;
+    private final DayOfWeek dayOfWeek;
+
+    private Day(DayOfWeek dayOfWeek) {
+        this.dayOfWeek = dayOfWeek;
+        this.day = VALID_DAYS.get(dayOfWeek.ordinal());
+    }
 
     /**
-     * Constructs a {@code Day}.
+     * Returns the {@code Day} with the given name.
      *
      * @param day A valid day of week.
      */
-    public Day(String day) {
+    public static Day of(String day) {
         requireNonNull(day);
         checkArgument(isValidDay(day), MESSAGE_CONSTRAINTS);
-        this.day = day.toUpperCase();
+        return DAYS[VALID_DAYS.indexOf(day.toUpperCase())];
+    }
+
+    /**
+     * Returns the {@code Day} for the given day of the week.
+     */
+    public static Day of(DayOfWeek dayOfWeek) {
+        requireNonNull(dayOfWeek);
+        return DAYS[dayOfWeek.ordinal()];
     }
 
     /**
@@ -34,6 +61,10 @@ public class Day {
         return VALID_DAYS.contains(test.toUpperCase());
     }
 
+    public DayOfWeek getDayOfWeek() {
+        return dayOfWeek;
+    }
+
     @Override
     public String toString() {
         return day;
@@ -41,17 +72,8 @@ public class Day {
 
     @Override
     public boolean equals(Object other) {
-        if (other == this) {
-            return true;
-        }
-
-        // instanceof handles nulls
-        if (!(other instanceof Day)) {
-            return false;
-        }
-
-        Day otherDay = (Day) other;
-        return day.equals(otherDay.day);
+        // There is only one instance of each day
+        return other == this;
     }
 
     @Override
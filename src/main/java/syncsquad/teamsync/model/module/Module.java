@@ -6,14 +6,22 @@ import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeFormatterBuilder;
 import java.time.format.ResolverStyle;
+import java.time.temporal.ChronoUnit;
 import java.util.Objects;
 import java.util.regex.Pattern;
 
 /**
  * Represents a Module of a Person.
  * Guarantees: details are present and not null, field values are validated, immutable.
+ *
+ * Times are kept to the minute. Besides its day and times, a module keeps its start and end as minutes since the
+ * start of the week, which comparisons and overlap checks use instead of the {@code java.time} objects.
+ *
+ * A module may only be held in some {@link TeachingWeeks} of the semester, which overlap checks also compare.
  */
 public class Module {
+    public static final int MINUTES_PER_DAY = 24 * 60;
+
     public static final DateTimeFormatter TIME_FORMATTER = new DateTimeFormatterBuilder()
         .append(DateTimeFormatter.ofPattern("H:mm"))
         .parseCaseInsensitive()
@@ -21,11 +29,12 @@ public class Module {
         .withResolverStyle(ResolverStyle.STRICT);
 
     public static final String MESSAGE_CONSTRAINTS = "Module should be in the format of "
-            + "<module code> <day> <start time> <end time>";
+            + "<module code> <day> <start time> <end time> [<teaching weeks>]";
     public static final Pattern VALIDATION_REGEX = Pattern.compile("(?<moduleCode>\\S+) "
             + "(?<day>\\S+) "
             + "(?<startTime>\\d{1,2}:\\d{2}) "
-            + "(?<endTime>\\d{1,2}:\\d{2})");
+            + "(?<endTime>\\d{1,2}:\\d{2})"
+            + "(?: (?<weeks>\\S+))?");
 
     // Identity fields
     private final ModuleCode moduleCode;
@@ -34,16 +43,34 @@ public class Module {
     private final Day day;
     private final LocalTime startTime;
     private final LocalTime endTime;
+    private final short startMinuteOfWeek;
+    private final short endMinuteOfWeek;
+    private final TeachingWeeks teachingWeeks;
 
     /**
+     * Creates a module that is held every week.
      * Every field must be present and not null.
      */
     public Module(ModuleCode moduleCode, Day day, LocalTime startTime, LocalTime endTime) {
-        requireAllNonNull(moduleCode, day, startTime, endTime);
+        this(moduleCode, day, startTime, endTime, TeachingWeeks.EVERY_WEEK);
+    }
+
+    /**
+     * Creates a module that is held in the given teaching weeks.
+     * Every field must be present and not null.
+     */
+    public Module(ModuleCode moduleCode, Day day, LocalTime startTime, LocalTime endTime,
+                  TeachingWeeks teachingWeeks) {
+        requireAllNonNull(moduleCode, day, startTime, endTime, teachingWeeks);
         this.moduleCode = moduleCode;
         this.day = day;
-        this.startTime = startTime;
-        this.endTime = endTime;
+        this.startTime = startTime.truncatedTo(ChronoUnit.MINUTES);
+        this.endTime = endTime.truncatedTo(ChronoUnit.MINUTES);
+        // A week has 10080 minutes, which fits in a short.
+        int startOfDay = day.getDayOfWeek().ordinal() * MINUTES_PER_DAY;
+        this.startMinuteOfWeek = (short) (startOfDay + this.startTime.toSecondOfDay() / 60);
+        this.endMinuteOfWeek = (short) (startOfDay + this.endTime.toSecondOfDay() / 60);
+        this.teachingWeeks = teachingWeeks;
     }
 
     public ModuleCode getModuleCode() {
@@ -62,6 +89,45 @@ public class Module {
         return this.endTime;
     }
 
+    /**
+     * Returns the start of the module, in minutes since the start of Monday.
+     */
+    public int getStartMinuteOfWeek() {
+        return this.startMinuteOfWeek;
+    }
+
+    /**
+     * Returns the end of the module, in minutes since the start of Monday.
+     */
+    public int getEndMinuteOfWeek() {
+        return this.endMinuteOfWeek;
+    }
+
+    /**
+     * Returns the start time of the module, in minutes since midnight.
+     */
+    public int getStartMinuteOfDay() {
+        return this.startMinuteOfWeek % MINUTES_PER_DAY;
+    }
+
+    /**
+     * Returns the end time of the module, in minutes since midnight.
+     */
+    public int getEndMinuteOfDay() {
+        return this.endMinuteOfWeek % MINUTES_PER_DAY;
+    }
+
+    public TeachingWeeks getTeachingWeeks() {
+        return this.teachingWeeks;
+    }
+
+    /**
+     * Returns true if the module is held in week {@code week} of the semester.
+     */
+    public boolean isHeldInWeek(int week) {
+        return teachingWeeks.contains(week);
+    }
+
     /**
      * Returns true if both modules have the same code.
      */
@@ -74,15 +140,15 @@ public class Module {
     }
 
     /**
-     * Returns true if both modules overlap in terms of timing.
+     * Returns true if both modules overlap in terms of timing in some week of the semester.
      * Both start and end time are considered to be non-inclusive,
      * i.e. endTime of 12pm and startTime of 12pm of another module is allowed.
      */
     public boolean isOverlapping(Module otherModule) {
-        boolean timeOverlap = this.getEndTime().isAfter(otherModule.getStartTime())
-                && this.getStartTime().isBefore(otherModule.getEndTime());
-        boolean dayOverlap = this.getDay().equals(otherModule.getDay());
-        return timeOverlap && dayOverlap;
+        boolean timeOverlap = this.endMinuteOfWeek > otherModule.startMinuteOfWeek
+                && this.startMinuteOfWeek < otherModule.endMinuteOfWeek;
+        boolean dayOverlap = this.day == otherModule.day;
+        return timeOverlap && dayOverlap && teachingWeeks.intersects(otherModule.teachingWeeks);
     }
 
     /**
@@ -102,30 +168,32 @@ public class Module {
 
         Module otherModule = (Module) other;
         return moduleCode.equals(otherModule.moduleCode)
-                && day.equals(otherModule.day)
-                && startTime.equals(otherModule.startTime)
-                && endTime.equals(otherModule.endTime);
+                && startMinuteOfWeek == otherModule.startMinuteOfWeek
+                && endMinuteOfWeek == otherModule.endMinuteOfWeek
+                && teachingWeeks.equals(otherModule.teachingWeeks);
     }
 
     @Override
     public int hashCode() {
         // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(moduleCode, day, startTime, endTime);
+        return Objects.hash(moduleCode, day, startTime, endTime, teachingWeeks);
     }
 
     @Override
     public String toString() {
-        return "[" + this.moduleCode + " - " + this.day + " " + this.startTime + " to " + this.endTime + "]";
+        return "[" + this.moduleCode + " - " + this.day + " " + this.startTime + " to " + this.endTime
+                + (teachingWeeks.isEveryWeek() ? "" : " in weeks " + teachingWeeks) + "]";
     }
 
     /**
      * Returns a addable string representation of the module
-     *  in the format of MODULE_CODE DAY START_TIME END_TIME
+     *  in the format of MODULE_CODE DAY START_TIME END_TIME [TEACHING_WEEKS]
      */
     public String toExportString() {
         return this.moduleCode + " "
                 + this.day + " "
                 + this.startTime.format(TIME_FORMATTER) + " "
-                + this.endTime.format(TIME_FORMATTER);
+                + this.endTime.format(TIME_FORMATTER)
+                + (teachingWeeks.isEveryWeek() ? "" : " " + teachingWeeks);
     }
 }
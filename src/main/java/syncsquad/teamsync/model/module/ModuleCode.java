@@ -3,6 +3,9 @@ package syncsquad.teamsync.model.module;
 import static java.util.Objects.requireNonNull;
 import static syncsquad.teamsync.commons.util.AppUtil.checkArgument;
 
+import syncsquad.teamsync.commons.util.CanonicalPool;
+import syncsquad.teamsync.commons.util.ValidationUtil;
+
 /**
  * Represents a Module's code.
  * Guarantees: immutable; is valid as declared in {@link #isValidModuleCode(String)}
@@ -14,24 +17,31 @@ public class ModuleCode {
             "Module codes should be alphabetical department tag (length 2-4)"
                     + " followed by 4-digit numeric code with optional last alphabet";
     public static final String VALIDATION_REGEX = "^[A-Za-z]{2,4}\\d{4}[A-Za-z]?$";
+    private static final CanonicalPool<ModuleCode> POOL = new CanonicalPool<>(ModuleCode::new);
+
     public final String code;
 
+    private ModuleCode(String code) {
+        this.code = code;
+    }
+
     /**
-     * Constructs a {@code ModuleCode}.
+     * Returns the {@code ModuleCode} for the given code.
+     * Module codes are case-insensitive, and equal module codes in use at the same time are the same instance.
      *
      * @param moduleCode A valid module code.
      */
-    public ModuleCode(String moduleCode) {
+    public static ModuleCode of(String moduleCode) {
         requireNonNull(moduleCode);
         checkArgument(isValidModuleCode(moduleCode), MESSAGE_CONSTRAINTS);
-        this.code = moduleCode.toUpperCase();
+        return POOL.get(moduleCode.toUpperCase());
     }
 
     /**
      * Returns true if a given string is a valid module code.
      */
     public static boolean isValidModuleCode(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return ValidationUtil.isModuleCode(test);
     }
 
     @Override
@@ -41,17 +51,8 @@ public class ModuleCode {
 
     @Override
     public boolean equals(Object other) {
-        if (other == this) {
-            return true;
-        }
-
-        // instanceof handles nulls
-        if (!(other instanceof ModuleCode)) {
-            return false;
-        }
-
-        ModuleCode otherModuleCode = (ModuleCode) other;
-        return code.equals(otherModuleCode.code);
+        // Equal module codes are the same instance
+        return other == this;
     }
 
     @Override
@@ -0,0 +1,206 @@
+package syncsquad.teamsync.model.module;
+
+import static java.util.Objects.requireNonNull;
+import static syncsquad.teamsync.commons.util.AppUtil.checkArgument;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+
+/**
+ * Represents the weeks of the semester in which a module is held, e.g. only the odd weeks for a lab.
+ * Guarantees: immutable; is valid as declared in {@link #isValidTeachingWeeks(String)}
+ *
+ * The weeks are numbered from 1, counting from the week in which the semester starts, and kept as the bits of
+ * an {@code int}, so checking a week or comparing the weeks of two modules takes a single bit operation.
+ * {@link #EVERY_WEEK} stands for a module that is held every week, including weeks outside the semester.
+ */
+public class TeachingWeeks {
+
+    public static final int MAX_WEEK = Integer.SIZE - 1;
+
+    public static final String MESSAGE_CONSTRAINTS = "Teaching weeks should be \"odd\", \"even\", or a "
+            + "comma-separated list of weeks and ranges of weeks from 1 to " + MAX_WEEK + ", e.g. 1-6,8,10-13";
+
+    /** A module that is held every week. */
+    public static final TeachingWeeks EVERY_WEEK = new TeachingWeeks(-1);
+
+    private static final String ODD = "odd";
+    private static final String EVEN = "even";
+    private static final int ODD_MASK = 0x55555555 & maskOfAllWeeks();
+    private static final int EVEN_MASK = 0xAAAAAAAA & maskOfAllWeeks();
+
+    private final int mask;
+
+    private TeachingWeeks(int mask) {
+        this.mask = mask;
+    }
+
+    /**
+     * Returns the teaching weeks in which bit {@code week - 1} of {@code mask} is set.
+     * {@code mask} must be a non-zero mask of weeks from 1 to {@link #MAX_WEEK}.
+     */
+    public static TeachingWeeks of(int mask) {
+        checkArgument(mask != 0 && (mask & ~maskOfAllWeeks()) == 0, MESSAGE_CONSTRAINTS);
+        return new TeachingWeeks(mask);
+    }
+
+    /**
+     * Returns the teaching weeks described by {@code weeks}, which must be valid as declared in
+     * {@link #isValidTeachingWeeks(String)}.
+     */
+    public static TeachingWeeks of(String weeks) {
+        requireNonNull(weeks);
+        int mask = parseMask(weeks);
+        checkArgument(mask != 0, MESSAGE_CONSTRAINTS);
+        return new TeachingWeeks(mask);
+    }
+
+    /**
+     * Returns true if {@code test} is "odd", "even", or a comma-separated list of weeks and ranges of weeks
+     * such as {@code 1-6,8,10-13}, where every week is from 1 to {@link #MAX_WEEK}.
+     */
+    public static boolean isValidTeachingWeeks(String test) {
+        requireNonNull(test);
+        return parseMask(test) != 0;
+    }
+
+    /**
+     * Returns the number of the week of the semester in which {@code date} falls, for a semester starting on
+     * {@code semesterStart}. Weeks start on Monday, and dates before the semester give a number below 1.
+     */
+    public static int weekOf(LocalDate semesterStart, LocalDate date) {
+        requireNonNull(semesterStart);
+        requireNonNull(date);
+        return (int) Math.floorDiv(ChronoUnit.DAYS.between(firstMondayOf(semesterStart), date), 7) + 1;
+    }
+
+    /**
+     * Returns the Monday of week 1 of a semester starting on {@code semesterStart}.
+     */
+    public static LocalDate firstMondayOf(LocalDate semesterStart) {
+        return semesterStart.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+    }
+
+    public boolean isEveryWeek() {
+        return this == EVERY_WEEK;
+    }
+
+    /**
+     * Returns true if the module is held in week {@code week} of the semester.
+     */
+    public boolean contains(int week) {
+        if (isEveryWeek()) {
+            return true;
+        }
+        return week >= 1 && week <= MAX_WEEK && (mask & (1 << (week - 1))) != 0;
+    }
+
+    /**
+     * Returns true if there is a week in which modules held in these and in {@code other} weeks are both held.
+     */
+    public boolean intersects(TeachingWeeks other) {
+        requireNonNull(other);
+        return (mask & other.mask) != 0;
+    }
+
+    private static int maskOfAllWeeks() {
+        return (int) ((1L << MAX_WEEK) - 1);
+    }
+
+    /**
+     * Returns the mask of the weeks described by {@code weeks}, or 0 if it is not valid.
+     */
+    private static int parseMask(String weeks) {
+        if (weeks.equalsIgnoreCase(ODD)) {
+            return ODD_MASK;
+        }
+        if (weeks.equalsIgnoreCase(EVEN)) {
+            return EVEN_MASK;
+        }
+        int mask = 0;
+        for (String range : weeks.split(",", -1)) {
+            int dash = range.indexOf('-');
+            int from = parseWeek(dash < 0 ? range : range.substring(0, dash));
+            int to = dash < 0 ? from : parseWeek(range.substring(dash + 1));
+            if (from == 0 || to == 0 || from > to) {
+                return 0;
+            }
+            mask |= (int) ((1L << to) - (1L << (from - 1)));
+        }
+        return mask;
+    }
+
+    /**
+     * Returns the week numbered {@code week}, or 0 if it is not a week from 1 to {@link #MAX_WEEK}.
+     */
+    private static int parseWeek(String week) {
+        if (week.isEmpty() || week.length() > 2) {
+            return 0;
+        }
+        int number = 0;
+        for (int i = 0; i < week.length(); i++) {
+            char c = week.charAt(i);
+            if (c < '0' || c > '9') {
+                return 0;
+            }
+            number = number * 10 + (c - '0');
+        }
+        return number <= MAX_WEEK ? number : 0;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof TeachingWeeks)) {
+            return false;
+        }
+
+        TeachingWeeks otherTeachingWeeks = (TeachingWeeks) other;
+        return mask == otherTeachingWeeks.mask;
+    }
+
+    @Override
+    public int hashCode() {
+        return mask;
+    }
+
+    /**
+     * Returns the weeks in the format accepted by {@link #of(String)}, with consecutive weeks joined into ranges.
+     */
+    @Override
+    public String toString() {
+        if (isEveryWeek()) {
+            return "every week";
+        }
+        if (mask == ODD_MASK) {
+            return ODD;
+        }
+        if (mask == EVEN_MASK) {
+            return EVEN;
+        }
+        StringBuilder builder = new StringBuilder();
+        int week = 1;
+        while (week <= MAX_WEEK) {
+            if (!contains(week)) {
+                week++;
+                continue;
+            }
+            int end = week;
+            while (end < MAX_WEEK && contains(end + 1)) {
+                end++;
+            }
+            builder.append(builder.length() == 0 ? "" : ",").append(week);
+            if (end > week) {
+                builder.append('-').append(end);
+            }
+            week = end + 1;
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,200 @@
+package syncsquad.teamsync.model.module;
+
+import static java.util.Objects.requireNonNull;
+import static syncsquad.teamsync.commons.util.AppUtil.checkArgument;
+
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * Represents the times of the week at which someone is occupied, e.g. by the modules they take.
+ * Guarantees: immutable.
+ *
+ * The week is divided into 7 days of 288 five-minute slots, which are stored as a bitset of {@code long}s.
+ * Combining the occupancies of many people with {@link #or(WeeklyOccupancy)} or {@link #and(WeeklyOccupancy)}
+ * therefore takes a few word operations per person, instead of comparing the times of all their modules.
+ */
+public class WeeklyOccupancy {
+
+    public static final int MINUTES_PER_SLOT = 5;
+    public static final int SLOTS_PER_DAY = 24 * 60 / MINUTES_PER_SLOT;
+    public static final int SLOTS_PER_WEEK = Day.VALID_DAYS.size() * SLOTS_PER_DAY;
+
+    /** An occupancy with no occupied slots. */
+    public static final WeeklyOccupancy EMPTY = new WeeklyOccupancy(new long[wordCount()]);
+
+    private final long[] words;
+
+    private WeeklyOccupancy(long[] words) {
+        this.words = words;
+    }
+
+    /**
+     * Returns the occupancy of someone taking {@code modules}.
+     * A slot is occupied if any part of it is taken up by a module.
+     */
+    public static WeeklyOccupancy of(Collection<Module> modules) {
+        requireNonNull(modules);
+        long[] words = new long[wordCount()];
+        for (Module module : modules) {
+            int fromSlot = module.getStartMinuteOfWeek() / MINUTES_PER_SLOT;
+            int toSlot = ceilDiv(module.getEndMinuteOfWeek(), MINUTES_PER_SLOT);
+            setRange(words, fromSlot, toSlot);
+        }
+        return new WeeklyOccupancy(words);
+    }
+
+    /**
+     * Returns the slots that are occupied in all of the given occupancies, e.g. the times at which none of a
+     * team is free. Returns an occupancy with every slot occupied if {@code occupancies} is empty.
+     */
+    public static WeeklyOccupancy intersectionOf(Collection<WeeklyOccupancy> occupancies) {
+        requireNonNull(occupancies);
+        long[] words = new long[wordCount()];
+        setRange(words, 0, SLOTS_PER_WEEK);
+        for (WeeklyOccupancy occupancy : occupancies) {
+            for (int i = 0; i < words.length; i++) {
+                words[i] &= occupancy.words[i];
+            }
+        }
+        return new WeeklyOccupancy(words);
+    }
+
+    /**
+     * Returns the slots that are occupied in any of the given occupancies, e.g. the times at which some member of
+     * a team is busy.
+     */
+    public static WeeklyOccupancy unionOf(Collection<WeeklyOccupancy> occupancies) {
+        requireNonNull(occupancies);
+        long[] words = new long[wordCount()];
+        for (WeeklyOccupancy occupancy : occupancies) {
+            for (int i = 0; i < words.length; i++) {
+                words[i] |= occupancy.words[i];
+            }
+        }
+        return new WeeklyOccupancy(words);
+    }
+
+    /**
+     * Returns the slots that are occupied in both this and {@code other}.
+     */
+    public WeeklyOccupancy and(WeeklyOccupancy other) {
+        requireNonNull(other);
+        long[] result = words.clone();
+        for (int i = 0; i < result.length; i++) {
+            result[i] &= other.words[i];
+        }
+        return new WeeklyOccupancy(result);
+    }
+
+    /**
+     * Returns the slots that are occupied in either this or {@code other}.
+     */
+    public WeeklyOccupancy or(WeeklyOccupancy other) {
+        requireNonNull(other);
+        long[] result = words.clone();
+        for (int i = 0; i < result.length; i++) {
+            result[i] |= other.words[i];
+        }
+        return new WeeklyOccupancy(result);
+    }
+
+    /**
+     * Returns true if the slot containing {@code time} on {@code day} is occupied.
+     */
+    public boolean isOccupied(Day day, LocalTime time) {
+        requireNonNull(day);
+        requireNonNull(time);
+        int slot = dayIndexOf(day) * SLOTS_PER_DAY + minuteOfDay(time) / MINUTES_PER_SLOT;
+        return (words[slot >>> 6] & (1L << slot)) != 0;
+    }
+
+    /**
+     * Returns true if every slot between {@code startTime} and {@code endTime} on {@code day} is free.
+     * {@code startTime} must not be after {@code endTime}.
+     */
+    public boolean isFree(Day day, LocalTime startTime, LocalTime endTime) {
+        requireNonNull(day);
+        requireNonNull(startTime);
+        requireNonNull(endTime);
+        checkArgument(!startTime.isAfter(endTime), "Start time must not be after end time");
+        int dayOffset = dayIndexOf(day) * SLOTS_PER_DAY;
+        int fromSlot = dayOffset + minuteOfDay(startTime) / MINUTES_PER_SLOT;
+        int toSlot = dayOffset + ceilDiv(minuteOfDay(endTime), MINUTES_PER_SLOT);
+        for (int slot = fromSlot; slot < toSlot; slot++) {
+            if ((words[slot >>> 6] & (1L << slot)) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if no slot is occupied.
+     */
+    public boolean isEmpty() {
+        for (long word : words) {
+            if (word != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the number of occupied slots.
+     */
+    public int getOccupiedSlotCount() {
+        int count = 0;
+        for (long word : words) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    private static int wordCount() {
+        return ceilDiv(SLOTS_PER_WEEK, Long.SIZE);
+    }
+
+    private static int dayIndexOf(Day day) {
+        return day.getDayOfWeek().ordinal();
+    }
+
+    private static int minuteOfDay(LocalTime time) {
+        return time.getHour() * 60 + time.getMinute();
+    }
+
+    private static int ceilDiv(int dividend, int divisor) {
+        return (dividend + divisor - 1) / divisor;
+    }
+
+    /**
+     * Sets the slots in {@code [fromSlot, toSlot)}.
+     */
+    private static void setRange(long[] words, int fromSlot, int toSlot) {
+        for (int slot = fromSlot; slot < toSlot; slot++) {
+            words[slot >>> 6] |= 1L << slot;
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof WeeklyOccupancy)) {
+            return false;
+        }
+
+        WeeklyOccupancy otherOccupancy = (WeeklyOccupancy) other;
+        return Arrays.equals(words, otherOccupancy.words);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(words);
+    }
+}
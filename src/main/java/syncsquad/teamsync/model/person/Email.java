@@ -3,6 +3,9 @@ package syncsquad.teamsync.model.person;
 import static java.util.Objects.requireNonNull;
 import static syncsquad.teamsync.commons.util.AppUtil.checkArgument;
 
+import syncsquad.teamsync.commons.util.StringUtil;
+import syncsquad.teamsync.commons.util.ValidationUtil;
+
 /**
  * Represents a Person's email in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidEmail(String)}
@@ -48,7 +51,7 @@ public class Email {
      * Returns if a given string is a valid email.
      */
     public static boolean isValidEmail(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return ValidationUtil.isEmail(test);
     }
 
     @Override
@@ -73,7 +76,8 @@ public class Email {
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        // Consistent with equals, which ignores case
+        return StringUtil.foldCase(value).hashCode();
     }
 
 }
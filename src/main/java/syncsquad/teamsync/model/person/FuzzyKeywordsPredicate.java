@@ -0,0 +1,54 @@
+package syncsquad.teamsync.model.person;
+
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import syncsquad.teamsync.commons.util.StringUtil;
+import syncsquad.teamsync.commons.util.ToStringBuilder;
+
+/**
+ * Tests that a word of a {@code Person}'s name, email or tags starts with any of the keywords given, allowing for a
+ * few typos in longer keywords. Keyword matching is case insensitive.
+ */
+public class FuzzyKeywordsPredicate implements Predicate<Person> {
+    private final List<String> keywords;
+
+    public FuzzyKeywordsPredicate(List<String> keywords) {
+        this.keywords = keywords;
+    }
+
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        Set<String> words = PersonSearchIndex.wordsOf(person);
+        return keywords.stream()
+                .map(keyword -> StringUtil.foldCase(keyword.trim()))
+                .filter(keyword -> !keyword.isEmpty())
+                .anyMatch(keyword -> words.stream()
+                        .anyMatch(word -> PersonSearchIndex.rankOf(keyword, word) != PersonSearchIndex.NO_MATCH));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof FuzzyKeywordsPredicate)) {
+            return false;
+        }
+
+        FuzzyKeywordsPredicate otherFuzzyKeywordsPredicate = (FuzzyKeywordsPredicate) other;
+        return keywords.equals(otherFuzzyKeywordsPredicate.keywords);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("keywords", keywords).toString();
+    }
+}
@@ -3,6 +3,11 @@ package syncsquad.teamsync.model.person;
 import static java.util.Objects.requireNonNull;
 import static syncsquad.teamsync.commons.util.AppUtil.checkArgument;
 
+import java.text.CollationKey;
+import java.text.Collator;
+
+import syncsquad.teamsync.commons.util.ValidationUtil;
+
 /**
  * Represents a Person's name in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
@@ -18,8 +23,12 @@ public class Name implements Comparable<Name> {
      */
     public static final String VALIDATION_REGEX = "^[A-Za-z0-9'-][A-Za-z0-9\s'/-]*$";
 
+    private static final Collator COLLATOR = Collator.getInstance();
+
     public final String fullName;
 
+    private CollationKey collationKey;
+
     /**
      * Constructs a {@code Name}.
      *
@@ -35,7 +44,22 @@ public class Name implements Comparable<Name> {
      * Returns true if a given string is a valid name.
      */
     public static boolean isValidName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return ValidationUtil.isName(test);
+    }
+
+    /**
+     * Returns the key used to compare this name with other names according to the rules of the default locale.
+     * The key is computed once and cached, so sorting by it is much cheaper than comparing names with a
+     * {@code Collator} directly.
+     */
+    public CollationKey getCollationKey() {
+        // CollationKey is immutable, so another thread computing it at the same time is harmless.
+        CollationKey key = collationKey;
+        if (key == null) {
+            key = COLLATOR.getCollationKey(fullName);
+            collationKey = key;
+        }
+        return key;
     }
 
     @Override
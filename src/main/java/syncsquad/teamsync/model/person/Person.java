@@ -8,22 +8,33 @@ import static syncsquad.teamsync.logic.parser.CliSyntax.PREFIX_NAME;
 import static syncsquad.teamsync.logic.parser.CliSyntax.PREFIX_PHONE;
 import static syncsquad.teamsync.logic.parser.CliSyntax.PREFIX_TAG;
 
-import java.util.Collections;
-import java.util.HashSet;
+import java.util.Comparator;
 import java.util.Objects;
 import java.util.Set;
 
+import syncsquad.teamsync.commons.util.SortedArraySet;
 import syncsquad.teamsync.commons.util.ToStringBuilder;
 import syncsquad.teamsync.model.module.Module;
+import syncsquad.teamsync.model.module.WeeklyOccupancy;
 import syncsquad.teamsync.model.tag.Tag;
 
 /**
  * Represents a Person in the address book.
  * Guarantees: details are present and not null, field values are validated,
  * immutable.
+ *
+ * Modules and tags are kept in small sorted arrays, and the hash code is computed once on creation,
+ * as the person list makes up most of the data held in memory.
  */
 public class Person implements Comparable<Person> {
 
+    private static final Comparator<Module> MODULE_ORDER = Comparator
+            .comparing((Module module) -> module.getModuleCode().code)
+            .thenComparingInt(Module::getStartMinuteOfWeek)
+            .thenComparingInt(Module::getEndMinuteOfWeek)
+            .thenComparingInt(module -> module.getTeachingWeeks().hashCode());
+    private static final Comparator<Tag> TAG_ORDER = Comparator.comparing(tag -> tag.tagName);
+
     // Identity fields
     private final Name name;
     private final Phone phone;
@@ -31,8 +42,12 @@ public class Person implements Comparable<Person> {
 
     // Data fields
     private final Address address;
-    private final Set<Module> modules = new HashSet<>();
-    private final Set<Tag> tags = new HashSet<>();
+    private final SortedArraySet<Module> modules;
+    private final SortedArraySet<Tag> tags;
+    private final int hashCode;
+
+    // Derived fields, computed when first needed
+    private WeeklyOccupancy weeklyOccupancy;
 
     /**
      * Every field must be present and not null.
@@ -43,8 +58,11 @@ public class Person implements Comparable<Person> {
         this.phone = phone;
         this.email = email;
         this.address = address;
-        this.modules.addAll(modules);
-        this.tags.addAll(tags);
+        // The sets of another person are shared rather than copied.
+        this.modules = SortedArraySet.copyOf(modules, MODULE_ORDER);
+        this.tags = SortedArraySet.copyOf(tags, TAG_ORDER);
+        // use this method for custom fields hashing instead of implementing your own
+        this.hashCode = Objects.hash(name, phone, email, address, this.modules, this.tags);
     }
 
     public Name getName() {
@@ -67,18 +85,35 @@ public class Person implements Comparable<Person> {
      * Returns an immutable module set, which throws
      * {@code UnsupportedOperationException}
      * if modification is attempted.
+     * Modules are ordered by module code, then by day and time.
      */
     public Set<Module> getModules() {
-        return Collections.unmodifiableSet(this.modules);
+        return modules;
+    }
+
+    /**
+     * Returns the times of the week at which this person is occupied by their modules.
+     * The occupancy is computed once and cached, which is safe as persons are immutable:
+     * editing a person creates a new {@code Person} with its own occupancy.
+     */
+    public WeeklyOccupancy getWeeklyOccupancy() {
+        // WeeklyOccupancy is immutable, so another thread computing it at the same time is harmless.
+        WeeklyOccupancy occupancy = weeklyOccupancy;
+        if (occupancy == null) {
+            occupancy = WeeklyOccupancy.of(modules);
+            weeklyOccupancy = occupancy;
+        }
+        return occupancy;
     }
 
     /**
      * Returns an immutable tag set, which throws
      * {@code UnsupportedOperationException}
      * if modification is attempted.
+     * Tags are ordered by name.
      */
     public Set<Tag> getTags() {
-        return Collections.unmodifiableSet(tags);
+        return tags;
     }
 
     /**
@@ -120,8 +155,7 @@ public class Person implements Comparable<Person> {
 
     @Override
     public int hashCode() {
-        // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(name, phone, email, address, modules, tags);
+        return hashCode;
     }
 
     @Override
@@ -0,0 +1,71 @@
+package syncsquad.teamsync.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * A secondary index of persons by some of their attributes, e.g. the codes of the modules they take.
+ * The index is updated incrementally as persons are added and removed, so looking up the persons with a given
+ * key takes time proportional to the number of such persons.
+ *
+ * @param <K> the type of the keys persons are indexed by.
+ */
+class PersonIndex<K> {
+
+    private final Function<Person, Set<K>> keysOf;
+    private final Map<K, Set<Person>> personsByKey = new HashMap<>();
+
+    /**
+     * Creates an empty index that indexes each person by all the keys returned by {@code keysOf}.
+     */
+    PersonIndex(Function<Person, Set<K>> keysOf) {
+        requireNonNull(keysOf);
+        this.keysOf = keysOf;
+    }
+
+    void add(Person person) {
+        for (K key : keysOf.apply(person)) {
+            personsByKey.computeIfAbsent(key, k -> new LinkedHashSet<>()).add(person);
+        }
+    }
+
+    void remove(Person person) {
+        for (K key : keysOf.apply(person)) {
+            Set<Person> persons = personsByKey.get(key);
+            if (persons == null) {
+                continue;
+            }
+            persons.remove(person);
+            if (persons.isEmpty()) {
+                personsByKey.remove(key);
+            }
+        }
+    }
+
+    void clear() {
+        personsByKey.clear();
+    }
+
+    /**
+     * Returns true if some person is indexed by {@code key}.
+     */
+    boolean containsKey(K key) {
+        requireNonNull(key);
+        return personsByKey.containsKey(key);
+    }
+
+    /**
+     * Returns the persons indexed by {@code key}, in the order in which they were indexed.
+     */
+    List<Person> get(K key) {
+        requireNonNull(key);
+        Set<Person> persons = personsByKey.get(key);
+        return persons == null ? List.of() : List.copyOf(persons);
+    }
+}
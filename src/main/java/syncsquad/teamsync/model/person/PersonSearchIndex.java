@@ -0,0 +1,238 @@
+package syncsquad.teamsync.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeSet;
+
+import syncsquad.teamsync.commons.util.StringUtil;
+import syncsquad.teamsync.model.tag.Tag;
+
+/**
+ * An index of persons by the words of their names, the local parts of their emails and their tags, for finding
+ * persons by keywords that are only the start of a word or have a few typos in them.
+ * The words of a text are its runs of letters and digits, and are compared case-insensitively.
+ *
+ * A keyword matches a word if the word starts with the keyword, or if the keyword is a few typos away from the word
+ * or from its start and shares a trigram, i.e. three consecutive characters, with the word. The words starting with
+ * a keyword are a range of the sorted words, and only the words sharing a trigram with a keyword are compared with
+ * it for typos, so a search does not go through every word. The index is updated incrementally as persons are added
+ * and removed.
+ */
+class PersonSearchIndex {
+
+    /** The rank of a word that does not match a keyword. */
+    static final int NO_MATCH = Integer.MAX_VALUE;
+
+    /** Marks the start of a word in its trigrams, so that the first characters of a word form a trigram too. */
+    private static final char WORD_START = '\0';
+
+    private final PersonIndex<String> wordIndex = new PersonIndex<>(PersonSearchIndex::wordsOf);
+    private final NavigableSet<String> words = new TreeSet<>();
+    private final Map<String, Set<String>> wordsByTrigram = new HashMap<>();
+
+    void add(Person person) {
+        wordIndex.add(person);
+        for (String word : wordsOf(person)) {
+            if (!words.add(word)) {
+                continue;
+            }
+            for (String trigram : trigramsOf(word)) {
+                wordsByTrigram.computeIfAbsent(trigram, t -> new HashSet<>()).add(word);
+            }
+        }
+    }
+
+    void remove(Person person) {
+        wordIndex.remove(person);
+        for (String word : wordsOf(person)) {
+            if (wordIndex.containsKey(word) || !words.remove(word)) {
+                continue;
+            }
+            for (String trigram : trigramsOf(word)) {
+                Set<String> wordsWithTrigram = wordsByTrigram.get(trigram);
+                wordsWithTrigram.remove(word);
+                if (wordsWithTrigram.isEmpty()) {
+                    wordsByTrigram.remove(trigram);
+                }
+            }
+        }
+    }
+
+    void clear() {
+        wordIndex.clear();
+        words.clear();
+        wordsByTrigram.clear();
+    }
+
+    /**
+     * Returns the persons with a word that matches any of {@code keywords}, each with the rank of their closest match
+     * as in {@link #rankOf(String, String)}.
+     */
+    PersonSearchResult search(List<String> keywords) {
+        requireNonNull(keywords);
+        Map<Person, Integer> ranks = new HashMap<>();
+        for (String keyword : keywords) {
+            String foldedKeyword = StringUtil.foldCase(keyword.trim());
+            if (foldedKeyword.isEmpty()) {
+                continue;
+            }
+            for (String word : words.subSet(foldedKeyword, true, foldedKeyword + Character.MAX_VALUE, false)) {
+                addRank(ranks, word, word.length() == foldedKeyword.length() ? 0 : 1);
+            }
+            if (maxTyposFor(foldedKeyword) == 0) {
+                continue;
+            }
+            Set<String> wordsWithTypos = new HashSet<>();
+            for (String trigram : trigramsOf(foldedKeyword)) {
+                wordsWithTypos.addAll(wordsByTrigram.getOrDefault(trigram, Set.of()));
+            }
+            for (String word : wordsWithTypos) {
+                if (!word.startsWith(foldedKeyword)) {
+                    addRank(ranks, word, rankOfTypos(foldedKeyword, word));
+                }
+            }
+        }
+
+        return new PersonSearchResult(keywords, ranks);
+    }
+
+    /**
+     * Records {@code rank} for the persons with {@code word}, for those it is the best match so far.
+     */
+    private void addRank(Map<Person, Integer> ranks, String word, int rank) {
+        if (rank == NO_MATCH) {
+            return;
+        }
+        for (Person person : wordIndex.get(word)) {
+            ranks.merge(person, rank, Math::min);
+        }
+    }
+
+    /**
+     * Returns the case-folded words of the name, the local part of the email and the tags of {@code person}.
+     */
+    static Set<String> wordsOf(Person person) {
+        Set<String> words = new HashSet<>();
+        addWords(person.getName().fullName, words);
+        String email = person.getEmail().value;
+        addWords(email.substring(0, email.lastIndexOf('@')), words);
+        for (Tag tag : person.getTags()) {
+            addWords(tag.tagName, words);
+        }
+        return words;
+    }
+
+    private static void addWords(String text, Set<String> words) {
+        int start = 0;
+        for (int i = 0; i <= text.length(); i++) {
+            if (i < text.length() && Character.isLetterOrDigit(text.charAt(i))) {
+                continue;
+            }
+            if (i > start) {
+                words.add(StringUtil.foldCase(text.substring(start, i)));
+            }
+            start = i + 1;
+        }
+    }
+
+    /**
+     * Returns how well {@code word} matches {@code keyword}, both case-folded, with lower ranks for better matches:
+     * <ul>
+     *     <li>0 if they are equal, and 1 if the word starts with the keyword,</li>
+     *     <li>{@code 2 * n} if the keyword is {@code n} typos away from the word, and {@code 2 * n + 1} if it is
+     *     {@code n} typos away from the start of the word, where a typo is an inserted, deleted or replaced character
+     *     or two adjacent characters swapped,</li>
+     *     <li>{@link #NO_MATCH} if it is more typos away than {@link #maxTyposFor(String)} allows, or if the keyword
+     *     and the word share no trigram.</li>
+     * </ul>
+     */
+    static int rankOf(String keyword, String word) {
+        requireNonNull(keyword);
+        requireNonNull(word);
+        if (word.startsWith(keyword)) {
+            return word.length() == keyword.length() ? 0 : 1;
+        }
+        if (Collections.disjoint(trigramsOf(keyword), trigramsOf(word))) {
+            return NO_MATCH;
+        }
+        return rankOfTypos(keyword, word);
+    }
+
+    /**
+     * Returns the rank of {@code word} for {@code keyword} as in {@link #rankOf(String, String)}, for a word that
+     * does not start with the keyword and shares a trigram with it.
+     */
+    private static int rankOfTypos(String keyword, String word) {
+        int maxTypos = maxTyposFor(keyword);
+        if (maxTypos == 0) {
+            return NO_MATCH;
+        }
+        // The typos between the keyword and the starts of the word, counted with the optimal string alignment
+        // distance. Starts more than maxTypos characters longer than the keyword are too many typos away.
+        int columns = Math.min(word.length(), keyword.length() + maxTypos);
+        int[] beforePrevious = new int[columns + 1];
+        int[] previous = new int[columns + 1];
+        int[] current = new int[columns + 1];
+        for (int j = 0; j <= columns; j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= keyword.length(); i++) {
+            current[0] = i;
+            for (int j = 1; j <= columns; j++) {
+                int replaced = previous[j - 1] + (keyword.charAt(i - 1) == word.charAt(j - 1) ? 0 : 1);
+                int typos = Math.min(replaced, Math.min(previous[j], current[j - 1]) + 1);
+                if (i > 1 && j > 1 && keyword.charAt(i - 1) == word.charAt(j - 2)
+                        && keyword.charAt(i - 2) == word.charAt(j - 1)) {
+                    typos = Math.min(typos, beforePrevious[j - 2] + 1);
+                }
+                current[j] = typos;
+            }
+            int[] reused = beforePrevious;
+            beforePrevious = previous;
+            previous = current;
+            current = reused;
+        }
+
+        int rank = NO_MATCH;
+        if (columns == word.length() && previous[columns] <= maxTypos) {
+            rank = 2 * previous[columns];
+        }
+        for (int j = 0; j <= columns; j++) {
+            if (previous[j] <= maxTypos) {
+                rank = Math.min(rank, 2 * previous[j] + 1);
+            }
+        }
+        return rank;
+    }
+
+    /**
+     * Returns the number of typos allowed in {@code keyword}: none for keywords shorter than 3 characters, which
+     * would otherwise match too many words, 1 for keywords shorter than 6 characters, and 2 for longer ones.
+     * Keywords with digits, e.g. parts of matriculation numbers, allow no typos, as they would match other numbers.
+     */
+    static int maxTyposFor(String keyword) {
+        if (keyword.length() < 3 || keyword.chars().anyMatch(Character::isDigit)) {
+            return 0;
+        }
+        return keyword.length() < 6 ? 1 : 2;
+    }
+
+    /**
+     * Returns the trigrams of {@code word}, including those at its start marked by {@link #WORD_START}.
+     */
+    private static Set<String> trigramsOf(String word) {
+        String marked = WORD_START + word;
+        Set<String> trigrams = new HashSet<>();
+        for (int i = 0; i + 3 <= marked.length(); i++) {
+            trigrams.add(marked.substring(i, i + 3));
+        }
+        return trigrams;
+    }
+}
@@ -0,0 +1,89 @@
+package syncsquad.teamsync.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static syncsquad.teamsync.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+import syncsquad.teamsync.commons.util.ToStringBuilder;
+
+/**
+ * The persons found by searching the address book for some keywords, as tested by {@link FuzzyKeywordsPredicate},
+ * each with how closely they match. A search is done once per {@code person find -f}, and its result is used both to
+ * filter the list of persons and to name the closest matches.
+ *
+ * The result is not updated as the address book changes.
+ */
+public class PersonSearchResult {
+
+    private final List<String> keywords;
+    private final Map<Person, Integer> ranks;
+    private final Comparator<Person> closestFirst;
+
+    /**
+     * Creates the result of searching for {@code keywords}, given the rank of each person found as in
+     * {@link PersonSearchIndex#rankOf(String, String)}.
+     */
+    PersonSearchResult(List<String> keywords, Map<Person, Integer> ranks) {
+        requireNonNull(keywords);
+        requireNonNull(ranks);
+        this.keywords = keywords;
+        this.ranks = ranks;
+        this.closestFirst = Comparator.<Person>comparingInt(ranks::get)
+                .thenComparing(PersonSortOrder.NAME.getComparator());
+    }
+
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
+    /**
+     * Returns the predicate that accepts exactly the persons found, among those searched.
+     */
+    public FuzzyKeywordsPredicate getPredicate() {
+        return new FuzzyKeywordsPredicate(keywords);
+    }
+
+    /**
+     * Returns the persons found, in no particular order.
+     */
+    public Set<Person> getMatches() {
+        return Collections.unmodifiableSet(ranks.keySet());
+    }
+
+    /**
+     * Returns up to {@code limit} of the persons found, closest matches first. Persons that match equally closely
+     * are ordered by name and then by email. Only the closest persons are kept in order, so this does not sort
+     * every match.
+     */
+    public List<Person> getClosestMatches(int limit) {
+        checkArgument(limit > 0, "Limit should be positive");
+        PriorityQueue<Person> closest = new PriorityQueue<>(closestFirst.reversed());
+        for (Person person : ranks.keySet()) {
+            if (closest.size() < limit) {
+                closest.add(person);
+            } else if (closestFirst.compare(person, closest.peek()) < 0) {
+                closest.poll();
+                closest.add(person);
+            }
+        }
+
+        List<Person> persons = new ArrayList<>(closest);
+        persons.sort(closestFirst);
+        return persons;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("keywords", keywords)
+                .add("matches", ranks.size())
+                .toString();
+    }
+}
@@ -0,0 +1,52 @@
+package syncsquad.teamsync.model.person;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * The orders in which a list of persons can be sorted, each named by the keyword the user gives for it.
+ * Persons that compare as equal by the sort key are ordered by name and then by email, so that every order is
+ * total and stable.
+ */
+public enum PersonSortOrder {
+    NAME("name", Comparator.naturalOrder()),
+    LOCALE_NAME("locale-name", Comparator.comparing(person -> person.getName().getCollationKey())),
+    EMAIL("email", Comparator.comparing(person -> person.getEmail().value, String.CASE_INSENSITIVE_ORDER)),
+    MODULE_COUNT("modules", Comparator.comparingInt(person -> person.getModules().size()));
+
+    private final String keyword;
+    private final Comparator<Person> comparator;
+
+    PersonSortOrder(String keyword, Comparator<Person> sortKeyComparator) {
+        this.keyword = keyword;
+        this.comparator = sortKeyComparator
+                .thenComparing(Comparator.naturalOrder())
+                .thenComparing(person -> person.getEmail().value, String.CASE_INSENSITIVE_ORDER);
+    }
+
+    public String getKeyword() {
+        return keyword;
+    }
+
+    public Comparator<Person> getComparator() {
+        return comparator;
+    }
+
+    /**
+     * Returns the order named by {@code keyword}, ignoring case, if there is one.
+     */
+    public static Optional<PersonSortOrder> fromKeyword(String keyword) {
+        return Arrays.stream(values())
+                .filter(order -> order.keyword.equalsIgnoreCase(keyword))
+                .findFirst();
+    }
+
+    /**
+     * Returns the keywords of all the orders, separated by commas, e.g. for a usage message.
+     */
+    public static String keywords() {
+        return Arrays.stream(values()).map(PersonSortOrder::getKeyword).collect(Collectors.joining(", "));
+    }
+}
@@ -1,10 +1,20 @@
 package syncsquad.teamsync.model.person;
 
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
 import syncsquad.teamsync.commons.exceptions.DuplicateItemException;
 import syncsquad.teamsync.commons.exceptions.ItemNotFoundException;
+import syncsquad.teamsync.commons.util.StringUtil;
 import syncsquad.teamsync.model.UniqueItemList;
+import syncsquad.teamsync.model.module.Module;
+import syncsquad.teamsync.model.module.ModuleCode;
 import syncsquad.teamsync.model.person.exceptions.DuplicatePersonException;
 import syncsquad.teamsync.model.person.exceptions.PersonNotFoundException;
+import syncsquad.teamsync.model.tag.Tag;
 
 /**
  * A list of persons that enforces uniqueness between its elements and does not allow nulls.
@@ -16,12 +26,100 @@ import syncsquad.teamsync.model.person.exceptions.PersonNotFoundException;
  * Additionally, it is guaranteed that all persons in the list are in sorted order, in their natural ordering
  * defined in {@code Person#compareTo(Person)}.
  *
+ * Persons are also indexed by the codes of their modules, by their tags and by the words of their names, so the
+ * persons taking a module, having a tag or having a word in their name can be found without going through every
+ * person. A {@link PersonSearchIndex} similarly finds the persons approximately matching some keywords.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Person#isSamePerson(Person)
  */
 public class UniquePersonList extends UniqueItemList<Person> {
 
+    private final PersonIndex<ModuleCode> moduleCodeIndex = new PersonIndex<>(person -> person.getModules().stream()
+            .map(Module::getModuleCode)
+            .collect(Collectors.toSet()));
+    private final PersonIndex<Tag> tagIndex = new PersonIndex<>(Person::getTags);
+    private final PersonIndex<String> nameWordIndex = new PersonIndex<>(person ->
+            StringUtil.getWords(person.getName().fullName).stream()
+                    .map(StringUtil::foldCase)
+                    .collect(Collectors.toSet()));
+    private final PersonSearchIndex searchIndex = new PersonSearchIndex();
+
+    @Override
+    public void add(Person toAdd) {
+        super.add(toAdd);
+        index(toAdd);
+    }
+
+    @Override
+    public void setItem(Person target, Person editedPerson) {
+        super.setItem(target, editedPerson);
+        unindex(target);
+        index(editedPerson);
+    }
+
+    @Override
+    public void remove(Person toRemove) {
+        super.remove(toRemove);
+        unindex(toRemove);
+    }
+
+    @Override
+    public void setItems(UniqueItemList<Person> replacement) {
+        super.setItems(replacement);
+        reindex();
+    }
+
+    @Override
+    public void setItems(List<Person> persons) {
+        super.setItems(persons);
+        reindex();
+    }
+
+    /**
+     * Returns the persons in the list who take a module with the given code.
+     */
+    public List<Person> getPersonsWithModuleCode(ModuleCode moduleCode) {
+        requireNonNull(moduleCode);
+        return moduleCodeIndex.get(moduleCode);
+    }
+
+    /**
+     * Returns the persons in the list who have the given tag.
+     */
+    public List<Person> getPersonsWithTag(Tag tag) {
+        requireNonNull(tag);
+        return tagIndex.get(tag);
+    }
+
+    /**
+     * Returns the persons in the list who have {@code word} as one of the words of their name, ignoring case as in
+     * {@code StringUtil#containsWordIgnoreCase(String, String)}.
+     */
+    public List<Person> getPersonsWithNameWord(String word) {
+        requireNonNull(word);
+        return nameWordIndex.get(StringUtil.foldCase(word));
+    }
+
+    /**
+     * Returns the persons in the list with a word in their name, email or tags that approximately matches any of
+     * {@code keywords}, as tested by {@link FuzzyKeywordsPredicate}.
+     */
+    public PersonSearchResult searchPersons(List<String> keywords) {
+        requireNonNull(keywords);
+        return searchIndex.search(keywords);
+    }
+
+    /**
+     * Returns the person in the list with the given email, if there is one.
+     * Emails are compared case-insensitively, as in {@code Person#isSamePerson(Person)}.
+     */
+    public Optional<Person> getPersonWithEmail(Email email) {
+        requireNonNull(email);
+        return Optional.ofNullable(getByIdentity(StringUtil.foldCase(email.value)));
+    }
+
     /**
      * Use a Person specific notion of equality to enforce uniqueness
      */
@@ -30,6 +128,36 @@ public class UniquePersonList extends UniqueItemList<Person> {
         return item1.isSamePerson(item2);
     }
 
+    /**
+     * Indexes persons by their email, which is compared case-insensitively by {@code Person#isSamePerson(Person)}.
+     */
+    @Override
+    protected Object identityOf(Person item) {
+        return StringUtil.foldCase(item.getEmail().value);
+    }
+
+    private void index(Person person) {
+        moduleCodeIndex.add(person);
+        tagIndex.add(person);
+        nameWordIndex.add(person);
+        searchIndex.add(person);
+    }
+
+    private void unindex(Person person) {
+        moduleCodeIndex.remove(person);
+        tagIndex.remove(person);
+        nameWordIndex.remove(person);
+        searchIndex.remove(person);
+    }
+
+    private void reindex() {
+        moduleCodeIndex.clear();
+        tagIndex.clear();
+        nameWordIndex.clear();
+        searchIndex.clear();
+        internalList.forEach(this::index);
+    }
+
     @Override
     protected DuplicateItemException duplicateItemException() {
         return new DuplicatePersonException();
@@ -3,6 +3,9 @@ package syncsquad.teamsync.model.tag;
 import static java.util.Objects.requireNonNull;
 import static syncsquad.teamsync.commons.util.AppUtil.checkArgument;
 
+import syncsquad.teamsync.commons.util.CanonicalPool;
+import syncsquad.teamsync.commons.util.ValidationUtil;
+
 /**
  * Represents a Tag in the address book.
  * Guarantees: immutable; name is valid as declared in {@link #isValidTagName(String)}
@@ -12,39 +15,37 @@ public class Tag {
     public static final String MESSAGE_CONSTRAINTS = "Tags names should be alphanumeric";
     public static final String VALIDATION_REGEX = "\\p{Alnum}+";
 
+    private static final CanonicalPool<Tag> POOL = new CanonicalPool<>(Tag::new);
+
     public final String tagName;
 
+    private Tag(String tagName) {
+        this.tagName = tagName;
+    }
+
     /**
-     * Constructs a {@code Tag}.
+     * Returns the {@code Tag} with the given name.
+     * Equal tags in use at the same time are the same instance.
      *
      * @param tagName A valid tag name.
      */
-    public Tag(String tagName) {
+    public static Tag of(String tagName) {
         requireNonNull(tagName);
         checkArgument(isValidTagName(tagName), MESSAGE_CONSTRAINTS);
-        this.tagName = tagName;
+        return POOL.get(tagName);
     }
 
     /**
      * Returns true if a given string is a valid tag name.
      */
     public static boolean isValidTagName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return ValidationUtil.isAlphanumeric(test);
     }
 
     @Override
     public boolean equals(Object other) {
-        if (other == this) {
-            return true;
-        }
-
-        // instanceof handles nulls
-        if (!(other instanceof Tag)) {
-            return false;
-        }
-
-        Tag otherTag = (Tag) other;
-        return tagName.equals(otherTag.tagName);
+        // Equal tags are the same instance
+        return other == this;
     }
 
     @Override
@@ -76,8 +76,8 @@ public class SampleDataUtil {
         return Arrays.stream(strings)
                 .map((s) -> {
                     String[] params = s.split(" ");
-                    ModuleCode moduleCode = new ModuleCode(params[0]);
-                    Day day = new Day(params[1]);
+                    ModuleCode moduleCode = ModuleCode.of(params[0]);
+                    Day day = Day.of(params[1]);
                     LocalTime startScheduleTime = LocalTime.parse(params[2]);
                     LocalTime endScheduleTime = LocalTime.parse(params[3]);
                     return new Module(moduleCode, day, startScheduleTime, endScheduleTime);
@@ -90,7 +90,7 @@ public class SampleDataUtil {
      */
     public static Set<Tag> getTagSet(String... strings) {
         return Arrays.stream(strings)
-                .map(Tag::new)
+                .map(Tag::of)
                 .collect(Collectors.toSet());
     }
 
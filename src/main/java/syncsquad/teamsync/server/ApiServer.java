@@ -0,0 +1,529 @@
+package syncsquad.teamsync.server;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import syncsquad.teamsync.commons.core.LogsCenter;
+import syncsquad.teamsync.commons.util.FileUtil;
+import syncsquad.teamsync.commons.util.JsonUtil;
+import syncsquad.teamsync.commons.util.StringUtil;
+import syncsquad.teamsync.logic.Logic;
+import syncsquad.teamsync.logic.commands.CommandResult;
+import syncsquad.teamsync.logic.commands.exceptions.CommandException;
+import syncsquad.teamsync.logic.parser.ParserUtil;
+import syncsquad.teamsync.logic.parser.exceptions.ParseException;
+import syncsquad.teamsync.model.ReadOnlyAddressBook;
+import syncsquad.teamsync.model.meeting.Meeting;
+import syncsquad.teamsync.model.module.TeachingWeeks;
+import syncsquad.teamsync.model.person.Person;
+
+/**
+ * An HTTP server on the loopback interface that lets other tools run commands and read the data of TeamSync, with
+ * JSON responses.
+ *
+ * <ul>
+ *     <li>{@code POST /api/commands} runs the command given by a JSON body such as
+ *     {@code {"command": "person list"}}, as if it was entered by the user.</li>
+ *     <li>{@code GET /api/persons} and {@code GET /api/meetings} return all the persons or meetings.</li>
+ *     <li>{@code GET /api/timetable?week=DATE} returns the meeting occurrences and modules in the week of
+ *     {@code DATE}, or of today if it is not given.</li>
+ * </ul>
+ *
+ * Every request must give the token that the server writes to its token file when it starts in the
+ * {@value #TOKEN_HEADER} header, so that only programs that can read the files of the user can use the API. Requests
+ * made by web pages, which give an {@code Origin} other than the loopback interface, are rejected, as are commands
+ * that are not sent as {@code application/json}, which a web page cannot send without the {@code Origin} header.
+ *
+ * Commands are run one at a time on the single writer executor, which must be the thread that the rest of the
+ * application modifies the model on, e.g. the JavaFX application thread. Reads never wait for the writer: they are
+ * served from the snapshot of the AddressBook published after the latest command, and the JSON of the persons and
+ * meetings is only generated once per snapshot.
+ *
+ * A command that has not started after {@link #COMMAND_TIMEOUT} is cancelled, and the response says so. A command
+ * that has started cannot be stopped, so if it is still running then, the server responds with
+ * {@code 202 Accepted} instead: the command finishes later, and its changes can be read once it has.
+ */
+public class ApiServer {
+
+    public static final String COMMANDS_PATH = "/api/commands";
+    public static final String PERSONS_PATH = "/api/persons";
+    public static final String MEETINGS_PATH = "/api/meetings";
+    public static final String TIMETABLE_PATH = "/api/timetable";
+    public static final String WEEK_PARAMETER = "week";
+    public static final String TOKEN_HEADER = "X-TeamSync-Token";
+    public static final String TOKEN_FILE_NAME = "api-token";
+    public static final String JSON_CONTENT_TYPE = "application/json";
+    public static final Duration COMMAND_TIMEOUT = Duration.ofSeconds(30);
+
+    public static final String MESSAGE_NOT_FOUND = "No such endpoint: %s";
+    public static final String MESSAGE_METHOD_NOT_ALLOWED = "%1$s requires %2$s";
+    public static final String MESSAGE_COMMAND_CANCELLED = "The command was cancelled as it did not start in time";
+    public static final String MESSAGE_COMMAND_RUNNING = "The command is still running. Its changes can be read once "
+            + "it finishes";
+    public static final String MESSAGE_INVALID_TOKEN = "The " + TOKEN_HEADER + " header must give the API token";
+    public static final String MESSAGE_FOREIGN_ORIGIN = "Requests from %s are not allowed";
+    public static final String MESSAGE_UNSUPPORTED_CONTENT_TYPE = "Commands must be sent as " + JSON_CONTENT_TYPE;
+    public static final String MESSAGE_MISSING_COMMAND = "The request body must give the command, e.g. "
+            + "{\"command\": \"person list\"}";
+
+    static final int STATUS_OK = 200;
+    static final int STATUS_ACCEPTED = 202;
+    static final int STATUS_BAD_REQUEST = 400;
+    static final int STATUS_UNAUTHORIZED = 401;
+    static final int STATUS_FORBIDDEN = 403;
+    static final int STATUS_NOT_FOUND = 404;
+    static final int STATUS_METHOD_NOT_ALLOWED = 405;
+    static final int STATUS_UNSUPPORTED_MEDIA_TYPE = 415;
+    static final int STATUS_INTERNAL_ERROR = 500;
+    static final int STATUS_UNAVAILABLE = 503;
+
+    private static final Logger logger = LogsCenter.getLogger(ApiServer.class);
+
+    private static final int STOP_DELAY_SECONDS = 1;
+    private static final int TOKEN_BYTES = 32;
+    private static final Set<PosixFilePermission> OWNER_ONLY = PosixFilePermissions.fromString("rw-------");
+    private static final Set<String> LOOPBACK_HOSTS = Set.of("localhost", "127.0.0.1", "[::1]");
+
+    private final Logic logic;
+    private final Executor writer;
+    private final Path tokenFile;
+    private final Duration commandTimeout;
+    private final String token;
+    private final HttpServer server;
+    private final ExecutorService handlers;
+
+    private volatile CachedBody personsBody;
+    private volatile CachedBody meetingsBody;
+
+    /**
+     * Creates a server for {@code logic} that listens on {@code port} of the loopback interface, or on a free port
+     * if {@code port} is 0, and runs commands on {@code writer}. A new random token is generated for the server,
+     * which is written to {@code tokenFile} when it starts. The server only accepts requests once started.
+     */
+    public ApiServer(Logic logic, Executor writer, int port, Path tokenFile) throws IOException {
+        this(logic, writer, port, tokenFile, COMMAND_TIMEOUT);
+    }
+
+    /**
+     * Creates a server that cancels commands that have not started after {@code commandTimeout}.
+     */
+    ApiServer(Logic logic, Executor writer, int port, Path tokenFile, Duration commandTimeout) throws IOException {
+        requireNonNull(logic);
+        requireNonNull(writer);
+        requireNonNull(tokenFile);
+        requireNonNull(commandTimeout);
+        this.logic = logic;
+        this.writer = writer;
+        this.tokenFile = tokenFile;
+        this.commandTimeout = commandTimeout;
+        byte[] tokenBytes = new byte[TOKEN_BYTES];
+        new SecureRandom().nextBytes(tokenBytes);
+        token = Base64.getUrlEncoder().withoutPadding().encodeToString(tokenBytes);
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        AtomicInteger threadCount = new AtomicInteger();
+        // A thread per concurrent request, so that requests waiting for the writer never hold up reads.
+        handlers = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "api-server-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.setExecutor(handlers);
+        server.createContext(COMMANDS_PATH, exchange -> handle(exchange, "POST", this::handleCommand));
+        server.createContext(PERSONS_PATH, exchange -> handle(exchange, "GET", this::handlePersons));
+        server.createContext(MEETINGS_PATH, exchange -> handle(exchange, "GET", this::handleMeetings));
+        server.createContext(TIMETABLE_PATH, exchange -> handle(exchange, "GET", this::handleTimetable));
+    }
+
+    /**
+     * Writes the token to the token file, readable only by the user where the file system supports it, and starts
+     * accepting requests.
+     */
+    public void start() throws IOException {
+        FileUtil.createParentDirsOfFile(tokenFile);
+        Files.deleteIfExists(tokenFile);
+        try {
+            Files.createFile(tokenFile, PosixFilePermissions.asFileAttribute(OWNER_ONLY));
+        } catch (UnsupportedOperationException e) {
+            Files.createFile(tokenFile);
+        }
+        FileUtil.writeToFile(tokenFile, token);
+        server.start();
+        logger.info("API server listening on " + server.getAddress() + " with its token in " + tokenFile);
+    }
+
+    /**
+     * Stops accepting requests, waits briefly for the requests being handled to finish, and deletes the token file.
+     */
+    public void stop() {
+        server.stop(STOP_DELAY_SECONDS);
+        handlers.shutdown();
+        try {
+            Files.deleteIfExists(tokenFile);
+        } catch (IOException e) {
+            logger.warning("Could not delete the API token file " + tokenFile + " " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Returns the token that requests must give in the {@value #TOKEN_HEADER} header.
+     */
+    public String getToken() {
+        return token;
+    }
+
+    /**
+     * Returns the port the server listens on.
+     */
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * Handles {@code exchange} with {@code handler} if it is a {@code method} request for the exact path of the
+     * endpoint with the token and from the loopback interface, and responds with an error otherwise.
+     */
+    private void handle(HttpExchange exchange, String method, Function<HttpExchange, Response> handler)
+            throws IOException {
+        String path = exchange.getRequestURI().getPath();
+        String origin = exchange.getRequestHeaders().getFirst("Origin");
+        Response response;
+        if (origin != null && !isLoopbackOrigin(origin)) {
+            response = Response.error(STATUS_FORBIDDEN, String.format(MESSAGE_FOREIGN_ORIGIN, origin));
+        } else if (!hasToken(exchange)) {
+            response = Response.error(STATUS_UNAUTHORIZED, MESSAGE_INVALID_TOKEN);
+        } else if (!path.equals(exchange.getHttpContext().getPath())) {
+            response = Response.error(STATUS_NOT_FOUND, String.format(MESSAGE_NOT_FOUND, path));
+        } else if (!exchange.getRequestMethod().equals(method)) {
+            exchange.getResponseHeaders().set("Allow", method);
+            response = Response.error(STATUS_METHOD_NOT_ALLOWED,
+                    String.format(MESSAGE_METHOD_NOT_ALLOWED, path, method));
+        } else {
+            try {
+                response = handler.apply(exchange);
+            } catch (RuntimeException e) {
+                logger.warning("Failed to handle API request " + StringUtil.getDetails(e));
+                response = Response.error(STATUS_INTERNAL_ERROR, String.valueOf(e.getMessage()));
+            }
+        }
+        send(exchange, response);
+    }
+
+    private boolean hasToken(HttpExchange exchange) {
+        String givenToken = exchange.getRequestHeaders().getFirst(TOKEN_HEADER);
+        // Compared in constant time, so that the time taken does not reveal how much of the token was right.
+        return givenToken != null && MessageDigest.isEqual(
+                givenToken.getBytes(StandardCharsets.UTF_8), token.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Returns true if {@code origin} is an origin on the loopback interface, e.g. {@code http://localhost:8080}.
+     */
+    private static boolean isLoopbackOrigin(String origin) {
+        try {
+            String host = new URI(origin).getHost();
+            return host != null && LOOPBACK_HOSTS.contains(host.toLowerCase());
+        } catch (URISyntaxException e) {
+            return false;
+        }
+    }
+
+    private static void send(HttpExchange exchange, Response response) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(response.status, response.body.length);
+        try (OutputStream body = exchange.getResponseBody()) {
+            body.write(response.body);
+        }
+    }
+
+    /**
+     * Runs the command in the JSON body of {@code exchange} on the writer, and waits for its result.
+     * If the command has not started after the timeout, it is cancelled. If it has started but not finished, the
+     * response only says that it is still running.
+     */
+    private Response handleCommand(HttpExchange exchange) {
+        String contentType = exchange.getRequestHeaders().getFirst("Content-Type");
+        if (contentType == null || !contentType.split(";")[0].trim().equalsIgnoreCase(JSON_CONTENT_TYPE)) {
+            return Response.error(STATUS_UNSUPPORTED_MEDIA_TYPE, MESSAGE_UNSUPPORTED_CONTENT_TYPE);
+        }
+        CommandRequest request;
+        try (InputStream body = exchange.getRequestBody()) {
+            request = JsonUtil.fromJsonString(new String(body.readAllBytes(), StandardCharsets.UTF_8),
+                    CommandRequest.class);
+        } catch (IOException e) {
+            return Response.error(STATUS_BAD_REQUEST, MESSAGE_MISSING_COMMAND);
+        }
+        if (request == null || request.command == null) {
+            return Response.error(STATUS_BAD_REQUEST, MESSAGE_MISSING_COMMAND);
+        }
+        String commandText = request.command.trim();
+
+        // Set by whichever of the writer and the timeout comes first, so that a cancelled command never starts.
+        AtomicBoolean isClaimed = new AtomicBoolean();
+        CompletableFuture<Response> result = new CompletableFuture<>();
+        writer.execute(() -> {
+            if (!isClaimed.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                CommandResult commandResult = logic.execute(commandText);
+                result.complete(Response.of(STATUS_OK, new CommandResponse(commandResult)));
+            } catch (CommandException | ParseException e) {
+                result.complete(Response.error(STATUS_BAD_REQUEST, e.getMessage()));
+            } catch (RuntimeException e) {
+                result.completeExceptionally(e);
+            }
+        });
+
+        try {
+            return result.get(commandTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            return timedOut(result, isClaimed);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return timedOut(result, isClaimed);
+        } catch (ExecutionException e) {
+            logger.warning("API command failed " + StringUtil.getDetails(e.getCause()));
+            return Response.error(STATUS_INTERNAL_ERROR, String.valueOf(e.getCause().getMessage()));
+        }
+    }
+
+    /**
+     * Cancels the command that {@code result} is for if the writer has not started it, and returns the response
+     * for a command that did not finish in time.
+     */
+    private static Response timedOut(CompletableFuture<Response> result, AtomicBoolean isClaimed) {
+        if (isClaimed.compareAndSet(false, true)) {
+            return Response.error(STATUS_UNAVAILABLE, MESSAGE_COMMAND_CANCELLED);
+        }
+        if (result.isDone() && !result.isCompletedExceptionally()) {
+            return result.join();
+        }
+        return Response.of(STATUS_ACCEPTED, new CommandResponse(MESSAGE_COMMAND_RUNNING, null));
+    }
+
+    private Response handlePersons(HttpExchange exchange) {
+        ReadOnlyAddressBook snapshot = logic.getAddressBookSnapshot();
+        CachedBody cached = personsBody;
+        if (cached == null || cached.source != snapshot) {
+            cached = new CachedBody(snapshot, toJson(new PersonsResponse(snapshot.getPersonList())));
+            personsBody = cached;
+        }
+        return new Response(STATUS_OK, cached.body);
+    }
+
+    private Response handleMeetings(HttpExchange exchange) {
+        ReadOnlyAddressBook snapshot = logic.getAddressBookSnapshot();
+        CachedBody cached = meetingsBody;
+        if (cached == null || cached.source != snapshot) {
+            cached = new CachedBody(snapshot, toJson(new MeetingsResponse(snapshot.getMeetingList())));
+            meetingsBody = cached;
+        }
+        return new Response(STATUS_OK, cached.body);
+    }
+
+    /**
+     * Returns the meeting occurrences and modules in the week given by the query of {@code exchange}.
+     * Modules are only filtered by teaching week if the semester start is known.
+     */
+    private Response handleTimetable(HttpExchange exchange) {
+        LocalDate date = LocalDate.now();
+        Optional<String> weekParameter = getQueryParameter(exchange, WEEK_PARAMETER);
+        if (weekParameter.isPresent()) {
+            try {
+                date = ParserUtil.parseDate(weekParameter.get());
+            } catch (ParseException e) {
+                return Response.error(STATUS_BAD_REQUEST, e.getMessage());
+            }
+        }
+        LocalDate week = date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        LocalDate nextWeek = week.plusDays(DayOfWeek.values().length);
+        OptionalInt teachingWeek = logic.getSemesterStart()
+                .map(start -> OptionalInt.of(TeachingWeeks.weekOf(start, week)))
+                .orElse(OptionalInt.empty());
+
+        ReadOnlyAddressBook snapshot = logic.getAddressBookSnapshot();
+        List<Meeting> occurrences = snapshot.getMeetingOccurrences(week, nextWeek);
+        List<PersonModules> modules = new ArrayList<>();
+        for (Person person : snapshot.getPersonList()) {
+            List<ModuleResponse> personModules = person.getModules().stream()
+                    .filter(module -> teachingWeek.isEmpty() || module.isHeldInWeek(teachingWeek.getAsInt()))
+                    .map(ModuleResponse::new)
+                    .collect(Collectors.toList());
+            if (!personModules.isEmpty()) {
+                modules.add(new PersonModules(person, personModules));
+            }
+        }
+        return Response.of(STATUS_OK, new TimetableResponse(week, occurrences, modules));
+    }
+
+    /**
+     * Returns the decoded value of the query parameter {@code name} of {@code exchange}, if it is given.
+     */
+    private static Optional<String> getQueryParameter(HttpExchange exchange, String name) {
+        String query = exchange.getRequestURI().getRawQuery();
+        if (query == null) {
+            return Optional.empty();
+        }
+        for (String parameter : query.split("&")) {
+            int equals = parameter.indexOf('=');
+            if (equals >= 0 && parameter.substring(0, equals).equals(name)) {
+                return Optional.of(URLDecoder.decode(parameter.substring(equals + 1), StandardCharsets.UTF_8));
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static byte[] toJson(Object response) {
+        try {
+            return JsonUtil.toJsonString(response).getBytes(StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to convert a response to JSON", e);
+        }
+    }
+
+    /**
+     * The status and JSON body of a response.
+     */
+    private static class Response {
+        private final int status;
+        private final byte[] body;
+
+        Response(int status, byte[] body) {
+            this.status = status;
+            this.body = body;
+        }
+
+        static Response of(int status, Object body) {
+            return new Response(status, toJson(body));
+        }
+
+        static Response error(int status, String message) {
+            return of(status, new ErrorResponse(message));
+        }
+    }
+
+    /**
+     * The JSON of a response generated from a snapshot of the AddressBook.
+     */
+    private static class CachedBody {
+        private final ReadOnlyAddressBook source;
+        private final byte[] body;
+
+        CachedBody(ReadOnlyAddressBook source, byte[] body) {
+            this.source = source;
+            this.body = body;
+        }
+    }
+
+    /**
+     * The body of a command request.
+     */
+    private static class CommandRequest {
+        private String command;
+    }
+
+    /**
+     * The feedback of a command, and the reason its changes could not be saved, if they could not.
+     */
+    private static class CommandResponse {
+        private final String feedback;
+        private final String saveError;
+
+        CommandResponse(String feedback, String saveError) {
+            this.feedback = feedback;
+            this.saveError = saveError;
+        }
+
+        CommandResponse(CommandResult commandResult) {
+            this(commandResult.getFeedbackToUser(), commandResult.getSaveError().orElse(null));
+        }
+    }
+
+    private static class ErrorResponse {
+        private final String error;
+
+        ErrorResponse(String error) {
+            this.error = error;
+        }
+    }
+
+    private static class PersonsResponse {
+        private final List<PersonResponse> persons;
+
+        PersonsResponse(List<Person> persons) {
+            this.persons = persons.stream().map(PersonResponse::new).collect(Collectors.toList());
+        }
+    }
+
+    private static class MeetingsResponse {
+        private final List<MeetingResponse> meetings;
+
+        MeetingsResponse(List<Meeting> meetings) {
+            this.meetings = meetings.stream().map(MeetingResponse::new).collect(Collectors.toList());
+        }
+    }
+
+    private static class PersonModules {
+        private final String name;
+        private final String email;
+        private final List<ModuleResponse> modules;
+
+        PersonModules(Person person, List<ModuleResponse> modules) {
+            this.name = person.getName().fullName;
+            this.email = person.getEmail().value;
+            this.modules = modules;
+        }
+    }
+
+    private static class TimetableResponse {
+        private final String week;
+        private final List<MeetingResponse> meetings;
+        private final List<PersonModules> modules;
+
+        TimetableResponse(LocalDate week, List<Meeting> meetings, List<PersonModules> modules) {
+            this.week = week.format(Meeting.DATE_TO_STRING_FORMATTER);
+            this.meetings = meetings.stream().map(MeetingResponse::new).collect(Collectors.toList());
+            this.modules = modules;
+        }
+    }
+}
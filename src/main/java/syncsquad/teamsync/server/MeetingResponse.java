@@ -0,0 +1,33 @@
+package syncsquad.teamsync.server;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import syncsquad.teamsync.model.meeting.Meeting;
+import syncsquad.teamsync.model.meeting.Recurrence;
+
+/**
+ * The JSON of a {@link Meeting} in a response of the API.
+ */
+class MeetingResponse {
+    private final String date;
+    private final String startTime;
+    private final String endTime;
+    private final List<String> attendees;
+    private final Integer repeatWeeks;
+    private final String repeatUntil;
+
+    /**
+     * Creates the response for {@code source}. A meeting that does not repeat has no repeat interval or date.
+     */
+    MeetingResponse(Meeting source) {
+        date = source.getDateString();
+        startTime = source.getStartTimeString();
+        endTime = source.getEndTimeString();
+        attendees = source.getAttendees().stream().map(email -> email.value).collect(Collectors.toList());
+        repeatWeeks = source.getRecurrence().map(Recurrence::getIntervalWeeks).orElse(null);
+        repeatUntil = source.getRecurrence()
+                .map(recurrence -> recurrence.getUntil().format(Meeting.DATE_TO_STRING_FORMATTER))
+                .orElse(null);
+    }
+}
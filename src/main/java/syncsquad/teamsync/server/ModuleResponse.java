@@ -0,0 +1,25 @@
+package syncsquad.teamsync.server;
+
+import syncsquad.teamsync.model.module.Module;
+
+/**
+ * The JSON of a {@link Module} in a response of the API.
+ */
+class ModuleResponse {
+    private final String moduleCode;
+    private final String day;
+    private final String startTime;
+    private final String endTime;
+    private final String teachingWeeks;
+
+    /**
+     * Creates the response for {@code source}. A module held every week has no teaching weeks.
+     */
+    ModuleResponse(Module source) {
+        moduleCode = source.getModuleCode().code;
+        day = source.getDay().day;
+        startTime = source.getStartTime().toString();
+        endTime = source.getEndTime().toString();
+        teachingWeeks = source.getTeachingWeeks().isEveryWeek() ? null : source.getTeachingWeeks().toString();
+    }
+}
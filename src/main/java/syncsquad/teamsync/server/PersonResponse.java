@@ -0,0 +1,27 @@
+package syncsquad.teamsync.server;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import syncsquad.teamsync.model.person.Person;
+
+/**
+ * The JSON of a {@link Person} in a response of the API.
+ */
+class PersonResponse {
+    private final String name;
+    private final String phone;
+    private final String email;
+    private final String address;
+    private final List<ModuleResponse> modules;
+    private final List<String> tags;
+
+    PersonResponse(Person source) {
+        name = source.getName().fullName;
+        phone = source.getPhone().value;
+        email = source.getEmail().value;
+        address = source.getAddress().value;
+        modules = source.getModules().stream().map(ModuleResponse::new).collect(Collectors.toList());
+        tags = source.getTags().stream().map(tag -> tag.tagName).collect(Collectors.toList());
+    }
+}
@@ -2,6 +2,11 @@ package syncsquad.teamsync.storage;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
@@ -10,6 +15,8 @@ import syncsquad.teamsync.commons.exceptions.IllegalValueException;
 import syncsquad.teamsync.logic.parser.ParserUtil;
 import syncsquad.teamsync.logic.parser.exceptions.ParseException;
 import syncsquad.teamsync.model.meeting.Meeting;
+import syncsquad.teamsync.model.meeting.Recurrence;
+import syncsquad.teamsync.model.person.Email;
 
 /**
  * Jackson-friendly version of {@link Meeting}.
@@ -26,16 +33,29 @@ class JsonAdaptedMeeting {
     private final String date;
     private final String startTime;
     private final String endTime;
+    private final List<String> attendees = new ArrayList<>();
+    private final Integer repeatWeeks;
+    private final String repeatUntil;
 
     /**
      * Constructs a {@code JsonAdaptedMeeting} with the given meeting details.
+     * Meetings saved before attendees were recorded have no attendees. A meeting without a repeat interval and
+     * date takes place once, and a recurring meeting is saved once for the whole series.
      */
     @JsonCreator
     public JsonAdaptedMeeting(@JsonProperty("date") String date, @JsonProperty("start time") String startTime,
-                             @JsonProperty("end time") String endTime) {
+                             @JsonProperty("end time") String endTime,
+                             @JsonProperty("attendees") List<String> attendees,
+                             @JsonProperty("repeatWeeks") Integer repeatWeeks,
+                             @JsonProperty("repeatUntil") String repeatUntil) {
         this.date = date;
         this.startTime = startTime;
         this.endTime = endTime;
+        if (attendees != null) {
+            this.attendees.addAll(attendees);
+        }
+        this.repeatWeeks = repeatWeeks;
+        this.repeatUntil = repeatUntil;
     }
 
     /**
@@ -46,6 +66,13 @@ class JsonAdaptedMeeting {
         date = source.getDateString();
         startTime = source.getStartTimeString();
         endTime = source.getEndTimeString();
+        attendees.addAll(source.getAttendees().stream()
+                .map(email -> email.value)
+                .collect(Collectors.toList()));
+        repeatWeeks = source.getRecurrence().map(Recurrence::getIntervalWeeks).orElse(null);
+        repeatUntil = source.getRecurrence()
+                .map(recurrence -> recurrence.getUntil().format(Meeting.DATE_TO_STRING_FORMATTER))
+                .orElse(null);
     }
 
     /**
@@ -71,10 +98,41 @@ class JsonAdaptedMeeting {
             if (!endTime.isAfter(startTime)) {
                 throw new IllegalValueException(Meeting.MESSAGE_CONSTRAINTS);
             }
-            return new Meeting(date, startTime, endTime);
+            final Set<Email> attendees = toModelAttendees();
+            if (repeatWeeks == null && repeatUntil == null) {
+                return new Meeting(date, startTime, endTime, attendees);
+            }
+            return new Meeting(date, startTime, endTime, attendees, toModelRecurrence(date));
         } catch (ParseException e) {
             throw new IllegalValueException(Meeting.MESSAGE_CONSTRAINTS);
         }
     }
 
+    private Recurrence toModelRecurrence(LocalDate date) throws IllegalValueException {
+        if (repeatWeeks == null || repeatUntil == null || !Recurrence.isValidIntervalWeeks(repeatWeeks)) {
+            throw new IllegalValueException(Recurrence.MESSAGE_CONSTRAINTS);
+        }
+        final LocalDate until;
+        try {
+            until = ParserUtil.parseDate(repeatUntil);
+        } catch (ParseException e) {
+            throw new IllegalValueException(Recurrence.MESSAGE_CONSTRAINTS);
+        }
+        if (until.isBefore(date)) {
+            throw new IllegalValueException(Recurrence.MESSAGE_CONSTRAINTS);
+        }
+        return new Recurrence(repeatWeeks, until);
+    }
+
+    private Set<Email> toModelAttendees() throws IllegalValueException {
+        final Set<Email> modelAttendees = new HashSet<>();
+        for (String attendee : attendees) {
+            if (attendee == null || !Email.isValidEmail(attendee)) {
+                throw new IllegalValueException(Email.MESSAGE_CONSTRAINTS);
+            }
+            modelAttendees.add(new Email(attendee));
+        }
+        return modelAttendees;
+    }
+
 }
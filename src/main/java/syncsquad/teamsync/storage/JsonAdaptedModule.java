@@ -10,6 +10,7 @@ import syncsquad.teamsync.commons.exceptions.IllegalValueException;
 import syncsquad.teamsync.model.module.Day;
 import syncsquad.teamsync.model.module.Module;
 import syncsquad.teamsync.model.module.ModuleCode;
+import syncsquad.teamsync.model.module.TeachingWeeks;
 
 /**
  * Jackson-friendly version of {@link Module}.
@@ -22,17 +23,21 @@ class JsonAdaptedModule {
     private final String day;
     private final String startTime;
     private final String endTime;
+    private final String teachingWeeks;
 
     /**
      * Constructs a {@code JsonAdaptedModule} with the given person details.
+     * A module without teaching weeks is held every week.
      */
     @JsonCreator
     public JsonAdaptedModule(@JsonProperty("moduleCode") String moduleCode, @JsonProperty("day") String day,
-                             @JsonProperty("startTime") String startTime, @JsonProperty("endTime") String endTime) {
+                             @JsonProperty("startTime") String startTime, @JsonProperty("endTime") String endTime,
+                             @JsonProperty("teachingWeeks") String teachingWeeks) {
         this.moduleCode = moduleCode;
         this.day = day;
         this.startTime = startTime;
         this.endTime = endTime;
+        this.teachingWeeks = teachingWeeks;
     }
 
     /**
@@ -43,6 +48,7 @@ class JsonAdaptedModule {
         day = source.getDay().day;
         startTime = source.getStartTime().toString();
         endTime = source.getEndTime().toString();
+        teachingWeeks = source.getTeachingWeeks().isEveryWeek() ? null : source.getTeachingWeeks().toString();
     }
 
     /**
@@ -59,7 +65,7 @@ class JsonAdaptedModule {
         if (!ModuleCode.isValidModuleCode(moduleCode)) {
             throw new IllegalValueException(ModuleCode.MESSAGE_CONSTRAINTS);
         }
-        final ModuleCode moduleCode = new ModuleCode(this.moduleCode);
+        final ModuleCode moduleCode = ModuleCode.of(this.moduleCode);
 
         if (day == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Day.class.getSimpleName()));
@@ -67,7 +73,7 @@ class JsonAdaptedModule {
         if (!Day.isValidDay(day)) {
             throw new IllegalValueException(Day.MESSAGE_CONSTRAINTS);
         }
-        final Day day = new Day(this.day);
+        final Day day = Day.of(this.day);
 
         if (startTime == null) {
             throw new IllegalValueException(String.format(
@@ -79,13 +85,20 @@ class JsonAdaptedModule {
                     MISSING_FIELD_MESSAGE_FORMAT, "endTime"));
         }
 
+        if (teachingWeeks != null && !TeachingWeeks.isValidTeachingWeeks(teachingWeeks)) {
+            throw new IllegalValueException(TeachingWeeks.MESSAGE_CONSTRAINTS);
+        }
+        final TeachingWeeks teachingWeeks = this.teachingWeeks == null
+                ? TeachingWeeks.EVERY_WEEK
+                : TeachingWeeks.of(this.teachingWeeks);
+
         try {
             final LocalTime startScheduleTime = LocalTime.parse(this.startTime);
             final LocalTime endScheduleTime = LocalTime.parse(this.endTime);
             if (!endScheduleTime.isAfter(startScheduleTime)) {
                 throw new IllegalValueException(Module.MESSAGE_CONSTRAINTS);
             }
-            return new Module(moduleCode, day, startScheduleTime, endScheduleTime);
+            return new Module(moduleCode, day, startScheduleTime, endScheduleTime, teachingWeeks);
         } catch (DateTimeParseException e) {
             throw new IllegalValueException(Module.MESSAGE_CONSTRAINTS);
         }
@@ -12,7 +12,10 @@ import syncsquad.teamsync.commons.exceptions.IllegalValueException;
 import syncsquad.teamsync.model.AddressBook;
 import syncsquad.teamsync.model.ReadOnlyAddressBook;
 import syncsquad.teamsync.model.meeting.Meeting;
+import syncsquad.teamsync.model.meeting.exceptions.DuplicateMeetingException;
+import syncsquad.teamsync.model.person.Email;
 import syncsquad.teamsync.model.person.Person;
+import syncsquad.teamsync.model.person.exceptions.DuplicatePersonException;
 
 /**
  * An Immutable AddressBook that is serializable to JSON format.
@@ -23,6 +26,8 @@ class JsonSerializableAddressBook {
     public static final String MESSAGE_DUPLICATE_PERSON = "Persons list contains duplicate person(s).";
     public static final String MESSAGE_DUPLICATE_MEETING = "Meetings list contains duplicate meeting(s).";
     public static final String MESSAGE_OVERLAPPING_MEETING = "Meetings list contains overlapping meeting(s).";
+    public static final String MESSAGE_UNKNOWN_ATTENDEE =
+            "Meetings list contains attendee(s) who are not in the persons list.";
 
     private final List<JsonAdaptedPerson> persons = new ArrayList<>();
     private final List<JsonAdaptedMeeting> meetings = new ArrayList<>();
@@ -54,23 +59,37 @@ class JsonSerializableAddressBook {
      */
     public AddressBook toModelType() throws IllegalValueException {
         AddressBook addressBook = new AddressBook();
+
+        List<Person> modelPersons = new ArrayList<>(persons.size());
         for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType();
-            if (addressBook.hasPerson(person)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
-            }
-            addressBook.addPerson(person);
+            modelPersons.add(jsonAdaptedPerson.toModelType());
+        }
+        try {
+            addressBook.setPersons(modelPersons);
+        } catch (DuplicatePersonException e) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
         }
+
+        List<Meeting> modelMeetings = new ArrayList<>(meetings.size());
         for (JsonAdaptedMeeting jsonAdaptedMeeting : meetings) {
-            Meeting meeting = jsonAdaptedMeeting.toModelType();
-            if (addressBook.hasMeeting(meeting)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_MEETING);
-            }
-            if (addressBook.hasOverlappingMeeting(meeting)) {
-                throw new IllegalValueException(MESSAGE_OVERLAPPING_MEETING);
+            modelMeetings.add(jsonAdaptedMeeting.toModelType());
+        }
+        try {
+            addressBook.setMeetings(modelMeetings);
+        } catch (DuplicateMeetingException e) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_MEETING);
+        }
+        if (addressBook.hasOverlappingMeetings()) {
+            throw new IllegalValueException(MESSAGE_OVERLAPPING_MEETING);
+        }
+        for (Meeting meeting : modelMeetings) {
+            for (Email attendee : meeting.getAttendees()) {
+                if (addressBook.getPersonWithEmail(attendee).isEmpty()) {
+                    throw new IllegalValueException(MESSAGE_UNKNOWN_ATTENDEE);
+                }
             }
-            addressBook.addMeeting(meeting);
         }
+
         return addressBook;
     }
 
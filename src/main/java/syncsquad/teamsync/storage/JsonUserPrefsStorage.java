@@ -3,7 +3,9 @@ package syncsquad.teamsync.storage;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.logging.Logger;
 
+import syncsquad.teamsync.commons.core.LogsCenter;
 import syncsquad.teamsync.commons.exceptions.DataLoadingException;
 import syncsquad.teamsync.commons.util.JsonUtil;
 import syncsquad.teamsync.model.ReadOnlyUserPrefs;
@@ -14,6 +16,8 @@ import syncsquad.teamsync.model.UserPrefs;
  */
 public class JsonUserPrefsStorage implements UserPrefsStorage {
 
+    private static final Logger logger = LogsCenter.getLogger(JsonUserPrefsStorage.class);
+
     private Path filePath;
 
     public JsonUserPrefsStorage(Path filePath) {
@@ -32,11 +36,19 @@ public class JsonUserPrefsStorage implements UserPrefsStorage {
 
     /**
      * Similar to {@link #readUserPrefs()}
+     * Jackson sets the fields of the prefs directly, so values that the setters would reject are replaced with
+     * their defaults here.
      * @param prefsFilePath location of the data. Cannot be null.
      * @throws DataLoadingException if the file format is not as expected.
      */
     public Optional<UserPrefs> readUserPrefs(Path prefsFilePath) throws DataLoadingException {
-        return JsonUtil.readJsonFile(prefsFilePath, UserPrefs.class);
+        Optional<UserPrefs> userPrefs = JsonUtil.readJsonFile(prefsFilePath, UserPrefs.class);
+        userPrefs.filter(prefs -> prefs.getUndoLimit() < 0).ifPresent(prefs -> {
+            logger.warning("Undo limit " + prefs.getUndoLimit() + " in " + prefsFilePath
+                    + " is negative. Using the default of " + UserPrefs.DEFAULT_UNDO_LIMIT + " instead.");
+            prefs.setUndoLimit(UserPrefs.DEFAULT_UNDO_LIMIT);
+        });
+        return userPrefs;
     }
 
     @Override
@@ -0,0 +1,143 @@
+package syncsquad.teamsync.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Logger;
+
+import syncsquad.teamsync.commons.core.LogsCenter;
+import syncsquad.teamsync.commons.util.StringUtil;
+import syncsquad.teamsync.model.ReadOnlyAddressBook;
+
+/**
+ * Saves the AddressBook in the background, so that commands do not wait for the data file to be written.
+ *
+ * Each save works from an immutable snapshot of the AddressBook, so the model can keep changing while it is being
+ * written. Saves requested while another save is queued or running are coalesced, so a burst of commands is saved
+ * once, with the data of the latest command. A failed save is kept until it is taken with {@link #takeError()}, so
+ * that it can still be reported to the user.
+ */
+public class WriteBehindSaver {
+
+    private static final Logger logger = LogsCenter.getLogger(WriteBehindSaver.class);
+
+    private final Storage storage;
+    private final Executor executor;
+
+    /** Held while the data file is being written, so that saves never overlap. */
+    private final Object saveLock = new Object();
+
+    // Guarded by this
+    private ReadOnlyAddressBook pendingAddressBook;
+    private boolean isSaveQueued;
+    private IOException error;
+
+    /**
+     * Creates a {@code WriteBehindSaver} that saves to {@code storage} on a background thread of its own.
+     */
+    public WriteBehindSaver(Storage storage) {
+        this(storage, Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "address-book-saver");
+            thread.setDaemon(true);
+            return thread;
+        }));
+    }
+
+    /**
+     * Creates a {@code WriteBehindSaver} that saves to {@code storage} by running saves on {@code executor}.
+     * An executor that runs tasks in the calling thread makes every save synchronous.
+     */
+    public WriteBehindSaver(Storage storage, Executor executor) {
+        requireNonNull(storage);
+        requireNonNull(executor);
+        this.storage = storage;
+        this.executor = executor;
+    }
+
+    /**
+     * Returns a {@code WriteBehindSaver} that saves to {@code storage} before {@link #save} returns.
+     */
+    public static WriteBehindSaver synchronous(Storage storage) {
+        return new WriteBehindSaver(storage, Runnable::run);
+    }
+
+    /**
+     * Saves {@code addressBook} in the background. {@code addressBook} must not be modified afterwards, e.g. it is
+     * a snapshot taken with {@code Model#getAddressBookSnapshot()}.
+     */
+    public void save(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        synchronized (this) {
+            pendingAddressBook = addressBook;
+            if (isSaveQueued) {
+                return;
+            }
+            isSaveQueued = true;
+        }
+        executor.execute(this::savePending);
+    }
+
+    /**
+     * Saves the AddressBook that is waiting to be saved, if any, and waits for any save in progress to finish.
+     *
+     * @throws IOException if the AddressBook waiting to be saved could not be saved.
+     */
+    public void flush() throws IOException {
+        savePending();
+        Optional<IOException> flushError = takeError();
+        if (flushError.isPresent()) {
+            throw flushError.get();
+        }
+    }
+
+    /**
+     * Saves the AddressBook that is waiting to be saved, then stops the background thread.
+     *
+     * @throws IOException if the AddressBook waiting to be saved could not be saved.
+     */
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            if (executor instanceof ExecutorService) {
+                ((ExecutorService) executor).shutdown();
+            }
+        }
+    }
+
+    /**
+     * Returns the error of the last save that failed since this was last called, if any.
+     */
+    public synchronized Optional<IOException> takeError() {
+        IOException takenError = error;
+        error = null;
+        return Optional.ofNullable(takenError);
+    }
+
+    private void savePending() {
+        synchronized (saveLock) {
+            ReadOnlyAddressBook addressBook;
+            synchronized (this) {
+                addressBook = pendingAddressBook;
+                pendingAddressBook = null;
+                isSaveQueued = false;
+            }
+            if (addressBook == null) {
+                return;
+            }
+
+            try {
+                storage.saveAddressBook(addressBook);
+            } catch (IOException e) {
+                logger.warning("Failed to save address book: " + StringUtil.getDetails(e));
+                synchronized (this) {
+                    error = e;
+                }
+            }
+        }
+    }
+}
@@ -2,6 +2,8 @@ package syncsquad.teamsync.viewmodel;
 
 import java.nio.file.Path;
 import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
 import java.util.logging.Logger;
 
 import javafx.beans.property.BooleanProperty;
@@ -10,6 +12,7 @@ import javafx.beans.property.SimpleObjectProperty;
 import syncsquad.teamsync.commons.core.GuiSettings;
 import syncsquad.teamsync.commons.core.LogsCenter;
 import syncsquad.teamsync.logic.Logic;
+import syncsquad.teamsync.logic.commands.CommandHelp;
 import syncsquad.teamsync.logic.commands.CommandResult;
 import syncsquad.teamsync.logic.commands.exceptions.CommandException;
 import syncsquad.teamsync.logic.parser.exceptions.ParseException;
@@ -36,6 +39,8 @@ import syncsquad.teamsync.logic.parser.exceptions.ParseException;
  * @see syncsquad.teamsync.logic.Logic
  */
 public class MainViewModel {
+    public static final String MESSAGE_EXIT_UNSAVED = "Exit again to exit without saving.";
+
     private final CommandBoxViewModel commandBoxViewModel;
     private final ResultDisplayViewModel resultDisplayViewModel;
     private final PersonListViewModel personListViewModel;
@@ -48,9 +53,11 @@ public class MainViewModel {
     private SimpleObjectProperty<GuiSettings> guiSettings;
     private SimpleObjectProperty<Path> addressBookFilePath;
     private SimpleObjectProperty<LocalDate> currentWeek;
+    private Optional<LocalDate> semesterStart;
 
     private BooleanProperty isShowingHelp = new SimpleBooleanProperty(false);
     private BooleanProperty isExiting = new SimpleBooleanProperty(false);
+    private boolean hasReportedUnsavedExit;
 
     /**
      * Represents the ViewModel for the main view of the application.
@@ -63,9 +70,10 @@ public class MainViewModel {
         this.guiSettings = new SimpleObjectProperty<>(logic.getGuiSettings());
         this.addressBookFilePath = new SimpleObjectProperty<>(logic.getAddressBookFilePath());
         this.currentWeek = logic.getCurrentWeek().currentWeekProperty();
+        this.semesterStart = logic.getSemesterStart();
         this.commandBoxViewModel = new CommandBoxViewModel(this::executeCommand);
         this.resultDisplayViewModel = new ResultDisplayViewModel();
-        this.personListViewModel = new PersonListViewModel(logic.getFilteredPersonList());
+        this.personListViewModel = new PersonListViewModel(logic.filteredPersonListProperty());
         this.meetingListViewModel = new MeetingListViewModel(
             logic.getMeetingList(),
             logic.getCurrentWeek().currentWeekProperty());
@@ -107,6 +115,14 @@ public class MainViewModel {
         return currentWeek;
     }
 
+    public Optional<LocalDate> getSemesterStart() {
+        return semesterStart;
+    }
+
+    public List<CommandHelp> getCommandHelp() {
+        return logic.getCommandHelp();
+    }
+
     /**
      * Saves the gui settings.
      *
@@ -128,13 +144,20 @@ public class MainViewModel {
         try {
             CommandResult commandResult = logic.execute(commandText);
             logger.info("Result: " + commandResult.getFeedbackToUser());
-            resultDisplayViewModel.setFeedbackToUser(commandResult.getFeedbackToUser());
+            Optional<String> saveError = commandResult.getSaveError();
+            resultDisplayViewModel.setFeedbackToUser(saveError
+                    .map(error -> commandResult.getFeedbackToUser() + "\n" + error)
+                    .orElse(commandResult.getFeedbackToUser()));
 
             if (commandResult.isShowHelp()) {
                 isShowingHelp.set(true);
             }
 
-            if (commandResult.isExit()) {
+            // The first attempt to exit with unsaved data stays open, so that the user sees the data is not saved.
+            if (commandResult.isExit() && saveError.isPresent() && !hasReportedUnsavedExit) {
+                hasReportedUnsavedExit = true;
+                resultDisplayViewModel.setFeedbackToUser(saveError.get() + "\n" + MESSAGE_EXIT_UNSAVED);
+            } else if (commandResult.isExit()) {
                 isExiting.set(true);
             }
 
@@ -2,6 +2,7 @@ package syncsquad.teamsync.viewmodel;
 
 import javafx.beans.property.ReadOnlyListProperty;
 import javafx.beans.property.ReadOnlyListWrapper;
+import javafx.beans.value.ObservableValue;
 import javafx.collections.ObservableList;
 import syncsquad.teamsync.model.person.Person;
 
@@ -21,6 +22,17 @@ public class PersonListViewModel {
         this.personList = new ReadOnlyListWrapper<Person>(personList);
     }
 
+    /**
+     * Constructs a PersonListViewModel that shows whichever list of Person objects {@code personList} holds,
+     * following it as it is swapped for another list, e.g. when the persons are sorted.
+     *
+     * @param personList the property holding the unmodifiable observable list of Person objects
+     */
+    public PersonListViewModel(ObservableValue<ObservableList<Person>> personList) {
+        this.personList = new ReadOnlyListWrapper<Person>();
+        this.personList.bind(personList);
+    }
+
     public ReadOnlyListProperty<Person> personListProperty() {
         return personList.getReadOnlyProperty();
     }
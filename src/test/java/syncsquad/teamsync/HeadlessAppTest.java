@@ -0,0 +1,130 @@
+package syncsquad.teamsync;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static syncsquad.teamsync.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static syncsquad.teamsync.testutil.Assert.assertThrows;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import syncsquad.teamsync.logic.LogicManager;
+import syncsquad.teamsync.logic.commands.ClearCommand;
+import syncsquad.teamsync.logic.commands.ExitCommand;
+import syncsquad.teamsync.logic.commands.RunCommand;
+import syncsquad.teamsync.logic.commands.UndoCommand;
+import syncsquad.teamsync.logic.commands.person.ListCommand;
+import syncsquad.teamsync.model.ModelManager;
+import syncsquad.teamsync.model.ReadOnlyAddressBook;
+import syncsquad.teamsync.storage.JsonAddressBookStorage;
+import syncsquad.teamsync.storage.JsonUserPrefsStorage;
+import syncsquad.teamsync.storage.StorageManager;
+import syncsquad.teamsync.storage.WriteBehindSaver;
+
+public class HeadlessAppTest {
+
+    private static final String LIST_COMMAND = "person " + ListCommand.COMMAND_WORD;
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    private HeadlessApp app;
+
+    @BeforeEach
+    public void setUp() {
+        StorageManager storage = new StorageManager(
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        app = new HeadlessApp(new LogicManager(new ModelManager(), storage),
+                new PrintStream(output, true, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void constructor_nullArguments_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new HeadlessApp(null, System.out));
+    }
+
+    @Test
+    public void run_commandsUntilEndOfInput_resultsPrinted() throws Exception {
+        app.run(new StringReader(LIST_COMMAND + "\n\n   \nunknown\n" + UndoCommand.COMMAND_WORD), false);
+
+        assertEquals(String.join(System.lineSeparator(), ListCommand.MESSAGE_SUCCESS, MESSAGE_UNKNOWN_COMMAND,
+                UndoCommand.MESSAGE_FAILURE, ""), outputText());
+        assertEquals(2, app.getFailedCommandCount());
+    }
+
+    @Test
+    public void run_exitCommand_stopsReading() throws Exception {
+        app.run(new StringReader(ExitCommand.COMMAND_WORD + "\n" + LIST_COMMAND + "\n"), true);
+
+        assertEquals(HeadlessApp.PROMPT + ExitCommand.MESSAGE_EXIT_ACKNOWLEDGEMENT + System.lineSeparator(),
+                outputText());
+        assertEquals(0, app.getFailedCommandCount());
+    }
+
+    @Test
+    public void execute_returnsWhetherToExit() {
+        assertTrue(app.execute(ExitCommand.COMMAND_WORD));
+        assertFalse(app.execute(LIST_COMMAND));
+        assertFalse(app.execute("unknown"));
+    }
+
+    @Test
+    public void execute_scriptWithFailedLines_failedLinesCountedAndExitStatusOne() throws Exception {
+        Path script = temporaryFolder.resolve("script.txt");
+        Files.writeString(script, LIST_COMMAND);
+        app.execute(RunCommand.COMMAND_WORD + " " + script);
+        assertEquals(0, app.getExitStatus());
+
+        Files.writeString(script, String.join("\n", LIST_COMMAND, "unknown", "person delete 9"));
+        assertFalse(app.execute(RunCommand.COMMAND_WORD + " " + script));
+        assertEquals(2, app.getFailedCommandCount());
+        assertEquals(1, app.getExitStatus());
+    }
+
+    @Test
+    public void flush_saveFails_errorPrintedAndExitStatusOne() {
+        JsonAddressBookStorage failingStorage = new JsonAddressBookStorage(temporaryFolder.resolve("ab.json")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                throw new IOException("disk full");
+            }
+        };
+        StorageManager storage = new StorageManager(failingStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        // Saves are queued but never run, as if the application exited before the background save
+        app = new HeadlessApp(new LogicManager(new ModelManager(), new WriteBehindSaver(storage, unused -> { })),
+                new PrintStream(output, true, StandardCharsets.UTF_8));
+
+        app.execute(ClearCommand.COMMAND_WORD);
+        assertEquals(0, app.getExitStatus());
+
+        app.flush();
+        assertEquals(String.join(System.lineSeparator(), ClearCommand.MESSAGE_SUCCESS,
+                String.format(LogicManager.FILE_OPS_ERROR_FORMAT, "disk full"), ""), outputText());
+        assertEquals(0, app.getFailedCommandCount());
+        assertEquals(1, app.getExitStatus());
+    }
+
+    @Test
+    public void getNamedParameters() {
+        String[] args = {HeadlessApp.HEADLESS_OPTION, "--config=config.json", "--script=a=b.txt", "-x=1", "--=2"};
+        assertEquals(Map.of("config", "config.json", "script", "a=b.txt"), HeadlessApp.getNamedParameters(args));
+    }
+
+    private String outputText() {
+        return output.toString(StandardCharsets.UTF_8);
+    }
+}
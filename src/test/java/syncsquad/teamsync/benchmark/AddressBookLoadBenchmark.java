@@ -0,0 +1,68 @@
+package syncsquad.teamsync.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import syncsquad.teamsync.commons.exceptions.DataLoadingException;
+import syncsquad.teamsync.model.AddressBook;
+import syncsquad.teamsync.model.person.Person;
+import syncsquad.teamsync.storage.JsonAddressBookStorage;
+import syncsquad.teamsync.testutil.PersonBuilder;
+
+/**
+ * Measures how long it takes to load address books of increasing size from a json file.
+ * Run with {@code ./gradlew benchmark -Pbenchmark=AddressBookLoadBenchmark}.
+ *
+ * If loading scales linearly, the time taken per thousand persons should stay roughly constant as the
+ * address book grows.
+ */
+public class AddressBookLoadBenchmark {
+
+    private static final int[] SIZES = {25_000, 50_000, 100_000, 200_000};
+    private static final int WARMUP_RUNS = 3;
+    private static final int MEASURED_RUNS = 5;
+
+    public static void main(String[] args) throws IOException, DataLoadingException {
+        Path tempDir = Files.createTempDirectory("teamsync-benchmark");
+        System.out.printf("%10s %12s %16s%n", "persons", "load (ms)", "ms per 1k");
+        for (int size : SIZES) {
+            Path file = tempDir.resolve("addressbook-" + size + ".json");
+            JsonAddressBookStorage storage = new JsonAddressBookStorage(file);
+            storage.saveAddressBook(createAddressBook(size));
+
+            for (int i = 0; i < WARMUP_RUNS; i++) {
+                storage.readAddressBook();
+            }
+            long start = System.nanoTime();
+            for (int i = 0; i < MEASURED_RUNS; i++) {
+                storage.readAddressBook();
+            }
+            double millis = (System.nanoTime() - start) / 1e6 / MEASURED_RUNS;
+            System.out.printf("%10d %12.1f %16.3f%n", size, millis, millis * 1000 / size);
+
+            Files.delete(file);
+        }
+        Files.delete(tempDir);
+    }
+
+    /**
+     * Returns an address book with {@code size} distinct persons.
+     */
+    private static AddressBook createAddressBook(int size) {
+        List<Person> persons = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            persons.add(new PersonBuilder()
+                    .withName("Person " + i)
+                    .withPhone(String.format("9%07d", i))
+                    .withEmail("person" + i + "@example.com")
+                    .withAddress("Block " + i + ", Example Street")
+                    .build());
+        }
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(persons);
+        return addressBook;
+    }
+}
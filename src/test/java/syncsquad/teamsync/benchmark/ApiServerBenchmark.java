@@ -0,0 +1,134 @@
+package syncsquad.teamsync.benchmark;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import syncsquad.teamsync.logic.Logic;
+import syncsquad.teamsync.logic.LogicManager;
+import syncsquad.teamsync.logic.commands.RunCommand;
+import syncsquad.teamsync.model.ModelManager;
+import syncsquad.teamsync.server.ApiServer;
+import syncsquad.teamsync.storage.JsonAddressBookStorage;
+import syncsquad.teamsync.storage.JsonUserPrefsStorage;
+import syncsquad.teamsync.storage.StorageManager;
+
+/**
+ * Measures how many requests per second the {@link ApiServer} serves for an address book of 1000 people, with
+ * several clients reading the persons, both on their own and while another client keeps adding people.
+ * Run with {@code ./gradlew benchmark -Pbenchmark=ApiServerBenchmark}.
+ */
+public class ApiServerBenchmark {
+
+    private static final int PEOPLE = 1_000;
+    private static final int READERS = 8;
+    private static final long DURATION_MILLIS = 5_000;
+
+    public static void main(String[] args) throws Exception {
+        Path folder = Files.createTempDirectory("teamsync-benchmark");
+        StorageManager storage = new StorageManager(new JsonAddressBookStorage(folder.resolve("addressbook.json")),
+                new JsonUserPrefsStorage(folder.resolve("preferences.json")));
+        Logic logic = new LogicManager(new ModelManager(), storage);
+        Path script = Files.write(folder.resolve("cohort.txt"), createAddCommands(0, PEOPLE));
+        logic.execute(RunCommand.COMMAND_WORD + " " + script);
+
+        ExecutorService writer = Executors.newSingleThreadExecutor();
+        ApiServer server = new ApiServer(logic, writer, 0, folder.resolve(ApiServer.TOKEN_FILE_NAME));
+        server.start();
+        try {
+            String base = "http://localhost:" + server.getPort();
+            System.out.printf("%20s %16s %16s%n", "scenario", "reads/s", "commands/s");
+            measure("reads only", base, server.getToken(), false);
+            measure("reads and writes", base, server.getToken(), true);
+        } finally {
+            server.stop();
+            writer.shutdown();
+        }
+    }
+
+    private static void measure(String scenario, String base, String token, boolean isWriting) throws Exception {
+        URL persons = new URL(base + ApiServer.PERSONS_PATH);
+        URL commandsUrl = new URL(base + ApiServer.COMMANDS_PATH);
+        AtomicBoolean isRunning = new AtomicBoolean(true);
+        AtomicInteger reads = new AtomicInteger();
+        AtomicInteger commands = new AtomicInteger();
+        List<Thread> clients = new ArrayList<>();
+        for (int i = 0; i < READERS; i++) {
+            clients.add(new Thread(() -> {
+                while (isRunning.get()) {
+                    send(persons, token, null);
+                    reads.incrementAndGet();
+                }
+            }));
+        }
+        if (isWriting) {
+            clients.add(new Thread(() -> {
+                int next = PEOPLE;
+                while (isRunning.get()) {
+                    String command = createAddCommands(next++, 1).get(0);
+                    send(commandsUrl, token, "{\"command\": \"" + command + "\"}");
+                    commands.incrementAndGet();
+                }
+            }));
+        }
+
+        clients.forEach(Thread::start);
+        Thread.sleep(DURATION_MILLIS);
+        isRunning.set(false);
+        for (Thread thread : clients) {
+            thread.join();
+        }
+        double seconds = DURATION_MILLIS / 1000.0;
+        System.out.printf("%20s %16.0f %16.0f%n", scenario, reads.get() / seconds, commands.get() / seconds);
+    }
+
+    /**
+     * Sends a GET request to {@code url} with {@code token}, or a POST request of the JSON {@code body} if it is not
+     * null, and reads the response. The connection is kept alive for the next request of the thread.
+     */
+    private static void send(URL url, String token, String body) {
+        try {
+            HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+            connection.setRequestProperty(ApiServer.TOKEN_HEADER, token);
+            if (body != null) {
+                connection.setRequestMethod("POST");
+                connection.setRequestProperty("Content-Type", ApiServer.JSON_CONTENT_TYPE);
+                connection.setDoOutput(true);
+                try (OutputStream output = connection.getOutputStream()) {
+                    output.write(body.getBytes(StandardCharsets.UTF_8));
+                }
+            }
+            if (connection.getResponseCode() != 200) {
+                throw new AssertionError("Request failed with status " + connection.getResponseCode());
+            }
+            try (InputStream input = connection.getInputStream()) {
+                input.readAllBytes();
+            }
+        } catch (IOException e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    /**
+     * Returns {@code count} {@code person add} commands that add different people, numbered from {@code first}.
+     */
+    private static List<String> createAddCommands(int first, int count) {
+        List<String> commands = new ArrayList<>(count);
+        for (int i = first; i < first + count; i++) {
+            commands.add("person add -n Student " + i + " -p " + (80000000 + i) + " -e student" + i
+                    + "@example.com -a Blk " + i + " Clementi Ave 3 -m CS" + (1000 + i % 9000) + " MON 10:00 12:00");
+        }
+        return commands;
+    }
+}
@@ -0,0 +1,75 @@
+package syncsquad.teamsync.benchmark;
+
+import static syncsquad.teamsync.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static syncsquad.teamsync.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static syncsquad.teamsync.logic.parser.CliSyntax.PREFIX_MODULE;
+import static syncsquad.teamsync.logic.parser.CliSyntax.PREFIX_NAME;
+import static syncsquad.teamsync.logic.parser.CliSyntax.PREFIX_PHONE;
+import static syncsquad.teamsync.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.function.BiFunction;
+
+import syncsquad.teamsync.logic.parser.ArgumentMultimap;
+import syncsquad.teamsync.logic.parser.ArgumentTokenizer;
+import syncsquad.teamsync.logic.parser.LegacyArgumentTokenizer;
+import syncsquad.teamsync.logic.parser.Prefix;
+
+/**
+ * Measures how long it takes to tokenize {@code person add} arguments with growing numbers of tags and modules, using
+ * the {@link ArgumentTokenizer} and, for comparison, the {@link LegacyArgumentTokenizer} it replaced.
+ * Run with {@code ./gradlew benchmark -Pbenchmark=ArgumentTokenizerBenchmark}.
+ */
+public class ArgumentTokenizerBenchmark {
+
+    private static final Prefix[] PREFIXES = {
+        PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_ADDRESS, PREFIX_TAG, PREFIX_MODULE
+    };
+    private static final int[] FIELD_COUNTS = {1, 10, 100, 1_000};
+    private static final int TOTAL_FIELDS = 2_000_000;
+    private static final int WARMUP_RUNS = 2;
+
+    public static void main(String[] args) {
+        System.out.printf("%8s %8s %20s %20s%n", "fields", "lines", "single pass (ms)", "legacy (ms)");
+        for (int fieldCount : FIELD_COUNTS) {
+            String argsString = createArguments(fieldCount);
+            // The legacy tokenizer is quadratic, so long lines are tokenized fewer times.
+            int lines = TOTAL_FIELDS / fieldCount / fieldCount + 1;
+            for (int i = 0; i < WARMUP_RUNS; i++) {
+                tokenizeAll(argsString, lines, ArgumentTokenizer::tokenize);
+                tokenizeAll(argsString, lines, LegacyArgumentTokenizer::tokenize);
+            }
+            System.out.printf("%8d %8d %20.1f %20.1f%n", fieldCount, lines,
+                    tokenizeAll(argsString, lines, ArgumentTokenizer::tokenize),
+                    tokenizeAll(argsString, lines, LegacyArgumentTokenizer::tokenize));
+        }
+    }
+
+    /**
+     * Tokenizes {@code argsString} {@code lines} times and returns the time taken in milliseconds.
+     */
+    private static double tokenizeAll(String argsString, int lines,
+            BiFunction<String, Prefix[], ArgumentMultimap> tokenizer) {
+        long start = System.nanoTime();
+        int values = 0;
+        for (int i = 0; i < lines; i++) {
+            values += tokenizer.apply(argsString, PREFIXES).getAllValues(PREFIX_TAG).size();
+        }
+        if (values == 0) {
+            throw new AssertionError("No tags were tokenized");
+        }
+        return (System.nanoTime() - start) / 1e6;
+    }
+
+    /**
+     * Returns the arguments of a {@code person add} command with {@code fieldCount} tags and as many modules.
+     */
+    private static String createArguments(int fieldCount) {
+        StringBuilder builder = new StringBuilder(" -n Alex Yeoh -p 87438807 -e alexyeoh@example.com")
+                .append(" -a Blk 30 Geylang Street 29, #06-40");
+        for (int i = 0; i < fieldCount; i++) {
+            builder.append(" -t tag").append(i)
+                    .append(" -m CS").append(1000 + i % 9000).append(" MON 10:00 12:00");
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,71 @@
+package syncsquad.teamsync.benchmark;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import syncsquad.teamsync.model.AddressBook;
+import syncsquad.teamsync.model.Model;
+import syncsquad.teamsync.model.ModelManager;
+import syncsquad.teamsync.model.UserPrefs;
+import syncsquad.teamsync.model.person.NameContainsKeywordsPredicate;
+import syncsquad.teamsync.model.person.Person;
+import syncsquad.teamsync.testutil.PersonBuilder;
+
+/**
+ * Measures how long {@code person find} with 5 keywords takes to filter address books of different sizes, both
+ * when the matches are looked up in the name index and when the name of every person is tested.
+ * Run with {@code ./gradlew benchmark -Pbenchmark=FindBenchmark}.
+ */
+public class FindBenchmark {
+
+    private static final int[] SIZES = {1_000, 10_000, 100_000};
+    private static final List<String> KEYWORDS = Arrays.asList("Tan", "Lim", "Nobody", "Student", "Ng");
+    private static final String[] SURNAMES = {"Tan", "Lim", "Lee", "Ng", "Wong", "Goh", "Chua", "Ong", "Koh", "Teo"};
+    private static final int RUNS = 20;
+
+    public static void main(String[] args) {
+        System.out.printf("%10s %10s %20s %20s%n", "people", "matches", "each name (ms)", "name index (ms)");
+        for (int size : SIZES) {
+            ModelManager model = new ModelManager(createAddressBook(size), new UserPrefs());
+            // Wrapping the predicate hides it from the name index.
+            double eachNameMillis = time(model, () -> {
+                NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(KEYWORDS);
+                return person -> predicate.test(person);
+            });
+            double indexMillis = time(model, () -> new NameContainsKeywordsPredicate(KEYWORDS));
+            System.out.printf("%10d %10d %20.2f %20.2f%n", size, model.getFilteredPersonList().size(),
+                    eachNameMillis, indexMillis);
+        }
+    }
+
+    /**
+     * Returns the average time taken to filter the persons of {@code model} with a predicate from {@code predicates},
+     * after a warm-up run. A new predicate is used every run, so that no results are remembered between runs.
+     */
+    private static double time(ModelManager model, Supplier<Predicate<Person>> predicates) {
+        long total = 0;
+        for (int i = 0; i <= RUNS; i++) {
+            model.updateFilteredPersonList(Model.PREDICATE_SHOW_ALL_PERSONS);
+            Predicate<Person> predicate = predicates.get();
+            long start = System.nanoTime();
+            model.updateFilteredPersonList(predicate);
+            if (i > 0) {
+                total += System.nanoTime() - start;
+            }
+        }
+        return total / 1e6 / RUNS;
+    }
+
+    private static AddressBook createAddressBook(int size) {
+        AddressBook addressBook = new AddressBook();
+        for (int i = 0; i < size; i++) {
+            addressBook.addPerson(new PersonBuilder()
+                    .withName("Person " + i + " " + SURNAMES[i % SURNAMES.length])
+                    .withEmail("person" + i + "@example.com")
+                    .build());
+        }
+        return addressBook;
+    }
+}
@@ -0,0 +1,58 @@
+package syncsquad.teamsync.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import syncsquad.teamsync.model.person.Person;
+import syncsquad.teamsync.testutil.PersonBuilder;
+
+/**
+ * Estimates the heap retained by each person in the address book.
+ * Run with {@code ./gradlew benchmark -Pbenchmark=PersonFootprintBenchmark}.
+ *
+ * The estimate is the growth of the used heap, after garbage collection, while holding on to many persons with a
+ * typical number of modules and tags. It includes the strings and value objects of each person, but not the
+ * module codes, days and tags that are shared between persons.
+ */
+public class PersonFootprintBenchmark {
+
+    private static final int SIZE = 200_000;
+    private static final String[] MODULES = {"CS2103T MON 10:00 12:00", "CS2101 WED 14:00 16:00",
+        "CS2106 THU 09:00 11:00", "MA1521 FRI 12:00 14:00"};
+    private static final String[] TAGS = {"friends", "colleagues"};
+
+    public static void main(String[] args) {
+        // Creating persons once first loads the classes and canonical instances they use.
+        createPersons(1_000);
+
+        long before = usedMemory();
+        List<Person> persons = createPersons(SIZE);
+        long after = usedMemory();
+
+        System.out.printf("%10s %20s%n", "persons", "bytes per person");
+        System.out.printf("%10d %20.1f%n", persons.size(), (double) (after - before) / persons.size());
+    }
+
+    private static List<Person> createPersons(int size) {
+        List<Person> persons = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            persons.add(new PersonBuilder()
+                    .withName("Person " + i)
+                    .withPhone(String.format("9%07d", i))
+                    .withEmail("person" + i + "@example.com")
+                    .withAddress("Block " + i + ", Example Street")
+                    .withModules(MODULES)
+                    .withTags(TAGS)
+                    .build());
+        }
+        return persons;
+    }
+
+    private static long usedMemory() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 5; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,71 @@
+package syncsquad.teamsync.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import syncsquad.teamsync.logic.Logic;
+import syncsquad.teamsync.logic.LogicManager;
+import syncsquad.teamsync.logic.commands.RunCommand;
+import syncsquad.teamsync.model.ModelManager;
+import syncsquad.teamsync.storage.JsonAddressBookStorage;
+import syncsquad.teamsync.storage.JsonUserPrefsStorage;
+import syncsquad.teamsync.storage.StorageManager;
+
+/**
+ * Measures how long it takes to add a cohort of people, both by executing their {@code person add} commands one by
+ * one, which saves the address book after every command, and by running them as a script with {@link RunCommand},
+ * which saves it once.
+ * Run with {@code ./gradlew benchmark -Pbenchmark=RunScriptBenchmark}.
+ */
+public class RunScriptBenchmark {
+
+    private static final int[] COHORT_SIZES = {100, 500, 2_000};
+
+    public static void main(String[] args) throws Exception {
+        Path folder = Files.createTempDirectory("teamsync-benchmark");
+        System.out.printf("%8s %20s %20s%n", "people", "one by one (ms)", "script (ms)");
+        for (int cohortSize : COHORT_SIZES) {
+            List<String> commands = createCommands(cohortSize);
+            Path script = Files.write(folder.resolve("cohort.txt"), commands);
+
+            Logic oneByOne = createLogic(folder);
+            long start = System.nanoTime();
+            for (String command : commands) {
+                oneByOne.execute(command);
+            }
+            double oneByOneMillis = (System.nanoTime() - start) / 1e6;
+
+            Logic batched = createLogic(folder);
+            start = System.nanoTime();
+            batched.execute(RunCommand.COMMAND_WORD + " " + script);
+            double scriptMillis = (System.nanoTime() - start) / 1e6;
+
+            if (oneByOne.getAddressBook().getPersonList().size() != cohortSize
+                    || !oneByOne.getAddressBook().equals(batched.getAddressBook())) {
+                throw new AssertionError("The script did not add the same people");
+            }
+            System.out.printf("%8d %20.1f %20.1f%n", cohortSize, oneByOneMillis, scriptMillis);
+        }
+    }
+
+    private static Logic createLogic(Path folder) throws IOException {
+        StorageManager storage = new StorageManager(new JsonAddressBookStorage(folder.resolve("addressbook.json")),
+                new JsonUserPrefsStorage(folder.resolve("preferences.json")));
+        return new LogicManager(new ModelManager(), storage);
+    }
+
+    /**
+     * Returns {@code count} {@code person add} commands that add different people.
+     */
+    private static List<String> createCommands(int count) {
+        List<String> commands = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            commands.add("person add -n Student " + i + " -p " + (80000000 + i) + " -e student" + i
+                    + "@example.com -a Blk " + i + " Clementi Ave 3 -m CS" + (1000 + i % 9000) + " MON 10:00 12:00");
+        }
+        return commands;
+    }
+}
@@ -0,0 +1,92 @@
+package syncsquad.teamsync.benchmark;
+
+import java.util.List;
+
+import syncsquad.teamsync.logic.commands.person.FindCommand;
+import syncsquad.teamsync.model.AddressBook;
+import syncsquad.teamsync.model.Model;
+import syncsquad.teamsync.model.ModelManager;
+import syncsquad.teamsync.model.UserPrefs;
+import syncsquad.teamsync.model.person.FuzzyKeywordsPredicate;
+import syncsquad.teamsync.testutil.PersonBuilder;
+
+/**
+ * Measures how long {@code person find -f} takes for address books of different sizes, both to look the keywords
+ * up in the search index and to run the whole command, which searches once and then refilters the list of persons
+ * with the matches and picks the closest ones.
+ * The search takes time proportional to the number of matching words and persons, but refiltering takes time
+ * proportional to the number of persons, so with 100,000 persons a find with many matches is not within 5 ms.
+ * Run with {@code ./gradlew benchmark -Pbenchmark=SearchBenchmark}.
+ */
+public class SearchBenchmark {
+
+    private static final int[] SIZES = {1_000, 10_000, 100_000};
+    private static final List<List<String>> QUERIES = List.of(
+            List.of("alic"), List.of("alcie"), List.of("christpoher", "tna"), List.of("e00123"), List.of("bakend"));
+    private static final String[] FIRST_NAMES = {"Alice", "Alicia", "Benson", "Carl", "Christopher", "Daniel",
+        "Elle", "Fiona", "George", "Hoon", "Ida", "Jun Wei", "Kumar", "Li Ting", "Mei Ling", "Nur Aisyah",
+        "Priya", "Rachel", "Siti", "Wei Jie"};
+    private static final String[] SURNAMES = {"Tan", "Lim", "Lee", "Ng", "Wong", "Goh", "Chua", "Ong", "Koh", "Teo",
+        "Kurz", "Meier", "Raj", "Kaur", "Abdullah"};
+    private static final String[] TAGS = {"Backend", "Frontend", "Tester", "Lead"};
+    private static final int RUNS = 20;
+
+    public static void main(String[] args) {
+        System.out.printf("%10s %14s %10s %20s %20s%n", "people", "query", "matches", "search (ms)", "find (ms)");
+        for (int size : SIZES) {
+            ModelManager model = new ModelManager(createAddressBook(size), new UserPrefs());
+            for (List<String> keywords : QUERIES) {
+                double searchMillis = timeSearch(model, keywords);
+                double findMillis = timeFind(model, keywords);
+                System.out.printf("%10d %14s %10d %20.3f %20.2f%n", size, String.join(" ", keywords),
+                        model.getFilteredPersonList().size(), searchMillis, findMillis);
+            }
+        }
+    }
+
+    /**
+     * Returns the average time taken to look {@code keywords} up in the search index of {@code model}, after a
+     * warm-up run.
+     */
+    private static double timeSearch(Model model, List<String> keywords) {
+        long total = 0;
+        for (int i = 0; i <= RUNS; i++) {
+            long start = System.nanoTime();
+            model.searchPersons(keywords);
+            if (i > 0) {
+                total += System.nanoTime() - start;
+            }
+        }
+        return total / 1e6 / RUNS;
+    }
+
+    /**
+     * Returns the average time taken to find the persons of {@code model} matching {@code keywords}, after a
+     * warm-up run. The list is shown in full before every run, so that no results are remembered between runs.
+     */
+    private static double timeFind(Model model, List<String> keywords) {
+        FindCommand command = new FindCommand(new FuzzyKeywordsPredicate(keywords));
+        long total = 0;
+        for (int i = 0; i <= RUNS; i++) {
+            model.updateFilteredPersonList(Model.PREDICATE_SHOW_ALL_PERSONS);
+            long start = System.nanoTime();
+            command.execute(model);
+            if (i > 0) {
+                total += System.nanoTime() - start;
+            }
+        }
+        return total / 1e6 / RUNS;
+    }
+
+    private static AddressBook createAddressBook(int size) {
+        AddressBook addressBook = new AddressBook();
+        for (int i = 0; i < size; i++) {
+            addressBook.addPerson(new PersonBuilder()
+                    .withName(FIRST_NAMES[i % FIRST_NAMES.length] + " " + SURNAMES[i % SURNAMES.length])
+                    .withEmail(String.format("e%07d@u.nus.edu", i))
+                    .withTags(TAGS[i % TAGS.length])
+                    .build());
+        }
+        return addressBook;
+    }
+}
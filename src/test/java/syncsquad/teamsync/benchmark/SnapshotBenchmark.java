@@ -0,0 +1,53 @@
+package syncsquad.teamsync.benchmark;
+
+import syncsquad.teamsync.model.AddressBook;
+import syncsquad.teamsync.model.person.Person;
+import syncsquad.teamsync.testutil.PersonBuilder;
+
+/**
+ * Measures how long adding a person takes right after a snapshot of address books of different sizes is taken,
+ * as happens for every mutating command when the address book is saved in the background. Only the chunks of the
+ * list of persons that are modified are copied, so this grows much more slowly than the address book does.
+ * Run with {@code ./gradlew benchmark -Pbenchmark=SnapshotBenchmark}.
+ */
+public class SnapshotBenchmark {
+
+    private static final int[] SIZES = {1_000, 10_000, 100_000};
+    private static final int RUNS = 200;
+
+    public static void main(String[] args) {
+        System.out.printf("%10s %25s%n", "people", "add after snapshot (us)");
+        for (int size : SIZES) {
+            AddressBook addressBook = new AddressBook();
+            for (int i = 0; i < size; i++) {
+                addressBook.addPerson(createPerson(i));
+            }
+            System.out.printf("%10d %25.2f%n", size, timeAddAfterSnapshot(addressBook, size));
+        }
+    }
+
+    /**
+     * Returns the average time taken to add a person to {@code addressBook} right after taking a snapshot of it,
+     * after as many warm-up runs.
+     */
+    private static double timeAddAfterSnapshot(AddressBook addressBook, int size) {
+        long total = 0;
+        for (int i = 0; i < 2 * RUNS; i++) {
+            Person person = createPerson(size + i);
+            addressBook.snapshot();
+            long start = System.nanoTime();
+            addressBook.addPerson(person);
+            if (i >= RUNS) {
+                total += System.nanoTime() - start;
+            }
+        }
+        return total / 1e3 / RUNS;
+    }
+
+    private static Person createPerson(int i) {
+        return new PersonBuilder()
+                .withName("Person " + i)
+                .withEmail(String.format("e%07d@u.nus.edu", i))
+                .build();
+    }
+}
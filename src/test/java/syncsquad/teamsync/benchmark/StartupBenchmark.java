@@ -0,0 +1,110 @@
+package syncsquad.teamsync.benchmark;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import syncsquad.teamsync.HeadlessApp;
+
+/**
+ * Compares how long TeamSync takes to start in a new JVM with the JavaFX user interface and in headless mode, and
+ * how many classes each loads.
+ *
+ * The headless mode is timed until it has executed {@code exit}, and the user interface until the main window is
+ * about to be shown. The user interface needs a display, and is reported as unavailable without one.
+ * Run with {@code ./gradlew benchmark -Pbenchmark=StartupBenchmark}.
+ */
+public class StartupBenchmark {
+
+    private static final String MAIN_CLASS = "syncsquad.teamsync.Main";
+    private static final int RUNS = 5;
+    private static final String GUI_READY_MARKER = "Starting TeamSync";
+    private static final long TIMEOUT_SECONDS = 60;
+
+    public static void main(String[] args) throws Exception {
+        Path folder = Files.createTempDirectory("teamsync-startup");
+        System.out.printf("%10s %16s %16s %16s%n", "mode", "best (ms)", "classes", "javafx.scene");
+        report("headless", folder, true);
+        report("gui", folder, false);
+    }
+
+    private static void report(String mode, Path folder, boolean isHeadless) throws Exception {
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < RUNS; i++) {
+            Result result = start(folder, isHeadless, false);
+            if (result == null) {
+                System.out.printf("%10s %16s%n", mode, "unavailable");
+                return;
+            }
+            best = Math.min(best, result.millis);
+        }
+        Result classes = start(folder, isHeadless, true);
+        System.out.printf("%10s %16d %16d %16d%n", mode, best, classes.loadedClasses, classes.loadedSceneClasses);
+    }
+
+    /**
+     * Starts TeamSync in a new JVM with {@code folder} as its working directory, and returns how long it took to
+     * be ready, or null if it exited before it was ready.
+     */
+    private static Result start(Path folder, boolean isHeadless, boolean isCountingClasses)
+            throws IOException, InterruptedException {
+        List<String> command = new ArrayList<>(Arrays.asList(
+                Paths.get(System.getProperty("java.home"), "bin", "java").toString(),
+                "-cp", System.getProperty("java.class.path")));
+        if (isCountingClasses) {
+            command.add("-verbose:class");
+        }
+        command.add(MAIN_CLASS);
+        if (isHeadless) {
+            command.add(HeadlessApp.HEADLESS_OPTION);
+        }
+
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(command).directory(folder.toFile()).redirectErrorStream(true).start();
+        if (isHeadless) {
+            try (OutputStream input = process.getOutputStream()) {
+                input.write("exit\n".getBytes(StandardCharsets.UTF_8));
+            }
+        }
+
+        Result result = new Result();
+        boolean isReady = false;
+        try (BufferedReader output = new BufferedReader(
+                new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = output.readLine()) != null) {
+                if (line.startsWith("[") && line.contains("source:")) {
+                    result.loadedClasses++;
+                    if (line.contains(" javafx.scene.")) {
+                        result.loadedSceneClasses++;
+                    }
+                }
+                if (!isHeadless && line.contains(GUI_READY_MARKER)) {
+                    isReady = true;
+                    break;
+                }
+            }
+        }
+        if (isHeadless) {
+            isReady = process.waitFor(TIMEOUT_SECONDS, TimeUnit.SECONDS) && process.exitValue() == 0;
+        }
+        result.millis = (System.nanoTime() - start) / 1_000_000;
+        process.destroyForcibly().waitFor();
+        return isReady ? result : null;
+    }
+
+    private static class Result {
+        private long millis;
+        private int loadedClasses;
+        private int loadedSceneClasses;
+    }
+}
@@ -0,0 +1,75 @@
+package syncsquad.teamsync.benchmark;
+
+import java.util.function.Predicate;
+
+import syncsquad.teamsync.model.module.ModuleCode;
+import syncsquad.teamsync.model.person.Address;
+import syncsquad.teamsync.model.person.Email;
+import syncsquad.teamsync.model.person.Name;
+import syncsquad.teamsync.model.person.Phone;
+import syncsquad.teamsync.model.tag.Tag;
+
+/**
+ * Measures how long it takes to validate the fields of a million person records, using the validators of the model
+ * and, for comparison, by matching the validation regexes with {@code String#matches}.
+ * Run with {@code ./gradlew benchmark -Pbenchmark=ValidationBenchmark}.
+ */
+public class ValidationBenchmark {
+
+    private static final int RECORDS = 1_000_000;
+    private static final int WARMUP_RUNS = 2;
+
+    public static void main(String[] args) {
+        String[][] records = createRecords();
+
+        System.out.printf("%10s %18s %20s%n", "field", "validators (ms)", "String#matches (ms)");
+        measure("name", records[0], Name::isValidName, Name.VALIDATION_REGEX);
+        measure("phone", records[1], Phone::isValidPhone, Phone.VALIDATION_REGEX);
+        measure("email", records[2], Email::isValidEmail, Email.VALIDATION_REGEX);
+        measure("address", records[3], Address::isValidAddress, Address.VALIDATION_REGEX);
+        measure("tag", records[4], Tag::isValidTagName, Tag.VALIDATION_REGEX);
+        measure("module", records[5], ModuleCode::isValidModuleCode, ModuleCode.VALIDATION_REGEX);
+    }
+
+    private static void measure(String field, String[] values, Predicate<String> validator, String regex) {
+        Predicate<String> matches = value -> value.matches(regex);
+        for (int i = 0; i < WARMUP_RUNS; i++) {
+            validateAll(values, validator);
+            validateAll(values, matches);
+        }
+        System.out.printf("%10s %18.1f %20.1f%n", field, validateAll(values, validator), validateAll(values, matches));
+    }
+
+    /**
+     * Validates every value and returns the time taken in milliseconds.
+     */
+    private static double validateAll(String[] values, Predicate<String> validator) {
+        long start = System.nanoTime();
+        int valid = 0;
+        for (String value : values) {
+            if (validator.test(value)) {
+                valid++;
+            }
+        }
+        if (valid != values.length) {
+            throw new AssertionError("Only " + valid + " of " + values.length + " values are valid");
+        }
+        return (System.nanoTime() - start) / 1e6;
+    }
+
+    /**
+     * Returns the name, phone, email, address, tag and module code of {@code RECORDS} distinct, valid records.
+     */
+    private static String[][] createRecords() {
+        String[][] records = new String[6][RECORDS];
+        for (int i = 0; i < RECORDS; i++) {
+            records[0][i] = "Person O'Brien-" + i;
+            records[1][i] = String.format("9%07d", i);
+            records[2][i] = "person.number-" + i + "@mail-" + (i % 100) + ".example.com";
+            records[3][i] = "Block " + i + ", Example Street #0" + (i % 10);
+            records[4][i] = "tag" + i;
+            records[5][i] = "CS" + (1000 + i % 9000) + (i % 2 == 0 ? "T" : "");
+        }
+        return records;
+    }
+}
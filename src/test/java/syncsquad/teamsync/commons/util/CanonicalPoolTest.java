@@ -0,0 +1,49 @@
+package syncsquad.teamsync.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static syncsquad.teamsync.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class CanonicalPoolTest {
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new CanonicalPool<>(null));
+    }
+
+    @Test
+    public void get_nullKey_throwsNullPointerException() {
+        CanonicalPool<Value> pool = new CanonicalPool<>(Value::new);
+        assertThrows(NullPointerException.class, () -> pool.get(null));
+    }
+
+    @Test
+    public void get_equalKeys_returnsSameInstance() {
+        CanonicalPool<Value> pool = new CanonicalPool<>(Value::new);
+        Value value = pool.get("key");
+        assertSame(value, pool.get(new String("key")));
+        assertEquals(1, pool.size());
+    }
+
+    @Test
+    public void get_differentKeys_returnsDifferentInstances() {
+        CanonicalPool<Value> pool = new CanonicalPool<>(Value::new);
+        Value value = pool.get("key");
+        Value otherValue = pool.get("other key");
+        assertNotSame(value, otherValue);
+        assertEquals("key", value.key);
+        assertEquals("other key", otherValue.key);
+        assertEquals(2, pool.size());
+    }
+
+    private static class Value {
+        private final String key;
+
+        Value(String key) {
+            this.key = key;
+        }
+    }
+}
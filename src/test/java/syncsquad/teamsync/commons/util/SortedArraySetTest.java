@@ -0,0 +1,73 @@
+package syncsquad.teamsync.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static syncsquad.teamsync.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class SortedArraySetTest {
+
+    private static final Comparator<String> ORDER = Comparator.naturalOrder();
+
+    @Test
+    public void copyOf_nullElement_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> SortedArraySet.copyOf(Arrays.asList("a", null), ORDER));
+    }
+
+    @Test
+    public void copyOf_unsortedWithDuplicates_sortedWithoutDuplicates() {
+        SortedArraySet<String> set = SortedArraySet.copyOf(List.of("c", "a", "b", "a"), ORDER);
+        assertEquals(List.of("a", "b", "c"), new ArrayList<>(set));
+        assertEquals(3, set.size());
+        assertTrue(set.contains("b"));
+        assertFalse(set.contains("d"));
+        assertFalse(set.contains(null));
+    }
+
+    @Test
+    public void copyOf_sortedArraySetWithSameOrder_returnsSameSet() {
+        SortedArraySet<String> set = SortedArraySet.copyOf(List.of("b", "a"), ORDER);
+        assertSame(set, SortedArraySet.copyOf(set, ORDER));
+        assertEquals(List.of("b", "a"), new ArrayList<>(SortedArraySet.copyOf(set, ORDER.reversed())));
+    }
+
+    @Test
+    public void copyOf_emptyCollections_returnsSameSet() {
+        assertSame(SortedArraySet.copyOf(List.of(), ORDER), SortedArraySet.copyOf(new HashSet<String>(), ORDER));
+    }
+
+    @Test
+    public void modify_throwsUnsupportedOperationException() {
+        SortedArraySet<String> set = SortedArraySet.copyOf(List.of("a"), ORDER);
+        assertThrows(UnsupportedOperationException.class, () -> set.add("b"));
+        assertThrows(UnsupportedOperationException.class, () -> set.remove("c"));
+        assertThrows(UnsupportedOperationException.class, () -> set.removeIf(element -> false));
+        assertThrows(UnsupportedOperationException.class, () -> set.clear());
+        assertThrows(UnsupportedOperationException.class, () -> set.iterator().remove());
+    }
+
+    @Test
+    public void equalsAndHashCode_consistentWithOtherSets() {
+        SortedArraySet<String> set = SortedArraySet.copyOf(List.of("a", "b"), ORDER);
+        Set<String> hashSet = new HashSet<>(List.of("b", "a"));
+
+        assertTrue(set.equals(SortedArraySet.copyOf(List.of("b", "a"), ORDER)));
+        assertTrue(set.equals(hashSet));
+        assertTrue(hashSet.equals(set));
+        assertEquals(hashSet.hashCode(), set.hashCode());
+
+        assertFalse(set.equals(SortedArraySet.copyOf(List.of("a"), ORDER)));
+        assertFalse(set.equals(List.of("a", "b")));
+        assertFalse(set.equals(null));
+    }
+}
@@ -1,10 +1,13 @@
 package syncsquad.teamsync.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static syncsquad.teamsync.testutil.Assert.assertThrows;
 
 import java.io.FileNotFoundException;
+import java.util.Arrays;
+import java.util.Collections;
 
 import org.junit.jupiter.api.Test;
 
@@ -123,6 +126,37 @@ public class StringUtilTest {
         assertTrue(StringUtil.containsWordIgnoreCase("AAA bBb ccc  bbb", "bbB"));
     }
 
+    @Test
+    public void containsWordIgnoreCase_otherWhitespace_separatesWords() {
+        assertTrue(StringUtil.containsWordIgnoreCase("aaa\tbbb\nccc", "bbb"));
+        assertFalse(StringUtil.containsWordIgnoreCase("aaa\u00a0bbb", "bbb"));
+        assertThrows(IllegalArgumentException.class, () -> StringUtil.containsWordIgnoreCase("aaa", "a\tb"));
+    }
+
+    //---------------- Tests for getWords and foldCase --------------------------------------
+
+    @Test
+    public void getWords() {
+        assertThrows(NullPointerException.class, () -> StringUtil.getWords(null));
+        assertEquals(Collections.emptyList(), StringUtil.getWords(""));
+        assertEquals(Collections.emptyList(), StringUtil.getWords(" \t "));
+        assertEquals(Arrays.asList("ABc", "def"), StringUtil.getWords("  ABc \t def "));
+    }
+
+    @Test
+    public void foldCase_equalIgnoringCase_equalFoldedForms() {
+        assertThrows(NullPointerException.class, () -> StringUtil.foldCase(null));
+        assertEquals("abc", StringUtil.foldCase("ABc"));
+
+        String[] words = {"abc", "ABC", "aBc", "\u212a", "k", "K", "\u017f", "s", "\u0130", "i", "\u0131", "I"};
+        for (String word : words) {
+            for (String other : words) {
+                assertEquals(word.equalsIgnoreCase(other), StringUtil.foldCase(word).equals(StringUtil.foldCase(other)),
+                        word + " " + other);
+            }
+        }
+    }
+
     //---------------- Tests for getDetails --------------------------------------
 
     /*
@@ -0,0 +1,108 @@
+package syncsquad.teamsync.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static syncsquad.teamsync.testutil.Assert.assertThrows;
+
+import java.util.Random;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.Test;
+
+import syncsquad.teamsync.model.module.ModuleCode;
+import syncsquad.teamsync.model.person.Address;
+import syncsquad.teamsync.model.person.Email;
+import syncsquad.teamsync.model.person.Name;
+import syncsquad.teamsync.model.person.Phone;
+import syncsquad.teamsync.model.tag.Tag;
+
+public class ValidationUtilTest {
+
+    /** Characters that are significant to at least one of the validators. */
+    private static final String ALPHABET = "aZ09 '/-+_.@\t\n\r\u0085\u2028\u00e9";
+    private static final int RANDOM_STRINGS = 20_000;
+
+    @Test
+    public void validators_nullInput_throwNullPointerException() {
+        assertThrows(NullPointerException.class, () -> ValidationUtil.isAlphanumeric(null));
+        assertThrows(NullPointerException.class, () -> ValidationUtil.isDigits(null, 3));
+        assertThrows(NullPointerException.class, () -> ValidationUtil.isName(null));
+        assertThrows(NullPointerException.class, () -> ValidationUtil.isSingleLineNotStartingWithWhitespace(null));
+        assertThrows(NullPointerException.class, () -> ValidationUtil.isModuleCode(null));
+        assertThrows(NullPointerException.class, () -> ValidationUtil.isEmail(null));
+    }
+
+    @Test
+    public void isModuleCode() {
+        assertTrue(ValidationUtil.isModuleCode("CS2103T"));
+        assertTrue(ValidationUtil.isModuleCode("GESS1035"));
+        assertTrue(ValidationUtil.isModuleCode("ma1521"));
+        assertFalse(ValidationUtil.isModuleCode("C2103"));
+        assertFalse(ValidationUtil.isModuleCode("CSCSC2103"));
+        assertFalse(ValidationUtil.isModuleCode("CS210"));
+        assertFalse(ValidationUtil.isModuleCode("CS2103TT"));
+        assertFalse(ValidationUtil.isModuleCode("CS21031"));
+    }
+
+    @Test
+    public void isEmail() {
+        assertTrue(ValidationUtil.isEmail("a.b+c_d-e@example-mail.co.uk"));
+        assertTrue(ValidationUtil.isEmail("a@bc"));
+        assertFalse(ValidationUtil.isEmail("a@b"));
+        assertFalse(ValidationUtil.isEmail("a@a-b")); // the last label needs two adjacent alphanumeric characters
+        assertFalse(ValidationUtil.isEmail("a..b@example.com"));
+        assertFalse(ValidationUtil.isEmail(".a@example.com"));
+        assertFalse(ValidationUtil.isEmail("a@example..com"));
+        assertFalse(ValidationUtil.isEmail("a@-example.com"));
+        assertFalse(ValidationUtil.isEmail("a@example.com-"));
+        assertFalse(ValidationUtil.isEmail("a@b@example.com"));
+    }
+
+    @Test
+    public void isEmail_longHostileInput_returnsQuickly() {
+        String hostile = "a".repeat(100_000) + "@" + "a-".repeat(100_000) + "!";
+        assertFalse(ValidationUtil.isEmail(hostile));
+    }
+
+    @Test
+    public void validators_randomInput_agreeWithValidationRegexes() {
+        assertAgreesWithRegex(ValidationUtil::isAlphanumeric, Tag.VALIDATION_REGEX);
+        assertAgreesWithRegex(test -> ValidationUtil.isDigits(test, 3), Phone.VALIDATION_REGEX);
+        assertAgreesWithRegex(ValidationUtil::isName, Name.VALIDATION_REGEX);
+        assertAgreesWithRegex(ValidationUtil::isSingleLineNotStartingWithWhitespace, Address.VALIDATION_REGEX);
+        assertAgreesWithRegex(ValidationUtil::isModuleCode, ModuleCode.VALIDATION_REGEX);
+        assertAgreesWithRegex(ValidationUtil::isEmail, Email.VALIDATION_REGEX);
+    }
+
+    private static void assertAgreesWithRegex(Predicate<String> validator, String regex) {
+        Pattern pattern = Pattern.compile(regex);
+        Random random = new Random(regex.hashCode());
+        for (int i = 0; i < RANDOM_STRINGS; i++) {
+            // Joining two strings with an '@' makes valid email addresses likely enough to be tested.
+            for (String test : new String[] {randomString(random), randomString(random) + "@" + randomString(random)}) {
+                assertEquals(pattern.matcher(test).matches(), validator.test(test), "Input: \"" + test + "\"");
+            }
+        }
+    }
+
+    /**
+     * Returns a short string that mostly contains characters that are valid in some field, so that a good share of
+     * the strings are valid.
+     */
+    private static String randomString(Random random) {
+        int length = random.nextInt(12);
+        StringBuilder builder = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            if (random.nextInt(3) == 0) {
+                builder.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+            } else if (random.nextBoolean()) {
+                builder.append((char) ('a' + random.nextInt(3)));
+            } else {
+                builder.append((char) ('0' + random.nextInt(3)));
+            }
+        }
+        return builder.toString();
+    }
+}
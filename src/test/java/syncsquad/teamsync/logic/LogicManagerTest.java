@@ -1,6 +1,8 @@
 package syncsquad.teamsync.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static syncsquad.teamsync.logic.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
 import static syncsquad.teamsync.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static syncsquad.teamsync.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
@@ -12,13 +14,23 @@ import static syncsquad.teamsync.testutil.TypicalAddressBook.AMY;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import syncsquad.teamsync.logic.commands.ClearCommand;
 import syncsquad.teamsync.logic.commands.CommandResult;
+import syncsquad.teamsync.logic.commands.ExitCommand;
+import syncsquad.teamsync.logic.commands.HelpCommand;
+import syncsquad.teamsync.logic.commands.RunCommand;
+import syncsquad.teamsync.logic.commands.UndoCommand;
 import syncsquad.teamsync.logic.commands.exceptions.CommandException;
 import syncsquad.teamsync.logic.commands.person.AddPersonCommand;
 import syncsquad.teamsync.logic.commands.person.ListCommand;
@@ -32,6 +44,7 @@ import syncsquad.teamsync.model.person.Person;
 import syncsquad.teamsync.storage.JsonAddressBookStorage;
 import syncsquad.teamsync.storage.JsonUserPrefsStorage;
 import syncsquad.teamsync.storage.StorageManager;
+import syncsquad.teamsync.storage.WriteBehindSaver;
 import syncsquad.teamsync.testutil.PersonBuilder;
 
 public class LogicManagerTest {
@@ -65,6 +78,22 @@ public class LogicManagerTest {
         assertCommandException(deleteCommand, MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
     }
 
+    @Test
+    public void getAddressBookSnapshot_afterCommands_latestAddressBook() throws Exception {
+        ReadOnlyAddressBook initialSnapshot = logic.getAddressBookSnapshot();
+        assertEquals(0, initialSnapshot.getPersonList().size());
+
+        // a command that does not modify the address book keeps the snapshot
+        logic.execute(PersonCommand.COMMAND_GROUP_WORD + " " + ListCommand.COMMAND_WORD);
+        assertSame(initialSnapshot, logic.getAddressBookSnapshot());
+
+        logic.execute(PersonCommand.COMMAND_GROUP_WORD + " " + AddPersonCommand.COMMAND_WORD
+                + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY + ADDRESS_DESC_AMY);
+        assertEquals(List.of(new PersonBuilder(AMY).withModules().withTags().build()),
+                logic.getAddressBookSnapshot().getPersonList());
+        assertEquals(0, initialSnapshot.getPersonList().size());
+    }
+
     @Test
     public void execute_validCommand_success() throws Exception {
         String listCommand = PersonCommand.COMMAND_GROUP_WORD + " " + ListCommand.COMMAND_WORD;
@@ -72,17 +101,111 @@ public class LogicManagerTest {
     }
 
     @Test
-    public void execute_storageThrowsIoException_throwsCommandException() {
-        assertCommandFailureForExceptionFromStorage(DUMMY_IO_EXCEPTION, String.format(
+    public void execute_storageThrowsIoException_saveErrorReported() throws Exception {
+        assertSaveErrorForExceptionFromStorage(DUMMY_IO_EXCEPTION, String.format(
                 LogicManager.FILE_OPS_ERROR_FORMAT, DUMMY_IO_EXCEPTION.getMessage()));
     }
 
     @Test
-    public void execute_storageThrowsAdException_throwsCommandException() {
-        assertCommandFailureForExceptionFromStorage(DUMMY_AD_EXCEPTION, String.format(
+    public void execute_storageThrowsAdException_saveErrorReported() throws Exception {
+        assertSaveErrorForExceptionFromStorage(DUMMY_AD_EXCEPTION, String.format(
                 LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
+    @Test
+    public void execute_runCommand_savesOnce() throws Exception {
+        Path script = Files.write(temporaryFolder.resolve("script.txt"), List.of(
+                PersonCommand.COMMAND_GROUP_WORD + " " + AddPersonCommand.COMMAND_WORD
+                        + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY + ADDRESS_DESC_AMY,
+                PersonCommand.COMMAND_GROUP_WORD + " " + ListCommand.COMMAND_WORD));
+        AtomicInteger saveCount = useSaveCountingStorage();
+
+        ModelManager expectedModel = new ModelManager();
+        expectedModel.addPerson(new PersonBuilder(AMY).withModules().withTags().build());
+        assertCommandSuccess(RunCommand.COMMAND_WORD + " " + script,
+                String.format(RunCommand.MESSAGE_SUCCESS, 2, script), expectedModel);
+        assertEquals(1, saveCount.get());
+    }
+
+    @Test
+    public void execute_undoAfterRunCommand_wholeScriptUndone() throws Exception {
+        Path script = Files.write(temporaryFolder.resolve("script.txt"), List.of(
+                PersonCommand.COMMAND_GROUP_WORD + " " + AddPersonCommand.COMMAND_WORD
+                        + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY + ADDRESS_DESC_AMY,
+                ClearCommand.COMMAND_WORD));
+        logic.execute(RunCommand.COMMAND_WORD + " " + script);
+
+        assertCommandSuccess(UndoCommand.COMMAND_WORD, UndoCommand.MESSAGE_SUCCESS, new ModelManager());
+        assertCommandException(UndoCommand.COMMAND_WORD, UndoCommand.MESSAGE_FAILURE);
+    }
+
+    @Test
+    public void execute_readOnlyCommand_doesNotSave() throws Exception {
+        AtomicInteger saveCount = useSaveCountingStorage();
+        String listCommand = PersonCommand.COMMAND_GROUP_WORD + " " + ListCommand.COMMAND_WORD;
+
+        logic.execute(listCommand);
+        logic.execute(HelpCommand.COMMAND_WORD);
+        assertEquals(0, saveCount.get());
+
+        logic.execute(PersonCommand.COMMAND_GROUP_WORD + " " + AddPersonCommand.COMMAND_WORD
+                + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY + ADDRESS_DESC_AMY);
+        logic.execute(listCommand);
+        assertEquals(1, saveCount.get());
+    }
+
+    @Test
+    public void execute_backgroundSaveFailed_errorReportedWithNextResult() throws Exception {
+        List<Runnable> queuedSaves = new ArrayList<>();
+        logic = new LogicManager(model, new WriteBehindSaver(createFailingStorage(), queuedSaves::add));
+
+        String addCommand = PersonCommand.COMMAND_GROUP_WORD + " " + AddPersonCommand.COMMAND_WORD
+                + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY + ADDRESS_DESC_AMY;
+        logic.execute(addCommand);
+        assertEquals(1, queuedSaves.size());
+
+        queuedSaves.get(0).run();
+        String listCommand = PersonCommand.COMMAND_GROUP_WORD + " " + ListCommand.COMMAND_WORD;
+        CommandResult result = logic.execute(listCommand);
+        assertEquals(ListCommand.MESSAGE_SUCCESS, result.getFeedbackToUser());
+        assertEquals(Optional.of(String.format(LogicManager.FILE_OPS_ERROR_FORMAT, DUMMY_IO_EXCEPTION.getMessage())),
+                result.getSaveError());
+
+        // the unsaved address book is saved again after the next command
+        logic.execute(listCommand);
+        assertEquals(2, queuedSaves.size());
+    }
+
+    @Test
+    public void flush_backgroundSaveFails_errorReturned() throws Exception {
+        List<Runnable> queuedSaves = new ArrayList<>();
+        logic = new LogicManager(model, new WriteBehindSaver(createFailingStorage(), queuedSaves::add));
+        logic.execute(PersonCommand.COMMAND_GROUP_WORD + " " + AddPersonCommand.COMMAND_WORD
+                + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY + ADDRESS_DESC_AMY);
+
+        // the save queued after the last command is never run by the executor, so flush saves it
+        assertEquals(Optional.of(String.format(LogicManager.FILE_OPS_ERROR_FORMAT, DUMMY_IO_EXCEPTION.getMessage())),
+                logic.flush());
+    }
+
+    @Test
+    public void flush_nothingToSave_noError() {
+        assertEquals(Optional.empty(), logic.flush());
+    }
+
+    @Test
+    public void execute_exitWithFailingSave_saveErrorReported() throws Exception {
+        List<Runnable> queuedSaves = new ArrayList<>();
+        logic = new LogicManager(model, new WriteBehindSaver(createFailingStorage(), queuedSaves::add));
+        logic.execute(PersonCommand.COMMAND_GROUP_WORD + " " + AddPersonCommand.COMMAND_WORD
+                + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY + ADDRESS_DESC_AMY);
+
+        CommandResult result = logic.execute(ExitCommand.COMMAND_WORD);
+        assertTrue(result.isExit());
+        assertEquals(Optional.of(String.format(LogicManager.FILE_OPS_ERROR_FORMAT, DUMMY_IO_EXCEPTION.getMessage())),
+                result.getSaveError());
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
@@ -141,13 +264,47 @@ public class LogicManagerTest {
         assertEquals(expectedModel, model);
     }
 
+    /**
+     * Injects LogicManager with an AddressBookStorage that counts the number of times it saves the address book,
+     * and returns the count.
+     */
+    private AtomicInteger useSaveCountingStorage() {
+        AtomicInteger saveCount = new AtomicInteger();
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")) {
+                    @Override
+                    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                        saveCount.incrementAndGet();
+                        super.saveAddressBook(addressBook, filePath);
+                    }
+                };
+        logic = new LogicManager(model, new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"))));
+        return saveCount;
+    }
+
+    /**
+     * Returns a Storage whose AddressBookStorage throws {@code DUMMY_IO_EXCEPTION} when saving.
+     */
+    private StorageManager createFailingStorage() {
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(temporaryFolder.resolve("ab.json")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                throw DUMMY_IO_EXCEPTION;
+            }
+        };
+        return new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+    }
+
     /**
      * Tests the Logic component's handling of an {@code IOException} thrown by the Storage component.
      *
      * @param e the exception to be thrown by the Storage component
-     * @param expectedMessage the message expected inside exception thrown by the Logic component
+     * @param expectedSaveError the save error expected in the result of the command
      */
-    private void assertCommandFailureForExceptionFromStorage(IOException e, String expectedMessage) {
+    private void assertSaveErrorForExceptionFromStorage(IOException e, String expectedSaveError)
+            throws CommandException, ParseException {
         Path prefPath = temporaryFolder.resolve("ExceptionUserPrefs.json");
 
         // Inject LogicManager with an AddressBookStorage that throws the IOException e when saving
@@ -172,6 +329,10 @@ public class LogicManagerTest {
                 .withModules().withTags().build();
         ModelManager expectedModel = new ModelManager();
         expectedModel.addPerson(expectedPerson);
-        assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
+        CommandResult result = logic.execute(addCommand);
+        assertEquals(String.format(AddPersonCommand.MESSAGE_SUCCESS, Messages.format(expectedPerson)),
+                result.getFeedbackToUser());
+        assertEquals(Optional.of(expectedSaveError), result.getSaveError());
+        assertEquals(expectedModel, model);
     }
 }
@@ -5,7 +5,10 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static syncsquad.teamsync.testutil.Assert.assertThrows;
+import static syncsquad.teamsync.testutil.TypicalAddressBook.ALICE;
+import static syncsquad.teamsync.testutil.TypicalAddressBook.BENSON;
 import static syncsquad.teamsync.testutil.TypicalAddressBook.JAN_MEETING;
+import static syncsquad.teamsync.testutil.TypicalAddressBook.getTypicalPersonsAddressBook;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -17,7 +20,10 @@ import syncsquad.teamsync.logic.Messages;
 import syncsquad.teamsync.logic.commands.exceptions.CommandException;
 import syncsquad.teamsync.logic.commands.meeting.AddMeetingCommand;
 import syncsquad.teamsync.model.AddressBook;
+import syncsquad.teamsync.model.Model;
+import syncsquad.teamsync.model.ModelManager;
 import syncsquad.teamsync.model.ReadOnlyAddressBook;
+import syncsquad.teamsync.model.UserPrefs;
 import syncsquad.teamsync.model.meeting.Meeting;
 import syncsquad.teamsync.model.meeting.UniqueMeetingList;
 import syncsquad.teamsync.testutil.MeetingBuilder;
@@ -158,6 +164,53 @@ public class AddMeetingCommandTest {
         assertEquals(expectedMeetingList, modelStub.meetings);
     }
 
+    @Test
+    public void execute_attendeesFree_addSuccessful() throws Exception {
+        Model model = new ModelManager(getTypicalPersonsAddressBook(), new UserPrefs());
+        // Benson has a module on Fridays from 14:00 to 16:00, which ends as the meeting starts.
+        Meeting meeting = new MeetingBuilder().withDate("03-01-2025").withStartTime("16:00").withEndTime("17:00")
+                .withAttendees(ALICE.getEmail().value, BENSON.getEmail().value).build();
+
+        CommandResult commandResult = new AddMeetingCommand(meeting).execute(model);
+
+        assertEquals(String.format(AddMeetingCommand.MESSAGE_SUCCESS, Messages.format(meeting)),
+                commandResult.getFeedbackToUser());
+        assertTrue(model.hasMeeting(meeting));
+    }
+
+    @Test
+    public void execute_attendeeHasModule_throwsCommandException() {
+        Model model = new ModelManager(getTypicalPersonsAddressBook(), new UserPrefs());
+        Meeting meeting = new MeetingBuilder().withDate("03-01-2025").withStartTime("15:00").withEndTime("17:00")
+                .withAttendees(ALICE.getEmail().value, BENSON.getEmail().value.toUpperCase()).build();
+
+        assertThrows(CommandException.class, String.format(AddMeetingCommand.MESSAGE_ATTENDEE_MODULE_CLASH,
+                BENSON.getName().fullName), () -> new AddMeetingCommand(meeting).execute(model));
+    }
+
+    @Test
+    public void execute_noAttendeesAndSomeoneHasModule_addSuccessful() throws Exception {
+        Model model = new ModelManager(getTypicalPersonsAddressBook(), new UserPrefs());
+        // Benson has a module on Fridays from 14:00 to 16:00, but only attendees are checked for modules
+        Meeting meeting = new MeetingBuilder().withDate("03-01-2025").withStartTime("15:00").withEndTime("17:00")
+                .withAttendees().build();
+
+        CommandResult commandResult = new AddMeetingCommand(meeting).execute(model);
+
+        assertEquals(String.format(AddMeetingCommand.MESSAGE_SUCCESS, Messages.format(meeting)),
+                commandResult.getFeedbackToUser());
+        assertTrue(model.hasMeeting(meeting));
+    }
+
+    @Test
+    public void execute_unknownAttendee_throwsCommandException() {
+        Model model = new ModelManager(getTypicalPersonsAddressBook(), new UserPrefs());
+        Meeting meeting = new MeetingBuilder().withAttendees("nobody@example.com").build();
+
+        assertThrows(CommandException.class, String.format(AddMeetingCommand.MESSAGE_UNKNOWN_ATTENDEE,
+                "nobody@example.com"), () -> new AddMeetingCommand(meeting).execute(model));
+    }
+
     @Test
     public void equals() {
         Meeting aprilMeeting = new MeetingBuilder().withDate("01-04-2025").build();
@@ -220,6 +273,12 @@ public class AddMeetingCommandTest {
             return meetingsAdded.stream().anyMatch(meeting::equals);
         }
 
+        @Override
+        public boolean hasOverlappingMeeting(Meeting meeting) {
+            requireNonNull(meeting);
+            return meetingsAdded.stream().anyMatch(meeting::isOverlapping);
+        }
+
         @Override
         public void addMeeting(Meeting meeting) {
             requireNonNull(meeting);
@@ -255,9 +314,20 @@ public class AddMeetingCommandTest {
             return meetings.contains(meeting);
         }
 
+        @Override
+        public boolean hasOverlappingMeeting(Meeting meeting) {
+            requireNonNull(meeting);
+            return meetings.hasOverlap(meeting);
+        }
+
         @Override
         public ObservableList<Meeting> getMeetingList() {
             return meetings.asUnmodifiableObservableList();
         }
+
+        @Override
+        public ReadOnlyAddressBook getAddressBook() {
+            return new AddressBook();
+        }
     }
 }
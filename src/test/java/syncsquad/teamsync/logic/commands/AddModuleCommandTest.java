@@ -6,6 +6,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static syncsquad.teamsync.commons.util.CollectionUtil.requireAllNonNull;
 import static syncsquad.teamsync.testutil.Assert.assertThrows;
 
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -15,6 +16,7 @@ import syncsquad.teamsync.commons.core.index.Index;
 import syncsquad.teamsync.logic.Messages;
 import syncsquad.teamsync.logic.commands.exceptions.CommandException;
 import syncsquad.teamsync.logic.commands.module.AddModuleCommand;
+import syncsquad.teamsync.model.Model;
 import syncsquad.teamsync.model.module.Module;
 import syncsquad.teamsync.model.person.Person;
 import syncsquad.teamsync.model.person.UniquePersonList;
@@ -275,6 +277,11 @@ public class AddModuleCommandTest {
             persons.add(person);
         }
 
+        @Override
+        public void batch(Consumer<Model> action) {
+            action.accept(this);
+        }
+
         @Override
         public void setPerson(Person target, Person editedPerson) {
             requireAllNonNull(target, editedPerson);
@@ -5,6 +5,8 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.Optional;
+
 import org.junit.jupiter.api.Test;
 
 public class CommandResultTest {
@@ -33,6 +35,25 @@ public class CommandResultTest {
 
         // different exit value -> returns false
         assertFalse(commandResult.equals(new CommandResult("feedback", false, true)));
+
+        // different failedCommandCount value -> returns false
+        assertFalse(commandResult.equals(new CommandResult("feedback", false, false, 1)));
+
+        // different saveError value -> returns false
+        assertFalse(commandResult.equals(commandResult.withSaveError("error")));
+        assertTrue(commandResult.withSaveError("error").equals(new CommandResult("feedback").withSaveError("error")));
+    }
+
+    @Test
+    public void withSaveError() {
+        CommandResult commandResult = new CommandResult("feedback", false, true, 2);
+        CommandResult resultWithSaveError = commandResult.withSaveError("error");
+
+        assertEquals(Optional.empty(), commandResult.getSaveError());
+        assertEquals(Optional.of("error"), resultWithSaveError.getSaveError());
+        assertEquals("feedback", resultWithSaveError.getFeedbackToUser());
+        assertTrue(resultWithSaveError.isExit());
+        assertEquals(2, resultWithSaveError.getFailedCommandCount());
     }
 
     @Test
@@ -50,6 +71,9 @@ public class CommandResultTest {
 
         // different exit value -> returns different hashcode
         assertNotEquals(commandResult.hashCode(), new CommandResult("feedback", false, true).hashCode());
+
+        // different failedCommandCount value -> returns different hashcode
+        assertNotEquals(commandResult.hashCode(), new CommandResult("feedback", false, false, 1).hashCode());
     }
 
     @Test
@@ -57,7 +81,9 @@ public class CommandResultTest {
         CommandResult commandResult = new CommandResult("feedback");
         String expected = CommandResult.class.getCanonicalName() + "{feedbackToUser="
                 + commandResult.getFeedbackToUser() + ", showHelp=" + commandResult.isShowHelp()
-                + ", exit=" + commandResult.isExit() + "}";
+                + ", exit=" + commandResult.isExit()
+                + ", failedCommandCount=" + commandResult.getFailedCommandCount()
+                + ", saveError=null}";
         assertEquals(expected, commandResult.toString());
     }
 }
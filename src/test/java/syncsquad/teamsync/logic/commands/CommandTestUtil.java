@@ -60,14 +60,17 @@ public class CommandTestUtil {
     public static final String VALID_DAY_CS2103T_MODULE = "FRI";
     public static final String VALID_START_TIME_CS2103T_MODULE = "14:00";
     public static final String VALID_END_TIME_CS2103T_MODULE = "16:00";
+    public static final String VALID_TEACHING_WEEKS_CS2103T_MODULE = "1-6,8";
 
     public static final String INDEX_DESC_CS2103T_MODULE = " " + VALID_INDEX_CS2103T_MODULE;
     public static final String MODULE_CODE_DESC_CS2103T_MODULE = " " + VALID_MODULE_CODE_CS2103T_MODULE;
     public static final String DAY_DESC_CS2103T_MODULE = " " + VALID_DAY_CS2103T_MODULE;
     public static final String START_TIME_DESC_CS2103T_MODULE = " " + VALID_START_TIME_CS2103T_MODULE;
     public static final String END_TIME_DESC_CS2103T_MODULE = " " + VALID_END_TIME_CS2103T_MODULE;
+    public static final String TEACHING_WEEKS_DESC_CS2103T_MODULE = " " + VALID_TEACHING_WEEKS_CS2103T_MODULE;
 
     public static final String INVALID_INDEX_DESC_CS2103T_MODULE = " " + "first";
+    public static final String INVALID_TEACHING_WEEKS_DESC_CS2103T_MODULE = " " + "6-1";
     public static final String INVALID_MODULE_CODE_DESC_CS2103T_MODULE = " " + "notamodulecode";
     public static final String INVALID_SAME_START_END_TIME_DESC_CS2103T_MODULE = " " + VALID_START_TIME_CS2103T_MODULE;
     public static final String INVALID_START_TIME_DESC_CS2103T_MODULE = " " + VALID_END_TIME_CS2103T_MODULE;
@@ -6,6 +6,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static syncsquad.teamsync.commons.util.CollectionUtil.requireAllNonNull;
 import static syncsquad.teamsync.logic.commands.CommandTestUtil.assertCommandFailure;
 
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -15,6 +16,7 @@ import syncsquad.teamsync.commons.core.index.Index;
 import syncsquad.teamsync.logic.Messages;
 import syncsquad.teamsync.logic.commands.module.DeleteModuleCommand;
 import syncsquad.teamsync.model.AddressBook;
+import syncsquad.teamsync.model.Model;
 import syncsquad.teamsync.model.module.ModuleCode;
 import syncsquad.teamsync.model.person.Person;
 import syncsquad.teamsync.model.person.UniquePersonList;
@@ -31,7 +33,7 @@ public class DeleteModuleCommandTest {
         Person person = new PersonBuilder().withModules("CS2103T FRI 14:00 16:00").build();
         Person personWithoutModule = new PersonBuilder().build();
         Index index = Index.fromOneBased(1);
-        ModuleCode moduleCode = new ModuleCode("CS2103T");
+        ModuleCode moduleCode = ModuleCode.of("CS2103T");
         DeleteModuleCommand deleteModuleCommand = new DeleteModuleCommand(index, moduleCode);
 
         String expectedMessage = String.format(DeleteModuleCommand.MESSAGE_DELETE_MODULE_SUCCESS,
@@ -47,7 +49,7 @@ public class DeleteModuleCommandTest {
     public void execute_invalidIndexList_throwsCommandException() {
         Person person = new PersonBuilder().withModules("CS2103T FRI 14:00 16:00").build();
         Index outOfBoundIndex = Index.fromOneBased(2);
-        ModuleCode moduleCode = new ModuleCode("CS2103T");
+        ModuleCode moduleCode = ModuleCode.of("CS2103T");
         DeleteModuleCommand deleteModuleCommand = new DeleteModuleCommand(outOfBoundIndex, moduleCode);
 
         ModelStub modelStub = new ModelStubWithPerson(person);
@@ -59,7 +61,7 @@ public class DeleteModuleCommandTest {
     public void execute_invalidModule_throwsCommandException() {
         Person person = new PersonBuilder().withModules("CS2103T FRI 14:00 16:00").build();
         Index index = Index.fromOneBased(1);
-        ModuleCode invalidModuleCode = new ModuleCode("CS2101");
+        ModuleCode invalidModuleCode = ModuleCode.of("CS2101");
         DeleteModuleCommand deleteModuleCommand = new DeleteModuleCommand(index, invalidModuleCode);
 
         ModelStub modelStub = new ModelStubWithPerson(person);
@@ -71,8 +73,8 @@ public class DeleteModuleCommandTest {
     public void equals() {
         Index index = Index.fromOneBased(1);
         Index index2 = Index.fromOneBased(2);
-        ModuleCode moduleCode = new ModuleCode("CS2103T");
-        ModuleCode moduleCode2 = new ModuleCode("CS2101");
+        ModuleCode moduleCode = ModuleCode.of("CS2103T");
+        ModuleCode moduleCode2 = ModuleCode.of("CS2101");
         DeleteModuleCommand deleteFirstCommand = new DeleteModuleCommand(index, moduleCode);
         DeleteModuleCommand deleteSecondCommand = new DeleteModuleCommand(index, moduleCode2);
         DeleteModuleCommand deleteThirdCommand = new DeleteModuleCommand(index2, moduleCode2);
@@ -100,7 +102,7 @@ public class DeleteModuleCommandTest {
     @Test
     public void toStringMethod() {
         Index targetIndex = Index.fromOneBased(1);
-        ModuleCode moduleCode = new ModuleCode("CS2103T");
+        ModuleCode moduleCode = ModuleCode.of("CS2103T");
         DeleteModuleCommand deleteModuleCommand = new DeleteModuleCommand(targetIndex, moduleCode);
         String expected = DeleteModuleCommand.class.getCanonicalName() + "{targetIndex=" + targetIndex + ", moduleCode="
                 + moduleCode + "}";
@@ -123,6 +125,11 @@ public class DeleteModuleCommandTest {
             return addressBook;
         }
 
+        @Override
+        public void batch(Consumer<Model> action) {
+            action.accept(this);
+        }
+
         @Override
         public void setPerson(Person target, Person editedPerson) {
             requireAllNonNull(target, editedPerson);
@@ -5,7 +5,9 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static syncsquad.teamsync.logic.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
 import static syncsquad.teamsync.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static syncsquad.teamsync.testutil.TypicalAddressBook.BENSON;
 import static syncsquad.teamsync.testutil.TypicalAddressBook.CARL;
+import static syncsquad.teamsync.testutil.TypicalAddressBook.DANIEL;
 import static syncsquad.teamsync.testutil.TypicalAddressBook.ELLE;
 import static syncsquad.teamsync.testutil.TypicalAddressBook.FIONA;
 import static syncsquad.teamsync.testutil.TypicalAddressBook.getTypicalAddressBook;
@@ -19,6 +21,7 @@ import syncsquad.teamsync.logic.commands.person.FindCommand;
 import syncsquad.teamsync.model.Model;
 import syncsquad.teamsync.model.ModelManager;
 import syncsquad.teamsync.model.UserPrefs;
+import syncsquad.teamsync.model.person.FuzzyKeywordsPredicate;
 import syncsquad.teamsync.model.person.NameContainsKeywordsPredicate;
 
 /**
@@ -53,6 +56,10 @@ public class FindCommandTest {
 
         // different person -> returns false
         assertFalse(findFirstCommand.equals(findSecondCommand));
+
+        // same keywords, fuzzy -> returns false
+        assertFalse(findFirstCommand.equals(
+                new FindCommand(new FuzzyKeywordsPredicate(Collections.singletonList("first")))));
     }
 
     @Test
@@ -75,6 +82,27 @@ public class FindCommandTest {
         assertEquals(Arrays.asList(CARL, ELLE, FIONA), model.getFilteredPersonList());
     }
 
+    @Test
+    public void execute_fuzzyKeywords_closestMatchesNamed() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 4) + "\n"
+                + String.format(FindCommand.MESSAGE_CLOSEST_MATCHES, "Carl Kurz, Benson Meier, Daniel Meier");
+        FuzzyKeywordsPredicate predicate = new FuzzyKeywordsPredicate(Arrays.asList("Meir", "kurz"));
+        FindCommand command = new FindCommand(predicate);
+        expectedModel.updateFilteredPersonList(predicate);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(BENSON, CARL, DANIEL, FIONA), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_fuzzyKeywordsNoMatch_noPersonFound() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 0);
+        FuzzyKeywordsPredicate predicate = new FuzzyKeywordsPredicate(Arrays.asList("Nobody"));
+        FindCommand command = new FindCommand(predicate);
+        expectedModel.updateFilteredPersonList(predicate);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Collections.emptyList(), model.getFilteredPersonList());
+    }
+
     @Test
     public void toStringMethod() {
         NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(Arrays.asList("keyword"));
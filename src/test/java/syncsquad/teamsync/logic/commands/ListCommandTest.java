@@ -1,10 +1,16 @@
 package syncsquad.teamsync.logic.commands;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static syncsquad.teamsync.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static syncsquad.teamsync.logic.commands.CommandTestUtil.showPersonAtIndex;
 import static syncsquad.teamsync.testutil.TypicalAddressBook.getTypicalAddressBook;
 import static syncsquad.teamsync.testutil.TypicalIndexes.INDEX_FIRST;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -12,6 +18,8 @@ import syncsquad.teamsync.logic.commands.person.ListCommand;
 import syncsquad.teamsync.model.Model;
 import syncsquad.teamsync.model.ModelManager;
 import syncsquad.teamsync.model.UserPrefs;
+import syncsquad.teamsync.model.person.Person;
+import syncsquad.teamsync.model.person.PersonSortOrder;
 
 /**
  * Contains integration tests (interaction with the Model) and unit tests for ListCommand.
@@ -37,4 +45,43 @@ public class ListCommandTest {
         showPersonAtIndex(model, INDEX_FIRST);
         assertCommandSuccess(new ListCommand(), model, ListCommand.MESSAGE_SUCCESS, expectedModel);
     }
+
+    @Test
+    public void execute_sortOrderGiven_showsEverythingSorted() {
+        showPersonAtIndex(model, INDEX_FIRST);
+        expectedModel.sortFilteredPersonList(PersonSortOrder.EMAIL);
+        assertCommandSuccess(new ListCommand(PersonSortOrder.EMAIL), model,
+                String.format(ListCommand.MESSAGE_SUCCESS_SORTED, "email"), expectedModel);
+
+        List<Person> expectedPersons = new ArrayList<>(model.getAddressBook().getPersonList());
+        expectedPersons.sort(PersonSortOrder.EMAIL.getComparator());
+        assertEquals(expectedPersons, model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_noSortOrderAfterSorting_showsUsualOrder() {
+        model.sortFilteredPersonList(PersonSortOrder.MODULE_COUNT);
+        assertCommandSuccess(new ListCommand(), model, ListCommand.MESSAGE_SUCCESS, expectedModel);
+        assertEquals(model.getAddressBook().getPersonList(), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void equals() {
+        ListCommand listCommand = new ListCommand();
+        ListCommand sortedListCommand = new ListCommand(PersonSortOrder.NAME);
+
+        // same object -> returns true
+        assertTrue(sortedListCommand.equals(sortedListCommand));
+
+        // same values -> returns true
+        assertTrue(listCommand.equals(new ListCommand()));
+        assertTrue(sortedListCommand.equals(new ListCommand(PersonSortOrder.NAME)));
+
+        // null -> returns false
+        assertFalse(sortedListCommand.equals(null));
+
+        // different sort order -> returns false
+        assertFalse(sortedListCommand.equals(listCommand));
+        assertFalse(sortedListCommand.equals(new ListCommand(PersonSortOrder.EMAIL)));
+    }
 }
@@ -1,8 +1,12 @@
 package syncsquad.teamsync.logic.commands;
 
 import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 
+import javafx.beans.property.ReadOnlyObjectProperty;
 import javafx.collections.ObservableList;
 import syncsquad.teamsync.commons.core.GuiSettings;
 import syncsquad.teamsync.model.Model;
@@ -10,7 +14,12 @@ import syncsquad.teamsync.model.ReadOnlyAddressBook;
 import syncsquad.teamsync.model.ReadOnlyUserPrefs;
 import syncsquad.teamsync.model.TimetableWeek;
 import syncsquad.teamsync.model.meeting.Meeting;
+import syncsquad.teamsync.model.module.ModuleCode;
+import syncsquad.teamsync.model.person.Email;
 import syncsquad.teamsync.model.person.Person;
+import syncsquad.teamsync.model.person.PersonSearchResult;
+import syncsquad.teamsync.model.person.PersonSortOrder;
+import syncsquad.teamsync.model.tag.Tag;
 
 /**
  * A default model stub that has all methods failing.
@@ -56,11 +65,51 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public void batch(Consumer<Model> action) {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public ReadOnlyAddressBook getAddressBookSnapshot() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public long getAddressBookVersion() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void commitAddressBook() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public boolean canUndoAddressBook() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public boolean canRedoAddressBook() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void undoAddressBook() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void redoAddressBook() {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public boolean hasPerson(Person person) {
         throw new AssertionError("This method should not be called.");
@@ -81,16 +130,66 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public ReadOnlyObjectProperty<ObservableList<Person>> filteredPersonListProperty() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public ObservableList<Person> getSortedPersonList(PersonSortOrder sortOrder) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void sortFilteredPersonList(PersonSortOrder sortOrder) {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public void updateFilteredPersonList(PersonSearchResult searchResult) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public List<Person> getPersonsWithModuleCode(ModuleCode moduleCode) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public List<Person> getPersonsWithTag(Tag tag) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public List<Person> getPersonsWithNameWord(String word) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public PersonSearchResult searchPersons(List<String> keywords) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public Optional<Person> getPersonWithEmail(Email email) {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public boolean hasMeeting(Meeting meeting) {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public boolean hasOverlappingMeeting(Meeting meeting) {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public void addMeeting(Meeting meeting) {
         throw new AssertionError("This method should not be called.");
@@ -0,0 +1,35 @@
+package syncsquad.teamsync.logic.commands;
+
+import static syncsquad.teamsync.logic.commands.CommandTestUtil.assertCommandFailure;
+import static syncsquad.teamsync.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static syncsquad.teamsync.testutil.TypicalAddressBook.ALICE;
+import static syncsquad.teamsync.testutil.TypicalAddressBook.getTypicalAddressBook;
+
+import org.junit.jupiter.api.Test;
+
+import syncsquad.teamsync.model.Model;
+import syncsquad.teamsync.model.ModelManager;
+import syncsquad.teamsync.model.UserPrefs;
+
+public class RedoCommandTest {
+
+    @Test
+    public void execute_undoneChangeToRedo_success() {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        model.deletePerson(ALICE);
+        model.commitAddressBook();
+        model.undoAddressBook();
+        expectedModel.deletePerson(ALICE);
+
+        assertCommandSuccess(new RedoCommand(), model, RedoCommand.MESSAGE_SUCCESS, expectedModel);
+    }
+
+    @Test
+    public void execute_noUndoneChange_throwsCommandException() {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        model.deletePerson(ALICE);
+        model.commitAddressBook();
+        assertCommandFailure(new RedoCommand(), model, RedoCommand.MESSAGE_FAILURE);
+    }
+}
@@ -0,0 +1,205 @@
+package syncsquad.teamsync.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static syncsquad.teamsync.logic.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
+import static syncsquad.teamsync.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static syncsquad.teamsync.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
+import static syncsquad.teamsync.logic.commands.CommandTestUtil.ADDRESS_DESC_BOB;
+import static syncsquad.teamsync.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
+import static syncsquad.teamsync.logic.commands.CommandTestUtil.EMAIL_DESC_BOB;
+import static syncsquad.teamsync.logic.commands.CommandTestUtil.NAME_DESC_AMY;
+import static syncsquad.teamsync.logic.commands.CommandTestUtil.NAME_DESC_BOB;
+import static syncsquad.teamsync.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
+import static syncsquad.teamsync.logic.commands.CommandTestUtil.PHONE_DESC_BOB;
+import static syncsquad.teamsync.logic.commands.CommandTestUtil.assertCommandFailure;
+import static syncsquad.teamsync.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static syncsquad.teamsync.testutil.Assert.assertThrows;
+import static syncsquad.teamsync.testutil.TypicalAddressBook.ALICE;
+import static syncsquad.teamsync.testutil.TypicalAddressBook.AMY;
+import static syncsquad.teamsync.testutil.TypicalAddressBook.BENSON;
+import static syncsquad.teamsync.testutil.TypicalAddressBook.BOB;
+import static syncsquad.teamsync.testutil.TypicalAddressBook.CARL;
+import static syncsquad.teamsync.testutil.TypicalAddressBook.getTypicalPersonsAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javafx.collections.ListChangeListener;
+import syncsquad.teamsync.logic.commands.person.AddPersonCommand;
+import syncsquad.teamsync.logic.commands.person.DeletePersonCommand;
+import syncsquad.teamsync.logic.commands.person.FindCommand;
+import syncsquad.teamsync.logic.commands.person.PersonCommand;
+import syncsquad.teamsync.logic.parser.AddressBookParser;
+import syncsquad.teamsync.model.Model;
+import syncsquad.teamsync.model.ModelManager;
+import syncsquad.teamsync.model.UserPrefs;
+import syncsquad.teamsync.model.person.Person;
+import syncsquad.teamsync.testutil.PersonBuilder;
+
+public class RunCommandTest {
+
+    private static final String ADD_AMY = PersonCommand.COMMAND_GROUP_WORD + " " + AddPersonCommand.COMMAND_WORD
+            + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY + ADDRESS_DESC_AMY;
+    private static final String ADD_BOB = PersonCommand.COMMAND_GROUP_WORD + " " + AddPersonCommand.COMMAND_WORD
+            + NAME_DESC_BOB + PHONE_DESC_BOB + EMAIL_DESC_BOB + ADDRESS_DESC_BOB;
+    private static final String DELETE_FIRST = PersonCommand.COMMAND_GROUP_WORD + " "
+            + DeletePersonCommand.COMMAND_WORD + " 1";
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final AddressBookParser parser = new AddressBookParser();
+
+    @Test
+    public void constructor_nullArguments_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new RunCommand(null, parser));
+        assertThrows(NullPointerException.class, () -> new RunCommand(temporaryFolder, null));
+    }
+
+    @Test
+    public void execute_validScript_runsEveryCommandInOrder() throws IOException {
+        Path script = writeScript("# onboarding", ADD_AMY, "", "   " + ADD_BOB);
+        Model model = new ModelManager();
+        Model expectedModel = new ModelManager();
+        expectedModel.addPerson(amy());
+        expectedModel.addPerson(bob());
+
+        assertCommandSuccess(new RunCommand(script, parser), model,
+                String.format(RunCommand.MESSAGE_SUCCESS, 2, script), expectedModel);
+    }
+
+    @Test
+    public void execute_invalidLines_reportsEachLineAndRunsTheRest() throws IOException {
+        Path script = writeScript(ADD_AMY, "unknown", ADD_AMY, "person delete 9",
+                RunCommand.COMMAND_WORD + " other.txt", ADD_BOB);
+        Model model = new ModelManager();
+        Model expectedModel = new ModelManager();
+        expectedModel.addPerson(amy());
+        expectedModel.addPerson(bob());
+
+        String expectedMessage = String.format(RunCommand.MESSAGE_FAILED_LINES, 2, 6, script) + "\n"
+                + String.format(RunCommand.MESSAGE_FAILED_LINE, 2, MESSAGE_UNKNOWN_COMMAND) + "\n"
+                + String.format(RunCommand.MESSAGE_FAILED_LINE, 3, AddPersonCommand.MESSAGE_DUPLICATE_PERSON) + "\n"
+                + String.format(RunCommand.MESSAGE_FAILED_LINE, 4, MESSAGE_INVALID_PERSON_DISPLAYED_INDEX) + "\n"
+                + String.format(RunCommand.MESSAGE_FAILED_LINE, 5, RunCommand.MESSAGE_NESTED_RUN);
+        assertCommandSuccess(new RunCommand(script, parser), model, new CommandResult(expectedMessage, false, false, 4),
+                expectedModel);
+    }
+
+    @Test
+    public void execute_addThenDeleteByIndex_deletesAddedPerson() throws Exception {
+        Path script = writeScript(ADD_AMY, DELETE_FIRST);
+        Model model = new ModelManager();
+
+        CommandResult result = new RunCommand(script, parser).execute(model);
+
+        assertEquals(String.format(RunCommand.MESSAGE_SUCCESS, 2, script), result.getFeedbackToUser());
+        assertEquals(List.of(), model.getAddressBook().getPersonList());
+    }
+
+    @Test
+    public void execute_consecutiveDeletesByIndex_deletesSuccessivePersons() throws Exception {
+        Path script = writeScript(DELETE_FIRST, DELETE_FIRST);
+        Model model = new ModelManager(getTypicalPersonsAddressBook(), new UserPrefs());
+
+        new RunCommand(script, parser).execute(model);
+
+        assertFalse(model.hasPerson(ALICE));
+        assertFalse(model.hasPerson(BENSON));
+        assertEquals(CARL, model.getFilteredPersonList().get(0));
+    }
+
+    @Test
+    public void execute_findThenDeleteByIndex_deletesFoundPerson() throws Exception {
+        Path script = writeScript(PersonCommand.COMMAND_GROUP_WORD + " " + FindCommand.COMMAND_WORD + " Carl",
+                DELETE_FIRST);
+        Model model = new ModelManager(getTypicalPersonsAddressBook(), new UserPrefs());
+
+        new RunCommand(script, parser).execute(model);
+
+        assertTrue(model.hasPerson(ALICE));
+        assertFalse(model.hasPerson(CARL));
+    }
+
+    @Test
+    public void execute_undoAndRedoLines_reportedAndNotRun() throws IOException {
+        Path script = writeScript(ADD_AMY, UndoCommand.COMMAND_WORD, RedoCommand.COMMAND_WORD);
+        Model model = new ModelManager();
+        Model expectedModel = new ModelManager();
+        expectedModel.addPerson(amy());
+
+        String expectedMessage = String.format(RunCommand.MESSAGE_FAILED_LINES, 1, 3, script) + "\n"
+                + String.format(RunCommand.MESSAGE_FAILED_LINE, 2, RunCommand.MESSAGE_UNDO_REDO_IN_SCRIPT) + "\n"
+                + String.format(RunCommand.MESSAGE_FAILED_LINE, 3, RunCommand.MESSAGE_UNDO_REDO_IN_SCRIPT);
+        assertCommandSuccess(new RunCommand(script, parser), model, new CommandResult(expectedMessage, false, false, 2),
+                expectedModel);
+    }
+
+    @Test
+    public void execute_validScript_notifiesListenersOncePerLine() throws Exception {
+        Path script = writeScript(ADD_AMY, ADD_BOB);
+        Model model = new ModelManager();
+        int[] personListChanges = new int[1];
+        model.getAddressBook().getPersonList().addListener((ListChangeListener<Person>) c ->
+                personListChanges[0]++);
+
+        new RunCommand(script, parser).execute(model);
+
+        assertEquals(2, personListChanges[0]);
+        assertEquals(2, model.getAddressBook().getPersonList().size());
+    }
+
+    @Test
+    public void execute_missingFile_throwsCommandException() {
+        Path script = temporaryFolder.resolve("missing.txt");
+        assertCommandFailure(new RunCommand(script, parser), new ModelManager(),
+                String.format(RunCommand.MESSAGE_CANNOT_READ_FILE, script));
+    }
+
+    @Test
+    public void equals() {
+        RunCommand runFirstCommand = new RunCommand(Path.of("first.txt"), parser);
+        RunCommand runSecondCommand = new RunCommand(Path.of("second.txt"), parser);
+
+        // same object -> returns true
+        assertTrue(runFirstCommand.equals(runFirstCommand));
+
+        // same values -> returns true
+        assertTrue(runFirstCommand.equals(new RunCommand(Path.of("first.txt"), new AddressBookParser())));
+
+        // different types -> returns false
+        assertFalse(runFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(runFirstCommand.equals(null));
+
+        // different script -> returns false
+        assertFalse(runFirstCommand.equals(runSecondCommand));
+    }
+
+    @Test
+    public void toStringMethod() {
+        Path script = Path.of("first.txt");
+        String expected = RunCommand.class.getCanonicalName() + "{scriptPath=" + script + "}";
+        assertEquals(expected, new RunCommand(script, parser).toString());
+    }
+
+    private Path writeScript(String... lines) throws IOException {
+        return Files.write(temporaryFolder.resolve("script.txt"), List.of(lines));
+    }
+
+    private static Person amy() {
+        return new PersonBuilder(AMY).withModules().withTags().build();
+    }
+
+    private static Person bob() {
+        return new PersonBuilder(BOB).withModules().withTags().build();
+    }
+}
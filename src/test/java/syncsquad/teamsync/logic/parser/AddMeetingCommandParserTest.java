@@ -3,8 +3,11 @@ package syncsquad.teamsync.logic.parser;
 import static syncsquad.teamsync.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static syncsquad.teamsync.logic.Messages.MESSAGE_INVALID_START_END_TIME;
 import static syncsquad.teamsync.logic.commands.CommandTestUtil.DATE_DESC_SEP_MEETING;
+import static syncsquad.teamsync.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
+import static syncsquad.teamsync.logic.commands.CommandTestUtil.EMAIL_DESC_BOB;
 import static syncsquad.teamsync.logic.commands.CommandTestUtil.END_TIME_DESC_SEP_MEETING;
 import static syncsquad.teamsync.logic.commands.CommandTestUtil.INVALID_DATE_DESC;
+import static syncsquad.teamsync.logic.commands.CommandTestUtil.INVALID_EMAIL_DESC;
 import static syncsquad.teamsync.logic.commands.CommandTestUtil.INVALID_END_TIME_DESC_SEP_MEETING;
 import static syncsquad.teamsync.logic.commands.CommandTestUtil.INVALID_SAME_START_END_TIME_DESC_SEP_MEETING;
 import static syncsquad.teamsync.logic.commands.CommandTestUtil.INVALID_START_TIME_DESC_SEP_MEETING;
@@ -12,6 +15,8 @@ import static syncsquad.teamsync.logic.commands.CommandTestUtil.INVALID_TIME_DES
 import static syncsquad.teamsync.logic.commands.CommandTestUtil.PREAMBLE_WHITESPACE;
 import static syncsquad.teamsync.logic.commands.CommandTestUtil.START_TIME_DESC_SEP_MEETING;
 import static syncsquad.teamsync.logic.commands.CommandTestUtil.VALID_DATE_SEP_MEETING;
+import static syncsquad.teamsync.logic.commands.CommandTestUtil.VALID_EMAIL_AMY;
+import static syncsquad.teamsync.logic.commands.CommandTestUtil.VALID_EMAIL_BOB;
 import static syncsquad.teamsync.logic.commands.CommandTestUtil.VALID_END_TIME_SEP_MEETING;
 import static syncsquad.teamsync.logic.commands.CommandTestUtil.VALID_START_TIME_SEP_MEETING;
 import static syncsquad.teamsync.logic.parser.CommandParserTestUtil.assertParseFailure;
@@ -23,6 +28,8 @@ import org.junit.jupiter.api.Test;
 import syncsquad.teamsync.logic.commands.meeting.AddMeetingCommand;
 import syncsquad.teamsync.logic.parser.meeting.AddMeetingCommandParser;
 import syncsquad.teamsync.model.meeting.Meeting;
+import syncsquad.teamsync.model.meeting.Recurrence;
+import syncsquad.teamsync.model.person.Email;
 import syncsquad.teamsync.testutil.MeetingBuilder;
 
 public class AddMeetingCommandParserTest {
@@ -37,6 +44,49 @@ public class AddMeetingCommandParserTest {
                 + END_TIME_DESC_SEP_MEETING, new AddMeetingCommand(expectedMeeting));
     }
 
+    @Test
+    public void parse_withAttendees_success() {
+        Meeting expectedMeeting = new MeetingBuilder(SEP_MEETING).withAttendees(VALID_EMAIL_AMY, VALID_EMAIL_BOB)
+                .build();
+
+        assertParseSuccess(parser, DATE_DESC_SEP_MEETING + START_TIME_DESC_SEP_MEETING + END_TIME_DESC_SEP_MEETING
+                + EMAIL_DESC_AMY + EMAIL_DESC_BOB, new AddMeetingCommand(expectedMeeting));
+    }
+
+    @Test
+    public void parse_withRecurrence_success() {
+        String meeting = DATE_DESC_SEP_MEETING + START_TIME_DESC_SEP_MEETING + END_TIME_DESC_SEP_MEETING;
+
+        // repeat interval and until date
+        assertParseSuccess(parser, meeting + " -r 2 -u 25-11-2025", new AddMeetingCommand(
+                new MeetingBuilder(SEP_MEETING).withRecurrence(2, "25-11-2025").build()));
+
+        // until date only, which repeats weekly
+        assertParseSuccess(parser, meeting + " -u 25-11-2025", new AddMeetingCommand(
+                new MeetingBuilder(SEP_MEETING).withRecurrence(1, "25-11-2025").build()));
+    }
+
+    @Test
+    public void parse_invalidRecurrence_failure() {
+        String meeting = DATE_DESC_SEP_MEETING + START_TIME_DESC_SEP_MEETING + END_TIME_DESC_SEP_MEETING;
+
+        // repeat interval without until date
+        assertParseFailure(parser, meeting + " -r 2",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, AddMeetingCommand.MESSAGE_USAGE));
+
+        // invalid repeat interval
+        assertParseFailure(parser, meeting + " -r 0 -u 25-11-2025", Recurrence.MESSAGE_CONSTRAINTS);
+
+        // until date before the meeting
+        assertParseFailure(parser, meeting + " -u 01-09-2025", Recurrence.MESSAGE_CONSTRAINTS);
+    }
+
+    @Test
+    public void parse_invalidAttendee_failure() {
+        assertParseFailure(parser, DATE_DESC_SEP_MEETING + START_TIME_DESC_SEP_MEETING + END_TIME_DESC_SEP_MEETING
+                + INVALID_EMAIL_DESC, Email.MESSAGE_CONSTRAINTS);
+    }
+
     @Test
     public void parse_repeatedFields_failure() {
         String validExpectedMeetingString = DATE_DESC_SEP_MEETING + START_TIME_DESC_SEP_MEETING
@@ -10,10 +10,13 @@ import static syncsquad.teamsync.logic.commands.CommandTestUtil.INVALID_INDEX_DE
 import static syncsquad.teamsync.logic.commands.CommandTestUtil.INVALID_MODULE_CODE_DESC_CS2103T_MODULE;
 import static syncsquad.teamsync.logic.commands.CommandTestUtil.INVALID_SAME_START_END_TIME_DESC_CS2103T_MODULE;
 import static syncsquad.teamsync.logic.commands.CommandTestUtil.INVALID_START_TIME_DESC_CS2103T_MODULE;
+import static syncsquad.teamsync.logic.commands.CommandTestUtil.INVALID_TEACHING_WEEKS_DESC_CS2103T_MODULE;
 import static syncsquad.teamsync.logic.commands.CommandTestUtil.INVALID_TIME_DESC;
 import static syncsquad.teamsync.logic.commands.CommandTestUtil.MODULE_CODE_DESC_CS2103T_MODULE;
 import static syncsquad.teamsync.logic.commands.CommandTestUtil.PREAMBLE_WHITESPACE;
 import static syncsquad.teamsync.logic.commands.CommandTestUtil.START_TIME_DESC_CS2103T_MODULE;
+import static syncsquad.teamsync.logic.commands.CommandTestUtil.TEACHING_WEEKS_DESC_CS2103T_MODULE;
+import static syncsquad.teamsync.logic.commands.CommandTestUtil.VALID_TEACHING_WEEKS_CS2103T_MODULE;
 import static syncsquad.teamsync.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static syncsquad.teamsync.logic.parser.CommandParserTestUtil.assertParseSuccess;
 import static syncsquad.teamsync.testutil.TypicalAddressBook.CS2103T_MODULE;
@@ -25,6 +28,7 @@ import syncsquad.teamsync.logic.commands.module.AddModuleCommand;
 import syncsquad.teamsync.logic.parser.module.AddModuleCommandParser;
 import syncsquad.teamsync.model.module.Module;
 import syncsquad.teamsync.model.module.ModuleCode;
+import syncsquad.teamsync.model.module.TeachingWeeks;
 import syncsquad.teamsync.testutil.ModuleBuilder;
 
 public class AddModuleCommandParserTest {
@@ -43,6 +47,19 @@ public class AddModuleCommandParserTest {
                 new AddModuleCommand(index, expectedModule));
     }
 
+    @Test
+    public void parse_teachingWeeksPresent_success() {
+        Index index = Index.fromOneBased(1);
+        Module expectedModule = new ModuleBuilder(CS2103T_MODULE)
+                .withTeachingWeeks(VALID_TEACHING_WEEKS_CS2103T_MODULE).build();
+
+        assertParseSuccess(parser,
+                INDEX_DESC_CS2103T_MODULE + MODULE_CODE_DESC_CS2103T_MODULE + DAY_DESC_CS2103T_MODULE
+                        + START_TIME_DESC_CS2103T_MODULE + END_TIME_DESC_CS2103T_MODULE
+                        + TEACHING_WEEKS_DESC_CS2103T_MODULE,
+                new AddModuleCommand(index, expectedModule));
+    }
+
     @Test
     public void parse_repeatedFields_failure() {
         String validExpectedMeetingString = INDEX_DESC_CS2103T_MODULE + MODULE_CODE_DESC_CS2103T_MODULE
@@ -57,7 +74,8 @@ public class AddModuleCommandParserTest {
         assertParseFailure(parser, DAY_DESC_CS2103T_MODULE + validExpectedMeetingString, expectedMessage);
 
         // extra times
-        assertParseFailure(parser, validExpectedMeetingString + START_TIME_DESC_CS2103T_MODULE, expectedMessage);
+        assertParseFailure(parser, validExpectedMeetingString + START_TIME_DESC_CS2103T_MODULE
+                + END_TIME_DESC_CS2103T_MODULE, expectedMessage);
     }
 
     @Test
@@ -120,6 +138,13 @@ public class AddModuleCommandParserTest {
                         + INVALID_TIME_DESC
                         + END_TIME_DESC_CS2103T_MODULE,
                 ParserUtil.MESSAGE_INVALID_TIME_FORMAT);
+
+        // invalid teaching weeks
+        assertParseFailure(parser,
+                INDEX_DESC_CS2103T_MODULE + MODULE_CODE_DESC_CS2103T_MODULE + DAY_DESC_CS2103T_MODULE
+                        + START_TIME_DESC_CS2103T_MODULE + END_TIME_DESC_CS2103T_MODULE
+                        + INVALID_TEACHING_WEEKS_DESC_CS2103T_MODULE,
+                TeachingWeeks.MESSAGE_CONSTRAINTS);
     }
 
     @Test
@@ -14,6 +14,7 @@ import java.util.stream.Collectors;
 import org.junit.jupiter.api.Test;
 
 import syncsquad.teamsync.logic.commands.ClearCommand;
+import syncsquad.teamsync.logic.commands.CommandHelp;
 import syncsquad.teamsync.logic.commands.CommandTestUtil;
 import syncsquad.teamsync.logic.commands.ExitCommand;
 import syncsquad.teamsync.logic.commands.HelpCommand;
@@ -144,4 +145,29 @@ public class AddressBookParserTest {
     public void parseCommand_unknownCommand_throwsParseException() {
         assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> parser.parseCommand("unknownCommand"));
     }
+
+    @Test
+    public void parseCommand_registeredCommand_parsedWithRegistry() throws Exception {
+        AddressBookParser extendedParser = new AddressBookParser(AddressBookParser.BUILT_IN_COMMANDS.toBuilder()
+                .register("bye", arguments -> new ExitCommand(), new CommandHelp("Exit TeamSync", "bye", "bye"))
+                .build());
+        assertTrue(extendedParser.parseCommand("BYE") instanceof ExitCommand);
+        assertTrue(extendedParser.parseCommand(ClearCommand.COMMAND_WORD) instanceof ClearCommand);
+        assertEquals(parser.getCommandHelp().size() + 1, extendedParser.getCommandHelp().size());
+    }
+
+    @Test
+    public void getCommandHelp_everyCommandWordListed() {
+        List<String> formats = parser.getCommandHelp().stream()
+                .map(CommandHelp::getFormat)
+                .collect(Collectors.toList());
+        for (String command : new String[] {
+            PersonCommand.COMMAND_GROUP_WORD + " " + AddPersonCommand.COMMAND_WORD,
+            PersonCommand.COMMAND_GROUP_WORD + " " + ListCommand.COMMAND_WORD,
+            ModuleCommand.COMMAND_GROUP_WORD + " " + AddModuleCommand.COMMAND_WORD,
+            MeetingCommand.COMMAND_GROUP_WORD + " " + DeleteMeetingCommand.COMMAND_WORD,
+            HelpCommand.COMMAND_WORD, ClearCommand.COMMAND_WORD, ExitCommand.COMMAND_WORD}) {
+            assertTrue(formats.stream().anyMatch(format -> format.startsWith(command)), command);
+        }
+    }
 }
@@ -5,6 +5,8 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.Random;
+
 import org.junit.jupiter.api.Test;
 
 public class ArgumentTokenizerTest {
@@ -136,6 +138,50 @@ public class ArgumentTokenizerTest {
         assertArgumentAbsent(argMultimap, hatQ);
     }
 
+    @Test
+    public void tokenize_differentCase_matchesPrefix() {
+        String argsString = "SomePreambleString -T upper case P/ pSlash ^q lower case";
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, pSlash, dashT, hatQ);
+        assertPreamblePresent(argMultimap, "SomePreambleString");
+        assertArgumentPresent(argMultimap, dashT, "upper case");
+        assertArgumentPresent(argMultimap, pSlash, "pSlash");
+        assertArgumentPresent(argMultimap, hatQ, "lower case");
+    }
+
+    @Test
+    public void tokenize_prefixesSharingSpaces() {
+        // the space that ends one prefix can also be the space before the next
+        Prefix dashN = new Prefix("-n ");
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(" -n -n name", dashN);
+        assertPreambleEmpty(argMultimap);
+        assertArgumentPresent(argMultimap, dashN, "", "name");
+    }
+
+    @Test
+    public void tokenize_randomInput_agreesWithLegacyTokenizer() {
+        Prefix dashN = new Prefix("-n ");
+        Prefix dashNe = new Prefix("-ne");
+        Prefix[] prefixes = {pSlash, dashT, hatQ, dashN, dashNe};
+        String alphabet = " -tTpP/^qQnNe x";
+        Random random = new Random(17);
+        for (int i = 0; i < 20_000; i++) {
+            StringBuilder builder = new StringBuilder();
+            int length = random.nextInt(16);
+            for (int j = 0; j < length; j++) {
+                builder.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            }
+            String argsString = builder.toString();
+
+            ArgumentMultimap expected = LegacyArgumentTokenizer.tokenize(argsString, prefixes);
+            ArgumentMultimap actual = ArgumentTokenizer.tokenize(argsString, prefixes);
+            assertEquals(expected.getPreamble(), actual.getPreamble(), "Input: \"" + argsString + "\"");
+            for (Prefix prefix : prefixes) {
+                assertEquals(expected.getAllValues(prefix), actual.getAllValues(prefix),
+                        "Input: \"" + argsString + "\"");
+            }
+        }
+    }
+
     @Test
     public void equalsMethod() {
         Prefix aaa = new Prefix("aaa");
@@ -0,0 +1,82 @@
+package syncsquad.teamsync.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static syncsquad.teamsync.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static syncsquad.teamsync.testutil.Assert.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import syncsquad.teamsync.logic.commands.ClearCommand;
+import syncsquad.teamsync.logic.commands.Command;
+import syncsquad.teamsync.logic.commands.CommandHelp;
+import syncsquad.teamsync.logic.commands.ExitCommand;
+import syncsquad.teamsync.logic.parser.exceptions.ParseException;
+
+public class CommandRegistryTest {
+
+    private static final CommandHelp CLEAR_HELP = new CommandHelp("Clear", "clear", "clear");
+    private static final CommandHelp EXIT_HELP = new CommandHelp("Exit", "exit", "exit");
+
+    private final Parser<ClearCommand> clearParser = arguments -> new ClearCommand();
+    private final CommandRegistry<Command> registry = CommandRegistry.<Command>builder()
+            .register(ClearCommand.COMMAND_WORD, clearParser, CLEAR_HELP)
+            .build();
+
+    @Test
+    public void parse_registeredCommandWord_returnsCommand() throws Exception {
+        assertTrue(registry.parse(ClearCommand.COMMAND_WORD, " 3") instanceof ClearCommand);
+    }
+
+    @Test
+    public void parse_unknownCommandWord_throwsParseException() {
+        assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> registry.parse("unknown", ""));
+        assertThrows(NullPointerException.class, () -> registry.parse(null, ""));
+    }
+
+    @Test
+    public void getParser() {
+        assertSame(clearParser, registry.getParser(ClearCommand.COMMAND_WORD).get());
+        assertFalse(registry.getParser(ExitCommand.COMMAND_WORD).isPresent());
+    }
+
+    @Test
+    public void register_duplicateCommandWord_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> registry.toBuilder()
+                .register(ClearCommand.COMMAND_WORD, arguments -> new ClearCommand(), CLEAR_HELP));
+    }
+
+    @Test
+    public void toBuilder_registerMoreCommands_keepsExistingCommands() throws Exception {
+        CommandRegistry<Command> extended = registry.toBuilder()
+                .register(ExitCommand.COMMAND_WORD, arguments -> new ExitCommand(), EXIT_HELP)
+                .build();
+
+        assertTrue(extended.parse(ExitCommand.COMMAND_WORD, "") instanceof ExitCommand);
+        assertTrue(extended.parse(ClearCommand.COMMAND_WORD, "") instanceof ClearCommand);
+        assertEquals(List.of(CLEAR_HELP, EXIT_HELP), extended.getCommandHelp());
+
+        // the original registry is unchanged
+        assertFalse(registry.getParser(ExitCommand.COMMAND_WORD).isPresent());
+        assertEquals(List.of(CLEAR_HELP), registry.getCommandHelp());
+    }
+
+    @Test
+    public void getCommandHelp_group_includesHelpOfEveryCommand() {
+        CommandHelp addHelp = new CommandHelp("Add", "group add", "group add");
+        CommandRegistry<Command> group = CommandRegistry.<Command>builder()
+                .register("add", arguments -> new ClearCommand(), addHelp)
+                .register("remove", arguments -> new ClearCommand(), List.of())
+                .build();
+        CommandRegistry<Command> commands = registry.toBuilder()
+                .register("group", arguments -> group.parse("add", arguments), group.getCommandHelp())
+                .build();
+
+        assertEquals(List.of(CLEAR_HELP, addHelp), commands.getCommandHelp());
+        assertThrows(UnsupportedOperationException.class, () -> commands.getCommandHelp().add(EXIT_HELP));
+    }
+}
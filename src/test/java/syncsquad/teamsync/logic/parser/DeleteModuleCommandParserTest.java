@@ -28,7 +28,7 @@ public class DeleteModuleCommandParserTest {
     @Test
     public void parse_validArgs_returnsDeleteMeetingCommand() {
         Index index = Index.fromOneBased(1);
-        ModuleCode moduleCode = new ModuleCode("CS2103T");
+        ModuleCode moduleCode = ModuleCode.of("CS2103T");
         assertParseSuccess(parser, "1 CS2103T", new DeleteModuleCommand(index, moduleCode));
     }
 
@@ -10,6 +10,7 @@ import org.junit.jupiter.api.Test;
 
 import syncsquad.teamsync.logic.commands.person.FindCommand;
 import syncsquad.teamsync.logic.parser.person.FindCommandParser;
+import syncsquad.teamsync.model.person.FuzzyKeywordsPredicate;
 import syncsquad.teamsync.model.person.NameContainsKeywordsPredicate;
 
 public class FindCommandParserTest {
@@ -32,4 +33,25 @@ public class FindCommandParserTest {
         assertParseSuccess(parser, " \n Alice \n \t Bob  \t", expectedFindCommand);
     }
 
+    @Test
+    public void parse_fuzzyArgs_returnsFuzzyFindCommand() {
+        FindCommand expectedFindCommand =
+                new FindCommand(new FuzzyKeywordsPredicate(Arrays.asList("alcie", "bo")));
+        assertParseSuccess(parser, " -f alcie bo", expectedFindCommand);
+
+        // multiple whitespaces between keywords
+        assertParseSuccess(parser, " -f \n alcie \t bo  ", expectedFindCommand);
+    }
+
+    @Test
+    public void parse_invalidFuzzyArgs_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE);
+
+        // no keywords
+        assertParseFailure(parser, " -f   ", expectedMessage);
+
+        // keywords before the flag
+        assertParseFailure(parser, " alice -f bob", expectedMessage);
+    }
+
 }
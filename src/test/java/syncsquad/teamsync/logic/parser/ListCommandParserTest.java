@@ -0,0 +1,47 @@
+package syncsquad.teamsync.logic.parser;
+
+import static syncsquad.teamsync.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static syncsquad.teamsync.logic.parser.CliSyntax.PREFIX_SORT;
+import static syncsquad.teamsync.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static syncsquad.teamsync.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import syncsquad.teamsync.logic.Messages;
+import syncsquad.teamsync.logic.commands.person.ListCommand;
+import syncsquad.teamsync.logic.parser.person.ListCommandParser;
+import syncsquad.teamsync.model.person.PersonSortOrder;
+
+public class ListCommandParserTest {
+
+    private ListCommandParser parser = new ListCommandParser();
+
+    @Test
+    public void parse_noSortOrder_returnsListCommand() {
+        assertParseSuccess(parser, "", new ListCommand());
+
+        // extraneous parameters are ignored
+        assertParseSuccess(parser, " 3", new ListCommand());
+    }
+
+    @Test
+    public void parse_validSortOrder_returnsSortedListCommand() {
+        assertParseSuccess(parser, " -s email", new ListCommand(PersonSortOrder.EMAIL));
+        assertParseSuccess(parser, " -s locale-name", new ListCommand(PersonSortOrder.LOCALE_NAME));
+
+        // case-insensitive, with surrounding whitespace
+        assertParseSuccess(parser, " -s  Modules \t", new ListCommand(PersonSortOrder.MODULE_COUNT));
+    }
+
+    @Test
+    public void parse_invalidSortOrder_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, ListCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, " -s phone", expectedMessage);
+        assertParseFailure(parser, " -s ", expectedMessage);
+    }
+
+    @Test
+    public void parse_duplicateSortOrder_throwsParseException() {
+        assertParseFailure(parser, " -s name -s email", Messages.getErrorMessageForDuplicatePrefixes(PREFIX_SORT));
+    }
+}
@@ -19,11 +19,14 @@ import org.junit.jupiter.api.Test;
 
 import syncsquad.teamsync.logic.parser.exceptions.ParseException;
 import syncsquad.teamsync.model.module.Day;
+import syncsquad.teamsync.model.module.Module;
+import syncsquad.teamsync.model.module.TeachingWeeks;
 import syncsquad.teamsync.model.person.Address;
 import syncsquad.teamsync.model.person.Email;
 import syncsquad.teamsync.model.person.Name;
 import syncsquad.teamsync.model.person.Phone;
 import syncsquad.teamsync.model.tag.Tag;
+import syncsquad.teamsync.testutil.ModuleBuilder;
 
 public class ParserUtilTest {
     private static final String INVALID_NAME = "R@chel";
@@ -167,14 +170,14 @@ public class ParserUtilTest {
 
     @Test
     public void parseTag_validValueWithoutWhitespace_returnsTag() throws Exception {
-        Tag expectedTag = new Tag(VALID_TAG_1);
+        Tag expectedTag = Tag.of(VALID_TAG_1);
         assertEquals(expectedTag, ParserUtil.parseTag(VALID_TAG_1));
     }
 
     @Test
     public void parseTag_validValueWithWhitespace_returnsTrimmedTag() throws Exception {
         String tagWithWhitespace = WHITESPACE + VALID_TAG_1 + WHITESPACE;
-        Tag expectedTag = new Tag(VALID_TAG_1);
+        Tag expectedTag = Tag.of(VALID_TAG_1);
         assertEquals(expectedTag, ParserUtil.parseTag(tagWithWhitespace));
     }
 
@@ -196,7 +199,7 @@ public class ParserUtilTest {
     @Test
     public void parseTags_collectionWithValidTags_returnsTagSet() throws Exception {
         Set<Tag> actualTagSet = ParserUtil.parseTags(Arrays.asList(VALID_TAG_1, VALID_TAG_2));
-        Set<Tag> expectedTagSet = new HashSet<Tag>(Arrays.asList(new Tag(VALID_TAG_1), new Tag(VALID_TAG_2)));
+        Set<Tag> expectedTagSet = new HashSet<Tag>(Arrays.asList(Tag.of(VALID_TAG_1), Tag.of(VALID_TAG_2)));
 
         assertEquals(expectedTagSet, actualTagSet);
     }
@@ -213,14 +216,14 @@ public class ParserUtilTest {
 
     @Test
     public void parseDay_validValueWithoutWhitespace_returnsDay() throws Exception {
-        Day expectedDay = new Day(VALID_DAY);
+        Day expectedDay = Day.of(VALID_DAY);
         assertEquals(expectedDay, ParserUtil.parseDay(VALID_DAY));
     }
 
     @Test
     public void parseDay_validValueWithWhitespace_returnsTrimmedDay() throws Exception {
         String dayWithWhitespace = WHITESPACE + VALID_DAY + WHITESPACE;
-        Day expectedDay = new Day(VALID_DAY);
+        Day expectedDay = Day.of(VALID_DAY);
         assertEquals(expectedDay, ParserUtil.parseDay(dayWithWhitespace));
     }
 
@@ -337,4 +340,26 @@ public class ParserUtilTest {
                 .parseTime(invalidTimeFormatMinute));
         assertEquals(exception.getMessage(), ParserUtil.MESSAGE_INVALID_TIME_FORMAT);
     }
+
+    @Test
+    public void parseTeachingWeeks_validValue_returnsTeachingWeeks() throws Exception {
+        assertEquals(TeachingWeeks.of("1-6,8"), ParserUtil.parseTeachingWeeks(" 1-6,8 "));
+        assertEquals(TeachingWeeks.of("odd"), ParserUtil.parseTeachingWeeks("odd"));
+    }
+
+    @Test
+    public void parseTeachingWeeks_invalidValue_throwsParseException() {
+        assertThrows(NullPointerException.class, () -> ParserUtil.parseTeachingWeeks(null));
+        assertThrows(ParseException.class, TeachingWeeks.MESSAGE_CONSTRAINTS, () ->
+                ParserUtil.parseTeachingWeeks("0-3"));
+    }
+
+    @Test
+    public void parseModule_withTeachingWeeks_returnsModule() throws Exception {
+        Module expectedModule = new ModuleBuilder().withTeachingWeeks("even").build();
+        assertEquals(expectedModule, ParserUtil.parseModule("CS2103T FRI 14:00 16:00 even"));
+        assertEquals(new ModuleBuilder().build(), ParserUtil.parseModule("CS2103T FRI 14:00 16:00"));
+        assertThrows(ParseException.class, TeachingWeeks.MESSAGE_CONSTRAINTS, () ->
+                ParserUtil.parseModule("CS2103T FRI 14:00 16:00 weekly"));
+    }
 }
@@ -0,0 +1,29 @@
+package syncsquad.teamsync.logic.parser;
+
+import static syncsquad.teamsync.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static syncsquad.teamsync.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static syncsquad.teamsync.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import syncsquad.teamsync.logic.commands.RunCommand;
+
+public class RunCommandParserTest {
+
+    private final RunCommandParser parser = new RunCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsRunCommand() {
+        RunCommand expectedCommand = new RunCommand(Paths.get("data/onboarding script.txt"), new AddressBookParser());
+        assertParseSuccess(parser, "  data/onboarding script.txt ", expectedCommand);
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, RunCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "   ", expectedMessage);
+        assertParseFailure(parser, " a\0b", expectedMessage);
+    }
+}
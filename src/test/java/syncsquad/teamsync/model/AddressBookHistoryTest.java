@@ -0,0 +1,56 @@
+package syncsquad.teamsync.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static syncsquad.teamsync.testutil.Assert.assertThrows;
+import static syncsquad.teamsync.testutil.TypicalAddressBook.ALICE;
+import static syncsquad.teamsync.testutil.TypicalAddressBook.BOB;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import syncsquad.teamsync.model.person.exceptions.PersonNotFoundException;
+
+public class AddressBookHistoryTest {
+
+    private final AddressBookHistory history = new AddressBookHistory();
+    private final AddressBook addressBook = new AddressBook();
+
+    @Test
+    public void undo_modificationCannotBeReverted_entryStillUndoable() {
+        history.recordPersonEdit(null, ALICE);
+        history.commit(UserPrefs.DEFAULT_UNDO_LIMIT);
+
+        // ALICE was never added, so she cannot be removed
+        assertThrows(PersonNotFoundException.class, () -> history.undo(addressBook));
+        assertTrue(history.canUndo());
+        assertFalse(history.canRedo());
+
+        addressBook.addPerson(ALICE);
+        history.undo(addressBook);
+        assertEquals(List.of(), addressBook.getPersonList());
+        assertTrue(history.canRedo());
+    }
+
+    @Test
+    public void redo_modificationCannotBeReapplied_entryStillRedoable() {
+        addressBook.addPerson(ALICE);
+        history.recordPersonEdit(ALICE, BOB);
+        history.commit(UserPrefs.DEFAULT_UNDO_LIMIT);
+        // Reverting the edit sets BOB back to ALICE, so BOB has to be there first
+        addressBook.setPerson(ALICE, BOB);
+        history.undo(addressBook);
+
+        addressBook.removePerson(ALICE);
+        assertThrows(PersonNotFoundException.class, () -> history.redo(addressBook));
+        assertTrue(history.canRedo());
+        assertFalse(history.canUndo());
+
+        addressBook.addPerson(ALICE);
+        history.redo(addressBook);
+        assertEquals(List.of(BOB), addressBook.getPersonList());
+        assertTrue(history.canUndo());
+    }
+}
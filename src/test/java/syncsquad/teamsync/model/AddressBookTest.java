@@ -7,8 +7,11 @@ import static syncsquad.teamsync.logic.commands.CommandTestUtil.VALID_ADDRESS_BO
 import static syncsquad.teamsync.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static syncsquad.teamsync.testutil.Assert.assertThrows;
 import static syncsquad.teamsync.testutil.TypicalAddressBook.ALICE;
+import static syncsquad.teamsync.testutil.TypicalAddressBook.BENSON;
+import static syncsquad.teamsync.testutil.TypicalAddressBook.JAN_MEETING;
 import static syncsquad.teamsync.testutil.TypicalAddressBook.getTypicalAddressBook;
 
+import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -21,6 +24,7 @@ import javafx.collections.ObservableList;
 import syncsquad.teamsync.model.meeting.Meeting;
 import syncsquad.teamsync.model.person.Person;
 import syncsquad.teamsync.model.person.exceptions.DuplicatePersonException;
+import syncsquad.teamsync.testutil.MeetingBuilder;
 import syncsquad.teamsync.testutil.PersonBuilder;
 
 public class AddressBookTest {
@@ -55,6 +59,70 @@ public class AddressBookTest {
         assertThrows(DuplicatePersonException.class, () -> addressBook.resetData(newData));
     }
 
+    @Test
+    public void snapshot_addressBookModifiedAfterwards_snapshotUnchanged() {
+        addressBook.addPerson(ALICE);
+        ReadOnlyAddressBook snapshot = addressBook.snapshot();
+
+        addressBook.addPerson(BENSON);
+        addressBook.removePerson(ALICE);
+        addressBook.addMeeting(JAN_MEETING);
+
+        assertEquals(Collections.singletonList(ALICE), snapshot.getPersonList());
+        assertEquals(Collections.emptyList(), snapshot.getMeetingList());
+        assertEquals(Collections.singletonList(BENSON), addressBook.getPersonList());
+    }
+
+    @Test
+    public void getMeetingOccurrences_snapshot_sameAsAddressBook() {
+        Meeting weekly = new MeetingBuilder().withDate("06-01-2025").withStartTime("09:00").withEndTime("09:15")
+                .withRecurrence(1, "30-06-2025").build();
+        addressBook.addMeeting(JAN_MEETING);
+        addressBook.addMeeting(weekly);
+        ReadOnlyAddressBook snapshot = addressBook.snapshot();
+        LocalDate from = LocalDate.of(2025, 1, 1);
+        LocalDate to = LocalDate.of(2025, 2, 1);
+        List<Meeting> expected = addressBook.getMeetingOccurrences(from, to);
+
+        addressBook.removeMeeting(weekly);
+        assertEquals(expected, snapshot.getMeetingOccurrences(from, to));
+        assertTrue(expected.contains(JAN_MEETING));
+        assertTrue(expected.contains(new MeetingBuilder(weekly).withDate("27-01-2025").withoutRecurrence().build()));
+    }
+
+    @Test
+    public void snapshot_addressBookUnchanged_equalToAddressBook() {
+        AddressBook typicalAddressBook = getTypicalAddressBook();
+        assertEquals(typicalAddressBook, new AddressBook(typicalAddressBook.snapshot()));
+    }
+
+    @Test
+    public void snapshot_modifySnapshot_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, () -> addressBook.snapshot().getPersonList().remove(0));
+    }
+
+    @Test
+    public void getVersion_modifications_versionIncreases() {
+        long version = addressBook.getVersion();
+        addressBook.snapshot();
+        assertEquals(version, addressBook.getVersion());
+
+        addressBook.addPerson(ALICE);
+        long versionAfterAdd = addressBook.getVersion();
+        assertTrue(versionAfterAdd > version);
+
+        addressBook.addMeeting(JAN_MEETING);
+        long versionAfterAddMeeting = addressBook.getVersion();
+        assertTrue(versionAfterAddMeeting > versionAfterAdd);
+
+        addressBook.setPerson(ALICE, new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build());
+        assertTrue(addressBook.getVersion() > versionAfterAddMeeting);
+
+        version = addressBook.getVersion();
+        addressBook.resetData(getTypicalAddressBook());
+        assertTrue(addressBook.getVersion() > version);
+    }
+
     @Test
     public void hasPerson_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> addressBook.hasPerson(null));
@@ -86,10 +154,21 @@ public class AddressBookTest {
 
     @Test
     public void toStringMethod() {
-        String expected = AddressBook.class.getCanonicalName() + "{persons=" + addressBook.getPersonList() + "}";
+        String expected = AddressBook.class.getCanonicalName() + "{persons=" + addressBook.getPersonList()
+                + ", meetings=" + addressBook.getMeetingList() + "}";
         assertEquals(expected, addressBook.toString());
     }
 
+    @Test
+    public void toStringMethod_snapshot_includesMeetings() {
+        addressBook.addPerson(ALICE);
+        addressBook.addMeeting(JAN_MEETING);
+        ReadOnlyAddressBook snapshot = addressBook.snapshot();
+        String expected = AddressBookSnapshot.class.getCanonicalName() + "{persons=" + List.of(ALICE)
+                + ", meetings=" + List.of(JAN_MEETING) + "}";
+        assertEquals(expected, snapshot.toString());
+    }
+
     /**
      * A stub ReadOnlyAddressBook whose persons list can violate interface constraints.
      */
@@ -110,6 +189,11 @@ public class AddressBookTest {
         public ObservableList<Meeting> getMeetingList() {
             return meetings;
         }
+
+        @Override
+        public List<Meeting> getMeetingOccurrences(LocalDate from, LocalDate to) {
+            throw new AssertionError("This method should not be called.");
+        }
     }
 
 }
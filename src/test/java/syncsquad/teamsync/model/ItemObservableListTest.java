@@ -0,0 +1,94 @@
+package syncsquad.teamsync.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static syncsquad.teamsync.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class ItemObservableListTest {
+
+    private static final int SIZE = 5 * ItemObservableList.MAX_CHUNK_SIZE;
+
+    private final ItemObservableList<Integer> list = new ItemObservableList<>();
+
+    @Test
+    public void modifications_manyChunks_sameAsArrayList() {
+        List<Integer> expected = new ArrayList<>();
+        Random random = new Random(0);
+        for (int i = 0; i < 4 * SIZE; i++) {
+            int index = random.nextInt(expected.size() + 1);
+            if (expected.isEmpty() || random.nextInt(3) > 0) {
+                expected.add(index, i);
+                list.add(index, i);
+            } else if (random.nextBoolean()) {
+                index = Math.min(index, expected.size() - 1);
+                assertEquals(expected.remove(index), list.remove(index));
+            } else {
+                index = Math.min(index, expected.size() - 1);
+                assertEquals(expected.set(index, i), list.set(index, i));
+            }
+        }
+        assertEquals(expected, list);
+
+        // Removing every item merges and then removes all chunks
+        while (!expected.isEmpty()) {
+            int index = random.nextInt(expected.size());
+            assertEquals(expected.remove(index), list.remove(index));
+        }
+        assertEquals(expected, list);
+    }
+
+    @Test
+    public void snapshot_listModifiedAfterwards_snapshotUnchanged() {
+        for (int i = 0; i < SIZE; i++) {
+            list.add(i);
+        }
+        List<Integer> expected = new ArrayList<>(list);
+        List<Integer> snapshot = list.snapshot();
+
+        list.add(0, -1);
+        list.set(SIZE / 2, -2);
+        list.remove(SIZE - 1);
+        for (int i = 0; i < ItemObservableList.MAX_CHUNK_SIZE; i++) {
+            list.add(SIZE / 3, -3);
+        }
+        assertEquals(expected, snapshot);
+
+        list.setAll(List.of(1, 2, 3));
+        assertEquals(expected, snapshot);
+        assertEquals(List.of(1, 2, 3), list);
+    }
+
+    @Test
+    public void snapshot_listUnchanged_sameSnapshot() {
+        list.setAll(List.of(1, 2, 3));
+        List<Integer> snapshot = list.snapshot();
+        assertSame(snapshot, list.snapshot());
+
+        list.add(4);
+        List<Integer> nextSnapshot = list.snapshot();
+        assertEquals(List.of(1, 2, 3, 4), nextSnapshot);
+        assertTrue(snapshot != nextSnapshot);
+    }
+
+    @Test
+    public void snapshot_modify_throwsUnsupportedOperationException() {
+        list.add(1);
+        assertThrows(UnsupportedOperationException.class, () -> list.snapshot().add(2));
+    }
+
+    @Test
+    public void get_indexOutOfBounds_throwsIndexOutOfBoundsException() {
+        list.setAll(List.of(1, 2, 3));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(3));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.snapshot().get(3));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.add(5, 4));
+    }
+}
@@ -7,16 +7,31 @@ import static syncsquad.teamsync.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static syncsquad.teamsync.testutil.Assert.assertThrows;
 import static syncsquad.teamsync.testutil.TypicalAddressBook.ALICE;
 import static syncsquad.teamsync.testutil.TypicalAddressBook.BENSON;
+import static syncsquad.teamsync.testutil.TypicalAddressBook.JAN_MEETING;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
 import syncsquad.teamsync.commons.core.GuiSettings;
+import syncsquad.teamsync.model.meeting.Meeting;
+import syncsquad.teamsync.model.person.FuzzyKeywordsPredicate;
 import syncsquad.teamsync.model.person.NameContainsKeywordsPredicate;
+import syncsquad.teamsync.model.person.Person;
+import syncsquad.teamsync.model.person.PersonSearchResult;
+import syncsquad.teamsync.model.person.PersonSortOrder;
 import syncsquad.teamsync.testutil.AddressBookBuilder;
+import syncsquad.teamsync.testutil.MeetingBuilder;
+import syncsquad.teamsync.testutil.PersonBuilder;
 
 public class ModelManagerTest {
 
@@ -88,6 +103,300 @@ public class ModelManagerTest {
         assertTrue(modelManager.hasPerson(ALICE));
     }
 
+    @Test
+    public void setPerson_emailChanged_attendeesUpdatedAndUndoneTogether() {
+        Meeting meeting = new MeetingBuilder(JAN_MEETING).withAttendees(ALICE.getEmail().value).build();
+        modelManager.addPerson(ALICE);
+        modelManager.addMeeting(meeting);
+        modelManager.commitAddressBook();
+
+        Person editedAlice = new PersonBuilder(ALICE).withEmail("alice.new@example.com").build();
+        modelManager.setPerson(ALICE, editedAlice);
+        assertEquals(List.of(meeting.withAttendees(Set.of(editedAlice.getEmail()))), modelManager.getMeetingList());
+
+        modelManager.undoAddressBook();
+        assertEquals(List.of(meeting), modelManager.getMeetingList());
+    }
+
+    @Test
+    public void deletePerson_attendee_removedFromMeetingsAndLoneAttendeeMeetingKept() {
+        Meeting aliceMeeting = new MeetingBuilder(JAN_MEETING).withAttendees(ALICE.getEmail().value).build();
+        Meeting sharedMeeting = new MeetingBuilder(JAN_MEETING).withDate("02-01-2025")
+                .withAttendees(ALICE.getEmail().value, BENSON.getEmail().value).build();
+        Meeting teamMeeting = new MeetingBuilder(JAN_MEETING).withDate("03-01-2025").withAttendees().build();
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.addMeeting(aliceMeeting);
+        modelManager.addMeeting(sharedMeeting);
+        modelManager.addMeeting(teamMeeting);
+
+        modelManager.deletePerson(ALICE);
+        assertEquals(List.of(aliceMeeting.withAttendees(Set.of()),
+                sharedMeeting.withAttendees(Set.of(BENSON.getEmail())), teamMeeting), modelManager.getMeetingList());
+    }
+
+    @Test
+    public void undoAddressBook_nothingToUndo_throwsIllegalStateException() {
+        assertFalse(modelManager.canUndoAddressBook());
+        assertThrows(IllegalStateException.class, () -> modelManager.undoAddressBook());
+        assertFalse(modelManager.canRedoAddressBook());
+        assertThrows(IllegalStateException.class, () -> modelManager.redoAddressBook());
+    }
+
+    @Test
+    public void undoAddressBook_commitsUndoneInReverseOrder_redoneInOrder() {
+        Person editedAlice = new PersonBuilder(ALICE).withPhone("999").build();
+        modelManager.addPerson(ALICE);
+        modelManager.addMeeting(JAN_MEETING);
+        modelManager.commitAddressBook();
+        AddressBook afterFirstCommit = new AddressBook(modelManager.getAddressBook());
+        modelManager.setPerson(ALICE, editedAlice);
+        modelManager.addPerson(BENSON);
+        modelManager.deleteMeeting(JAN_MEETING);
+        modelManager.commitAddressBook();
+        AddressBook afterSecondCommit = new AddressBook(modelManager.getAddressBook());
+
+        modelManager.undoAddressBook();
+        assertEquals(afterFirstCommit, modelManager.getAddressBook());
+        modelManager.undoAddressBook();
+        assertEquals(new AddressBook(), modelManager.getAddressBook());
+        assertFalse(modelManager.canUndoAddressBook());
+
+        modelManager.redoAddressBook();
+        assertEquals(afterFirstCommit, modelManager.getAddressBook());
+        modelManager.redoAddressBook();
+        assertEquals(afterSecondCommit, modelManager.getAddressBook());
+        assertFalse(modelManager.canRedoAddressBook());
+    }
+
+    @Test
+    public void undoAddressBook_setAddressBook_previousDataRestored() {
+        modelManager.setAddressBook(new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build());
+        modelManager.commitAddressBook();
+        AddressBook aliceAndBenson = new AddressBook(modelManager.getAddressBook());
+        modelManager.setAddressBook(new AddressBook());
+
+        modelManager.undoAddressBook();
+        assertEquals(aliceAndBenson, modelManager.getAddressBook());
+        modelManager.redoAddressBook();
+        assertEquals(new AddressBook(), modelManager.getAddressBook());
+    }
+
+    @Test
+    public void commitAddressBook_newChangeAfterUndo_redoDiscarded() {
+        modelManager.addPerson(ALICE);
+        modelManager.commitAddressBook();
+        modelManager.undoAddressBook();
+        assertTrue(modelManager.canRedoAddressBook());
+
+        // a commit without modifications keeps the undone change
+        modelManager.commitAddressBook();
+        assertTrue(modelManager.canRedoAddressBook());
+
+        modelManager.addPerson(BENSON);
+        assertFalse(modelManager.canRedoAddressBook());
+        modelManager.commitAddressBook();
+        assertFalse(modelManager.canRedoAddressBook());
+    }
+
+    @Test
+    public void commitAddressBook_moreCommitsThanUndoLimit_oldestForgotten() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setUndoLimit(1);
+        modelManager.setUserPrefs(userPrefs);
+        modelManager.addPerson(ALICE);
+        modelManager.commitAddressBook();
+        modelManager.addPerson(BENSON);
+        modelManager.commitAddressBook();
+
+        modelManager.undoAddressBook();
+        assertEquals(Arrays.asList(ALICE), modelManager.getAddressBook().getPersonList());
+        assertFalse(modelManager.canUndoAddressBook());
+    }
+
+    @Test
+    public void undoAddressBook_batchRolledBack_rolledBackModificationsNotUndone() {
+        modelManager.addPerson(ALICE);
+        assertThrows(IllegalStateException.class, () -> modelManager.batch(model -> {
+            model.addPerson(BENSON);
+            throw new IllegalStateException();
+        }));
+        modelManager.commitAddressBook();
+
+        modelManager.undoAddressBook();
+        assertEquals(new AddressBook(), modelManager.getAddressBook());
+    }
+
+    @Test
+    public void batch_nullAction_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> modelManager.batch(null));
+    }
+
+    @Test
+    public void batch_multipleModifications_singleChangePerList() {
+        modelManager.addPerson(ALICE);
+        int[] personListChanges = new int[1];
+        int[] filteredPersonListChanges = new int[1];
+        modelManager.getAddressBook().getPersonList().addListener((ListChangeListener<Person>) c ->
+                personListChanges[0]++);
+        modelManager.getFilteredPersonList().addListener((ListChangeListener<Person>) c ->
+                filteredPersonListChanges[0]++);
+
+        modelManager.batch(model -> {
+            model.addPerson(BENSON);
+            model.setPerson(ALICE, new PersonBuilder(ALICE).withPhone("999").build());
+            model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        });
+
+        assertEquals(1, personListChanges[0]);
+        assertEquals(1, filteredPersonListChanges[0]);
+        assertEquals(Arrays.asList(new PersonBuilder(ALICE).withPhone("999").build(), BENSON),
+                modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void batch_exceptionThrown_rollsBackModifications() {
+        modelManager.addPerson(ALICE);
+        modelManager.addMeeting(JAN_MEETING);
+        AddressBook expectedAddressBook = new AddressBook(modelManager.getAddressBook());
+
+        assertThrows(IllegalStateException.class, () -> modelManager.batch(model -> {
+            model.addPerson(BENSON);
+            model.deletePerson(ALICE);
+            model.deleteMeeting(JAN_MEETING);
+            throw new IllegalStateException();
+        }));
+
+        assertEquals(expectedAddressBook, modelManager.getAddressBook());
+        assertTrue(modelManager.hasOverlappingMeeting(JAN_MEETING));
+        assertEquals(Arrays.asList(ALICE), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void batch_nestedBatchRolledBack_outerModificationsKept() {
+        modelManager.batch(model -> {
+            model.addPerson(ALICE);
+            assertThrows(IllegalStateException.class, () -> model.batch(innerModel -> {
+                innerModel.addPerson(BENSON);
+                throw new IllegalStateException();
+            }));
+        });
+
+        assertTrue(modelManager.hasPerson(ALICE));
+        assertFalse(modelManager.hasPerson(BENSON));
+    }
+
+    @Test
+    public void updateFilteredPersonList_personEditedWithSamePredicate_onlyEditedPersonTested() {
+        modelManager.setAddressBook(new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build());
+        List<Person> testedPersons = new ArrayList<>();
+        Predicate<Person> predicate = person -> {
+            testedPersons.add(person);
+            return true;
+        };
+        modelManager.updateFilteredPersonList(predicate);
+        assertEquals(Arrays.asList(ALICE, BENSON), testedPersons);
+
+        testedPersons.clear();
+        Person editedAlice = new PersonBuilder(ALICE).withPhone("999").build();
+        modelManager.setPerson(ALICE, editedAlice);
+        modelManager.updateFilteredPersonList(predicate);
+        assertEquals(Arrays.asList(editedAlice), testedPersons);
+
+        // replacing the whole list with the same persons does not test them again
+        testedPersons.clear();
+        modelManager.setAddressBook(new AddressBook(modelManager.getAddressBook()));
+        assertEquals(Collections.emptyList(), testedPersons);
+        assertEquals(Arrays.asList(editedAlice, BENSON), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonList_nameKeywords_matchesFoundInNameIndex() {
+        Person carl = new PersonBuilder().withName("Carl Meier").withEmail("carl@example.com").build();
+        modelManager.setAddressBook(new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build());
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(Arrays.asList("meier", "Nobody")));
+        assertEquals(Arrays.asList(BENSON), modelManager.getFilteredPersonList());
+
+        // persons added or edited afterwards are tested by the keywords themselves
+        modelManager.addPerson(carl);
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(Arrays.asList("meier", "Nobody")));
+        Person editedBenson = new PersonBuilder(BENSON).withName("Benson Mayer").build();
+        modelManager.setPerson(BENSON, editedBenson);
+        assertEquals(Arrays.asList(carl), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonList_fuzzyKeywords_matchesFoundInSearchIndex() {
+        Person carl = new PersonBuilder().withName("Carl Alicent").withEmail("carl@example.com").build();
+        modelManager.setAddressBook(new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build());
+        modelManager.updateFilteredPersonList(new FuzzyKeywordsPredicate(Arrays.asList("alcie", "Nobody")));
+        assertEquals(Arrays.asList(ALICE), modelManager.getFilteredPersonList());
+
+        // persons added or edited afterwards are tested by the keywords themselves
+        modelManager.addPerson(carl);
+        modelManager.updateFilteredPersonList(new FuzzyKeywordsPredicate(Arrays.asList("alcie", "Nobody")));
+        Person editedBenson = new PersonBuilder(BENSON).withName("Benson Alice").build();
+        modelManager.setPerson(BENSON, editedBenson);
+        assertEquals(Arrays.asList(ALICE, editedBenson, carl), modelManager.getFilteredPersonList());
+        assertEquals(Arrays.asList(ALICE, editedBenson, carl),
+                modelManager.searchPersons(List.of("alcie")).getClosestMatches(3));
+    }
+
+    @Test
+    public void updateFilteredPersonList_searchResult_filteredToMatches() {
+        modelManager.setAddressBook(new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build());
+        PersonSearchResult searchResult = modelManager.searchPersons(Arrays.asList("alcie", "Nobody"));
+        modelManager.updateFilteredPersonList(searchResult);
+        assertEquals(Arrays.asList(ALICE), modelManager.getFilteredPersonList());
+
+        // the same keywords as a predicate do not refilter the list
+        modelManager.updateFilteredPersonList(new FuzzyKeywordsPredicate(Arrays.asList("alcie", "Nobody")));
+        assertEquals(Arrays.asList(ALICE), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void getSortedPersonList_personsChanged_viewsStaySorted() {
+        Person zed = new PersonBuilder().withName("Zed").withEmail("aaa@example.com").withModules(
+                "CS2103T MON 10:00 12:00", "CS2101 TUE 10:00 12:00").build();
+        modelManager.addPerson(BENSON);
+        modelManager.addPerson(zed);
+        ObservableList<Person> byEmail = modelManager.getSortedPersonList(PersonSortOrder.EMAIL);
+        ObservableList<Person> byModuleCount = modelManager.getSortedPersonList(PersonSortOrder.MODULE_COUNT);
+        assertEquals(Arrays.asList(zed, BENSON), byEmail);
+        assertEquals(Arrays.asList(BENSON, zed), byModuleCount);
+
+        modelManager.addPerson(ALICE);
+        Person editedZed = new PersonBuilder(zed).withModules().build();
+        modelManager.setPerson(zed, editedZed);
+
+        assertEquals(Arrays.asList(editedZed, ALICE, BENSON), byEmail);
+        assertEquals(Arrays.asList(ALICE, editedZed, BENSON), byModuleCount);
+        assertEquals(Arrays.asList(ALICE, BENSON, editedZed),
+                modelManager.getSortedPersonList(PersonSortOrder.LOCALE_NAME));
+        assertTrue(byEmail == modelManager.getSortedPersonList(PersonSortOrder.EMAIL));
+    }
+
+    @Test
+    public void sortFilteredPersonList_thenPersonAddedAndFilterUpdated_sortShownUntilFilterUpdated() {
+        Person zed = new PersonBuilder().withName("Zed").withEmail("aaa@example.com").build();
+        modelManager.addPerson(BENSON);
+        modelManager.addPerson(zed);
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(Arrays.asList("Zed")));
+
+        modelManager.sortFilteredPersonList(PersonSortOrder.EMAIL);
+        assertEquals(Arrays.asList(zed, BENSON), modelManager.getFilteredPersonList());
+        assertTrue(modelManager.getFilteredPersonList() == modelManager.filteredPersonListProperty().get());
+
+        // adding a person keeps the sort order shown
+        modelManager.addPerson(ALICE);
+        assertEquals(Arrays.asList(zed, ALICE, BENSON), modelManager.getFilteredPersonList());
+
+        // updating the filter shows the usual order again
+        modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        assertEquals(Arrays.asList(ALICE, BENSON, zed), modelManager.getFilteredPersonList());
+        assertTrue(modelManager.getFilteredPersonList() == modelManager.filteredPersonListProperty().get());
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
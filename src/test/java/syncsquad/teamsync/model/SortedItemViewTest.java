@@ -0,0 +1,48 @@
+package syncsquad.teamsync.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static syncsquad.teamsync.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+public class SortedItemViewTest {
+
+    private final ObservableList<Integer> source = FXCollections.observableArrayList(5, 3, 9, 1);
+    private final SortedItemView<Integer> view = new SortedItemView<>(source, Comparator.reverseOrder());
+
+    @Test
+    public void constructor_sortsSource() {
+        assertEquals(List.of(9, 5, 3, 1), view.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void sourceChanged_fewItems_viewStaysSorted() {
+        source.add(4);
+        source.remove(Integer.valueOf(9));
+        source.set(0, 10);
+        assertEquals(List.of(10, 4, 3, 1), view.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void sourceChanged_manyItems_viewStaysSorted() {
+        List<Integer> items = IntStream.range(0, 200).boxed().collect(Collectors.toList());
+        source.setAll(items);
+        List<Integer> expected = new ArrayList<>(items);
+        expected.sort(Comparator.reverseOrder());
+        assertEquals(expected, view.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, () -> view.asUnmodifiableObservableList().remove(0));
+    }
+}
@@ -1,5 +1,7 @@
 package syncsquad.teamsync.model;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static syncsquad.teamsync.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
@@ -18,4 +20,19 @@ public class UserPrefsTest {
         assertThrows(NullPointerException.class, () -> userPrefs.setAddressBookFilePath(null));
     }
 
+    @Test
+    public void setUndoLimit_negativeLimit_throwsIllegalArgumentException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(IllegalArgumentException.class, () -> userPrefs.setUndoLimit(-1));
+    }
+
+    @Test
+    public void resetData_copiesUndoLimit() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setUndoLimit(3);
+        assertEquals(3, new UserPrefs(userPrefs).getUndoLimit());
+        assertEquals(UserPrefs.DEFAULT_UNDO_LIMIT, new UserPrefs().getUndoLimit());
+        assertNotEquals(new UserPrefs(), userPrefs);
+    }
+
 }
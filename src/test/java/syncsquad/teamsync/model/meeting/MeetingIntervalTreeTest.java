@@ -0,0 +1,85 @@
+package syncsquad.teamsync.model.meeting;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import syncsquad.teamsync.testutil.MeetingBuilder;
+
+public class MeetingIntervalTreeTest {
+
+    private final MeetingIntervalTree tree = new MeetingIntervalTree();
+
+    @Test
+    public void hasOverlap_emptyTree_returnsFalse() {
+        assertTrue(tree.isEmpty());
+        assertFalse(tree.hasOverlap(meeting("10:00", "12:00")));
+    }
+
+    @Test
+    public void hasOverlap_touchingBoundaries_returnsFalse() {
+        tree.add(meeting("10:00", "12:00"));
+        assertFalse(tree.hasOverlap(meeting("8:00", "10:00")));
+        assertFalse(tree.hasOverlap(meeting("12:00", "14:00")));
+    }
+
+    @Test
+    public void hasOverlap_overlappingPeriod_returnsTrue() {
+        tree.add(meeting("10:00", "12:00"));
+        assertTrue(tree.hasOverlap(meeting("9:00", "10:30")));
+        assertTrue(tree.hasOverlap(meeting("11:30", "13:00")));
+        assertTrue(tree.hasOverlap(meeting("10:30", "11:00")));
+        assertTrue(tree.hasOverlap(meeting("9:00", "13:00")));
+    }
+
+    @Test
+    public void remove_lastMeeting_treeIsEmpty() {
+        Meeting meeting = meeting("10:00", "12:00");
+        tree.add(meeting);
+        tree.remove(meeting);
+        assertTrue(tree.isEmpty());
+        assertFalse(tree.hasOverlap(meeting));
+    }
+
+    @Test
+    public void getOverlapping_manyMeetings_matchesLinearScan() {
+        List<Meeting> meetings = new ArrayList<>();
+        // Meetings of different lengths, some of which overlap each other
+        for (int hour = 0; hour < 23; hour++) {
+            for (int length = 10; length <= 50; length += 20) {
+                Meeting meeting = meeting(hour + ":" + length, (hour + 1) + ":00");
+                meetings.add(meeting);
+                tree.add(meeting);
+            }
+        }
+        // Remove every third meeting so that the tree has to rebalance
+        List<Meeting> remaining = new ArrayList<>();
+        for (int i = 0; i < meetings.size(); i++) {
+            if (i % 3 == 0) {
+                tree.remove(meetings.get(i));
+            } else {
+                remaining.add(meetings.get(i));
+            }
+        }
+
+        for (int hour = 0; hour < 23; hour++) {
+            Meeting toCheck = meeting(hour + ":30", (hour + 1) + ":15");
+            List<Meeting> expected = remaining.stream()
+                    .filter(toCheck::isOverlapping)
+                    .sorted()
+                    .collect(Collectors.toList());
+            assertEquals(expected, tree.getOverlapping(toCheck));
+            assertEquals(!expected.isEmpty(), tree.hasOverlap(toCheck));
+        }
+    }
+
+    private static Meeting meeting(String startTime, String endTime) {
+        return new MeetingBuilder().withDate("01-01-2025").withStartTime(startTime).withEndTime(endTime).build();
+    }
+}
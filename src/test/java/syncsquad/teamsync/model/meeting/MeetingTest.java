@@ -11,13 +11,17 @@ import static syncsquad.teamsync.logic.parser.ParserUtil.TIME_FORMATTER;
 import static syncsquad.teamsync.testutil.TypicalAddressBook.FEB_MEETING;
 import static syncsquad.teamsync.testutil.TypicalAddressBook.JAN_MEETING;
 
+import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.List;
 import java.util.Objects;
 
 import org.junit.jupiter.api.Test;
 
+import syncsquad.teamsync.model.module.Module;
 import syncsquad.teamsync.testutil.MeetingBuilder;
+import syncsquad.teamsync.testutil.ModuleBuilder;
 
 public class MeetingTest {
 
@@ -48,6 +52,21 @@ public class MeetingTest {
         assertEquals(Objects.hash(date, startTime, endTime), meeting.hashCode());
     }
 
+    @Test
+    public void isSameMeeting() {
+        Meeting withAttendees = new MeetingBuilder(JAN_MEETING).withAttendees("alice@example.com").build();
+
+        // same times, different attendees -> same meeting, but not equal
+        assertTrue(JAN_MEETING.isSameMeeting(withAttendees));
+        assertFalse(JAN_MEETING.equals(withAttendees));
+
+        // attendees compared ignoring case
+        assertEquals(withAttendees, new MeetingBuilder(JAN_MEETING).withAttendees("ALICE@example.com").build());
+
+        // different times -> different meeting
+        assertFalse(JAN_MEETING.isSameMeeting(FEB_MEETING));
+    }
+
     @Test
     public void equals() {
         // same values -> returns true
@@ -82,7 +101,172 @@ public class MeetingTest {
     @Test
     public void toStringMethod() {
         String expected = Meeting.class.getCanonicalName() + "{date=" + JAN_MEETING.getDate()
-                + ", startTime=" + JAN_MEETING.getStartTime() + ", endTime=" + JAN_MEETING.getEndTime() + "}";
+                + ", startTime=" + JAN_MEETING.getStartTime() + ", endTime=" + JAN_MEETING.getEndTime()
+                + ", attendees=" + JAN_MEETING.getAttendees() + ", recurrence=null}";
         assertEquals(expected, JAN_MEETING.toString());
     }
+
+    @Test
+    public void epochMinutes() {
+        Meeting meeting = new MeetingBuilder().withDate("02-01-1970").withStartTime("01:30")
+                .withEndTime("02:00").build();
+        assertEquals(24 * 60 + 90, meeting.getStartEpochMinute());
+        assertEquals(24 * 60 + 120, meeting.getEndEpochMinute());
+        assertEquals(90, meeting.getStartMinuteOfDay());
+        assertEquals(120, meeting.getEndMinuteOfDay());
+    }
+
+    @Test
+    public void compareTo_ordersByStartDateAndTime() {
+        Meeting earlyMorning = new MeetingBuilder().withDate("01-02-2025").withStartTime("08:00")
+                .withEndTime("09:00").build();
+        Meeting lateMorning = new MeetingBuilder().withDate("01-02-2025").withStartTime("11:00")
+                .withEndTime("12:00").build();
+        Meeting nextDay = new MeetingBuilder().withDate("02-02-2025").withStartTime("07:00")
+                .withEndTime("08:00").build();
+
+        assertTrue(earlyMorning.compareTo(lateMorning) < 0);
+        assertTrue(lateMorning.compareTo(nextDay) < 0);
+        assertTrue(nextDay.compareTo(earlyMorning) > 0);
+        assertEquals(0, earlyMorning.compareTo(new MeetingBuilder(earlyMorning).withEndTime("10:00").build()));
+    }
+
+    @Test
+    public void isOverlapping() {
+        Meeting meeting = new MeetingBuilder().withDate("01-02-2025").withStartTime("10:00")
+                .withEndTime("12:00").build();
+
+        assertTrue(meeting.isOverlapping(new MeetingBuilder(meeting).withStartTime("11:00")
+                .withEndTime("13:00").build()));
+        assertFalse(meeting.isOverlapping(new MeetingBuilder(meeting).withStartTime("12:00")
+                .withEndTime("13:00").build()));
+        assertFalse(meeting.isOverlapping(new MeetingBuilder(meeting).withDate("02-02-2025").build()));
+    }
+
+    @Test
+    public void getLastDate() {
+        Meeting fortnightly = new MeetingBuilder().withDate("06-01-2025").withRecurrence(2, "31-03-2025").build();
+        assertEquals(LocalDate.of(2025, 3, 31), fortnightly.getLastDate());
+
+        Meeting endingBetweenOccurrences = new MeetingBuilder(fortnightly).withRecurrence(2, "30-03-2025").build();
+        assertEquals(LocalDate.of(2025, 3, 17), endingBetweenOccurrences.getLastDate());
+
+        assertEquals(JAN_MEETING.getDate(), JAN_MEETING.getLastDate());
+    }
+
+    @Test
+    public void occursOn() {
+        Meeting fortnightly = new MeetingBuilder().withDate("06-01-2025").withRecurrence(2, "31-03-2025").build();
+        assertTrue(fortnightly.occursOn(LocalDate.of(2025, 1, 6)));
+        assertTrue(fortnightly.occursOn(LocalDate.of(2025, 2, 3)));
+        assertTrue(fortnightly.occursOn(LocalDate.of(2025, 3, 31)));
+        assertFalse(fortnightly.occursOn(LocalDate.of(2025, 1, 13)));
+        assertFalse(fortnightly.occursOn(LocalDate.of(2024, 12, 23)));
+        assertFalse(fortnightly.occursOn(LocalDate.of(2025, 4, 14)));
+    }
+
+    @Test
+    public void getOccurrences() {
+        Meeting fortnightly = new MeetingBuilder().withDate("06-01-2025").withStartTime("09:00").withEndTime("09:15")
+                .withAttendees("alice@example.com").withRecurrence(2, "31-03-2025").build();
+
+        List<Meeting> february = fortnightly.getOccurrences(LocalDate.of(2025, 2, 1), LocalDate.of(2025, 3, 1));
+        assertEquals(List.of(
+                new MeetingBuilder(fortnightly).withDate("03-02-2025").withoutRecurrence().build(),
+                new MeetingBuilder(fortnightly).withDate("17-02-2025").withoutRecurrence().build()), february);
+
+        // the end of the range is excluded
+        assertEquals(1, fortnightly.getOccurrences(LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 20)).size());
+
+        // a meeting that does not repeat is its only occurrence
+        assertEquals(List.of(JAN_MEETING), JAN_MEETING.getOccurrences(JAN_MEETING.getDate(),
+                JAN_MEETING.getDate().plusDays(1)));
+        assertTrue(JAN_MEETING.getOccurrences(JAN_MEETING.getDate().plusDays(1), JAN_MEETING.getDate().plusDays(7))
+                .isEmpty());
+    }
+
+    @Test
+    public void getOccurrences_longSeries_onlyExpandsRange() {
+        Meeting weeklyForCentury = new MeetingBuilder().withDate("06-01-2025").withRecurrence(1, "31-12-2124")
+                .build();
+        List<Meeting> occurrences = weeklyForCentury.getOccurrences(LocalDate.of(2100, 3, 1),
+                LocalDate.of(2100, 3, 8));
+        assertEquals(1, occurrences.size());
+        assertEquals(DayOfWeek.MONDAY, occurrences.get(0).getDate().getDayOfWeek());
+    }
+
+    @Test
+    public void isOverlapping_recurringMeetings() {
+        Meeting fortnightly = new MeetingBuilder().withDate("06-01-2025").withStartTime("10:00")
+                .withEndTime("11:00").withRecurrence(2, "31-03-2025").build();
+
+        // every three weeks from 13 Jan, which first coincides with the fortnightly meeting on 3 Feb
+        Meeting everyThreeWeeks = new MeetingBuilder(fortnightly).withDate("13-01-2025")
+                .withRecurrence(3, "31-03-2025").build();
+        assertTrue(fortnightly.isOverlapping(everyThreeWeeks));
+        assertTrue(everyThreeWeeks.isOverlapping(fortnightly));
+
+        // ends before the first common date
+        assertFalse(fortnightly.isOverlapping(new MeetingBuilder(everyThreeWeeks).withRecurrence(3, "02-02-2025")
+                .build()));
+
+        // on alternate weeks
+        assertFalse(fortnightly.isOverlapping(new MeetingBuilder(fortnightly).withDate("13-01-2025").build()));
+
+        // on a different day of the week
+        assertFalse(fortnightly.isOverlapping(new MeetingBuilder(fortnightly).withDate("07-01-2025").build()));
+
+        // at a different time
+        assertFalse(fortnightly.isOverlapping(new MeetingBuilder(everyThreeWeeks).withStartTime("11:00")
+                .withEndTime("12:00").build()));
+
+        // meetings that do not repeat
+        assertTrue(fortnightly.isOverlapping(new MeetingBuilder(fortnightly).withDate("17-02-2025")
+                .withoutRecurrence().build()));
+        assertFalse(fortnightly.isOverlapping(new MeetingBuilder(fortnightly).withDate("10-02-2025")
+                .withoutRecurrence().build()));
+        assertFalse(fortnightly.isOverlapping(new MeetingBuilder(fortnightly).withDate("14-04-2025")
+                .withoutRecurrence().build()));
+    }
+
+    @Test
+    public void isOverlapping_moduleInTeachingWeeks() {
+        // week 1 of the semester starts on Monday 13 Jan 2025
+        LocalDate semesterStart = LocalDate.of(2025, 1, 13);
+        Module oddWeeks = new ModuleBuilder().withDay("MON").withStartTime("10:00").withEndTime("12:00")
+                .withTeachingWeeks("odd").build();
+        Meeting weekTwo = new MeetingBuilder().withDate("20-01-2025").withStartTime("11:00")
+                .withEndTime("12:00").build();
+        Meeting weekThree = new MeetingBuilder(weekTwo).withDate("27-01-2025").build();
+
+        // the module is held every week as far as the time of day is concerned
+        assertTrue(weekTwo.isOverlapping(oddWeeks));
+
+        // only in the weeks in which the module is held
+        assertFalse(weekTwo.isOverlapping(oddWeeks, semesterStart));
+        assertTrue(weekThree.isOverlapping(oddWeeks, semesterStart));
+        assertTrue(weekTwo.isOverlapping(new ModuleBuilder(oddWeeks).withTeachingWeeks("2").build(),
+                semesterStart));
+        assertTrue(weekTwo.isOverlapping(new ModuleBuilder().withDay("MON").withStartTime("10:00")
+                .withEndTime("12:00").build(), semesterStart));
+
+        // a fortnightly meeting in the even weeks never meets the module
+        Meeting evenWeeks = new MeetingBuilder(weekTwo).withRecurrence(2, "30-06-2025").build();
+        assertFalse(evenWeeks.isOverlapping(oddWeeks, semesterStart));
+        assertTrue(new MeetingBuilder(evenWeeks).withRecurrence(1, "30-06-2025").build()
+                .isOverlapping(oddWeeks, semesterStart));
+
+        // at a different time
+        assertFalse(new MeetingBuilder(weekThree).withStartTime("12:00").withEndTime("13:00").build()
+                .isOverlapping(oddWeeks, semesterStart));
+    }
+
+    @Test
+    public void equals_recurrence() {
+        Meeting weekly = new MeetingBuilder(JAN_MEETING).withRecurrence(1, "31-03-2025").build();
+        assertFalse(JAN_MEETING.equals(weekly));
+        assertTrue(JAN_MEETING.isSameMeeting(weekly));
+        assertFalse(weekly.equals(new MeetingBuilder(JAN_MEETING).withRecurrence(2, "31-03-2025").build()));
+        assertEquals(weekly, new MeetingBuilder(JAN_MEETING).withRecurrence(1, "31-03-2025").build());
+    }
 }
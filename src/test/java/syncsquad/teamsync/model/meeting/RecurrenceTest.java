@@ -0,0 +1,54 @@
+package syncsquad.teamsync.model.meeting;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static syncsquad.teamsync.testutil.Assert.assertThrows;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+public class RecurrenceTest {
+
+    private static final LocalDate UNTIL = LocalDate.of(2025, 4, 30);
+
+    @Test
+    public void constructor_nullUntil_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new Recurrence(1, null));
+    }
+
+    @Test
+    public void constructor_invalidIntervalWeeks_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new Recurrence(0, UNTIL));
+        assertThrows(IllegalArgumentException.class, () -> new Recurrence(Recurrence.MAX_INTERVAL_WEEKS + 1, UNTIL));
+    }
+
+    @Test
+    public void isValidIntervalWeeks() {
+        assertFalse(Recurrence.isValidIntervalWeeks(-1));
+        assertFalse(Recurrence.isValidIntervalWeeks(0));
+        assertTrue(Recurrence.isValidIntervalWeeks(1));
+        assertTrue(Recurrence.isValidIntervalWeeks(Recurrence.MAX_INTERVAL_WEEKS));
+        assertFalse(Recurrence.isValidIntervalWeeks(Recurrence.MAX_INTERVAL_WEEKS + 1));
+    }
+
+    @Test
+    public void getIntervalDays() {
+        assertEquals(14, new Recurrence(2, UNTIL).getIntervalDays());
+    }
+
+    @Test
+    public void equals() {
+        Recurrence recurrence = new Recurrence(2, UNTIL);
+
+        assertTrue(recurrence.equals(recurrence));
+        assertTrue(recurrence.equals(new Recurrence(2, UNTIL)));
+        assertEquals(recurrence.hashCode(), new Recurrence(2, UNTIL).hashCode());
+
+        assertFalse(recurrence.equals(null));
+        assertFalse(recurrence.equals(2));
+        assertFalse(recurrence.equals(new Recurrence(1, UNTIL)));
+        assertFalse(recurrence.equals(new Recurrence(2, UNTIL.plusDays(1))));
+    }
+}
@@ -6,7 +6,9 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static syncsquad.teamsync.testutil.Assert.assertThrows;
 import static syncsquad.teamsync.testutil.TypicalAddressBook.FEB_MEETING;
 import static syncsquad.teamsync.testutil.TypicalAddressBook.JAN_MEETING;
+import static syncsquad.teamsync.testutil.TypicalAddressBook.MAR_MEETING;
 
+import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -48,6 +50,15 @@ public class UniqueMeetingListTest {
         assertThrows(DuplicateMeetingException.class, () -> uniqueMeetingList.add(JAN_MEETING));
     }
 
+    @Test
+    public void add_meetingsOutOfOrder_keepsSortedOrder() {
+        uniqueMeetingList.add(MAR_MEETING);
+        uniqueMeetingList.add(JAN_MEETING);
+        uniqueMeetingList.add(FEB_MEETING);
+        assertEquals(Arrays.asList(JAN_MEETING, FEB_MEETING, MAR_MEETING),
+                uniqueMeetingList.asUnmodifiableObservableList());
+    }
+
     @Test
     public void remove_nullMeeting_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueMeetingList.remove(null));
@@ -101,6 +112,120 @@ public class UniqueMeetingListTest {
         assertThrows(DuplicateMeetingException.class, () -> uniqueMeetingList.setItems(listWithDuplicateMeetings));
     }
 
+    @Test
+    public void hasOverlap_nullMeeting_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> uniqueMeetingList.hasOverlap(null));
+    }
+
+    @Test
+    public void hasOverlap_sameTimeDifferentDate_returnsFalse() {
+        uniqueMeetingList.add(JAN_MEETING);
+        assertFalse(uniqueMeetingList.hasOverlap(new MeetingBuilder(JAN_MEETING).withDate("02-01-2025").build()));
+    }
+
+    @Test
+    public void hasOverlap_removedMeeting_returnsFalse() {
+        Meeting overlappingMeeting = new MeetingBuilder(JAN_MEETING).withStartTime("4:00").withEndTime("6:00").build();
+        uniqueMeetingList.add(JAN_MEETING);
+        assertTrue(uniqueMeetingList.hasOverlap(overlappingMeeting));
+        uniqueMeetingList.remove(JAN_MEETING);
+        assertFalse(uniqueMeetingList.hasOverlap(overlappingMeeting));
+    }
+
+    @Test
+    public void hasOverlap_afterSetItems_usesNewMeetings() {
+        uniqueMeetingList.add(JAN_MEETING);
+        uniqueMeetingList.setItems(Collections.singletonList(FEB_MEETING));
+        assertFalse(uniqueMeetingList.hasOverlap(JAN_MEETING));
+        assertTrue(uniqueMeetingList.hasOverlap(FEB_MEETING));
+    }
+
+    @Test
+    public void hasOverlappingMeetings_noOverlap_returnsFalse() {
+        Meeting adjacentMeeting = new MeetingBuilder(JAN_MEETING).withStartTime("4:30").withEndTime("6:00").build();
+        uniqueMeetingList.setItems(Arrays.asList(FEB_MEETING, adjacentMeeting, JAN_MEETING));
+        assertFalse(uniqueMeetingList.hasOverlappingMeetings());
+    }
+
+    @Test
+    public void hasOverlappingMeetings_overlap_returnsTrue() {
+        Meeting overlappingMeeting = new MeetingBuilder(JAN_MEETING).withStartTime("4:00").withEndTime("6:00").build();
+        uniqueMeetingList.setItems(Arrays.asList(overlappingMeeting, FEB_MEETING, JAN_MEETING));
+        assertTrue(uniqueMeetingList.hasOverlappingMeetings());
+    }
+
+    @Test
+    public void hasOverlappingMeetings_laterMeetingStartsBeforeLatestEnd_returnsTrue() {
+        Meeting longMeeting = new MeetingBuilder(JAN_MEETING).withStartTime("9:00").withEndTime("17:00").build();
+        Meeting shortMeeting = new MeetingBuilder(JAN_MEETING).withStartTime("10:00").withEndTime("11:00").build();
+        Meeting laterMeeting = new MeetingBuilder(JAN_MEETING).withStartTime("12:00").withEndTime("13:00").build();
+        // laterMeeting does not overlap shortMeeting just before it, but overlaps longMeeting
+        uniqueMeetingList.setItems(Arrays.asList(laterMeeting, shortMeeting, longMeeting));
+        assertTrue(uniqueMeetingList.hasOverlappingMeetings());
+
+        // laterMeeting starts when the meeting ending latest before it ends
+        Meeting morningMeeting = new MeetingBuilder(longMeeting).withEndTime("12:00").build();
+        uniqueMeetingList.setItems(Arrays.asList(laterMeeting, morningMeeting));
+        assertFalse(uniqueMeetingList.hasOverlappingMeetings());
+    }
+
+    @Test
+    public void hasOverlap_recurringMeetings_comparesRules() {
+        // JAN_MEETING takes place on Wednesday 1 Jan 2025
+        Meeting weekly = new MeetingBuilder(JAN_MEETING).withDate("25-12-2024").withRecurrence(1, "31-12-2025")
+                .build();
+        uniqueMeetingList.add(JAN_MEETING);
+        assertTrue(uniqueMeetingList.hasOverlap(weekly));
+        assertEquals(List.of(JAN_MEETING), uniqueMeetingList.getOverlapping(weekly));
+
+        Meeting fortnightly = new MeetingBuilder(JAN_MEETING).withDate("08-01-2025").withRecurrence(2, "31-12-2025")
+                .build();
+        assertFalse(uniqueMeetingList.hasOverlap(fortnightly));
+        uniqueMeetingList.add(fortnightly);
+
+        // a meeting that does not repeat, on a date of the series
+        assertTrue(uniqueMeetingList.hasOverlap(new MeetingBuilder(JAN_MEETING).withDate("05-02-2025").build()));
+        assertFalse(uniqueMeetingList.hasOverlap(new MeetingBuilder(JAN_MEETING).withDate("29-01-2025").build()));
+        assertTrue(uniqueMeetingList.hasOverlap(weekly));
+        assertEquals(List.of(JAN_MEETING, fortnightly), uniqueMeetingList.getOverlapping(weekly));
+
+        uniqueMeetingList.remove(fortnightly);
+        assertFalse(uniqueMeetingList.hasOverlap(new MeetingBuilder(JAN_MEETING).withDate("05-02-2025").build()));
+    }
+
+    @Test
+    public void hasOverlappingMeetings_recurringMeetings() {
+        Meeting fortnightly = new MeetingBuilder(JAN_MEETING).withRecurrence(2, "31-12-2025").build();
+        Meeting alternateWeeks = new MeetingBuilder(JAN_MEETING).withDate("08-01-2025")
+                .withRecurrence(2, "31-12-2025").build();
+        uniqueMeetingList.setItems(Arrays.asList(fortnightly, alternateWeeks, FEB_MEETING));
+        assertFalse(uniqueMeetingList.hasOverlappingMeetings());
+
+        uniqueMeetingList.add(new MeetingBuilder(JAN_MEETING).withDate("15-01-2025").build());
+        assertTrue(uniqueMeetingList.hasOverlappingMeetings());
+
+        uniqueMeetingList.setItems(Arrays.asList(fortnightly, new MeetingBuilder(alternateWeeks)
+                .withRecurrence(1, "31-12-2025").build()));
+        assertTrue(uniqueMeetingList.hasOverlappingMeetings());
+    }
+
+    @Test
+    public void getOccurrences_expandsRecurringMeetingsInRange() {
+        Meeting weekly = new MeetingBuilder().withDate("06-01-2025").withStartTime("09:00").withEndTime("09:15")
+                .withRecurrence(1, "30-06-2025").build();
+        uniqueMeetingList.setItems(Arrays.asList(JAN_MEETING, FEB_MEETING, MAR_MEETING, weekly));
+
+        // FEB_MEETING is on Sunday 2 Feb 2025
+        List<Meeting> occurrences = uniqueMeetingList.getOccurrences(LocalDate.of(2025, 1, 27),
+                LocalDate.of(2025, 2, 10));
+        assertEquals(List.of(
+                new MeetingBuilder(weekly).withDate("27-01-2025").withoutRecurrence().build(),
+                FEB_MEETING,
+                new MeetingBuilder(weekly).withDate("03-02-2025").withoutRecurrence().build()), occurrences);
+
+        assertTrue(uniqueMeetingList.getOccurrences(LocalDate.of(2025, 7, 1), LocalDate.of(2025, 8, 1)).isEmpty());
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> {
@@ -2,9 +2,12 @@ package syncsquad.teamsync.model.module;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static syncsquad.teamsync.testutil.Assert.assertThrows;
 
+import java.time.DayOfWeek;
+
 import org.junit.jupiter.api.Test;
 
 public class DayTest {
@@ -24,20 +27,20 @@ public class DayTest {
 
     @Test
     public void toString_test() {
-        Day day = new Day("MON");
+        Day day = Day.of("MON");
         assertEquals(day.toString(), "MON");
 
-        Day day2 = new Day("tue");
+        Day day2 = Day.of("tue");
         assertEquals(day2.toString(), "TUE");
     }
 
     @Test
     public void equals() {
-        Day day = new Day("MON");
-        Day day2 = new Day("tue");
+        Day day = Day.of("MON");
+        Day day2 = Day.of("tue");
 
         // same values -> returns true
-        assertTrue(day.equals(new Day("MON")));
+        assertTrue(day.equals(Day.of("MON")));
 
         // same object -> returns true
         assertTrue(day.equals(day));
@@ -51,4 +54,11 @@ public class DayTest {
         // different values -> returns false
         assertFalse(day.equals(day2));
     }
+
+    @Test
+    public void of_sameDay_returnsSameInstance() {
+        assertSame(Day.of("mon"), Day.of("MON"));
+        assertSame(Day.of("SUN"), Day.of(DayOfWeek.SUNDAY));
+        assertEquals(DayOfWeek.WEDNESDAY, Day.of("Wed").getDayOfWeek());
+    }
 }
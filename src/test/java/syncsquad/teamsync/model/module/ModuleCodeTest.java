@@ -1,6 +1,8 @@
 package syncsquad.teamsync.model.module;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static syncsquad.teamsync.testutil.Assert.assertThrows;
 
@@ -9,13 +11,13 @@ import org.junit.jupiter.api.Test;
 public class ModuleCodeTest {
     @Test
     public void constructor_null_throwsNullPointerException() {
-        assertThrows(NullPointerException.class, () -> new ModuleCode(null));
+        assertThrows(NullPointerException.class, () -> ModuleCode.of(null));
     }
 
     @Test
     public void constructor_invalidModuleCode_throwsIllegalArgumentException() {
         String invalidModule = "";
-        assertThrows(IllegalArgumentException.class, () -> new ModuleCode(invalidModule));
+        assertThrows(IllegalArgumentException.class, () -> ModuleCode.of(invalidModule));
     }
 
     @Test
@@ -44,10 +46,10 @@ public class ModuleCodeTest {
 
     @Test
     public void equals() {
-        ModuleCode moduleCode = new ModuleCode("CS2103T");
+        ModuleCode moduleCode = ModuleCode.of("CS2103T");
 
         // same values -> returns true
-        assertTrue(moduleCode.equals(new ModuleCode("CS2103T")));
+        assertTrue(moduleCode.equals(ModuleCode.of("CS2103T")));
 
         // same object -> returns true
         assertTrue(moduleCode.equals(moduleCode));
@@ -59,6 +61,13 @@ public class ModuleCodeTest {
         assertFalse(moduleCode.equals(5.0f));
 
         // different values -> returns false
-        assertFalse(moduleCode.equals(new ModuleCode("CS2101")));
+        assertFalse(moduleCode.equals(ModuleCode.of("CS2101")));
+    }
+
+    @Test
+    public void of_sameCodeDifferentCase_returnsSameInstance() {
+        ModuleCode moduleCode = ModuleCode.of("cs2103t");
+        assertSame(moduleCode, ModuleCode.of("CS2103T"));
+        assertEquals("CS2103T", moduleCode.code);
     }
 }
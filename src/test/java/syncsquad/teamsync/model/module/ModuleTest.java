@@ -1,5 +1,6 @@
 package syncsquad.teamsync.model.module;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static syncsquad.teamsync.testutil.Assert.assertThrows;
@@ -62,6 +63,39 @@ public class ModuleTest {
         assertFalse(module1.isOverlapping(module6));
     }
 
+    @Test
+    public void isOverlappingModule_teachingWeeks() {
+        Module everyWeek = new ModuleBuilder().build();
+        Module oddWeeks = new ModuleBuilder().withTeachingWeeks("odd").build();
+        Module evenWeeks = new ModuleBuilder().withTeachingWeeks("even").build();
+        Module someWeeks = new ModuleBuilder().withTeachingWeeks("2-3").build();
+
+        // held in different weeks -> false
+        assertFalse(oddWeeks.isOverlapping(evenWeeks));
+
+        // held in a common week -> true
+        assertTrue(oddWeeks.isOverlapping(someWeeks));
+        assertTrue(evenWeeks.isOverlapping(someWeeks));
+        assertTrue(everyWeek.isOverlapping(oddWeeks));
+    }
+
+    @Test
+    public void isHeldInWeek() {
+        Module module = new ModuleBuilder().withTeachingWeeks("1-6,8").build();
+        assertTrue(module.isHeldInWeek(8));
+        assertFalse(module.isHeldInWeek(7));
+        assertTrue(new ModuleBuilder().build().isHeldInWeek(7));
+    }
+
+    @Test
+    public void toExportString() {
+        assertEquals("CS2103T FRI 14:00 16:00", new ModuleBuilder().build().toExportString());
+        assertEquals("CS2103T FRI 14:00 16:00 odd",
+                new ModuleBuilder().withTeachingWeeks("odd").build().toExportString());
+        assertEquals("CS2103T FRI 14:00 16:00 1-6,8",
+                new ModuleBuilder().withTeachingWeeks("8,1-6").build().toExportString());
+    }
+
     @Test
     public void equals() {
         Module module = new ModuleBuilder().build();
@@ -82,5 +116,18 @@ public class ModuleTest {
         assertFalse(module.equals(new ModuleBuilder().withDay("Sat").build()));
         assertFalse(module.equals(new ModuleBuilder().withStartTime("19:00").build()));
         assertFalse(module.equals(new ModuleBuilder().withEndTime("19:00").build()));
+        assertFalse(module.equals(new ModuleBuilder().withTeachingWeeks("odd").build()));
+    }
+
+    @Test
+    public void minutesOfWeek() {
+        Module module = new ModuleBuilder().withDay("TUE").withStartTime("09:15").withEndTime("10:45").build();
+        assertEquals(24 * 60 + 9 * 60 + 15, module.getStartMinuteOfWeek());
+        assertEquals(24 * 60 + 10 * 60 + 45, module.getEndMinuteOfWeek());
+        assertEquals(9 * 60 + 15, module.getStartMinuteOfDay());
+        assertEquals(10 * 60 + 45, module.getEndMinuteOfDay());
+
+        Module lastModule = new ModuleBuilder().withDay("SUN").withStartTime("22:00").withEndTime("23:59").build();
+        assertEquals(7 * 24 * 60 - 1, lastModule.getEndMinuteOfWeek());
     }
 }
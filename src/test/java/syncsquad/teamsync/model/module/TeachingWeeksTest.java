@@ -0,0 +1,111 @@
+package syncsquad.teamsync.model.module;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static syncsquad.teamsync.testutil.Assert.assertThrows;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+public class TeachingWeeksTest {
+    @Test
+    public void of_invalidTeachingWeeks_throwsIllegalArgumentException() {
+        assertThrows(NullPointerException.class, () -> TeachingWeeks.of(null));
+        assertThrows(IllegalArgumentException.class, () -> TeachingWeeks.of(""));
+        assertThrows(IllegalArgumentException.class, () -> TeachingWeeks.of(0));
+        assertThrows(IllegalArgumentException.class, () -> TeachingWeeks.of(-1));
+    }
+
+    @Test
+    public void isValidTeachingWeeks() {
+        assertThrows(NullPointerException.class, () -> TeachingWeeks.isValidTeachingWeeks(null));
+
+        // invalid teaching weeks
+        assertFalse(TeachingWeeks.isValidTeachingWeeks("")); // empty string
+        assertFalse(TeachingWeeks.isValidTeachingWeeks("0")); // weeks start from 1
+        assertFalse(TeachingWeeks.isValidTeachingWeeks("32")); // after the last week
+        assertFalse(TeachingWeeks.isValidTeachingWeeks("6-1")); // backwards range
+        assertFalse(TeachingWeeks.isValidTeachingWeeks("1,,2")); // empty week
+        assertFalse(TeachingWeeks.isValidTeachingWeeks("1-")); // open range
+        assertFalse(TeachingWeeks.isValidTeachingWeeks("-1")); // negative week
+        assertFalse(TeachingWeeks.isValidTeachingWeeks("001")); // too many digits
+        assertFalse(TeachingWeeks.isValidTeachingWeeks("weekly")); // unknown pattern
+
+        // valid teaching weeks
+        assertTrue(TeachingWeeks.isValidTeachingWeeks("odd"));
+        assertTrue(TeachingWeeks.isValidTeachingWeeks("EVEN"));
+        assertTrue(TeachingWeeks.isValidTeachingWeeks("1"));
+        assertTrue(TeachingWeeks.isValidTeachingWeeks("31"));
+        assertTrue(TeachingWeeks.isValidTeachingWeeks("1-6,8,10-13"));
+        assertTrue(TeachingWeeks.isValidTeachingWeeks("8,1-6"));
+    }
+
+    @Test
+    public void contains() {
+        TeachingWeeks weeks = TeachingWeeks.of("1-6,8,10-13");
+        assertTrue(weeks.contains(1));
+        assertTrue(weeks.contains(6));
+        assertFalse(weeks.contains(7));
+        assertTrue(weeks.contains(8));
+        assertFalse(weeks.contains(14));
+        assertFalse(weeks.contains(0));
+        assertFalse(weeks.contains(TeachingWeeks.MAX_WEEK + 1));
+
+        assertTrue(TeachingWeeks.of("odd").contains(31));
+        assertFalse(TeachingWeeks.of("odd").contains(2));
+        assertTrue(TeachingWeeks.of("even").contains(2));
+
+        // every week includes the weeks outside the semester
+        assertTrue(TeachingWeeks.EVERY_WEEK.contains(0));
+        assertTrue(TeachingWeeks.EVERY_WEEK.contains(100));
+    }
+
+    @Test
+    public void intersects() {
+        TeachingWeeks odd = TeachingWeeks.of("odd");
+        TeachingWeeks even = TeachingWeeks.of("even");
+        assertFalse(odd.intersects(even));
+        assertTrue(odd.intersects(TeachingWeeks.of("2-3")));
+        assertTrue(odd.intersects(TeachingWeeks.EVERY_WEEK));
+        assertTrue(TeachingWeeks.EVERY_WEEK.intersects(even));
+    }
+
+    @Test
+    public void weekOf() {
+        LocalDate semesterStart = LocalDate.of(2025, 1, 15); // a Wednesday
+        assertEquals(LocalDate.of(2025, 1, 13), TeachingWeeks.firstMondayOf(semesterStart));
+        assertEquals(1, TeachingWeeks.weekOf(semesterStart, LocalDate.of(2025, 1, 13)));
+        assertEquals(1, TeachingWeeks.weekOf(semesterStart, LocalDate.of(2025, 1, 19)));
+        assertEquals(2, TeachingWeeks.weekOf(semesterStart, LocalDate.of(2025, 1, 20)));
+        assertEquals(0, TeachingWeeks.weekOf(semesterStart, LocalDate.of(2025, 1, 12)));
+        assertEquals(-1, TeachingWeeks.weekOf(semesterStart, LocalDate.of(2025, 1, 5)));
+    }
+
+    @Test
+    public void toString_roundTrips() {
+        assertEquals("every week", TeachingWeeks.EVERY_WEEK.toString());
+        assertEquals("odd", TeachingWeeks.of("ODD").toString());
+        assertEquals("even", TeachingWeeks.of("even").toString());
+        assertEquals("1-6,8,10-13", TeachingWeeks.of("10-13,8,1-3,4-6").toString());
+        assertEquals("31", TeachingWeeks.of("31").toString());
+        assertEquals("1-31", TeachingWeeks.of("1-31").toString());
+        for (String weeks : new String[] {"odd", "even", "1-6,8,10-13", "2,4,30-31"}) {
+            assertEquals(TeachingWeeks.of(weeks), TeachingWeeks.of(TeachingWeeks.of(weeks).toString()));
+        }
+    }
+
+    @Test
+    public void equals() {
+        TeachingWeeks weeks = TeachingWeeks.of("1,3,5");
+
+        assertTrue(weeks.equals(TeachingWeeks.of("1,3,5")));
+        assertTrue(weeks.equals(TeachingWeeks.of(0b10101)));
+        assertTrue(weeks.equals(weeks));
+        assertFalse(weeks.equals(null));
+        assertFalse(weeks.equals(5.0f));
+        assertFalse(weeks.equals(TeachingWeeks.of("odd")));
+        assertFalse(weeks.equals(TeachingWeeks.EVERY_WEEK));
+    }
+}
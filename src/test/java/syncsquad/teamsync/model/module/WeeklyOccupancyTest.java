@@ -0,0 +1,110 @@
+package syncsquad.teamsync.model.module;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static syncsquad.teamsync.testutil.Assert.assertThrows;
+import static syncsquad.teamsync.testutil.TypicalAddressBook.BENSON;
+
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import syncsquad.teamsync.testutil.ModuleBuilder;
+import syncsquad.teamsync.testutil.PersonBuilder;
+
+public class WeeklyOccupancyTest {
+
+    private static final Day MON = Day.of("MON");
+    private static final Day SUN = Day.of("SUN");
+
+    private static final Module MON_MORNING = new ModuleBuilder().withModuleCode("CS2103T").withDay("MON")
+            .withStartTime("09:00").withEndTime("11:00").build();
+    private static final Module MON_LATE_MORNING = new ModuleBuilder().withModuleCode("CS2101").withDay("MON")
+            .withStartTime("10:00").withEndTime("12:00").build();
+    private static final Module SUN_NIGHT = new ModuleBuilder().withModuleCode("CS2100").withDay("SUN")
+            .withStartTime("22:02").withEndTime("23:59").build();
+
+    @Test
+    public void of_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> WeeklyOccupancy.of(null));
+    }
+
+    @Test
+    public void of_noModules_isEmpty() {
+        assertTrue(WeeklyOccupancy.of(Collections.emptyList()).isEmpty());
+        assertEquals(WeeklyOccupancy.EMPTY, WeeklyOccupancy.of(Collections.emptyList()));
+    }
+
+    @Test
+    public void isOccupied_boundaries_endTimeNotOccupied() {
+        WeeklyOccupancy occupancy = WeeklyOccupancy.of(List.of(MON_MORNING));
+        assertFalse(occupancy.isOccupied(MON, LocalTime.of(8, 59)));
+        assertTrue(occupancy.isOccupied(MON, LocalTime.of(9, 0)));
+        assertTrue(occupancy.isOccupied(MON, LocalTime.of(10, 59)));
+        assertFalse(occupancy.isOccupied(MON, LocalTime.of(11, 0)));
+        assertFalse(occupancy.isOccupied(Day.of("TUE"), LocalTime.of(9, 0)));
+        assertEquals(24, occupancy.getOccupiedSlotCount());
+    }
+
+    @Test
+    public void isOccupied_partialSlots_wholeSlotsOccupied() {
+        WeeklyOccupancy occupancy = WeeklyOccupancy.of(List.of(SUN_NIGHT));
+        assertTrue(occupancy.isOccupied(SUN, LocalTime.of(22, 0)));
+        assertTrue(occupancy.isOccupied(SUN, LocalTime.of(23, 59)));
+        assertFalse(occupancy.isOccupied(SUN, LocalTime.of(21, 59)));
+    }
+
+    @Test
+    public void isFree_rangeTouchingOrOverlappingModule_freeOnlyIfNotOverlapping() {
+        WeeklyOccupancy occupancy = WeeklyOccupancy.of(List.of(MON_MORNING));
+        assertTrue(occupancy.isFree(MON, LocalTime.of(11, 0), LocalTime.of(13, 0)));
+        assertTrue(occupancy.isFree(MON, LocalTime.of(7, 0), LocalTime.of(9, 0)));
+        assertFalse(occupancy.isFree(MON, LocalTime.of(10, 55), LocalTime.of(13, 0)));
+    }
+
+    @Test
+    public void isFree_endBeforeStart_throwsIllegalArgumentException() {
+        WeeklyOccupancy occupancy = WeeklyOccupancy.of(List.of(MON_MORNING));
+        assertThrows(IllegalArgumentException.class, () ->
+                occupancy.isFree(MON, LocalTime.of(13, 0), LocalTime.of(11, 0)));
+    }
+
+    @Test
+    public void andOr_overlappingOccupancies_intersectionAndUnion() {
+        WeeklyOccupancy morning = WeeklyOccupancy.of(List.of(MON_MORNING));
+        WeeklyOccupancy lateMorning = WeeklyOccupancy.of(List.of(MON_LATE_MORNING));
+
+        WeeklyOccupancy both = morning.and(lateMorning);
+        assertTrue(both.isOccupied(MON, LocalTime.of(10, 30)));
+        assertFalse(both.isOccupied(MON, LocalTime.of(9, 30)));
+        assertEquals(12, both.getOccupiedSlotCount());
+
+        WeeklyOccupancy either = morning.or(lateMorning);
+        assertEquals(WeeklyOccupancy.of(List.of(MON_MORNING, MON_LATE_MORNING)), either);
+        assertEquals(36, either.getOccupiedSlotCount());
+    }
+
+    @Test
+    public void unionOfAndIntersectionOf_manyOccupancies_combinesAll() {
+        List<WeeklyOccupancy> occupancies = Arrays.asList(WeeklyOccupancy.of(List.of(MON_MORNING)),
+                WeeklyOccupancy.of(List.of(MON_LATE_MORNING)), WeeklyOccupancy.of(List.of(MON_MORNING, SUN_NIGHT)));
+
+        assertEquals(WeeklyOccupancy.of(List.of(MON_MORNING, MON_LATE_MORNING, SUN_NIGHT)),
+                WeeklyOccupancy.unionOf(occupancies));
+        assertEquals(occupancies.get(0).and(occupancies.get(1)), WeeklyOccupancy.intersectionOf(occupancies));
+        assertEquals(WeeklyOccupancy.SLOTS_PER_WEEK,
+                WeeklyOccupancy.intersectionOf(Collections.emptyList()).getOccupiedSlotCount());
+        assertTrue(WeeklyOccupancy.unionOf(Collections.emptyList()).isEmpty());
+    }
+
+    @Test
+    public void personGetWeeklyOccupancy_cachedAndDerivedFromModules() {
+        assertTrue(BENSON.getWeeklyOccupancy() == BENSON.getWeeklyOccupancy());
+        assertEquals(WeeklyOccupancy.of(BENSON.getModules()), BENSON.getWeeklyOccupancy());
+        assertTrue(new PersonBuilder(BENSON).withModules().build().getWeeklyOccupancy().isEmpty());
+    }
+}
@@ -0,0 +1,103 @@
+package syncsquad.teamsync.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import syncsquad.teamsync.testutil.PersonBuilder;
+
+public class FuzzyKeywordsPredicateTest {
+
+    @Test
+    public void equals() {
+        List<String> firstPredicateKeywordList = Collections.singletonList("first");
+        List<String> secondPredicateKeywordList = Arrays.asList("first", "second");
+
+        FuzzyKeywordsPredicate firstPredicate = new FuzzyKeywordsPredicate(firstPredicateKeywordList);
+        FuzzyKeywordsPredicate secondPredicate = new FuzzyKeywordsPredicate(secondPredicateKeywordList);
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values -> returns true
+        FuzzyKeywordsPredicate firstPredicateCopy = new FuzzyKeywordsPredicate(firstPredicateKeywordList);
+        assertTrue(firstPredicate.equals(firstPredicateCopy));
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // same keywords, exact matching -> returns false
+        assertFalse(firstPredicate.equals(new NameContainsKeywordsPredicate(firstPredicateKeywordList)));
+
+        // different keywords -> returns false
+        assertFalse(firstPredicate.equals(secondPredicate));
+    }
+
+    @Test
+    public void test_keywordsMatchApproximately_returnsTrue() {
+        // Whole word, mixed case
+        FuzzyKeywordsPredicate predicate = new FuzzyKeywordsPredicate(Collections.singletonList("aLIce"));
+        assertTrue(predicate.test(new PersonBuilder().withName("Alice Bob").build()));
+
+        // Start of a word
+        predicate = new FuzzyKeywordsPredicate(Collections.singletonList("alic"));
+        assertTrue(predicate.test(new PersonBuilder().withName("Alice Bob").build()));
+
+        // Swapped characters
+        predicate = new FuzzyKeywordsPredicate(Collections.singletonList("alcie"));
+        assertTrue(predicate.test(new PersonBuilder().withName("Alice Bob").build()));
+
+        // Two typos in a long keyword, at the start of a word
+        predicate = new FuzzyKeywordsPredicate(Collections.singletonList("alexndr"));
+        assertTrue(predicate.test(new PersonBuilder().withName("Alexandria Bob").build()));
+
+        // Only one matching keyword
+        predicate = new FuzzyKeywordsPredicate(Arrays.asList("Carol", "bo"));
+        assertTrue(predicate.test(new PersonBuilder().withName("Alice Bob").build()));
+
+        // Local part of email and tag
+        predicate = new FuzzyKeywordsPredicate(Collections.singletonList("ecampus"));
+        assertTrue(predicate.test(new PersonBuilder().withName("Alice").withEmail("alice.ecampus@example.com")
+                .build()));
+        predicate = new FuzzyKeywordsPredicate(Collections.singletonList("frends"));
+        assertTrue(predicate.test(new PersonBuilder().withName("Alice").withTags("friends").build()));
+    }
+
+    @Test
+    public void test_keywordsDoNotMatch_returnsFalse() {
+        // Zero keywords
+        FuzzyKeywordsPredicate predicate = new FuzzyKeywordsPredicate(Collections.emptyList());
+        assertFalse(predicate.test(new PersonBuilder().withName("Alice").build()));
+
+        // Too many typos for a short keyword
+        predicate = new FuzzyKeywordsPredicate(Arrays.asList("alxci", "ab"));
+        assertFalse(predicate.test(new PersonBuilder().withName("Alice Bob").build()));
+
+        // Middle of a word
+        predicate = new FuzzyKeywordsPredicate(Collections.singletonList("ice"));
+        assertFalse(predicate.test(new PersonBuilder().withName("Alice Bob").build()));
+
+        // Keywords match phone, email domain and address, but not name, email local part or tags
+        predicate = new FuzzyKeywordsPredicate(Arrays.asList("12345", "example", "Main", "Street"));
+        assertFalse(predicate.test(new PersonBuilder().withName("Alice").withPhone("12345")
+                .withEmail("alice@example.com").withAddress("Main Street").withTags().build()));
+    }
+
+    @Test
+    public void toStringMethod() {
+        List<String> keywords = List.of("keyword1", "keyword2");
+        FuzzyKeywordsPredicate predicate = new FuzzyKeywordsPredicate(keywords);
+
+        String expected = FuzzyKeywordsPredicate.class.getCanonicalName() + "{keywords=" + keywords + "}";
+        assertEquals(expected, predicate.toString());
+    }
+}
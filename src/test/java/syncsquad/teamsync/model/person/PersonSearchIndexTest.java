@@ -0,0 +1,90 @@
+package syncsquad.teamsync.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static syncsquad.teamsync.model.person.PersonSearchIndex.NO_MATCH;
+import static syncsquad.teamsync.model.person.PersonSearchIndex.rankOf;
+import static syncsquad.teamsync.testutil.Assert.assertThrows;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import syncsquad.teamsync.testutil.PersonBuilder;
+
+public class PersonSearchIndexTest {
+
+    private static final Person ALICE = new PersonBuilder().withName("Alice Pauline").withEmail("apauline@example.com")
+            .withTags("friends").build();
+    private static final Person ALICIA = new PersonBuilder().withName("Alicia Tan").withEmail("atan@example.com")
+            .withTags().build();
+    private static final Person ALICE_TAN = new PersonBuilder().withName("Alice Tan").withEmail("alicetan@example.com")
+            .withTags().build();
+
+    private final PersonSearchIndex index = new PersonSearchIndex();
+
+    @Test
+    public void rankOf_nullArguments_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> rankOf(null, "alice"));
+        assertThrows(NullPointerException.class, () -> rankOf("alice", null));
+    }
+
+    @Test
+    public void rankOf_closerMatches_lowerRanks() {
+        assertEquals(0, rankOf("alice", "alice"));
+        assertEquals(1, rankOf("alic", "alice"));
+        assertEquals(2, rankOf("alcie", "alice")); // swapped characters
+        assertEquals(2, rankOf("alicee", "alice")); // inserted character
+        assertEquals(3, rankOf("alcie", "alicent"));
+        assertEquals(4, rankOf("alixee", "alice"));
+        assertEquals(5, rankOf("alxcand", "alexandria"));
+    }
+
+    @Test
+    public void rankOf_tooManyTyposOrNoSharedTrigram_noMatch() {
+        assertEquals(NO_MATCH, rankOf("ab", "ac")); // no typos allowed in short keywords
+        assertEquals(NO_MATCH, rankOf("e012346", "e0123456")); // no typos allowed in keywords with digits
+        assertEquals(NO_MATCH, rankOf("alxci", "alice")); // 2 typos in a keyword allowing 1
+        assertEquals(NO_MATCH, rankOf("abcxxxd", "abcd")); // 3 typos in a keyword allowing 2
+        assertEquals(NO_MATCH, rankOf("axcd", "abcd")); // 1 typo, but no trigram in common
+        assertEquals(NO_MATCH, rankOf("ice", "alice"));
+    }
+
+    @Test
+    public void wordsOf_person_wordsOfNameEmailLocalPartAndTags() {
+        Person person = new PersonBuilder().withName("Mary-Jane o'Neil").withEmail("MJ.oneil_2@u.example.com")
+                .withTags("Backend", "friends").build();
+        assertEquals(Set.of("mary", "jane", "o", "neil", "mj", "oneil", "2", "backend", "friends"),
+                PersonSearchIndex.wordsOf(person));
+    }
+
+    @Test
+    public void search_matchingPersonsWithClosestRanks() {
+        index.add(ALICIA);
+        index.add(ALICE_TAN);
+        index.add(ALICE);
+
+        assertEquals(Set.of(ALICE, ALICE_TAN), index.search(List.of("alcie")).getMatches());
+        assertEquals(Set.of(ALICE, ALICE_TAN, ALICIA), index.search(List.of("tan", "alcie")).getMatches());
+        // Whole words rank before words with typos
+        assertEquals(List.of(ALICE_TAN, ALICIA, ALICE), index.search(List.of("tan", "alcie")).getClosestMatches(3));
+        assertEquals(Set.of(ALICE), index.search(List.of(" frends ")).getMatches());
+        assertEquals(Set.of(), index.search(List.of("", "bob")).getMatches());
+    }
+
+    @Test
+    public void search_personsAddedAndRemoved_indexUpdated() {
+        index.add(ALICE);
+        index.add(ALICE_TAN);
+        index.remove(ALICE);
+        assertEquals(Set.of(ALICE_TAN), index.search(List.of("alcie")).getMatches());
+        assertEquals(Set.of(), index.search(List.of("paulin")).getMatches());
+
+        index.remove(ALICE_TAN);
+        assertEquals(Set.of(), index.search(List.of("alcie")).getMatches());
+
+        index.add(ALICIA);
+        index.clear();
+        assertEquals(Set.of(), index.search(List.of("alicia")).getMatches());
+    }
+}
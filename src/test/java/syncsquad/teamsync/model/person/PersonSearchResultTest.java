@@ -0,0 +1,52 @@
+package syncsquad.teamsync.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static syncsquad.teamsync.testutil.Assert.assertThrows;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import syncsquad.teamsync.testutil.PersonBuilder;
+
+public class PersonSearchResultTest {
+
+    private static final Person ALICE = new PersonBuilder().withName("Alice Pauline").withEmail("apauline@example.com")
+            .build();
+    private static final Person ALICIA = new PersonBuilder().withName("Alicia Tan").withEmail("atan@example.com")
+            .build();
+    private static final Person ALICE_TAN = new PersonBuilder().withName("Alice Tan").withEmail("alicetan@example.com")
+            .build();
+
+    private final PersonSearchResult searchResult = new PersonSearchResult(List.of("tan", "alcie"),
+            Map.of(ALICE, 2, ALICE_TAN, 0, ALICIA, 0));
+
+    @Test
+    public void getMatches_allPersonsFound() {
+        assertEquals(Set.of(ALICE, ALICE_TAN, ALICIA), searchResult.getMatches());
+        assertThrows(UnsupportedOperationException.class, () -> searchResult.getMatches().remove(ALICE));
+    }
+
+    @Test
+    public void getPredicate_sameKeywords() {
+        assertEquals(new FuzzyKeywordsPredicate(List.of("tan", "alcie")), searchResult.getPredicate());
+    }
+
+    @Test
+    public void getClosestMatches_closestMatchesFirst() {
+        // Equal ranks are ordered by name
+        assertEquals(Arrays.asList(ALICE_TAN, ALICIA, ALICE), searchResult.getClosestMatches(5));
+        assertEquals(Arrays.asList(ALICE_TAN, ALICIA), searchResult.getClosestMatches(2));
+        assertEquals(Collections.singletonList(ALICE_TAN), searchResult.getClosestMatches(1));
+        assertEquals(Collections.emptyList(), new PersonSearchResult(List.of("bob"), Map.of()).getClosestMatches(3));
+    }
+
+    @Test
+    public void getClosestMatches_nonPositiveLimit_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> searchResult.getClosestMatches(0));
+    }
+}
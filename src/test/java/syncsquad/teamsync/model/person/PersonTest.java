@@ -2,6 +2,7 @@ package syncsquad.teamsync.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static syncsquad.teamsync.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static syncsquad.teamsync.logic.commands.CommandTestUtil.VALID_EMAIL_BOB;
@@ -12,12 +13,17 @@ import static syncsquad.teamsync.testutil.Assert.assertThrows;
 import static syncsquad.teamsync.testutil.TypicalAddressBook.ALICE;
 import static syncsquad.teamsync.testutil.TypicalAddressBook.BOB;
 
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
+import syncsquad.teamsync.model.module.Day;
+import syncsquad.teamsync.model.module.Module;
 import syncsquad.teamsync.model.tag.Tag;
 import syncsquad.teamsync.testutil.PersonBuilder;
 
@@ -64,6 +70,28 @@ public class PersonTest {
         assertEquals(Objects.hash(name, phone, email, address, tags, modules), person.hashCode());
     }
 
+    @Test
+    public void equals_emailsDifferingInCase_equalWithSameHashCode() {
+        Person upperCaseEmailAlice = new PersonBuilder(ALICE).withEmail(ALICE.getEmail().value.toUpperCase()).build();
+        assertTrue(ALICE.equals(upperCaseEmailAlice));
+        assertEquals(ALICE.hashCode(), upperCaseEmailAlice.hashCode());
+    }
+
+    @Test
+    public void getModulesAndTags_sortedAndSharedWithCopies() {
+        Person person = new PersonBuilder().withTags("friends", "colleagues")
+                .withModules("CS2103T FRI 14:00 16:00", "CS2101 MON 10:00 12:00", "CS2103T MON 09:00 10:00").build();
+        assertEquals(List.of(Tag.of("colleagues"), Tag.of("friends")), new ArrayList<>(person.getTags()));
+        assertEquals(List.of("CS2101", "CS2103T", "CS2103T"), person.getModules().stream()
+                .map(module -> module.getModuleCode().code).collect(Collectors.toList()));
+        assertEquals(Day.of("MON"), new ArrayList<>(person.getModules()).get(1).getDay());
+
+        Person copy = new Person(person.getName(), person.getPhone(), person.getEmail(), person.getAddress(),
+                person.getTags(), person.getModules());
+        assertSame(person.getTags(), copy.getTags());
+        assertSame(person.getModules(), copy.getModules());
+    }
+
     @Test
     public void equals() {
         // same values -> returns true
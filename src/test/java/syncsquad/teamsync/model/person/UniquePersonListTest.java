@@ -7,17 +7,24 @@ import static syncsquad.teamsync.logic.commands.CommandTestUtil.VALID_ADDRESS_BO
 import static syncsquad.teamsync.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static syncsquad.teamsync.testutil.Assert.assertThrows;
 import static syncsquad.teamsync.testutil.TypicalAddressBook.ALICE;
+import static syncsquad.teamsync.testutil.TypicalAddressBook.BENSON;
 import static syncsquad.teamsync.testutil.TypicalAddressBook.BOB;
+import static syncsquad.teamsync.testutil.TypicalAddressBook.CARL;
 
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
+import syncsquad.teamsync.model.module.ModuleCode;
 import syncsquad.teamsync.model.person.exceptions.DuplicatePersonException;
 import syncsquad.teamsync.model.person.exceptions.PersonNotFoundException;
+import syncsquad.teamsync.model.tag.Tag;
 import syncsquad.teamsync.testutil.PersonBuilder;
 
 public class UniquePersonListTest {
@@ -29,6 +36,33 @@ public class UniquePersonListTest {
         assertThrows(NullPointerException.class, () -> uniquePersonList.contains(null));
     }
 
+    @Test
+    public void getPersonWithEmail() {
+        uniquePersonList.add(ALICE);
+        assertEquals(ALICE, uniquePersonList.getPersonWithEmail(new Email("ALICE@example.com")).get());
+        assertFalse(uniquePersonList.getPersonWithEmail(BENSON.getEmail()).isPresent());
+
+        Person editedAlice = new PersonBuilder(ALICE).withEmail("alice@other.com").build();
+        uniquePersonList.setItem(ALICE, editedAlice);
+        assertFalse(uniquePersonList.getPersonWithEmail(ALICE.getEmail()).isPresent());
+        assertEquals(editedAlice, uniquePersonList.getPersonWithEmail(editedAlice.getEmail()).get());
+    }
+
+    @Test
+    public void getPersonWithEmail_turkishLocale_sameIdentity() {
+        Locale defaultLocale = Locale.getDefault();
+        Locale.setDefault(Locale.forLanguageTag("tr"));
+        try {
+            Person isaac = new PersonBuilder().withEmail("ISAAC@example.com").build();
+            uniquePersonList.add(isaac);
+            assertEquals(isaac, uniquePersonList.getPersonWithEmail(new Email("isaac@example.com")).get());
+            assertThrows(DuplicatePersonException.class, () -> uniquePersonList.add(
+                    new PersonBuilder().withName("Isaac").withEmail("isaac@example.com").build()));
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+
     @Test
     public void contains_personNotInList_returnsFalse() {
         assertFalse(uniquePersonList.contains(ALICE));
@@ -48,6 +82,13 @@ public class UniquePersonListTest {
         assertTrue(uniquePersonList.contains(editedAlice));
     }
 
+    @Test
+    public void contains_personWithDifferentEmailCase_returnsTrue() {
+        uniquePersonList.add(ALICE);
+        Person upperCaseAlice = new PersonBuilder(ALICE).withEmail(ALICE.getEmail().value.toUpperCase()).build();
+        assertTrue(uniquePersonList.contains(upperCaseAlice));
+    }
+
     @Test
     public void add_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.add(null));
@@ -59,6 +100,14 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.add(ALICE));
     }
 
+    @Test
+    public void add_personsOutOfOrder_keepsSortedOrder() {
+        uniquePersonList.add(CARL);
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BENSON);
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL), uniquePersonList.asUnmodifiableObservableList());
+    }
+
     @Test
     public void setItem_nullTargetPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.setItem(null, ALICE));
@@ -103,6 +152,20 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void setItem_editedPersonRenamed_keepsSortedOrder() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BENSON);
+        uniquePersonList.add(CARL);
+        Person renamedAlice = new PersonBuilder(ALICE).withName("Daisy Pauline").build();
+        uniquePersonList.setItem(ALICE, renamedAlice);
+        assertEquals(Arrays.asList(BENSON, CARL, renamedAlice), uniquePersonList.asUnmodifiableObservableList());
+
+        Person renamedCarl = new PersonBuilder(CARL).withName("Aaron Kurz").build();
+        uniquePersonList.setItem(CARL, renamedCarl);
+        assertEquals(Arrays.asList(renamedCarl, BENSON, renamedAlice), uniquePersonList.asUnmodifiableObservableList());
+    }
+
     @Test
     public void setItem_editedPersonHasNonUniqueIdentity_throwsDuplicatePersonException() {
         uniquePersonList.add(ALICE);
@@ -128,6 +191,13 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void remove_personWithSameIdentityButDifferentFields_throwsPersonNotFoundException() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.remove(editedAlice));
+    }
+
     @Test
     public void setItems_nullUniquePersonList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.setItems((UniquePersonList) null));
@@ -163,6 +233,78 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setItems(listWithDuplicatePersons));
     }
 
+    @Test
+    public void getPersonsWithModuleCode_personsAddedEditedAndRemoved_indexUpdated() {
+        ModuleCode cs2103t = ModuleCode.of("CS2103T");
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BENSON);
+        assertEquals(Collections.singletonList(BENSON), uniquePersonList.getPersonsWithModuleCode(cs2103t));
+
+        Person editedAlice = new PersonBuilder(ALICE).withModules("cs2103t MON 10:00 12:00").build();
+        uniquePersonList.setItem(ALICE, editedAlice);
+        assertEquals(Arrays.asList(BENSON, editedAlice), uniquePersonList.getPersonsWithModuleCode(cs2103t));
+
+        uniquePersonList.remove(BENSON);
+        assertEquals(Collections.singletonList(editedAlice), uniquePersonList.getPersonsWithModuleCode(cs2103t));
+        assertEquals(Collections.emptyList(), uniquePersonList.getPersonsWithModuleCode(ModuleCode.of("CS2101")));
+    }
+
+    @Test
+    public void getPersonsWithTag_afterSetItems_indexRebuilt() {
+        uniquePersonList.add(BOB);
+        uniquePersonList.setItems(Arrays.asList(ALICE, CARL, BENSON));
+        assertEquals(Collections.emptyList(), uniquePersonList.getPersonsWithTag(Tag.of(VALID_TAG_HUSBAND)));
+        assertEquals(Arrays.asList(ALICE, BENSON), uniquePersonList.getPersonsWithTag(Tag.of("friends")));
+    }
+
+    @Test
+    public void getPersonsWithNameWord_personsAddedEditedAndRemoved_indexUpdated() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BENSON);
+        assertEquals(Collections.singletonList(BENSON), uniquePersonList.getPersonsWithNameWord("mEIER"));
+        assertEquals(Collections.emptyList(), uniquePersonList.getPersonsWithNameWord("Mei"));
+
+        Person editedAlice = new PersonBuilder(ALICE).withName("Alice  Meier").build();
+        uniquePersonList.setItem(ALICE, editedAlice);
+        assertEquals(Arrays.asList(BENSON, editedAlice), uniquePersonList.getPersonsWithNameWord("meier"));
+        assertEquals(Collections.singletonList(editedAlice), uniquePersonList.getPersonsWithNameWord("alice"));
+        assertEquals(Collections.emptyList(), uniquePersonList.getPersonsWithNameWord("pauline"));
+
+        uniquePersonList.remove(BENSON);
+        assertEquals(Collections.singletonList(editedAlice), uniquePersonList.getPersonsWithNameWord("meier"));
+
+        uniquePersonList.setItems(Arrays.asList(BENSON, CARL));
+        assertEquals(Collections.singletonList(BENSON), uniquePersonList.getPersonsWithNameWord("meier"));
+    }
+
+    @Test
+    public void searchPersons_personsAddedEditedAndRemoved_indexUpdated() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BENSON);
+        assertEquals(Set.of(BENSON), uniquePersonList.searchPersons(List.of("meir")).getMatches());
+        assertEquals(Set.of(ALICE, BENSON), uniquePersonList.searchPersons(List.of("frends")).getMatches());
+
+        Person editedBenson = new PersonBuilder(BENSON).withName("Benson Mayer").build();
+        uniquePersonList.setItem(BENSON, editedBenson);
+        assertEquals(Set.of(), uniquePersonList.searchPersons(List.of("meir")).getMatches());
+
+        uniquePersonList.remove(ALICE);
+        assertEquals(Set.of(editedBenson), uniquePersonList.searchPersons(List.of("frends")).getMatches());
+
+        uniquePersonList.setItems(Arrays.asList(CARL));
+        assertEquals(Set.of(), uniquePersonList.searchPersons(List.of("frends")).getMatches());
+        assertEquals(Set.of(CARL), uniquePersonList.searchPersons(List.of("kurz")).getMatches());
+    }
+
+    @Test
+    public void searchPersons_closestMatches_closestFirst() {
+        uniquePersonList.add(BENSON);
+        uniquePersonList.add(CARL);
+        uniquePersonList.add(ALICE);
+        assertEquals(Arrays.asList(CARL, ALICE),
+                uniquePersonList.searchPersons(List.of("kurz", "alcie")).getClosestMatches(2));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> {
@@ -199,6 +341,57 @@ public class UniquePersonListTest {
         assertFalse(uniquePersonList.equals(uniquePersonList2));
     }
 
+    @Test
+    public void rollbackTransaction_modifications_contentsAndIndexesRestored() {
+        // Persons with the same name compare as equal, so their order must be restored exactly
+        Person aliceTwin = new PersonBuilder(ALICE).withEmail("twin@example.com").withTags().build();
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(aliceTwin);
+        uniquePersonList.add(BENSON);
+        List<Person> personsBefore = List.copyOf(uniquePersonList.asUnmodifiableObservableList());
+
+        uniquePersonList.beginTransaction();
+        uniquePersonList.remove(ALICE);
+        uniquePersonList.add(ALICE);
+        Person editedBenson = new PersonBuilder(BENSON).withTags(VALID_TAG_HUSBAND).build();
+        uniquePersonList.setItem(BENSON, editedBenson);
+        uniquePersonList.add(CARL);
+        uniquePersonList.rollbackTransaction();
+
+        assertEquals(personsBefore, uniquePersonList.asUnmodifiableObservableList());
+        assertFalse(uniquePersonList.contains(CARL));
+        assertEquals(Collections.emptyList(), uniquePersonList.getPersonsWithTag(Tag.of(VALID_TAG_HUSBAND)));
+        assertEquals(Set.of(ALICE, BENSON), Set.copyOf(uniquePersonList.getPersonsWithTag(Tag.of("friends"))));
+    }
+
+    @Test
+    public void rollbackTransaction_nestedTransactionCommitted_outerRollbackUndoesBoth() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.beginTransaction();
+        uniquePersonList.add(BENSON);
+        uniquePersonList.beginTransaction();
+        uniquePersonList.remove(ALICE);
+        uniquePersonList.commitTransaction();
+        uniquePersonList.beginTransaction();
+        uniquePersonList.add(CARL);
+        uniquePersonList.rollbackTransaction();
+        assertEquals(Collections.singletonList(BENSON), uniquePersonList.asUnmodifiableObservableList());
+
+        uniquePersonList.rollbackTransaction();
+        assertEquals(Collections.singletonList(ALICE), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void rollbackTransaction_setItems_previousItemsRestored() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.beginTransaction();
+        uniquePersonList.setItems(List.of(BENSON, CARL));
+        uniquePersonList.add(BOB);
+        uniquePersonList.rollbackTransaction();
+        assertEquals(Collections.singletonList(ALICE), uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(Optional.of(ALICE), uniquePersonList.getPersonWithEmail(ALICE.getEmail()));
+    }
+
     @Test
     public void toStringMethod() {
         assertEquals(uniquePersonList.asUnmodifiableObservableList().toString(), uniquePersonList.toString());
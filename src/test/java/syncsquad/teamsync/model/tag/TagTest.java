@@ -1,6 +1,7 @@
 package syncsquad.teamsync.model.tag;
 
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static syncsquad.teamsync.testutil.Assert.assertThrows;
 
@@ -10,13 +11,13 @@ public class TagTest {
 
     @Test
     public void constructor_null_throwsNullPointerException() {
-        assertThrows(NullPointerException.class, () -> new Tag(null));
+        assertThrows(NullPointerException.class, () -> Tag.of(null));
     }
 
     @Test
     public void constructor_invalidTagName_throwsIllegalArgumentException() {
         String invalidTagName = "";
-        assertThrows(IllegalArgumentException.class, () -> new Tag(invalidTagName));
+        assertThrows(IllegalArgumentException.class, () -> Tag.of(invalidTagName));
     }
 
     @Test
@@ -27,11 +28,11 @@ public class TagTest {
 
     @Test
     public void equalsMethod() {
-        Tag tag = new Tag("tag1");
-        Tag tag2 = new Tag("tag2");
+        Tag tag = Tag.of("tag1");
+        Tag tag2 = Tag.of("tag2");
 
         // same values -> returns true
-        assertTrue(tag.equals(new Tag("tag1")));
+        assertTrue(tag.equals(Tag.of("tag1")));
 
         // same object -> returns true
         assertTrue(tag.equals(tag));
@@ -45,4 +46,9 @@ public class TagTest {
         // different tag -> returns false
         assertFalse(tag.equals(tag2));
     }
+
+    @Test
+    public void of_sameTagName_returnsSameInstance() {
+        assertSame(Tag.of("friends"), Tag.of(new String("friends")));
+    }
 }
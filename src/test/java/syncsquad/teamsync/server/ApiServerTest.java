@@ -0,0 +1,237 @@
+package syncsquad.teamsync.server;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static syncsquad.teamsync.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static syncsquad.teamsync.testutil.Assert.assertThrows;
+import static syncsquad.teamsync.testutil.TypicalAddressBook.AMY;
+import static syncsquad.teamsync.testutil.TypicalAddressBook.JAN_MEETING;
+import static syncsquad.teamsync.testutil.TypicalAddressBook.getTypicalAddressBook;
+import static syncsquad.teamsync.testutil.TypicalAddressBook.getTypicalMeetings;
+import static syncsquad.teamsync.testutil.TypicalAddressBook.getTypicalPersons;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import syncsquad.teamsync.commons.util.JsonUtil;
+import syncsquad.teamsync.logic.Logic;
+import syncsquad.teamsync.logic.LogicManager;
+import syncsquad.teamsync.logic.Messages;
+import syncsquad.teamsync.logic.commands.person.AddPersonCommand;
+import syncsquad.teamsync.model.ModelManager;
+import syncsquad.teamsync.model.UserPrefs;
+import syncsquad.teamsync.storage.JsonAddressBookStorage;
+import syncsquad.teamsync.storage.JsonUserPrefsStorage;
+import syncsquad.teamsync.storage.StorageManager;
+import syncsquad.teamsync.testutil.PersonUtil;
+
+public class ApiServerTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+    private final ExecutorService writer = Executors.newSingleThreadExecutor();
+    private Logic logic;
+    private Path tokenFile;
+    private ApiServer server;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        StorageManager storage = new StorageManager(
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        logic = new LogicManager(new ModelManager(getTypicalAddressBook(), new UserPrefs()), storage);
+        tokenFile = temporaryFolder.resolve(ApiServer.TOKEN_FILE_NAME);
+        server = new ApiServer(logic, writer, 0, tokenFile);
+        server.start();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        server.stop();
+        writer.shutdown();
+    }
+
+    @Test
+    public void constructor_nullArguments_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new ApiServer(null, writer, 0, tokenFile));
+        assertThrows(NullPointerException.class, () -> new ApiServer(logic, writer, 0, null));
+    }
+
+    @Test
+    public void start_tokenWrittenToFile_fileDeletedOnStop() throws Exception {
+        assertEquals(server.getToken(), Files.readString(tokenFile));
+        server.stop();
+        assertFalse(Files.exists(tokenFile));
+    }
+
+    @Test
+    public void request_missingOrWrongToken_unauthorized() throws Exception {
+        send(HttpRequest.newBuilder(uriOf(ApiServer.PERSONS_PATH)).GET().build(), ApiServer.STATUS_UNAUTHORIZED);
+        Map<?, ?> response = send(HttpRequest.newBuilder(uriOf(ApiServer.COMMANDS_PATH))
+                .header(ApiServer.TOKEN_HEADER, server.getToken() + "x")
+                .header("Content-Type", ApiServer.JSON_CONTENT_TYPE)
+                .POST(HttpRequest.BodyPublishers.ofString(toCommandJson("clear"))).build(),
+                ApiServer.STATUS_UNAUTHORIZED);
+        assertEquals(ApiServer.MESSAGE_INVALID_TOKEN, response.get("error"));
+        assertEquals(getTypicalPersons().size(), logic.getAddressBookSnapshot().getPersonList().size());
+    }
+
+    @Test
+    public void request_foreignOrigin_forbidden() throws Exception {
+        send(request(ApiServer.PERSONS_PATH).header("Origin", "http://localhost:3000").GET().build(),
+                ApiServer.STATUS_OK);
+        Map<?, ?> response = send(request(ApiServer.PERSONS_PATH).header("Origin", "https://example.com").GET()
+                .build(), ApiServer.STATUS_FORBIDDEN);
+        assertEquals(String.format(ApiServer.MESSAGE_FOREIGN_ORIGIN, "https://example.com"), response.get("error"));
+        send(request(ApiServer.PERSONS_PATH).header("Origin", "null").GET().build(), ApiServer.STATUS_FORBIDDEN);
+    }
+
+    @Test
+    public void postCommand_notJson_unsupportedMediaType() throws Exception {
+        Map<?, ?> response = send(request(ApiServer.COMMANDS_PATH).header("Content-Type", "text/plain")
+                .POST(HttpRequest.BodyPublishers.ofString(toCommandJson("clear"))).build(),
+                ApiServer.STATUS_UNSUPPORTED_MEDIA_TYPE);
+        assertEquals(ApiServer.MESSAGE_UNSUPPORTED_CONTENT_TYPE, response.get("error"));
+        send(request(ApiServer.COMMANDS_PATH).POST(HttpRequest.BodyPublishers.ofString(toCommandJson("clear")))
+                .build(), ApiServer.STATUS_UNSUPPORTED_MEDIA_TYPE);
+        assertEquals(getTypicalPersons().size(), logic.getAddressBookSnapshot().getPersonList().size());
+    }
+
+    @Test
+    public void postCommand_missingCommand_badRequest() throws Exception {
+        Map<?, ?> response = send(request(ApiServer.COMMANDS_PATH)
+                .header("Content-Type", ApiServer.JSON_CONTENT_TYPE + "; charset=utf-8")
+                .POST(HttpRequest.BodyPublishers.ofString("{}")).build(), ApiServer.STATUS_BAD_REQUEST);
+        assertEquals(ApiServer.MESSAGE_MISSING_COMMAND, response.get("error"));
+        post(ApiServer.COMMANDS_PATH, "list", ApiServer.STATUS_BAD_REQUEST);
+    }
+
+    @Test
+    public void postCommand_writerBusy_commandCancelled() throws Exception {
+        ExecutorService busyWriter = Executors.newSingleThreadExecutor();
+        CountDownLatch release = new CountDownLatch(1);
+        busyWriter.execute(() -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        server.stop();
+        server = new ApiServer(logic, busyWriter, 0, tokenFile, Duration.ofMillis(100));
+        server.start();
+        try {
+            Map<?, ?> response = postCommand(PersonUtil.getAddCommand(AMY), ApiServer.STATUS_UNAVAILABLE);
+            assertEquals(ApiServer.MESSAGE_COMMAND_CANCELLED, response.get("error"));
+        } finally {
+            release.countDown();
+            busyWriter.shutdown();
+        }
+        busyWriter.awaitTermination(1, TimeUnit.SECONDS);
+        assertEquals(getTypicalPersons().size(), logic.getAddressBookSnapshot().getPersonList().size());
+    }
+
+    @Test
+    public void getPersons_allPersonsReturned() throws Exception {
+        Map<?, ?> response = get(ApiServer.PERSONS_PATH, ApiServer.STATUS_OK);
+        assertEquals(getTypicalPersons().size(), ((List<?>) response.get("persons")).size());
+    }
+
+    @Test
+    public void getMeetings_allMeetingsReturned() throws Exception {
+        Map<?, ?> response = get(ApiServer.MEETINGS_PATH, ApiServer.STATUS_OK);
+        assertEquals(getTypicalMeetings().size(), ((List<?>) response.get("meetings")).size());
+    }
+
+    @Test
+    public void postCommand_validCommand_changeVisibleToReads() throws Exception {
+        get(ApiServer.PERSONS_PATH, ApiServer.STATUS_OK);
+
+        Map<?, ?> response = postCommand(PersonUtil.getAddCommand(AMY), ApiServer.STATUS_OK);
+        assertEquals(String.format(AddPersonCommand.MESSAGE_SUCCESS, Messages.format(AMY)),
+                response.get("feedback"));
+
+        response = get(ApiServer.PERSONS_PATH, ApiServer.STATUS_OK);
+        assertEquals(getTypicalPersons().size() + 1, ((List<?>) response.get("persons")).size());
+    }
+
+    @Test
+    public void postCommand_invalidCommand_badRequest() throws Exception {
+        Map<?, ?> response = postCommand("uicfhmowqewca", ApiServer.STATUS_BAD_REQUEST);
+        assertEquals(MESSAGE_UNKNOWN_COMMAND, response.get("error"));
+    }
+
+    @Test
+    public void request_wrongMethodOrPath_error() throws Exception {
+        get(ApiServer.COMMANDS_PATH, ApiServer.STATUS_METHOD_NOT_ALLOWED);
+        post(ApiServer.PERSONS_PATH, "", ApiServer.STATUS_METHOD_NOT_ALLOWED);
+        get(ApiServer.PERSONS_PATH + "/1", ApiServer.STATUS_NOT_FOUND);
+    }
+
+    @Test
+    public void getTimetable_week_meetingsInWeekReturned() throws Exception {
+        Map<?, ?> response = get(ApiServer.TIMETABLE_PATH + "?week=01-01-2025", ApiServer.STATUS_OK);
+        assertEquals("30-12-2024", response.get("week"));
+        List<?> meetings = (List<?>) response.get("meetings");
+        assertEquals(1, meetings.size());
+        assertEquals(JAN_MEETING.getDateString(), ((Map<?, ?>) meetings.get(0)).get("date"));
+    }
+
+    @Test
+    public void getTimetable_invalidWeek_badRequest() throws Exception {
+        get(ApiServer.TIMETABLE_PATH + "?week=2025-01-01", ApiServer.STATUS_BAD_REQUEST);
+    }
+
+    private Map<?, ?> get(String path, int expectedStatus) throws Exception {
+        return send(request(path).GET().build(), expectedStatus);
+    }
+
+    private Map<?, ?> post(String path, String body, int expectedStatus) throws Exception {
+        return send(request(path).header("Content-Type", ApiServer.JSON_CONTENT_TYPE)
+                .POST(HttpRequest.BodyPublishers.ofString(body)).build(), expectedStatus);
+    }
+
+    private Map<?, ?> postCommand(String command, int expectedStatus) throws Exception {
+        return post(ApiServer.COMMANDS_PATH, toCommandJson(command), expectedStatus);
+    }
+
+    private static String toCommandJson(String command) throws IOException {
+        return JsonUtil.toJsonString(Map.of("command", command));
+    }
+
+    /**
+     * Returns a builder for a request to {@code path} with the token of the server.
+     */
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(uriOf(path)).header(ApiServer.TOKEN_HEADER, server.getToken());
+    }
+
+    private Map<?, ?> send(HttpRequest request, int expectedStatus) throws Exception {
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        assertEquals(expectedStatus, response.statusCode());
+        return JsonUtil.fromJsonString(response.body(), Map.class);
+    }
+
+    private URI uriOf(String path) {
+        return URI.create("http://localhost:" + server.getPort() + path);
+    }
+}
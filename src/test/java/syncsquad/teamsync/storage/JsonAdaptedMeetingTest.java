@@ -1,6 +1,7 @@
 package syncsquad.teamsync.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static syncsquad.teamsync.storage.JsonAdaptedMeeting.DATE_FIELD;
 import static syncsquad.teamsync.storage.JsonAdaptedMeeting.END_TIME_FIELD;
 import static syncsquad.teamsync.storage.JsonAdaptedMeeting.MISSING_FIELD_MESSAGE_FORMAT;
@@ -8,10 +9,16 @@ import static syncsquad.teamsync.storage.JsonAdaptedMeeting.START_TIME_FIELD;
 import static syncsquad.teamsync.testutil.Assert.assertThrows;
 import static syncsquad.teamsync.testutil.TypicalAddressBook.FEB_MEETING;
 
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
 import org.junit.jupiter.api.Test;
 
 import syncsquad.teamsync.commons.exceptions.IllegalValueException;
 import syncsquad.teamsync.model.meeting.Meeting;
+import syncsquad.teamsync.model.meeting.Recurrence;
+import syncsquad.teamsync.model.person.Email;
 
 public class JsonAdaptedMeetingTest {
     private static final String INVALID_DATE = "later";
@@ -22,6 +29,9 @@ public class JsonAdaptedMeetingTest {
     private static final String VALID_DATE = FEB_MEETING.getDateString();
     private static final String VALID_START_TIME = FEB_MEETING.getStartTimeString();
     private static final String VALID_END_TIME = FEB_MEETING.getEndTimeString();
+    private static final List<String> VALID_ATTENDEES = List.of("alice@example.com");
+    private static final String INVALID_ATTENDEE = "alice@";
+    private static final String VALID_REPEAT_UNTIL = "31-12-2025";
 
     @Test
     public void toModelType_validMeetingDetails_returnsMeeting() throws Exception {
@@ -36,42 +46,48 @@ public class JsonAdaptedMeetingTest {
 
     @Test
     public void toModelType_invalidDate_throwsIllegalValueException() {
-        JsonAdaptedMeeting meeting = new JsonAdaptedMeeting(INVALID_DATE, VALID_START_TIME, VALID_END_TIME);
+        JsonAdaptedMeeting meeting = new JsonAdaptedMeeting(
+                INVALID_DATE, VALID_START_TIME, VALID_END_TIME, VALID_ATTENDEES, null, null);
         String expectedMessage = Meeting.MESSAGE_CONSTRAINTS;
         assertThrows(IllegalValueException.class, expectedMessage, meeting::toModelType);
     }
 
     @Test
     public void toModelType_nullDate_throwsIllegalValueException() {
-        JsonAdaptedMeeting meeting = new JsonAdaptedMeeting(null, VALID_START_TIME, VALID_END_TIME);
+        JsonAdaptedMeeting meeting = new JsonAdaptedMeeting(
+                null, VALID_START_TIME, VALID_END_TIME, VALID_ATTENDEES, null, null);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, DATE_FIELD);
         assertThrows(IllegalValueException.class, expectedMessage, meeting::toModelType);
     }
 
     @Test
     public void toModelType_invalidStartTime_throwsIllegalValueException() {
-        JsonAdaptedMeeting meeting = new JsonAdaptedMeeting(VALID_DATE, INVALID_START_TIME, VALID_END_TIME);
+        JsonAdaptedMeeting meeting = new JsonAdaptedMeeting(
+                VALID_DATE, INVALID_START_TIME, VALID_END_TIME, VALID_ATTENDEES, null, null);
         String expectedMessage = Meeting.MESSAGE_CONSTRAINTS;
         assertThrows(IllegalValueException.class, expectedMessage, meeting::toModelType);
     }
 
     @Test
     public void toModelType_nullStartTime_throwsIllegalValueException() {
-        JsonAdaptedMeeting meeting = new JsonAdaptedMeeting(VALID_DATE, null, VALID_END_TIME);
+        JsonAdaptedMeeting meeting = new JsonAdaptedMeeting(
+                VALID_DATE, null, VALID_END_TIME, VALID_ATTENDEES, null, null);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, START_TIME_FIELD);
         assertThrows(IllegalValueException.class, expectedMessage, meeting::toModelType);
     }
 
     @Test
     public void toModelType_invalidEndTime_throwsIllegalValueException() {
-        JsonAdaptedMeeting meeting = new JsonAdaptedMeeting(VALID_DATE, VALID_START_TIME, INVALID_END_TIME);
+        JsonAdaptedMeeting meeting = new JsonAdaptedMeeting(
+                VALID_DATE, VALID_START_TIME, INVALID_END_TIME, VALID_ATTENDEES, null, null);
         String expectedMessage = Meeting.MESSAGE_CONSTRAINTS;
         assertThrows(IllegalValueException.class, expectedMessage, meeting::toModelType);
     }
 
     @Test
     public void toModelType_nullEndTime_throwsIllegalValueException() {
-        JsonAdaptedMeeting meeting = new JsonAdaptedMeeting(VALID_DATE, VALID_START_TIME, null);
+        JsonAdaptedMeeting meeting = new JsonAdaptedMeeting(
+                VALID_DATE, VALID_START_TIME, null, VALID_ATTENDEES, null, null);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, END_TIME_FIELD);
         assertThrows(IllegalValueException.class, expectedMessage, meeting::toModelType);
     }
@@ -79,8 +95,57 @@ public class JsonAdaptedMeetingTest {
     @Test
     public void toModelType_endTimeBeforeStartTime_throwsIllegalValueException() {
         JsonAdaptedMeeting adaptedMeeting = new JsonAdaptedMeeting(
-                VALID_DATE, VALID_END_TIME, VALID_START_TIME);
+                VALID_DATE, VALID_END_TIME, VALID_START_TIME, VALID_ATTENDEES, null, null);
         String expectedMessage = Meeting.MESSAGE_CONSTRAINTS;
         assertThrows(IllegalValueException.class, expectedMessage, adaptedMeeting::toModelType);
     }
+
+    @Test
+    public void toModelType_withAttendees_returnsMeetingWithAttendees() throws Exception {
+        Meeting meeting = new JsonAdaptedMeeting(
+                VALID_DATE, VALID_START_TIME, VALID_END_TIME, VALID_ATTENDEES, null, null)
+                .toModelType();
+        assertEquals(Set.of(new Email("alice@example.com")), meeting.getAttendees());
+        assertEquals(meeting, new JsonAdaptedMeeting(meeting).toModelType());
+    }
+
+    @Test
+    public void toModelType_nullAttendees_returnsMeetingWithoutAttendees() throws Exception {
+        Meeting meeting = new JsonAdaptedMeeting(VALID_DATE, VALID_START_TIME, VALID_END_TIME, null, null, null)
+                .toModelType();
+        assertTrue(meeting.getAttendees().isEmpty());
+    }
+
+    @Test
+    public void toModelType_invalidAttendee_throwsIllegalValueException() {
+        JsonAdaptedMeeting meeting = new JsonAdaptedMeeting(VALID_DATE, VALID_START_TIME, VALID_END_TIME,
+                List.of(INVALID_ATTENDEE), null, null);
+        assertThrows(IllegalValueException.class, Email.MESSAGE_CONSTRAINTS, meeting::toModelType);
+    }
+
+    @Test
+    public void toModelType_withRecurrence_returnsRecurringMeeting() throws Exception {
+        Meeting meeting = new JsonAdaptedMeeting(VALID_DATE, VALID_START_TIME, VALID_END_TIME, VALID_ATTENDEES,
+                2, VALID_REPEAT_UNTIL).toModelType();
+        assertEquals(new Recurrence(2, LocalDate.of(2025, 12, 31)), meeting.getRecurrence().get());
+        assertEquals(meeting, new JsonAdaptedMeeting(meeting).toModelType());
+    }
+
+    @Test
+    public void toModelType_invalidRecurrence_throwsIllegalValueException() {
+        // missing interval
+        JsonAdaptedMeeting meeting = new JsonAdaptedMeeting(VALID_DATE, VALID_START_TIME, VALID_END_TIME,
+                VALID_ATTENDEES, null, VALID_REPEAT_UNTIL);
+        assertThrows(IllegalValueException.class, Recurrence.MESSAGE_CONSTRAINTS, meeting::toModelType);
+
+        // invalid interval
+        JsonAdaptedMeeting zeroWeeks = new JsonAdaptedMeeting(VALID_DATE, VALID_START_TIME, VALID_END_TIME,
+                VALID_ATTENDEES, 0, VALID_REPEAT_UNTIL);
+        assertThrows(IllegalValueException.class, Recurrence.MESSAGE_CONSTRAINTS, zeroWeeks::toModelType);
+
+        // until date before the first date
+        JsonAdaptedMeeting untilBeforeDate = new JsonAdaptedMeeting(VALID_DATE, VALID_START_TIME, VALID_END_TIME,
+                VALID_ATTENDEES, 1, "01-01-2025");
+        assertThrows(IllegalValueException.class, Recurrence.MESSAGE_CONSTRAINTS, untilBeforeDate::toModelType);
+    }
 }
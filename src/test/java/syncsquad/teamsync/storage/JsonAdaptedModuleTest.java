@@ -12,17 +12,19 @@ import syncsquad.teamsync.commons.exceptions.IllegalValueException;
 import syncsquad.teamsync.model.module.Day;
 import syncsquad.teamsync.model.module.Module;
 import syncsquad.teamsync.model.module.ModuleCode;
+import syncsquad.teamsync.model.module.TeachingWeeks;
 
 public class JsonAdaptedModuleTest {
     private static final String VALID_MODULE_CODE = "CS2103T";
     private static final String VALID_DAY = "FRI";
     private static final String VALID_START_TIME = "14:00";
     private static final String VALID_END_TIME = "16:00";
+    private static final String VALID_TEACHING_WEEKS = "1-6,8";
 
     @Test
     public void constructor_validFields_success() throws IllegalValueException {
         JsonAdaptedModule adaptedModule = new JsonAdaptedModule(
-                VALID_MODULE_CODE, VALID_DAY, VALID_START_TIME, VALID_END_TIME);
+                VALID_MODULE_CODE, VALID_DAY, VALID_START_TIME, VALID_END_TIME, null);
         assertEquals(CS2103T_MODULE, adaptedModule.toModelType());
     }
 
@@ -35,11 +37,11 @@ public class JsonAdaptedModuleTest {
     @Test
     public void toModelType_validFields_returnsModule() throws Exception {
         JsonAdaptedModule adaptedModule = new JsonAdaptedModule(
-                VALID_MODULE_CODE, VALID_DAY, VALID_START_TIME, VALID_END_TIME);
+                VALID_MODULE_CODE, VALID_DAY, VALID_START_TIME, VALID_END_TIME, null);
         Module module = adaptedModule.toModelType();
 
-        assertEquals(new ModuleCode(VALID_MODULE_CODE), module.getModuleCode());
-        assertEquals(new Day(VALID_DAY), module.getDay());
+        assertEquals(ModuleCode.of(VALID_MODULE_CODE), module.getModuleCode());
+        assertEquals(Day.of(VALID_DAY), module.getDay());
         assertEquals(LocalTime.parse(VALID_START_TIME), module.getStartTime());
         assertEquals(LocalTime.parse(VALID_END_TIME), module.getEndTime());
     }
@@ -47,49 +49,49 @@ public class JsonAdaptedModuleTest {
     @Test
     public void toModelType_nullModuleCode_throwsIllegalValueException() {
         JsonAdaptedModule adaptedModule = new JsonAdaptedModule(
-                null, VALID_DAY, VALID_START_TIME, VALID_END_TIME);
+                null, VALID_DAY, VALID_START_TIME, VALID_END_TIME, null);
         assertThrows(IllegalValueException.class, adaptedModule::toModelType);
     }
 
     @Test
     public void toModelType_invalidModuleCode_throwsIllegalValueException() {
         JsonAdaptedModule adaptedModule = new JsonAdaptedModule(
-                "INVALID", VALID_DAY, VALID_START_TIME, VALID_END_TIME);
+                "INVALID", VALID_DAY, VALID_START_TIME, VALID_END_TIME, null);
         assertThrows(IllegalValueException.class, adaptedModule::toModelType);
     }
 
     @Test
     public void toModelType_nullDay_throwsIllegalValueException() {
         JsonAdaptedModule adaptedModule = new JsonAdaptedModule(
-                VALID_MODULE_CODE, null, VALID_START_TIME, VALID_END_TIME);
+                VALID_MODULE_CODE, null, VALID_START_TIME, VALID_END_TIME, null);
         assertThrows(IllegalValueException.class, adaptedModule::toModelType);
     }
 
     @Test
     public void toModelType_invalidDay_throwsIllegalValueException() {
         JsonAdaptedModule adaptedModule = new JsonAdaptedModule(
-                VALID_MODULE_CODE, "INVALID", VALID_START_TIME, VALID_END_TIME);
+                VALID_MODULE_CODE, "INVALID", VALID_START_TIME, VALID_END_TIME, null);
         assertThrows(IllegalValueException.class, adaptedModule::toModelType);
     }
 
     @Test
     public void toModelType_nullStartTime_throwsIllegalValueException() {
         JsonAdaptedModule adaptedModule = new JsonAdaptedModule(
-                VALID_MODULE_CODE, VALID_DAY, null, VALID_END_TIME);
+                VALID_MODULE_CODE, VALID_DAY, null, VALID_END_TIME, null);
         assertThrows(IllegalValueException.class, adaptedModule::toModelType);
     }
 
     @Test
     public void toModelType_nullEndTime_throwsIllegalValueException() {
         JsonAdaptedModule adaptedModule = new JsonAdaptedModule(
-                VALID_MODULE_CODE, VALID_DAY, VALID_START_TIME, null);
+                VALID_MODULE_CODE, VALID_DAY, VALID_START_TIME, null, null);
         assertThrows(IllegalValueException.class, adaptedModule::toModelType);
     }
 
     @Test
     public void toModelType_invalidStartTime_throwsIllegalValueException() {
         JsonAdaptedModule adaptedModule = new JsonAdaptedModule(
-                VALID_MODULE_CODE, VALID_DAY, "25:00", VALID_END_TIME);
+                VALID_MODULE_CODE, VALID_DAY, "25:00", VALID_END_TIME, null);
         String expectedMessage = Module.MESSAGE_CONSTRAINTS;
         assertThrows(IllegalValueException.class, expectedMessage, adaptedModule::toModelType);
     }
@@ -97,7 +99,7 @@ public class JsonAdaptedModuleTest {
     @Test
     public void toModelType_invalidEndTime_throwsIllegalValueException() {
         JsonAdaptedModule adaptedModule = new JsonAdaptedModule(
-                VALID_MODULE_CODE, VALID_DAY, VALID_START_TIME, "25:00");
+                VALID_MODULE_CODE, VALID_DAY, VALID_START_TIME, "25:00", null);
         String expectedMessage = Module.MESSAGE_CONSTRAINTS;
         assertThrows(IllegalValueException.class, expectedMessage, adaptedModule::toModelType);
     }
@@ -105,8 +107,26 @@ public class JsonAdaptedModuleTest {
     @Test
     public void toModelType_endTimeBeforeStartTime_throwsIllegalValueException() {
         JsonAdaptedModule adaptedModule = new JsonAdaptedModule(
-                VALID_MODULE_CODE, VALID_DAY, VALID_END_TIME, VALID_START_TIME);
+                VALID_MODULE_CODE, VALID_DAY, VALID_END_TIME, VALID_START_TIME, null);
         String expectedMessage = Module.MESSAGE_CONSTRAINTS;
         assertThrows(IllegalValueException.class, expectedMessage, adaptedModule::toModelType);
     }
+
+    @Test
+    public void toModelType_validTeachingWeeks_returnsModule() throws Exception {
+        JsonAdaptedModule adaptedModule = new JsonAdaptedModule(
+                VALID_MODULE_CODE, VALID_DAY, VALID_START_TIME, VALID_END_TIME, VALID_TEACHING_WEEKS);
+        Module module = adaptedModule.toModelType();
+
+        assertEquals(TeachingWeeks.of(VALID_TEACHING_WEEKS), module.getTeachingWeeks());
+        assertEquals(module, new JsonAdaptedModule(module).toModelType());
+    }
+
+    @Test
+    public void toModelType_invalidTeachingWeeks_throwsIllegalValueException() {
+        JsonAdaptedModule adaptedModule = new JsonAdaptedModule(
+                VALID_MODULE_CODE, VALID_DAY, VALID_START_TIME, VALID_END_TIME, "6-1");
+        String expectedMessage = TeachingWeeks.MESSAGE_CONSTRAINTS;
+        assertThrows(IllegalValueException.class, expectedMessage, adaptedModule::toModelType);
+    }
 }
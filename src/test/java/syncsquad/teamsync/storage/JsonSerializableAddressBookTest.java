@@ -23,6 +23,7 @@ public class JsonSerializableAddressBookTest {
     private static final Path INVALID_MEETING_FILE = TEST_DATA_FOLDER.resolve("invalidMeetingAddressBook.json");
     private static final Path DUPLICATE_MEETING_FILE = TEST_DATA_FOLDER.resolve("duplicateMeetingAddressBook.json");
     private static final Path OVERLAPPING_MEETING_FILE = TEST_DATA_FOLDER.resolve("overlappingMeetingAddressBook.json");
+    private static final Path UNKNOWN_ATTENDEE_FILE = TEST_DATA_FOLDER.resolve("unknownAttendeeAddressBook.json");
 
     @Test
     public void toModelType_typicalPersonsFile_success() throws Exception {
@@ -80,4 +81,12 @@ public class JsonSerializableAddressBookTest {
                 dataFromFile::toModelType);
     }
 
+    @Test
+    public void toModelType_unknownAttendee_throwsIllegalValueException() throws Exception {
+        JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(UNKNOWN_ATTENDEE_FILE,
+                JsonSerializableAddressBook.class).get();
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_UNKNOWN_ATTENDEE,
+                dataFromFile::toModelType);
+    }
+
 }
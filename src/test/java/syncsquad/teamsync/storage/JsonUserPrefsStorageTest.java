@@ -70,6 +70,13 @@ public class JsonUserPrefsStorageTest {
         assertEquals(expected, actual);
     }
 
+    @Test
+    public void readUserPrefs_negativeUndoLimit_defaultUndoLimitUsed() throws DataLoadingException {
+        UserPrefs actual = readUserPrefs("NegativeUndoLimitUserPrefs.json").get();
+        assertEquals(UserPrefs.DEFAULT_UNDO_LIMIT, actual.getUndoLimit());
+        assertEquals(Paths.get("addressbook.json"), actual.getAddressBookFilePath());
+    }
+
     private UserPrefs getTypicalUserPrefs() {
         UserPrefs userPrefs = new UserPrefs();
         userPrefs.setGuiSettings(new GuiSettings(1000, 500, 300, 100, 0.5, 0.5, false));
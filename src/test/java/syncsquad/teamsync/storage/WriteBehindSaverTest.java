@@ -0,0 +1,169 @@
+package syncsquad.teamsync.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static syncsquad.teamsync.testutil.Assert.assertThrows;
+import static syncsquad.teamsync.testutil.TypicalAddressBook.ALICE;
+import static syncsquad.teamsync.testutil.TypicalAddressBook.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import syncsquad.teamsync.model.AddressBook;
+import syncsquad.teamsync.model.ReadOnlyAddressBook;
+
+public class WriteBehindSaverTest {
+
+    private static final IOException DUMMY_IO_EXCEPTION = new IOException("dummy IO exception");
+
+    @TempDir
+    public Path testFolder;
+
+    private final StorageStub storage = new StorageStub();
+    private final Deque<Runnable> queuedTasks = new ArrayDeque<>();
+    private final WriteBehindSaver saver = new WriteBehindSaver(storage, queuedTasks::add);
+
+    @Test
+    public void constructor_nullArguments_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new WriteBehindSaver(null));
+        assertThrows(NullPointerException.class, () -> new WriteBehindSaver(storage, null));
+    }
+
+    @Test
+    public void save_burstOfSaves_coalescedIntoSaveOfLatest() {
+        AddressBook first = new AddressBook();
+        AddressBook second = new AddressBook();
+        AddressBook latest = getTypicalAddressBook();
+
+        saver.save(first);
+        saver.save(second);
+        saver.save(latest);
+        assertTrue(storage.savedAddressBooks.isEmpty());
+        assertEquals(1, queuedTasks.size());
+
+        queuedTasks.poll().run();
+        assertEquals(1, storage.savedAddressBooks.size());
+        assertSame(latest, storage.savedAddressBooks.get(0));
+
+        // a save requested after the queued save ran is queued again
+        saver.save(first);
+        assertEquals(1, queuedTasks.size());
+    }
+
+    @Test
+    public void save_storageThrowsIoException_errorTakenOnce() {
+        storage.exception = DUMMY_IO_EXCEPTION;
+        saver.save(new AddressBook());
+        assertFalse(saver.takeError().isPresent());
+
+        queuedTasks.poll().run();
+        assertSame(DUMMY_IO_EXCEPTION, saver.takeError().get());
+        assertFalse(saver.takeError().isPresent());
+    }
+
+    @Test
+    public void flush_pendingSave_savedBeforeReturning() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        saver.save(addressBook);
+
+        saver.flush();
+        assertEquals(List.of(addressBook), storage.savedAddressBooks);
+
+        // the queued save has nothing left to save
+        queuedTasks.poll().run();
+        assertEquals(1, storage.savedAddressBooks.size());
+    }
+
+    @Test
+    public void flush_storageThrowsIoException_throwsIoException() {
+        storage.exception = DUMMY_IO_EXCEPTION;
+        saver.save(new AddressBook());
+        assertThrows(IOException.class, DUMMY_IO_EXCEPTION.getMessage(), saver::flush);
+    }
+
+    @Test
+    public void synchronous_save_savedBeforeReturning() {
+        AddressBook addressBook = getTypicalAddressBook();
+        WriteBehindSaver.synchronous(storage).save(addressBook);
+        assertEquals(List.of(addressBook), storage.savedAddressBooks);
+    }
+
+    @Test
+    public void close_backgroundThread_savesSnapshotToFile() throws Exception {
+        StorageManager storageManager = new StorageManager(new JsonAddressBookStorage(testFolder.resolve("ab")),
+                new JsonUserPrefsStorage(testFolder.resolve("prefs")));
+        WriteBehindSaver backgroundSaver = new WriteBehindSaver(storageManager);
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(ALICE);
+
+        ReadOnlyAddressBook snapshot = addressBook.snapshot();
+        backgroundSaver.save(snapshot);
+        // modifications after the snapshot is taken are not saved
+        addressBook.removePerson(ALICE);
+        backgroundSaver.close();
+
+        assertEquals(new AddressBook(snapshot), storageManager.readAddressBook().get());
+    }
+
+    @Test
+    public void save_whileSaveInProgress_waitsForSaveToFinish() throws Exception {
+        CountDownLatch saveStarted = new CountDownLatch(1);
+        CountDownLatch finishSave = new CountDownLatch(1);
+        StorageStub blockingStorage = new StorageStub() {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+                saveStarted.countDown();
+                try {
+                    finishSave.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                super.saveAddressBook(addressBook);
+            }
+        };
+        WriteBehindSaver backgroundSaver = new WriteBehindSaver(blockingStorage);
+        AddressBook first = new AddressBook();
+        AddressBook second = getTypicalAddressBook();
+
+        backgroundSaver.save(first);
+        assertTrue(saveStarted.await(5, TimeUnit.SECONDS));
+        backgroundSaver.save(second);
+        finishSave.countDown();
+        backgroundSaver.close();
+
+        assertEquals(List.of(first, second), blockingStorage.savedAddressBooks);
+    }
+
+    /**
+     * A Storage that records the address books it is asked to save.
+     */
+    private static class StorageStub extends StorageManager {
+        private final List<ReadOnlyAddressBook> savedAddressBooks = new ArrayList<>();
+        private IOException exception;
+
+        StorageStub() {
+            super(null, null);
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+            if (exception != null) {
+                throw exception;
+            }
+            synchronized (savedAddressBooks) {
+                savedAddressBooks.add(addressBook);
+            }
+        }
+    }
+}
@@ -5,8 +5,12 @@ import static syncsquad.teamsync.logic.parser.ParserUtil.TIME_FORMATTER;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.HashSet;
+import java.util.Set;
 
 import syncsquad.teamsync.model.meeting.Meeting;
+import syncsquad.teamsync.model.meeting.Recurrence;
+import syncsquad.teamsync.model.person.Email;
 
 /**
  * A utility class to help with building Meeting objects.
@@ -20,6 +24,8 @@ public class MeetingBuilder {
     private LocalDate date;
     private LocalTime startTime;
     private LocalTime endTime;
+    private Set<Email> attendees;
+    private Recurrence recurrence;
 
     /**
      * Creates a {@code MeetingBuilder} with the default details.
@@ -28,6 +34,7 @@ public class MeetingBuilder {
         date = LocalDate.parse(DEFAULT_DATE, DATE_FORMATTER);
         startTime = LocalTime.parse(DEFAULT_START_TIME, TIME_FORMATTER);
         endTime = LocalTime.parse(DEFAULT_END_TIME, TIME_FORMATTER);
+        attendees = new HashSet<>();
     }
 
     /**
@@ -37,6 +44,8 @@ public class MeetingBuilder {
         date = meetingToCopy.getDate();
         startTime = meetingToCopy.getStartTime();
         endTime = meetingToCopy.getEndTime();
+        attendees = new HashSet<>(meetingToCopy.getAttendees());
+        recurrence = meetingToCopy.getRecurrence().orElse(null);
     }
 
 
@@ -64,8 +73,40 @@ public class MeetingBuilder {
         return this;
     }
 
+    /**
+     * Sets the {@code attendees} of the {@code Meeting} that we are building to the given emails.
+     */
+    public MeetingBuilder withAttendees(String... emails) {
+        attendees = new HashSet<>();
+        for (String email : emails) {
+            attendees.add(new Email(email));
+        }
+        return this;
+    }
+
+    /**
+     * Sets the {@code Meeting} that we are building to repeat every {@code intervalWeeks} weeks until {@code until}.
+     */
+    public MeetingBuilder withRecurrence(int intervalWeeks, String until) {
+        this.recurrence = new Recurrence(intervalWeeks, LocalDate.parse(until, DATE_FORMATTER));
+        return this;
+    }
+
+    /**
+     * Sets the {@code Meeting} that we are building to take place only once.
+     */
+    public MeetingBuilder withoutRecurrence() {
+        this.recurrence = null;
+        return this;
+    }
+
+    /**
+     * Builds the meeting, which repeats if a recurrence was given.
+     */
     public Meeting build() {
-        return new Meeting(date, startTime, endTime);
+        return recurrence == null
+                ? new Meeting(date, startTime, endTime, attendees)
+                : new Meeting(date, startTime, endTime, attendees, recurrence);
     }
 
 }
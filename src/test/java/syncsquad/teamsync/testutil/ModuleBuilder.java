@@ -7,6 +7,7 @@ import java.time.LocalTime;
 import syncsquad.teamsync.model.module.Day;
 import syncsquad.teamsync.model.module.Module;
 import syncsquad.teamsync.model.module.ModuleCode;
+import syncsquad.teamsync.model.module.TeachingWeeks;
 
 /**
  * A utility class to help with building Module objects.
@@ -25,15 +26,17 @@ public class ModuleBuilder {
     private Day day;
     private LocalTime startTime;
     private LocalTime endTime;
+    private TeachingWeeks teachingWeeks;
 
     /**
      * Creates a {@code ModuleBuilder} with the default details.
      */
     public ModuleBuilder() {
-        moduleCode = new ModuleCode(DEFAULT_MODULE_CODE);
-        day = new Day(DEFAULT_DAY);
+        moduleCode = ModuleCode.of(DEFAULT_MODULE_CODE);
+        day = Day.of(DEFAULT_DAY);
         startTime = LocalTime.parse(DEFAULT_START_TIME, TIME_FORMATTER);
         endTime = LocalTime.parse(DEFAULT_END_TIME, TIME_FORMATTER);
+        teachingWeeks = TeachingWeeks.EVERY_WEEK;
     }
 
     /**
@@ -44,13 +47,14 @@ public class ModuleBuilder {
         day = moduleToCopy.getDay();
         startTime = moduleToCopy.getStartTime();
         endTime = moduleToCopy.getEndTime();
+        teachingWeeks = moduleToCopy.getTeachingWeeks();
     }
 
     /**
      * Sets the {@code moduleCode} of the {@code Module} that we are building.
      */
     public ModuleBuilder withModuleCode(String moduleCode) {
-        this.moduleCode = new ModuleCode(moduleCode);
+        this.moduleCode = ModuleCode.of(moduleCode);
         return this;
     }
 
@@ -58,7 +62,7 @@ public class ModuleBuilder {
      * Sets the {@code day} of the {@code Module} that we are building.
      */
     public ModuleBuilder withDay(String day) {
-        this.day = new Day(day);
+        this.day = Day.of(day);
         return this;
     }
 
@@ -78,8 +82,16 @@ public class ModuleBuilder {
         return this;
     }
 
+    /**
+     * Sets the {@code teachingWeeks} of the {@code Module} that we are building.
+     */
+    public ModuleBuilder withTeachingWeeks(String teachingWeeks) {
+        this.teachingWeeks = TeachingWeeks.of(teachingWeeks);
+        return this;
+    }
+
     public Module build() {
-        return new Module(moduleCode, day, startTime, endTime);
+        return new Module(moduleCode, day, startTime, endTime, teachingWeeks);
     }
 
 }
@@ -12,6 +12,7 @@ import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
+import javafx.beans.property.SimpleObjectProperty;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import syncsquad.teamsync.logic.Logic;
@@ -28,6 +29,7 @@ import syncsquad.teamsync.model.person.Person;
 public class MainViewModelTest {
     private static final String COMMAND_TEXT = "test command";
     private static final String FEEDBACK_MESSAGE = "Command executed successfully";
+    private static final String SAVE_ERROR = "Could not save data";
     private static final CommandException COMMAND_EXCEPTION = new CommandException("Command execution failed");
 
     @Mock
@@ -49,6 +51,7 @@ public class MainViewModelTest {
 
         // Configure logic mock
         when(logic.getFilteredPersonList()).thenReturn(personList);
+        when(logic.filteredPersonListProperty()).thenReturn(new SimpleObjectProperty<>(personList));
         when(logic.getMeetingList()).thenReturn(meetingList);
         when(logic.getCurrentWeek()).thenReturn(week);
 
@@ -108,6 +111,36 @@ public class MainViewModelTest {
                 "Exit flag should be set when command exits");
     }
 
+    @Test
+    public void executeCommand_saveError_displayedWithFeedback() throws Exception {
+        CommandResult result = new CommandResult(FEEDBACK_MESSAGE).withSaveError(SAVE_ERROR);
+        when(logic.execute(COMMAND_TEXT)).thenReturn(result);
+
+        viewModel.getCommandBoxViewModel().commandInputProperty().set(COMMAND_TEXT);
+        viewModel.getCommandBoxViewModel().executeCommand();
+
+        assertEquals(FEEDBACK_MESSAGE + "\n" + SAVE_ERROR,
+                viewModel.getResultDisplayViewModel().feedbackToUserProperty().get());
+    }
+
+    @Test
+    public void executeCommand_exitWithSaveError_exitsOnSecondAttempt() throws Exception {
+        CommandResult result = new CommandResult(FEEDBACK_MESSAGE, false, true).withSaveError(SAVE_ERROR);
+        when(logic.execute(COMMAND_TEXT)).thenReturn(result);
+
+        viewModel.getCommandBoxViewModel().commandInputProperty().set(COMMAND_TEXT);
+        viewModel.getCommandBoxViewModel().executeCommand();
+        assertFalse(viewModel.getIsExiting().get(),
+                "Exit flag should not be set when the data could not be saved");
+        assertEquals(SAVE_ERROR + "\n" + MainViewModel.MESSAGE_EXIT_UNSAVED,
+                viewModel.getResultDisplayViewModel().feedbackToUserProperty().get());
+
+        viewModel.getCommandBoxViewModel().commandInputProperty().set(COMMAND_TEXT);
+        viewModel.getCommandBoxViewModel().executeCommand();
+        assertTrue(viewModel.getIsExiting().get(),
+                "Exit flag should be set when exiting again");
+    }
+
     @Test
     public void isShowingHelp_initialState_isFalse() {
         assertFalse(viewModel.getIsShowingHelpProperty().get(),
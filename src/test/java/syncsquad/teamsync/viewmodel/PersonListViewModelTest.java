@@ -6,10 +6,13 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static syncsquad.teamsync.testutil.TypicalAddressBook.ALICE;
 import static syncsquad.teamsync.testutil.TypicalAddressBook.BOB;
 
+import java.util.List;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import javafx.beans.property.ReadOnlyListProperty;
+import javafx.beans.property.SimpleObjectProperty;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import syncsquad.teamsync.model.person.Person;
@@ -62,4 +65,19 @@ class PersonListViewModelTest {
         ReadOnlyListProperty<Person> readOnlyList = viewModel.personListProperty();
         assertThrows(UnsupportedOperationException.class, () -> readOnlyList.add(BOB));
     }
+
+    @Test
+    void testSwappingBoundListUpdatesViewModel() {
+        SimpleObjectProperty<ObservableList<Person>> shownList = new SimpleObjectProperty<>(internalUnmodifiableList);
+        PersonListViewModel boundViewModel = new PersonListViewModel(shownList);
+        internalList.addAll(ALICE, BOB);
+        assertEquals(List.of(ALICE, BOB), boundViewModel.personListProperty());
+
+        shownList.set(FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(BOB, ALICE)));
+        assertEquals(List.of(BOB, ALICE), boundViewModel.personListProperty());
+
+        // changes to the list shown before are no longer followed
+        internalList.clear();
+        assertEquals(List.of(BOB, ALICE), boundViewModel.personListProperty());
+    }
 }